@@ -14,6 +14,8 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.BlueMapHook.RegionRenderer;
+import org.flintstqne.entrenched.DatabaseLogic.QueryMetrics;
+import org.flintstqne.entrenched.DatabaseLogic.SqliteDatabase;
 import org.flintstqne.entrenched.DivisionLogic.DepotItem;
 import org.flintstqne.entrenched.DivisionLogic.DepotLocation;
 import org.flintstqne.entrenched.DivisionLogic.DepotService;
@@ -27,6 +29,7 @@ import org.flintstqne.entrenched.RegionLogic.RegionState;
 import org.flintstqne.entrenched.RegionLogic.RegionStatus;
 import org.flintstqne.entrenched.RoadLogic.DeathListener;
 import org.flintstqne.entrenched.RoadLogic.RoadBlock;
+import org.flintstqne.entrenched.RoadLogic.RoadScanner;
 import org.flintstqne.entrenched.RoadLogic.RoadService;
 import org.flintstqne.entrenched.RoadLogic.SupplyLevel;
 import org.flintstqne.entrenched.RoundLogic.NewRoundInitializer;
@@ -41,6 +44,7 @@ import org.flintstqne.entrenched.ObjectiveLogic.ObjectiveService;
 import org.flintstqne.entrenched.ObjectiveLogic.ObjectiveType;
 import org.flintstqne.entrenched.ObjectiveLogic.RegionObjective;
 import org.flintstqne.entrenched.ObjectiveLogic.RegisteredBuilding;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -70,6 +74,7 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
     private DepotItem depotItem;
     private DivisionService divisionService;
     private org.flintstqne.entrenched.StatLogic.StatService statService;
+    private TickScheduler tickScheduler;
 
     // Pending purge confirmations (sender -> roundId, timestamp)
     private final java.util.Map<String, long[]> pendingStatPurge = new java.util.HashMap<>();
@@ -114,6 +119,10 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
         this.statService = statService;
     }
 
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         if (!sender.hasPermission(PERMISSION)) {
@@ -163,6 +172,8 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
             // Server commands
             case "reload" -> handleReload(sender);
             case "status" -> handleStatus(sender);
+            case "dbstats" -> handleDbStats(sender, args);
+            case "timings" -> handleTimings(sender, args);
 
             default -> {
                 sender.sendMessage(ChatColor.RED + "Unknown subcommand: " + subCommand);
@@ -1350,28 +1361,29 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
                 int beforeBlocks = roadService.getRoadBlockCount(regionId, team);
                 sender.sendMessage(ChatColor.GRAY + "Road blocks BEFORE scan: " + beforeBlocks);
 
-                // Run the scan (this will log to console)
-                int found = roadService.scanRegionForRoads(regionId, team, world);
-
-                // Show state after scan
-                int afterBlocks = roadService.getRoadBlockCount(regionId, team);
-                sender.sendMessage(ChatColor.GREEN + "Scan complete!");
-                sender.sendMessage(ChatColor.GRAY + "New blocks found: " + ChatColor.WHITE + found);
-                sender.sendMessage(ChatColor.GRAY + "Road blocks AFTER scan: " + ChatColor.WHITE + afterBlocks);
-
-                // Check adjacent regions too
-                sender.sendMessage(ChatColor.YELLOW + "Adjacent region status:");
-                for (String adj : regionService.getAdjacentRegions(regionId)) {
-                    Optional<RegionStatus> adjStatus = regionService.getRegionStatus(adj);
-                    String adjName = getRegionDisplayName(adj);
-                    String owner = adjStatus.map(s -> s.ownerTeam() != null ? s.ownerTeam() : "neutral").orElse("unknown");
-                    int adjBlocks = roadService.getRoadBlockCount(adj, team);
-                    boolean connected = roadService.checkBorderRoadConnection(regionId, adj, team);
-
-                    ChatColor color = owner.equalsIgnoreCase(team) ? ChatColor.GREEN : ChatColor.GRAY;
-                    sender.sendMessage(color + "  " + adjName + " [" + adj + "]: owner=" + owner +
-                            ", blocks=" + adjBlocks + ", border=" + (connected ? "CONNECTED" : "disconnected"));
-                }
+                // Run the scan (this will log to console); the world is read off the main thread
+                roadService.scanRegionForRoads(regionId, team, world).thenAccept(found ->
+                        Bukkit.getScheduler().runTask(plugin, () -> {
+                            // Show state after scan
+                            int afterBlocks = roadService.getRoadBlockCount(regionId, team);
+                            sender.sendMessage(ChatColor.GREEN + "Scan complete!");
+                            sender.sendMessage(ChatColor.GRAY + "New blocks found: " + ChatColor.WHITE + found);
+                            sender.sendMessage(ChatColor.GRAY + "Road blocks AFTER scan: " + ChatColor.WHITE + afterBlocks);
+
+                            // Check adjacent regions too
+                            sender.sendMessage(ChatColor.YELLOW + "Adjacent region status:");
+                            for (String adj : regionService.getAdjacentRegions(regionId)) {
+                                Optional<RegionStatus> adjStatus = regionService.getRegionStatus(adj);
+                                String adjName = getRegionDisplayName(adj);
+                                String owner = adjStatus.map(s -> s.ownerTeam() != null ? s.ownerTeam() : "neutral").orElse("unknown");
+                                int adjBlocks = roadService.getRoadBlockCount(adj, team);
+                                boolean connected = roadService.checkBorderRoadConnection(regionId, adj, team);
+
+                                ChatColor color = owner.equalsIgnoreCase(team) ? ChatColor.GREEN : ChatColor.GRAY;
+                                sender.sendMessage(color + "  " + adjName + " [" + adj + "]: owner=" + owner +
+                                        ", blocks=" + adjBlocks + ", border=" + (connected ? "CONNECTED" : "disconnected"));
+                            }
+                        }));
 
                 yield true;
             }
@@ -1409,28 +1421,33 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
                 int beforeR1 = roadService.getRoadBlockCount(region1, team);
                 int beforeR2 = roadService.getRoadBlockCount(region2, team);
 
-                // Scan the border area
-                int found = roadService.scanBorderArea(region1, region2, team, world);
+                // Scan the border area; the world is read off the main thread
+                roadService.scanBorderArea(region1, region2, team, world).thenAccept(found -> {
+                    // Trigger recalculation
+                    if (found > 0) {
+                        roadService.recalculateSupply(team);
+                    }
 
-                // Count blocks after
-                int afterR1 = roadService.getRoadBlockCount(region1, team);
-                int afterR2 = roadService.getRoadBlockCount(region2, team);
+                    Bukkit.getScheduler().runTask(plugin, () -> {
+                        // Count blocks after
+                        int afterR1 = roadService.getRoadBlockCount(region1, team);
+                        int afterR2 = roadService.getRoadBlockCount(region2, team);
 
-                sender.sendMessage(ChatColor.GREEN + "Border scan complete!");
-                sender.sendMessage(ChatColor.GRAY + "New blocks found: " + ChatColor.WHITE + found);
-                sender.sendMessage(ChatColor.GRAY + region1 + " blocks: " + beforeR1 + " → " + afterR1);
-                sender.sendMessage(ChatColor.GRAY + region2 + " blocks: " + beforeR2 + " → " + afterR2);
+                        sender.sendMessage(ChatColor.GREEN + "Border scan complete!");
+                        sender.sendMessage(ChatColor.GRAY + "New blocks found: " + ChatColor.WHITE + found);
+                        sender.sendMessage(ChatColor.GRAY + region1 + " blocks: " + beforeR1 + " → " + afterR1);
+                        sender.sendMessage(ChatColor.GRAY + region2 + " blocks: " + beforeR2 + " → " + afterR2);
 
-                // Check connection after scan
-                boolean connected = roadService.checkBorderRoadConnection(region1, region2, team);
-                sender.sendMessage(ChatColor.GRAY + "Border connection: " +
-                        (connected ? ChatColor.GREEN + "CONNECTED" : ChatColor.RED + "NOT CONNECTED"));
+                        // Check connection after scan
+                        boolean connected = roadService.checkBorderRoadConnection(region1, region2, team);
+                        sender.sendMessage(ChatColor.GRAY + "Border connection: " +
+                                (connected ? ChatColor.GREEN + "CONNECTED" : ChatColor.RED + "NOT CONNECTED"));
 
-                // Trigger recalculation
-                if (found > 0) {
-                    roadService.recalculateSupply(team);
-                    sender.sendMessage(ChatColor.YELLOW + "Supply recalculated for " + team);
-                }
+                        if (found > 0) {
+                            sender.sendMessage(ChatColor.YELLOW + "Supply recalculated for " + team);
+                        }
+                    });
+                });
 
                 yield true;
             }
@@ -1481,50 +1498,33 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
                 sender.sendMessage(ChatColor.GRAY + "Looking for: " + pathBlocks.stream()
                         .map(Material::name).collect(java.util.stream.Collectors.joining(", ")));
 
-                // Scan the border area and count path blocks
-                Map<Material, Integer> blockCounts = new java.util.HashMap<>();
-                int totalPathBlocks = 0;
-                int sampleX = 0, sampleY = 0, sampleZ = 0;
-                Material sampleMat = null;
-
-                final int START_Y = 52;
+                // Scan the border area off the main thread (upward scan only) and count path blocks
                 final int AIR_THRESHOLD = 100; // High threshold for elevated roads/bridges
 
-                for (int x = border[0]; x <= border[1]; x++) {
-                    for (int z = border[2]; z <= border[3]; z++) {
-                        int consecutiveAir = 0;
-                        for (int y = START_Y; y < world.getMaxHeight() && consecutiveAir < AIR_THRESHOLD; y++) {
-                            Material type = world.getBlockAt(x, y, z).getType();
-                            if (type.isAir()) {
-                                consecutiveAir++;
-                            } else {
-                                consecutiveAir = 0;
-                                if (pathBlocks.contains(type)) {
-                                    totalPathBlocks++;
-                                    blockCounts.merge(type, 1, Integer::sum);
-                                    if (sampleMat == null) {
-                                        sampleX = x; sampleY = y; sampleZ = z; sampleMat = type;
-                                    }
-                                }
+                roadService.findPathBlocks(world, border[0], border[1], border[2], border[3], AIR_THRESHOLD, 0)
+                        .thenAccept(hits -> Bukkit.getScheduler().runTask(plugin, () -> {
+                            Map<Material, Integer> blockCounts = new java.util.HashMap<>();
+                            for (RoadScanner.PathBlockHit hit : hits) {
+                                blockCounts.merge(hit.type(), 1, Integer::sum);
                             }
-                        }
-                    }
-                }
+                            int totalPathBlocks = hits.size();
 
-                sender.sendMessage(ChatColor.GREEN + "World scan complete!");
-                sender.sendMessage(ChatColor.GRAY + "Total path blocks in border area: " + ChatColor.WHITE + totalPathBlocks);
+                            sender.sendMessage(ChatColor.GREEN + "World scan complete!");
+                            sender.sendMessage(ChatColor.GRAY + "Total path blocks in border area: " + ChatColor.WHITE + totalPathBlocks);
 
-                if (totalPathBlocks > 0) {
-                    sender.sendMessage(ChatColor.GRAY + "Block types found:");
-                    for (Map.Entry<Material, Integer> entry : blockCounts.entrySet()) {
-                        sender.sendMessage(ChatColor.GRAY + "  " + entry.getKey().name() + ": " + entry.getValue());
-                    }
-                    sender.sendMessage(ChatColor.GRAY + "Sample location: " + sampleX + "," + sampleY + "," + sampleZ + " (" + sampleMat + ")");
-                } else {
-                    sender.sendMessage(ChatColor.RED + "No path blocks found in border area!");
-                    sender.sendMessage(ChatColor.YELLOW + "TIP: Build a road using path blocks to connect these regions.");
-                    sender.sendMessage(ChatColor.GRAY + "Valid blocks: DIRT_PATH, STONE_BRICKS, POLISHED_ANDESITE, etc.");
-                }
+                            if (totalPathBlocks > 0) {
+                                sender.sendMessage(ChatColor.GRAY + "Block types found:");
+                                for (Map.Entry<Material, Integer> entry : blockCounts.entrySet()) {
+                                    sender.sendMessage(ChatColor.GRAY + "  " + entry.getKey().name() + ": " + entry.getValue());
+                                }
+                                RoadScanner.PathBlockHit sample = hits.get(0);
+                                sender.sendMessage(ChatColor.GRAY + "Sample location: " + sample.x() + "," + sample.y() + "," + sample.z() + " (" + sample.type() + ")");
+                            } else {
+                                sender.sendMessage(ChatColor.RED + "No path blocks found in border area!");
+                                sender.sendMessage(ChatColor.YELLOW + "TIP: Build a road using path blocks to connect these regions.");
+                                sender.sendMessage(ChatColor.GRAY + "Valid blocks: DIRT_PATH, STONE_BRICKS, POLISHED_ANDESITE, etc.");
+                            }
+                        }));
 
                 yield true;
             }
@@ -1566,123 +1566,20 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
                 World world = player.getWorld();
                 int minX = bounds[0], maxX = bounds[1], minZ = bounds[2], maxZ = bounds[3];
 
-                // Get valid path block types from config
-                List<String> pathBlockNames = configManager.getSupplyPathBlocks();
-                Set<Material> pathBlocks = new HashSet<>();
-                if (pathBlockNames == null || pathBlockNames.isEmpty()) {
-                    pathBlocks.add(Material.DIRT_PATH);
-                    pathBlocks.add(Material.GRAVEL);
-                    pathBlocks.add(Material.COBBLESTONE);
-                    pathBlocks.add(Material.STONE_BRICKS);
-                    pathBlocks.add(Material.POLISHED_ANDESITE);
-                } else {
-                    for (String name : pathBlockNames) {
-                        try {
-                            pathBlocks.add(Material.valueOf(name.toUpperCase()));
-                        } catch (IllegalArgumentException ignored) {}
-                    }
-                }
-
                 UUID playerUuid = player.getUniqueId();
-                final int START_Y = 52;
                 final int AIR_THRESHOLD = 100; // High threshold for elevated roads/bridges
                 final int SOLID_THRESHOLD = 10;
+                long startTime = System.currentTimeMillis();
 
-                // Collect block positions in chunks on main thread, then batch insert async
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    List<int[]> foundBlocks = new ArrayList<>();
-                    long startTime = System.currentTimeMillis();
-
-                    // Scan the world on main thread in batches
-                    final int BATCH_SIZE = 16; // Process 16 X columns at a time
-
-                    for (int xStart = minX; xStart <= maxX; xStart += BATCH_SIZE) {
-                        final int xBatchStart = xStart;
-                        final int xBatchEnd = Math.min(xStart + BATCH_SIZE - 1, maxX);
-
-                        // Check if plugin is still enabled
-                        if (!plugin.isEnabled()) {
-                            return;
-                        }
-
-                        // Collect blocks for this batch on main thread
-                        List<int[]> batchBlocks;
-                        try {
-                            batchBlocks = Bukkit.getScheduler().callSyncMethod(plugin, () -> {
-                                List<int[]> batch = new ArrayList<>();
-                                Set<String> scanned = new HashSet<>();
-
-                                for (int x = xBatchStart; x <= xBatchEnd; x++) {
-                                    for (int z = minZ; z <= maxZ; z++) {
-                                        // Scan up from START_Y
-                                        int consecutiveAir = 0;
-                                        for (int y = START_Y; y < world.getMaxHeight() && consecutiveAir < AIR_THRESHOLD; y++) {
-                                            Block block = world.getBlockAt(x, y, z);
-                                            Material type = block.getType();
-
-                                            if (type.isAir()) {
-                                                consecutiveAir++;
-                                            } else {
-                                                consecutiveAir = 0;
-                                                if (pathBlocks.contains(type)) {
-                                                    String key = x + "," + y + "," + z;
-                                                    if (!scanned.contains(key)) {
-                                                        scanned.add(key);
-                                                        batch.add(new int[]{x, y, z});
-                                                    }
-                                                }
-                                            }
-                                        }
-
-                                        // Scan down from START_Y
-                                        int consecutiveSolid = 0;
-                                        for (int y = START_Y - 1; y >= world.getMinHeight() && consecutiveSolid < SOLID_THRESHOLD; y--) {
-                                            Block block = world.getBlockAt(x, y, z);
-                                            Material type = block.getType();
-
-                                            if (pathBlocks.contains(type)) {
-                                                String key = x + "," + y + "," + z;
-                                                if (!scanned.contains(key)) {
-                                                    scanned.add(key);
-                                                    batch.add(new int[]{x, y, z});
-                                                }
-                                                consecutiveSolid = 0;
-                                            } else if (type.isAir()) {
-                                                consecutiveSolid = 0;
-                                            } else {
-                                                consecutiveSolid++;
-                                            }
-                                        }
-                                    }
-                                }
-                                return batch;
-                            }).get();
-                        } catch (Exception e) {
-                            continue; // Skip this batch on error
-                        }
-
-                        foundBlocks.addAll(batchBlocks);
-
-                        // Progress update
-                        int progress = (int) (((double)(xBatchEnd - minX) / (maxX - minX)) * 100);
-                        if (plugin.isEnabled() && player.isOnline()) {
-                            Bukkit.getScheduler().runTask(plugin, () ->
-                                player.sendMessage(ChatColor.GRAY + "Scanning: " + progress + "% (" + foundBlocks.size() + " blocks found)"));
-                        }
-                    }
-
-                    // Now batch insert all found blocks WITHOUT triggering recalculation
-                    int registered = 0;
-                    for (int[] coords : foundBlocks) {
-                        roadService.insertRoadBlockWithoutRecalculation(coords[0], coords[1], coords[2], playerUuid, team, false);
-                        registered++;
-                    }
+                // Chunk snapshots are captured a few per tick on the main thread and analysed on scan workers
+                roadService.findPathBlocks(world, minX, maxX, minZ, maxZ, AIR_THRESHOLD, SOLID_THRESHOLD).thenAccept(hits -> {
+                    // Batch insert all found blocks WITHOUT triggering recalculation
+                    int registered = roadService.registerPathBlocks(hits, playerUuid, team);
 
                     // Recalculate supply ONCE at the end
                     roadService.recalculateSupply(team);
 
                     long elapsed = System.currentTimeMillis() - startTime;
-                    final int totalRegistered = registered;
 
                     // Send completion message on main thread
                     if (plugin.isEnabled() && player.isOnline()) {
@@ -1691,7 +1588,7 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
                             player.sendMessage(ChatColor.GREEN + "✓ " + ChatColor.BOLD + "SCAN COMPLETE!");
                             player.sendMessage(ChatColor.GRAY + "Region: " + ChatColor.WHITE + regionName + " [" + regionId + "]");
                             player.sendMessage(ChatColor.GRAY + "Team: " + ChatColor.WHITE + team);
-                            player.sendMessage(ChatColor.GRAY + "Blocks Registered: " + ChatColor.GREEN + totalRegistered);
+                            player.sendMessage(ChatColor.GRAY + "Blocks Registered: " + ChatColor.GREEN + registered);
                             player.sendMessage(ChatColor.GRAY + "Time: " + ChatColor.WHITE + (elapsed / 1000.0) + "s");
                             player.sendMessage("");
                             player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f);
@@ -2779,6 +2676,65 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
 
     // ==================== HELP ====================
 
+    /**
+     * /admin dbstats [reset] - Shows the slowest queries per database file.
+     */
+    private boolean handleDbStats(CommandSender sender, String[] args) {
+        List<SqliteDatabase> databases = SqliteDatabase.openDatabases();
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            databases.forEach(db -> db.getMetrics().reset());
+            sender.sendMessage(configManager.getPrefix() + ChatColor.GREEN + "Database metrics reset.");
+            return true;
+        }
+
+        sender.sendMessage(ChatColor.GOLD + "=== Database Query Stats ===");
+        for (SqliteDatabase db : databases) {
+            List<QueryMetrics.QueryStat> stats = db.getMetrics().snapshot();
+            long calls = stats.stream().mapToLong(QueryMetrics.QueryStat::count).sum();
+            double total = stats.stream().mapToDouble(QueryMetrics.QueryStat::totalMillis).sum();
+            sender.sendMessage(ChatColor.YELLOW + db.getName() + ChatColor.GRAY + " - " + calls + " queries, " +
+                    String.format("%.1f", total) + "ms total");
+
+            for (QueryMetrics.QueryStat stat : stats.subList(0, Math.min(3, stats.size()))) {
+                String sql = stat.sql().replaceAll("\\s+", " ").trim();
+                if (sql.length() > 60) sql = sql.substring(0, 57) + "...";
+                sender.sendMessage(ChatColor.GRAY + "  " + stat.count() + "x avg " +
+                        String.format("%.2f", stat.averageMillis()) + "ms max " +
+                        String.format("%.2f", stat.maxMillis()) + "ms " + ChatColor.WHITE + sql);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * /admin timings [reset] - Shows the scheduled tasks with the most main-thread time.
+     */
+    private boolean handleTimings(CommandSender sender, String[] args) {
+        if (tickScheduler == null) {
+            sender.sendMessage(configManager.getPrefix() + ChatColor.RED + "Tick scheduler not available.");
+            return true;
+        }
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            tickScheduler.resetTimings();
+            sender.sendMessage(configManager.getPrefix() + ChatColor.GREEN + "Task timings reset.");
+            return true;
+        }
+
+        List<TickScheduler.TaskTiming> timings = tickScheduler.getTimings();
+        sender.sendMessage(ChatColor.GOLD + "=== Scheduled Task Timings ===");
+        sender.sendMessage(ChatColor.GRAY + "TPS: " + ChatColor.WHITE + String.format("%.1f", tickScheduler.getTps()) +
+                ChatColor.GRAY + " - " + timings.size() + " tasks");
+        for (TickScheduler.TaskTiming timing : timings.subList(0, Math.min(10, timings.size()))) {
+            sender.sendMessage(ChatColor.YELLOW + timing.name() + ChatColor.GRAY + " (" +
+                    timing.priority().name().toLowerCase() + ", " + timing.periodTicks() + "t) " +
+                    timing.runs() + " runs, avg " + String.format("%.2f", timing.averageMillis()) + "ms max " +
+                    String.format("%.2f", timing.maxMillis()) + "ms, " + timing.deferrals() + " deferred");
+        }
+        return true;
+    }
+
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(ChatColor.GOLD + "=== Admin Commands ===");
         sender.sendMessage(ChatColor.YELLOW + "/admin round <new|end|info>" + ChatColor.GRAY + " - Round management");
@@ -2792,6 +2748,8 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(ChatColor.YELLOW + "/admin buildings <red|blue|all>" + ChatColor.GRAY + " - List buildings by team");
         sender.sendMessage(ChatColor.YELLOW + "/admin reload" + ChatColor.GRAY + " - Reload config");
         sender.sendMessage(ChatColor.YELLOW + "/admin status" + ChatColor.GRAY + " - Server status");
+        sender.sendMessage(ChatColor.YELLOW + "/admin dbstats [reset]" + ChatColor.GRAY + " - Database query timings");
+        sender.sendMessage(ChatColor.YELLOW + "/admin timings [reset]" + ChatColor.GRAY + " - Scheduled task timings");
     }
 
     // ==================== TAB COMPLETION ====================
@@ -2806,7 +2764,7 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
 
         if (args.length == 1) {
             // Main subcommands
-            completions.addAll(Arrays.asList("round", "phase", "region", "team", "player", "supply", "merit", "depot", "buildings", "stats", "reload", "status"));
+            completions.addAll(Arrays.asList("round", "phase", "region", "team", "player", "supply", "merit", "depot", "buildings", "stats", "reload", "status", "dbstats", "timings"));
         } else if (args.length == 2) {
             String sub = args[0].toLowerCase();
             switch (sub) {
@@ -2820,6 +2778,7 @@ public final class AdminCommand implements CommandExecutor, TabCompleter {
                 case "depot" -> completions.addAll(Arrays.asList("list", "info", "give", "givetool", "clear", "remove"));
                 case "buildings" -> completions.addAll(Arrays.asList("red", "blue", "all"));
                 case "stats" -> completions.addAll(Arrays.asList("purge", "list"));
+                case "dbstats", "timings" -> completions.add("reset");
             }
         } else if (args.length == 3) {
             String sub = args[0].toLowerCase();
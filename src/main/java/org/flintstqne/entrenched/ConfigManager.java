@@ -304,6 +304,10 @@ public final class ConfigManager {
         return config.getDouble("regions.influence.decay-per-minute", 5);
     }
 
+    public long getRegionInfluenceFlushIntervalSeconds() {
+        return config.getLong("regions.influence.flush-interval", 5);
+    }
+
     // Enemy region actions
     public int getRegionKillPoints() {
         return config.getInt("regions.enemy-actions.kill-points", 50);
@@ -410,6 +414,10 @@ public final class ConfigManager {
         return config.getBoolean("regions.supply.require-road-for-supply", true);
     }
 
+    public int getSupplyScanChunksPerTick() {
+        return config.getInt("regions.supply.scan-chunks-per-tick", 4);
+    }
+
     public int getSupplyPartialRespawnDelay() {
         return config.getInt("regions.supply.partial-supply-respawn-delay", 5);
     }
@@ -537,6 +545,14 @@ public final class ConfigManager {
         return config.getLong("regions.objectives.building-detection-debounce-ticks", 20L);
     }
 
+    /**
+     * How long a building's captured blocks are reused, patched from block changes, before
+     * the next scan captures the world again (picks up changes no event reports).
+     */
+    public int getBuildingModelMaxAgeSeconds() {
+        return Math.max(1, config.getInt("regions.objectives.building-model-max-age-seconds", 60));
+    }
+
     public boolean isBuildingDetectionDebugEnabled() {
         return config.getBoolean("regions.objectives.building-detection-debug", false);
     }
@@ -553,6 +569,13 @@ public final class ConfigManager {
         return config.getInt("regions.objectives.building-integrity-check-seconds", 5);
     }
 
+    /**
+     * How often in-memory Hold Ground progress is written to the database.
+     */
+    public int getHoldGroundCheckpointSeconds() {
+        return Math.max(1, config.getInt("regions.objectives.hold-ground-checkpoint-seconds", 10));
+    }
+
     // ==================== PLAYER-PLACED BLOCK TRACKING ====================
 
     public boolean isPlayerPlacedTrackingEnabled() {
@@ -595,6 +618,22 @@ public final class ConfigManager {
         return config.getBoolean("debug.verbose", false);
     }
 
+    // ==================== Scheduler Settings ====================
+
+    /**
+     * Main-thread time per tick that periodic plugin work may use before non-critical work is deferred.
+     */
+    public double getSchedulerTickBudgetMs() {
+        return Math.max(1.0, config.getDouble("scheduler.tick-budget-ms", 10.0));
+    }
+
+    /**
+     * Below this TPS, cosmetic work (particles) runs less often.
+     */
+    public double getSchedulerLowTpsThreshold() {
+        return config.getDouble("scheduler.low-tps-threshold", 18.0);
+    }
+
     // ==================== Merit System Settings ====================
 
     public boolean isMeritEnabled() {
@@ -787,12 +826,28 @@ public final class ConfigManager {
         return config.getInt("stats-api.rate-limit", 60);
     }
 
+    public int getStatApiMaxDbConcurrency() {
+        return Math.max(1, config.getInt("stats-api.max-db-concurrency", 8));
+    }
+
+    public int getStatApiCacheMaxAgeSeconds() {
+        return Math.max(0, config.getInt("stats-api.cache-max-age-seconds", 5));
+    }
+
     // ==================== Stats Settings ====================
 
     public int getStatFlushIntervalSeconds() {
         return config.getInt("stats.flush-interval-seconds", 10);
     }
 
+    /**
+     * Fraction of raw stat events written to the stat_events log (0 disables the log, 1 logs everything).
+     * Aggregated player and round stats are always written.
+     */
+    public double getStatEventLogSampleRate() {
+        return Math.max(0.0, Math.min(1.0, config.getDouble("stats.event-log-sample-rate", 0.0)));
+    }
+
     public int getLoginStreakResetHours() {
         return config.getInt("stats.streak-reset-hours", 36);
     }
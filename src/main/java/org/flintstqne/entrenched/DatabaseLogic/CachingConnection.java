@@ -0,0 +1,188 @@
+package org.flintstqne.entrenched.DatabaseLogic;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Wraps a raw JDBC connection owned by {@link SqliteDatabase}.
+ * <p>
+ * {@code prepareStatement} returns statements from a small per-connection LRU cache.
+ * Closing one of those statements only clears its parameters so the next caller can
+ * reuse it, which keeps the existing try-with-resources code in the *Db classes unchanged.
+ * Every execute call is timed into {@link QueryMetrics}.
+ * <p>
+ * Instances are not thread-safe: a connection is only ever used by the writer thread
+ * or by the single thread that borrowed it from the reader pool.
+ */
+final class CachingConnection implements InvocationHandler {
+
+    private static final int MAX_CACHED_STATEMENTS = 64;
+
+    private final Connection raw;
+    private final QueryMetrics metrics;
+    private final Connection proxy;
+
+    private final Map<String, CachedStatement> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+            if (size() > MAX_CACHED_STATEMENTS && !eldest.getValue().inUse) {
+                eldest.getValue().closeQuietly();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    CachingConnection(Connection raw, QueryMetrics metrics) {
+        this.raw = raw;
+        this.metrics = metrics;
+        this.proxy = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+    }
+
+    Connection proxy() {
+        return proxy;
+    }
+
+    void closeAll() {
+        for (CachedStatement statement : cache.values()) {
+            statement.closeQuietly();
+        }
+        cache.clear();
+        try {
+            raw.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    @Override
+    public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+
+        if (name.equals("prepareStatement") && args != null && args[0] instanceof String sql) {
+            if (args.length == 1) {
+                return prepare(sql, sql, () -> raw.prepareStatement(sql));
+            }
+            if (args.length == 2 && args[1] instanceof Integer keys) {
+                return prepare(sql + "#" + keys, sql, () -> raw.prepareStatement(sql, keys));
+            }
+        }
+        // The pool owns the connection lifecycle
+        if (name.equals("close")) return null;
+        if (name.equals("isClosed")) return raw.isClosed();
+
+        try {
+            return method.invoke(raw, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementFactory {
+        PreparedStatement create() throws SQLException;
+    }
+
+    private PreparedStatement prepare(String key, String sql, StatementFactory factory) throws SQLException {
+        CachedStatement cached = cache.get(key);
+        if (cached != null && !cached.inUse) {
+            cached.inUse = true;
+            return cached.proxy;
+        }
+
+        // Re-entrant use of the same SQL (cached statement in use) gets a throwaway statement that
+        // really closes on close(); only a statement for new SQL is pooled
+        CachedStatement statement = new CachedStatement(sql, factory.create());
+        statement.inUse = true;
+        if (cached == null) {
+            statement.pooled = true;
+            cache.put(key, statement);
+        }
+        return statement.proxy;
+    }
+
+    private final class CachedStatement implements InvocationHandler {
+        final String sql;
+        final PreparedStatement raw;
+        final PreparedStatement proxy;
+        boolean inUse;
+        boolean pooled;
+        // Closed along with the statement so an unclosed ResultSet can't pin an old read snapshot
+        ResultSet lastResult;
+
+        CachedStatement(String sql, PreparedStatement raw) {
+            this.sql = sql;
+            this.raw = raw;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close" -> {
+                    if (!pooled) {
+                        closeQuietly();
+                        return null;
+                    }
+                    closeLastResult();
+                    if (inUse) {
+                        inUse = false;
+                        raw.clearParameters();
+                        raw.clearBatch();
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return !inUse || raw.isClosed();
+                }
+                case "getConnection" -> {
+                    return CachingConnection.this.proxy;
+                }
+                default -> {
+                }
+            }
+
+            boolean timed = name.startsWith("execute");
+            long start = timed ? System.nanoTime() : 0L;
+            try {
+                Object result = method.invoke(raw, args);
+                if (result instanceof ResultSet resultSet) {
+                    lastResult = resultSet;
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (timed) {
+                    metrics.record(sql, System.nanoTime() - start);
+                }
+            }
+        }
+
+        void closeLastResult() {
+            if (lastResult == null) return;
+            try {
+                lastResult.close();
+            } catch (SQLException ignored) {
+            }
+            lastResult = null;
+        }
+
+        void closeQuietly() {
+            try {
+                raw.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+}
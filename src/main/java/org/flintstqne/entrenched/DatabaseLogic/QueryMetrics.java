@@ -0,0 +1,68 @@
+package org.flintstqne.entrenched.DatabaseLogic;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-query latency metrics for a {@link SqliteDatabase}.
+ * Keyed by SQL text, so every distinct prepared statement gets its own row.
+ */
+public final class QueryMetrics {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Immutable view of one query's timings.
+     */
+    public record QueryStat(String sql, long count, long totalNanos, long maxNanos) {
+        public double averageMillis() {
+            return count == 0 ? 0 : totalNanos / (double) count / 1_000_000.0;
+        }
+
+        public double totalMillis() {
+            return totalNanos / 1_000_000.0;
+        }
+
+        public double maxMillis() {
+            return maxNanos / 1_000_000.0;
+        }
+    }
+
+    private static final class Entry {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+    }
+
+    void record(String sql, long nanos) {
+        Entry entry = entries.computeIfAbsent(sql, k -> new Entry());
+        entry.count.increment();
+        entry.totalNanos.add(nanos);
+        long max = entry.maxNanos.get();
+        while (nanos > max && !entry.maxNanos.compareAndSet(max, nanos)) {
+            max = entry.maxNanos.get();
+        }
+    }
+
+    /**
+     * Returns all recorded queries, slowest total time first.
+     */
+    public List<QueryStat> snapshot() {
+        List<QueryStat> stats = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            stats.add(new QueryStat(e.getKey(), entry.count.sum(), entry.totalNanos.sum(), entry.maxNanos.get()));
+        }
+        stats.sort(Comparator.comparingLong(QueryStat::totalNanos).reversed());
+        return stats;
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+}
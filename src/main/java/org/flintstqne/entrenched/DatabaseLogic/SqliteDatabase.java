@@ -0,0 +1,386 @@
+package org.flintstqne.entrenched.DatabaseLogic;
+
+import org.sqlite.SQLiteConfig;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shared SQLite access layer used by every *Db class.
+ * <p>
+ * One database file gets:
+ * <ul>
+ *   <li>a single writer connection confined to a dedicated writer thread,</li>
+ *   <li>a small pool of read-only WAL connections used on the calling thread,</li>
+ *   <li>a prepared-statement cache per connection (see {@link CachingConnection}),</li>
+ *   <li>per-query latency metrics (see {@link QueryMetrics}).</li>
+ * </ul>
+ * Reads never wait behind writes (WAL), and writes from the main thread, Bukkit async
+ * workers and the stats API are serialized on one thread instead of racing on a shared
+ * connection. Calls are re-entrant: a write issued from inside a write runs inline, and
+ * a read issued from the writer thread uses the writer connection so it sees the
+ * caller's uncommitted transaction.
+ */
+public final class SqliteDatabase implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(SqliteDatabase.class.getName());
+    private static final int DEFAULT_READERS = 3;
+    private static final long READER_WAIT_SECONDS = 10;
+
+    private static final List<SqliteDatabase> OPEN_DATABASES = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final String url;
+    private final QueryMetrics metrics = new QueryMetrics();
+
+    private final ExecutorService writer;
+    private volatile Thread writerThread;
+    private CachingConnection writeConnection;
+
+    private final BlockingQueue<CachingConnection> readers;
+    private final List<CachingConnection> allReaders = new CopyOnWriteArrayList<>();
+    private final int readerCount;
+    private final ThreadLocal<CachingConnection> borrowedReader = new ThreadLocal<>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * Work that needs a connection and produces a value.
+     */
+    @FunctionalInterface
+    public interface SqlFunction<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Work that needs a connection and produces nothing.
+     */
+    @FunctionalInterface
+    public interface SqlAction {
+        void run(Connection connection) throws SQLException;
+    }
+
+    public SqliteDatabase(File file) {
+        this(file, DEFAULT_READERS);
+    }
+
+    public SqliteDatabase(File file, int readerCount) {
+        File dir = file.getParentFile();
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            throw new IllegalStateException("Failed to create plugin data folder");
+        }
+
+        this.name = file.getName();
+        this.url = "jdbc:sqlite:" + file.getAbsolutePath();
+        this.readerCount = Math.max(1, readerCount);
+        this.readers = new ArrayBlockingQueue<>(this.readerCount);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Trenched-DB-" + name);
+            thread.setDaemon(true);
+            writerThread = thread;
+            return thread;
+        });
+
+        try {
+            writer.submit(() -> {
+                writeConnection = openWriter();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while opening " + name, e);
+        } catch (ExecutionException e) {
+            writer.shutdownNow();
+            throw new RuntimeException("Failed to open " + name, e.getCause());
+        }
+
+        OPEN_DATABASES.add(this);
+    }
+
+    /**
+     * All databases that are currently open, for diagnostics.
+     */
+    public static List<SqliteDatabase> openDatabases() {
+        return List.copyOf(OPEN_DATABASES);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public QueryMetrics getMetrics() {
+        return metrics;
+    }
+
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * Runs read-only work on the calling thread with a pooled read-only connection.
+     * On the writer thread this uses the writer connection instead.
+     */
+    public <T> T read(SqlFunction<T> work) {
+        if (Thread.currentThread() == writerThread) {
+            return apply(writeConnection, work);
+        }
+
+        CachingConnection current = borrowedReader.get();
+        if (current != null) {
+            return apply(current, work);
+        }
+
+        CachingConnection connection = borrowReader();
+        borrowedReader.set(connection);
+        try {
+            return apply(connection, work);
+        } finally {
+            borrowedReader.remove();
+            readers.offer(connection);
+        }
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Runs work on the writer thread and waits for its result.
+     */
+    public <T> T write(SqlFunction<T> work) {
+        if (Thread.currentThread() == writerThread) {
+            return apply(writeConnection, work);
+        }
+        ensureOpen();
+
+        Future<T> future = writer.submit(() -> apply(writeConnection, work));
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while writing to " + name, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new RuntimeException("Write to " + name + " failed", cause);
+        }
+    }
+
+    /**
+     * Runs work on the writer thread and waits for it to finish.
+     */
+    public void execute(SqlAction work) {
+        write(connection -> {
+            work.run(connection);
+            return null;
+        });
+    }
+
+    /**
+     * Queues work on the writer thread without waiting. Failures are logged.
+     */
+    public void executeAsync(SqlAction work) {
+        if (closed) return;
+        if (Thread.currentThread() == writerThread) {
+            apply(writeConnection, connection -> {
+                work.run(connection);
+                return null;
+            });
+            return;
+        }
+        writer.execute(() -> {
+            try {
+                work.run(writeConnection.proxy());
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "[Database] Async write to " + name + " failed", e);
+            }
+        });
+    }
+
+    /**
+     * Runs work inside a single transaction on the writer thread.
+     * Rolls back and rethrows if the work fails.
+     */
+    public <T> T transaction(SqlFunction<T> work) {
+        return write(connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            if (!autoCommit) {
+                // Already inside a transaction on this thread
+                return work.apply(connection);
+            }
+            connection.setAutoCommit(false);
+            try {
+                T result = work.apply(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException ignored) {
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        });
+    }
+
+    // ==================== BULK LOOKUPS ====================
+
+    /**
+     * Most values bound into one IN (...) list; SQLite allows 999 parameters per statement.
+     */
+    public static final int MAX_IN_LIST = 512;
+
+    /**
+     * Splits values into chunks of at most {@link #MAX_IN_LIST} for IN (...) queries.
+     */
+    public static <T> List<List<T>> inChunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += MAX_IN_LIST) {
+            chunks.add(values.subList(i, Math.min(values.size(), i + MAX_IN_LIST)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Placeholder list ("?, ?, ...") for an IN clause holding count values. The size is rounded
+     * up to a power of two so lookups of any size share a few cached statements; bind with
+     * {@link #bindInList}, which fills the padding.
+     */
+    public static String inPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(inListSize(count), "?"));
+    }
+
+    /**
+     * Binds values to an IN list from {@link #inPlaceholders}, starting at parameter index first.
+     * Padding slots repeat the last value, which does not change the result.
+     */
+    public static void bindInList(PreparedStatement ps, int first, List<String> values) throws SQLException {
+        int size = inListSize(values.size());
+        for (int i = 0; i < size; i++) {
+            ps.setString(first + i, values.get(Math.min(i, values.size() - 1)));
+        }
+    }
+
+    private static int inListSize(int count) {
+        return count <= 1 ? 1 : Integer.highestOneBit(count - 1) << 1;
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Drains queued writes, then closes the writer and all reader connections.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        OPEN_DATABASES.remove(this);
+
+        writer.execute(() -> {
+            if (writeConnection != null) {
+                writeConnection.closeAll();
+            }
+        });
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warning("[Database] Writer for " + name + " did not finish in time");
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writer.shutdownNow();
+        }
+
+        for (CachingConnection reader : allReaders) {
+            reader.closeAll();
+        }
+        allReaders.clear();
+        readers.clear();
+    }
+
+    // ==================== INTERNALS ====================
+
+    private CachingConnection openWriter() throws SQLException {
+        Connection raw = DriverManager.getConnection(url);
+        raw.setAutoCommit(true);
+        try (Statement st = raw.createStatement()) {
+            st.execute("PRAGMA journal_mode=WAL");
+            st.execute("PRAGMA synchronous=NORMAL");
+            st.execute("PRAGMA busy_timeout=5000");
+        }
+        return new CachingConnection(raw, metrics);
+    }
+
+    private CachingConnection openReader() throws SQLException {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setReadOnly(true);
+        config.setBusyTimeout(5000);
+        Connection raw = DriverManager.getConnection(url, config.toProperties());
+        return new CachingConnection(raw, metrics);
+    }
+
+    private CachingConnection borrowReader() {
+        ensureOpen();
+        CachingConnection connection = readers.poll();
+        if (connection != null) return connection;
+
+        // Lazily grow the pool up to its limit
+        synchronized (allReaders) {
+            if (allReaders.size() < readerCount) {
+                try {
+                    CachingConnection created = openReader();
+                    allReaders.add(created);
+                    return created;
+                } catch (SQLException e) {
+                    throw new RuntimeException("Failed to open read connection to " + name, e);
+                }
+            }
+        }
+
+        try {
+            connection = readers.poll(READER_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a read connection to " + name, e);
+        }
+        if (connection == null) {
+            throw new IllegalStateException("Timed out waiting for a read connection to " + name);
+        }
+        return connection;
+    }
+
+    private <T> T apply(CachingConnection connection, SqlFunction<T> work) {
+        try {
+            return work.apply(connection.proxy());
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error in " + name, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Database " + name + " is closed");
+        }
+    }
+}
@@ -6,9 +6,9 @@ import org.bukkit.Particle;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,7 +27,8 @@ public class DepotParticleManager {
     private final TeamService teamService;
     private final ConfigManager configManager;
 
-    private BukkitTask particleTask;
+    private TickScheduler tickScheduler;
+    private TickScheduler.Task particleTask;
     private boolean running = false;
     private org.flintstqne.entrenched.Utils.SettingsCommand settingsCommand;
 
@@ -41,6 +42,13 @@ public class DepotParticleManager {
         this.configManager = configManager;
     }
 
+    /**
+     * Sets the scheduler the periodic tasks run on. Must be called before {@link #start()}.
+     */
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     /**
      * Starts the periodic particle effect task.
      */
@@ -54,7 +62,8 @@ public class DepotParticleManager {
         running = true;
         int interval = getParticleIntervalTicks();
 
-        particleTask = Bukkit.getScheduler().runTaskTimer(plugin, this::showAllDepotParticles, 20L, interval);
+        particleTask = tickScheduler.runTimer("depot-particles", TickScheduler.Priority.COSMETIC,
+                20L, interval, this::showAllDepotParticles);
         plugin.getLogger().info("[Depot] Particle manager started (interval: " + interval + " ticks)");
     }
 
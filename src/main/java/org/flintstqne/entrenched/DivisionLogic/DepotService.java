@@ -15,7 +15,6 @@ import org.bukkit.util.io.BukkitObjectOutputStream;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.RegionLogic.RegionService;
 import org.flintstqne.entrenched.RegionLogic.RegionStatus;
-import org.flintstqne.entrenched.RoundLogic.Round;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
 
@@ -157,7 +156,7 @@ public final class DepotService {
     }
 
     private int getCurrentRoundId() {
-        return roundService.getCurrentRound().map(Round::roundId).orElse(-1);
+        return roundService.getCurrentRoundId();
     }
 
     // ==================== Depot Block Management ====================
@@ -6,6 +6,7 @@ import org.flintstqne.entrenched.RoundLogic.RoundService;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 public final class DivisionService {
 
@@ -14,11 +15,45 @@ public final class DivisionService {
     private final TeamService teamService;
     private final ConfigManager configManager;
 
+    // Authoritative in-memory view of the current round's divisions and members. Writes go to
+    // the database first and then swap in a reloaded snapshot, so readers never query divisions.db.
+    private final AtomicReference<DivisionSnapshot> snapshot = new AtomicReference<>(DivisionSnapshot.NONE);
+
     public DivisionService(DivisionDb db, RoundService roundService, TeamService teamService, ConfigManager configManager) {
         this.db = db;
         this.roundService = roundService;
         this.teamService = teamService;
         this.configManager = configManager;
+        refresh();
+
+        // Divisions belong to a round: load the new round's divisions whenever it changes
+        roundService.addListener((change, previous, current) -> {
+            if (previous.roundId() != current.roundId()) {
+                refresh();
+            }
+        });
+    }
+
+    /**
+     * Gets the in-memory snapshot of the current round's divisions. Never null and never touches the database.
+     */
+    public DivisionSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Reloads the snapshot from the database. Called after every write made by this service;
+     * only needed elsewhere if divisions.db was changed outside this service.
+     */
+    public synchronized void refresh() {
+        int roundId = getCurrentRoundId();
+        long version = snapshot.get().version() + 1;
+        if (roundId == -1) {
+            snapshot.set(new DivisionSnapshot(-1, version, List.of(), List.of()));
+            return;
+        }
+        snapshot.set(new DivisionSnapshot(roundId, version,
+                db.getDivisionsForRound(roundId), db.getMembersForRound(roundId)));
     }
 
     private Optional<Round> getCurrentRound() {
@@ -26,7 +61,7 @@ public final class DivisionService {
     }
 
     private int getCurrentRoundId() {
-        return getCurrentRound().map(Round::roundId).orElse(-1);
+        return roundService.getCurrentRoundId();
     }
 
     public CreateResult createDivision(UUID founderUuid, String name, String tag) {
@@ -47,20 +82,21 @@ public final class DivisionService {
         if (teamOpt.isEmpty()) return CreateResult.PLAYER_NOT_ON_TEAM;
         String team = teamOpt.get();
 
-        if (db.getMembership(founderUuidStr, roundId).isPresent()) {
+        DivisionSnapshot current = snapshot.get();
+        if (current.getMembership(founderUuidStr).isPresent()) {
             return CreateResult.ALREADY_IN_DIVISION;
         }
 
         // Skip cooldown check if bypassed (for OPs)
         if (!bypassCooldown && !canCreateDivision(founderUuid)) return CreateResult.ON_COOLDOWN;
 
-        int currentCount = db.countDivisionsForTeam(roundId, team);
+        int currentCount = current.getDivisionsForTeam(team).size();
         if (currentCount >= getMaxDivisionsPerTeam()) return CreateResult.TEAM_LIMIT_REACHED;
 
-        if (db.getDivisionByName(roundId, team, name).isPresent()) return CreateResult.NAME_TAKEN;
+        if (current.getDivisionByName(team, name).isPresent()) return CreateResult.NAME_TAKEN;
 
         String normalizedTag = tag.toUpperCase();
-        if (db.getDivisionByTag(roundId, team, normalizedTag).isPresent()) return CreateResult.TAG_TAKEN;
+        if (current.getDivisionByTag(team, normalizedTag).isPresent()) return CreateResult.TAG_TAKEN;
 
         int divisionId = db.createDivision(roundId, team, name, normalizedTag, founderUuidStr);
         db.addMember(divisionId, roundId, founderUuidStr, DivisionRole.COMMANDER);
@@ -70,33 +106,36 @@ public final class DivisionService {
             db.setFounderCooldown(founderUuidStr);
         }
 
+        refresh();
         return CreateResult.SUCCESS;
     }
 
+    /**
+     * Gets a division by id. Divisions of the current round come from memory; older rounds
+     * fall back to the database.
+     */
     public Optional<Division> getDivision(int divisionId) {
+        Optional<Division> division = snapshot.get().getDivision(divisionId);
+        if (division.isPresent()) return division;
         return db.getDivision(divisionId);
     }
 
     public Optional<Division> findDivision(UUID playerUuid, String nameOrTag) {
-        Optional<Round> roundOpt = getCurrentRound();
-        if (roundOpt.isEmpty()) return Optional.empty();
-
-        int roundId = roundOpt.get().roundId();
+        DivisionSnapshot current = snapshot.get();
+        if (current.roundId() == -1) return Optional.empty();
 
         Optional<String> teamOpt = teamService.getPlayerTeam(playerUuid);
         if (teamOpt.isEmpty()) return Optional.empty();
         String team = teamOpt.get();
 
-        Optional<Division> byName = db.getDivisionByName(roundId, team, nameOrTag);
+        Optional<Division> byName = current.getDivisionByName(team, nameOrTag);
         if (byName.isPresent()) return byName;
 
-        return db.getDivisionByTag(roundId, team, nameOrTag.toUpperCase());
+        return current.getDivisionByTag(team, nameOrTag);
     }
 
     public List<Division> getDivisionsForTeam(String team) {
-        int roundId = getCurrentRoundId();
-        if (roundId == -1) return Collections.emptyList();
-        return db.getDivisionsForTeam(roundId, team);
+        return snapshot.get().getDivisionsForTeam(team);
     }
 
     public boolean renameDivision(UUID playerUuid, String newName) {
@@ -104,14 +143,16 @@ public final class DivisionService {
         if (memberOpt.isEmpty()) return false;
         if (!memberOpt.get().role().canEditDivision()) return false;
 
-        Optional<Division> divOpt = db.getDivision(memberOpt.get().divisionId());
+        DivisionSnapshot current = snapshot.get();
+        Optional<Division> divOpt = current.getDivision(memberOpt.get().divisionId());
         if (divOpt.isEmpty()) return false;
 
         Division div = divOpt.get();
-        Optional<Division> existing = db.getDivisionByName(div.roundId(), div.team(), newName);
+        Optional<Division> existing = current.getDivisionByName(div.team(), newName);
         if (existing.isPresent() && existing.get().divisionId() != div.divisionId()) return false;
 
         db.updateDivisionName(div.divisionId(), newName);
+        refresh();
         return true;
     }
 
@@ -120,15 +161,17 @@ public final class DivisionService {
         if (memberOpt.isEmpty()) return false;
         if (!memberOpt.get().role().canEditDivision()) return false;
 
-        Optional<Division> divOpt = db.getDivision(memberOpt.get().divisionId());
+        DivisionSnapshot current = snapshot.get();
+        Optional<Division> divOpt = current.getDivision(memberOpt.get().divisionId());
         if (divOpt.isEmpty()) return false;
 
         Division div = divOpt.get();
         String normalizedTag = newTag.toUpperCase();
-        Optional<Division> existing = db.getDivisionByTag(div.roundId(), div.team(), normalizedTag);
+        Optional<Division> existing = current.getDivisionByTag(div.team(), normalizedTag);
         if (existing.isPresent() && existing.get().divisionId() != div.divisionId()) return false;
 
         db.updateDivisionTag(div.divisionId(), normalizedTag);
+        refresh();
         return true;
     }
 
@@ -138,6 +181,7 @@ public final class DivisionService {
         if (!memberOpt.get().role().canEditDivision()) return false;
 
         db.updateDivisionDescription(memberOpt.get().divisionId(), description);
+        refresh();
         return true;
     }
 
@@ -147,6 +191,7 @@ public final class DivisionService {
         if (!memberOpt.get().role().canDisband()) return false;
 
         db.deleteDivision(memberOpt.get().divisionId());
+        refresh();
         return true;
     }
 
@@ -154,10 +199,9 @@ public final class DivisionService {
         Optional<Round> roundOpt = getCurrentRound();
         if (roundOpt.isEmpty()) return JoinResult.NO_ACTIVE_ROUND;
 
-        int roundId = roundOpt.get().roundId();
         String playerUuidStr = playerUuid.toString();
 
-        if (db.getMembership(playerUuidStr, roundId).isPresent()) return JoinResult.ALREADY_IN_DIVISION;
+        if (snapshot.get().getMembership(playerUuidStr).isPresent()) return JoinResult.ALREADY_IN_DIVISION;
 
         Optional<Division> divOpt = findDivision(playerUuid, divisionNameOrTag);
         if (divOpt.isEmpty()) return JoinResult.DIVISION_NOT_FOUND;
@@ -185,13 +229,14 @@ public final class DivisionService {
         Optional<JoinRequest> requestOpt = db.getPendingRequest(requesterUuidStr, divisionId);
         if (requestOpt.isEmpty()) return false;
 
-        if (db.getMembership(requesterUuidStr, roundId).isPresent()) {
+        if (snapshot.get().getMembership(requesterUuidStr).isPresent()) {
             db.updateRequestStatus(requestOpt.get().requestId(), "DENIED");
             return false;
         }
 
         db.updateRequestStatus(requestOpt.get().requestId(), "ACCEPTED");
         db.addMember(divisionId, roundId, requesterUuidStr, DivisionRole.MEMBER);
+        refresh();
         return true;
     }
 
@@ -217,15 +262,17 @@ public final class DivisionService {
         int roundId = officerMember.get().roundId();
         String targetUuidStr = targetUuid.toString();
 
-        if (db.getMembership(targetUuidStr, roundId).isPresent()) return false;
+        DivisionSnapshot current = snapshot.get();
+        if (current.getMembership(targetUuidStr).isPresent()) return false;
 
-        Optional<Division> divOpt = db.getDivision(divisionId);
+        Optional<Division> divOpt = current.getDivision(divisionId);
         if (divOpt.isEmpty()) return false;
 
         Optional<String> targetTeam = teamService.getPlayerTeam(targetUuid);
         if (targetTeam.isEmpty() || !targetTeam.get().equals(divOpt.get().team())) return false;
 
         db.addMember(divisionId, roundId, targetUuidStr, DivisionRole.MEMBER);
+        refresh();
         return true;
     }
 
@@ -234,13 +281,14 @@ public final class DivisionService {
         if (roundId == -1) return false;
 
         String playerUuidStr = playerUuid.toString();
-        Optional<DivisionMember> memberOpt = db.getMembership(playerUuidStr, roundId);
+        DivisionSnapshot current = snapshot.get();
+        Optional<DivisionMember> memberOpt = current.getMembership(playerUuidStr);
         if (memberOpt.isEmpty()) return false;
 
         DivisionMember member = memberOpt.get();
 
         if (member.role() == DivisionRole.COMMANDER) {
-            List<DivisionMember> members = db.getMembers(member.divisionId());
+            List<DivisionMember> members = current.getMembers(member.divisionId());
             if (members.size() > 1) {
                 Optional<DivisionMember> newCommander = members.stream()
                         .filter(m -> !m.playerUuid().equals(playerUuidStr))
@@ -251,11 +299,13 @@ public final class DivisionService {
                 }
             } else {
                 db.deleteDivision(member.divisionId());
+                refresh();
                 return true;
             }
         }
 
         db.removeMember(playerUuidStr, roundId);
+        refresh();
         return true;
     }
 
@@ -267,7 +317,7 @@ public final class DivisionService {
         int roundId = officerMember.get().roundId();
         String targetUuidStr = targetUuid.toString();
 
-        Optional<DivisionMember> targetMember = db.getMembership(targetUuidStr, roundId);
+        Optional<DivisionMember> targetMember = snapshot.get().getMembership(targetUuidStr);
         if (targetMember.isEmpty()) return false;
 
         if (targetMember.get().divisionId() != officerMember.get().divisionId()) return false;
@@ -279,25 +329,47 @@ public final class DivisionService {
         if (targetMember.get().role() == DivisionRole.COMMANDER) return false;
 
         db.removeMember(targetUuidStr, roundId);
+        refresh();
         return true;
     }
 
     public Optional<DivisionMember> getMembership(UUID playerUuid) {
-        int roundId = getCurrentRoundId();
-        if (roundId == -1) return Optional.empty();
-        return db.getMembership(playerUuid.toString(), roundId);
+        return snapshot.get().getMembership(playerUuid.toString());
     }
 
     public Optional<Division> getPlayerDivision(UUID playerUuid) {
-        Optional<DivisionMember> memberOpt = getMembership(playerUuid);
-        if (memberOpt.isEmpty()) return Optional.empty();
-        return db.getDivision(memberOpt.get().divisionId());
+        return snapshot.get().getPlayerDivision(playerUuid.toString());
     }
 
+    /**
+     * Gets a division's members. Divisions of the current round come from memory; older rounds
+     * fall back to the database.
+     */
     public List<DivisionMember> getMembers(int divisionId) {
+        DivisionSnapshot current = snapshot.get();
+        if (current.getDivision(divisionId).isPresent()) return current.getMembers(divisionId);
         return db.getMembers(divisionId);
     }
 
+    /**
+     * Member count of every division in the current round. Divisions without members are absent.
+     */
+    public Map<Integer, Integer> getMemberCounts() {
+        return snapshot.get().getMemberCounts();
+    }
+
+    /**
+     * Current-round division of each given player. Players without a division are absent.
+     */
+    public Map<UUID, Division> getPlayerDivisions(Collection<UUID> playerUuids) {
+        DivisionSnapshot current = snapshot.get();
+        Map<UUID, Division> result = new HashMap<>();
+        for (UUID uuid : playerUuids) {
+            current.getPlayerDivision(uuid.toString()).ifPresent(division -> result.put(uuid, division));
+        }
+        return result;
+    }
+
     public List<JoinRequest> getPendingRequests(UUID officerUuid) {
         Optional<DivisionMember> memberOpt = getMembership(officerUuid);
         if (memberOpt.isEmpty()) return Collections.emptyList();
@@ -313,12 +385,13 @@ public final class DivisionService {
         int roundId = commanderMember.get().roundId();
         String targetUuidStr = targetUuid.toString();
 
-        Optional<DivisionMember> targetMember = db.getMembership(targetUuidStr, roundId);
+        Optional<DivisionMember> targetMember = snapshot.get().getMembership(targetUuidStr);
         if (targetMember.isEmpty()) return false;
         if (targetMember.get().divisionId() != commanderMember.get().divisionId()) return false;
         if (targetMember.get().role() != DivisionRole.MEMBER) return false;
 
         db.updateMemberRole(targetUuidStr, roundId, DivisionRole.OFFICER);
+        refresh();
         return true;
     }
 
@@ -330,12 +403,13 @@ public final class DivisionService {
         int roundId = commanderMember.get().roundId();
         String targetUuidStr = targetUuid.toString();
 
-        Optional<DivisionMember> targetMember = db.getMembership(targetUuidStr, roundId);
+        Optional<DivisionMember> targetMember = snapshot.get().getMembership(targetUuidStr);
         if (targetMember.isEmpty()) return false;
         if (targetMember.get().divisionId() != commanderMember.get().divisionId()) return false;
         if (targetMember.get().role() != DivisionRole.OFFICER) return false;
 
         db.updateMemberRole(targetUuidStr, roundId, DivisionRole.MEMBER);
+        refresh();
         return true;
     }
 
@@ -348,12 +422,13 @@ public final class DivisionService {
         String commanderUuidStr = commanderUuid.toString();
         String newCommanderUuidStr = newCommanderUuid.toString();
 
-        Optional<DivisionMember> newCommanderMember = db.getMembership(newCommanderUuidStr, roundId);
+        Optional<DivisionMember> newCommanderMember = snapshot.get().getMembership(newCommanderUuidStr);
         if (newCommanderMember.isEmpty()) return false;
         if (newCommanderMember.get().divisionId() != commanderMember.get().divisionId()) return false;
 
         db.updateMemberRole(newCommanderUuidStr, roundId, DivisionRole.COMMANDER);
         db.updateMemberRole(commanderUuidStr, roundId, DivisionRole.OFFICER);
+        refresh();
         return true;
     }
 
@@ -403,9 +478,14 @@ public final class DivisionService {
     }
 
     public int getDivisionCount(String team) {
-        int roundId = getCurrentRoundId();
-        if (roundId == -1) return 0;
-        return db.countDivisionsForTeam(roundId, team);
+        return snapshot.get().getDivisionsForTeam(team).size();
+    }
+
+    /**
+     * Counter that changes whenever a division or its members change.
+     */
+    public long getDataVersion() {
+        return snapshot.get().version();
     }
 
     public int getMaxDivisionsPerTeam() {
@@ -0,0 +1,130 @@
+package org.flintstqne.entrenched.DivisionLogic;
+
+import java.util.*;
+
+/**
+ * Immutable view of one round's divisions, members and roles held in memory by
+ * {@link DivisionService}. A new snapshot is swapped in after every write and on round
+ * changes, so chat formatting, placeholders and the API never touch the database.
+ */
+public final class DivisionSnapshot {
+
+    static final DivisionSnapshot NONE = new DivisionSnapshot(-1, 0, List.of(), List.of());
+
+    private static final Comparator<DivisionMember> MEMBER_ORDER = Comparator
+            .comparing(DivisionMember::role)
+            .thenComparingLong(DivisionMember::joinedAt);
+
+    private final int roundId;
+    private final long version;
+    private final Map<Integer, Division> divisionsById;
+    private final Map<String, List<Division>> divisionsByTeam;
+    private final Map<String, DivisionMember> membersByPlayer;
+    private final Map<Integer, List<DivisionMember>> membersByDivision;
+    private final Map<Integer, Integer> memberCounts;
+
+    /**
+     * @param divisions the round's divisions, ordered by creation time
+     * @param members   the round's members
+     */
+    DivisionSnapshot(int roundId, long version, List<Division> divisions, List<DivisionMember> members) {
+        this.roundId = roundId;
+        this.version = version;
+
+        Map<Integer, Division> byId = new HashMap<>();
+        Map<String, List<Division>> byTeam = new HashMap<>();
+        for (Division division : divisions) {
+            byId.put(division.divisionId(), division);
+            byTeam.computeIfAbsent(division.team(), k -> new ArrayList<>()).add(division);
+        }
+        byTeam.replaceAll((team, list) -> List.copyOf(list));
+
+        Map<String, DivisionMember> byPlayer = new HashMap<>();
+        Map<Integer, List<DivisionMember>> byDivision = new HashMap<>();
+        for (DivisionMember member : members) {
+            byPlayer.put(member.playerUuid(), member);
+            byDivision.computeIfAbsent(member.divisionId(), k -> new ArrayList<>()).add(member);
+        }
+        Map<Integer, Integer> counts = new HashMap<>();
+        byDivision.replaceAll((divisionId, list) -> {
+            list.sort(MEMBER_ORDER);
+            counts.put(divisionId, list.size());
+            return List.copyOf(list);
+        });
+
+        this.divisionsById = Collections.unmodifiableMap(byId);
+        this.divisionsByTeam = Collections.unmodifiableMap(byTeam);
+        this.membersByPlayer = Collections.unmodifiableMap(byPlayer);
+        this.membersByDivision = Collections.unmodifiableMap(byDivision);
+        this.memberCounts = Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * The round this snapshot belongs to, or -1 when there is no round.
+     */
+    public int roundId() {
+        return roundId;
+    }
+
+    /**
+     * Increases with every snapshot, so it changes whenever a division or its members change.
+     */
+    public long version() {
+        return version;
+    }
+
+    public Optional<Division> getDivision(int divisionId) {
+        return Optional.ofNullable(divisionsById.get(divisionId));
+    }
+
+    /**
+     * Divisions of a team, ordered by creation time.
+     */
+    public List<Division> getDivisionsForTeam(String team) {
+        return divisionsByTeam.getOrDefault(team, List.of());
+    }
+
+    public Optional<Division> getDivisionByName(String team, String name) {
+        for (Division division : getDivisionsForTeam(team)) {
+            if (division.name().equals(name)) return Optional.of(division);
+        }
+        return Optional.empty();
+    }
+
+    public Optional<Division> getDivisionByTag(String team, String tag) {
+        String normalizedTag = tag.toUpperCase();
+        for (Division division : getDivisionsForTeam(team)) {
+            if (division.tag().equals(normalizedTag)) return Optional.of(division);
+        }
+        return Optional.empty();
+    }
+
+    public Optional<DivisionMember> getMembership(String playerUuid) {
+        return Optional.ofNullable(membersByPlayer.get(playerUuid));
+    }
+
+    public Optional<Division> getPlayerDivision(String playerUuid) {
+        DivisionMember member = membersByPlayer.get(playerUuid);
+        return member != null ? getDivision(member.divisionId()) : Optional.empty();
+    }
+
+    /**
+     * Members of a division, commander first, then officers and members, each by join time.
+     */
+    public List<DivisionMember> getMembers(int divisionId) {
+        return membersByDivision.getOrDefault(divisionId, List.of());
+    }
+
+    /**
+     * Member count of every division. Divisions without members are absent.
+     */
+    public Map<Integer, Integer> getMemberCounts() {
+        return memberCounts;
+    }
+
+    @Override
+    public String toString() {
+        return "DivisionSnapshot{round=" + roundId + ", version=" + version + ", divisions=" + divisionsById.size() +
+                ", members=" + membersByPlayer.size() + "}";
+    }
+}
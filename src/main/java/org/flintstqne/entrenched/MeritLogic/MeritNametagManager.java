@@ -4,11 +4,11 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.Team;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -28,7 +28,8 @@ public class MeritNametagManager {
     // Track last known rank for each player to avoid unnecessary updates
     private final ConcurrentHashMap<UUID, MeritRank> lastKnownRanks = new ConcurrentHashMap<>();
 
-    private BukkitTask updateTask;
+    private TickScheduler tickScheduler;
+    private TickScheduler.Task updateTask;
 
     public MeritNametagManager(JavaPlugin plugin, MeritService meritService,
                                 TeamService teamService, ConfigManager configManager) {
@@ -38,6 +39,13 @@ public class MeritNametagManager {
         this.configManager = configManager;
     }
 
+    /**
+     * Sets the scheduler the periodic tasks run on. Must be called before {@link #start()}.
+     */
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     /**
      * Starts the periodic nametag update task.
      */
@@ -47,8 +55,9 @@ public class MeritNametagManager {
             return;
         }
 
-        // Update every 5 seconds (100 ticks)
-        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateAllNametags, 20L, 100L);
+        // Update each player every 5 seconds (100 ticks), spread across those ticks
+        updateTask = tickScheduler.runPerPlayer("merit-nametags", TickScheduler.Priority.NORMAL,
+                100L, this::updatePlayerNametag);
         plugin.getLogger().info("[MeritNametagManager] Started nametag update task");
     }
 
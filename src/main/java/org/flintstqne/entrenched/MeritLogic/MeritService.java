@@ -41,6 +41,9 @@ public final class MeritService {
     private final Map<UUID, Long> cacheTimestamps = new ConcurrentHashMap<>();
     private static final long CACHE_TTL_MS = 5000; // 5 seconds
 
+    // Per-player change counters, bumped by invalidateCache after every write to a player's merit data
+    private final Map<UUID, Long> dataVersions = new ConcurrentHashMap<>();
+
     // Track first blood per round
     private final Set<Integer> firstBloodClaimed = ConcurrentHashMap.newKeySet();
 
@@ -76,6 +79,35 @@ public final class MeritService {
         });
         return data;
     }
+    /**
+     * Gets merit data for many players: cached entries are reused and the rest are loaded in one query.
+     * Players without merit data are absent from the result.
+     */
+    public Map<UUID, PlayerMeritData> getPlayerData(Collection<UUID> uuids) {
+        Map<UUID, PlayerMeritData> result = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (UUID uuid : uuids) {
+            Long cacheTime = cacheTimestamps.get(uuid);
+            PlayerMeritData cached = cache.get(uuid);
+            if (cacheTime != null && cached != null && now - cacheTime < CACHE_TTL_MS) {
+                result.put(uuid, cached);
+            } else {
+                missing.add(uuid);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<UUID, PlayerMeritData> loaded = db.getPlayerData(missing);
+            for (Map.Entry<UUID, PlayerMeritData> entry : loaded.entrySet()) {
+                cache.put(entry.getKey(), entry.getValue());
+                cacheTimestamps.put(entry.getKey(), now);
+            }
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
     public PlayerMeritData getOrCreatePlayerData(UUID uuid) {
         Optional<PlayerMeritData> existing = getPlayerData(uuid);
         if (existing.isPresent()) {
@@ -87,6 +119,7 @@ public final class MeritService {
         PlayerMeritData newData = PlayerMeritData.createNew(uuid);
         cache.put(uuid, newData);
         cacheTimestamps.put(uuid, System.currentTimeMillis());
+        dataVersions.merge(uuid, 1L, Long::sum);
         return newData;
     }
     public MeritRank getPlayerRank(UUID uuid) {
@@ -105,9 +138,19 @@ public final class MeritService {
                 .orElse(0);
     }
 
+    /**
+     * Counter that changes after every write to the player's {@link PlayerMeritData} (tokens,
+     * merits, lifetime counters, playtime and login streak). Read it before loading the data,
+     * so a write that lands in between is seen as a change next time.
+     */
+    public long getDataVersion(UUID uuid) {
+        return dataVersions.getOrDefault(uuid, 0L);
+    }
+
     private void invalidateCache(UUID uuid) {
         cache.remove(uuid);
         cacheTimestamps.remove(uuid);
+        dataVersions.merge(uuid, 1L, Long::sum);
     }
 
     /**
@@ -139,6 +182,7 @@ public final class MeritService {
         // Record the kill
         db.recordKill(killer, victim);
         db.incrementKills(killer);
+        invalidateCache(killer);
 
         // Determine source based on territory
         MeritTokenSource source = inEnemyTerritory ?
@@ -212,6 +256,7 @@ public final class MeritService {
     public int onRoadBlocksPlaced(UUID uuid, int blockCount, Integer roundId) {
         // Track lifetime blocks
         db.addRoadBlocks(uuid, blockCount);
+        invalidateCache(uuid);
 
         // Add progress (1 token per 100 blocks)
         int tokensEarned = db.addProgress(uuid, MeritTokenSource.ROAD_MILESTONE, blockCount);
@@ -331,6 +376,7 @@ public final class MeritService {
         if (!db.updateLoginStreak(uuid)) {
             return 0; // Already logged in today
         }
+        invalidateCache(uuid); // Reload the new streak below
 
         PlayerMeritData data = getOrCreatePlayerData(uuid);
         int streak = data.loginStreak();
@@ -374,6 +420,7 @@ public final class MeritService {
     }
     public int onPlaytimeUpdate(UUID uuid, int minutesPlayed, Integer roundId) {
         db.addPlaytimeMinutes(uuid, minutesPlayed);
+        invalidateCache(uuid);
 
         // 1 token per 120 minutes (2 hours)
         int tokensEarned = db.addProgress(uuid, MeritTokenSource.ACTIVE_PLAYTIME, minutesPlayed);
@@ -20,7 +20,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.block.Block;
 import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
@@ -30,6 +29,7 @@ import org.flintstqne.entrenched.RegionLogic.RegionService;
 import org.flintstqne.entrenched.RoadLogic.DeathListener;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -66,8 +66,9 @@ public class BuildingBenefitManager implements Listener {
     // Optional reference to SettingsCommand - used to check particle toggle
     private org.flintstqne.entrenched.Utils.SettingsCommand settingsCommand;
     // Tasks
-    private BukkitTask benefitTickTask;
-    private BukkitTask particleTask;
+    private TickScheduler tickScheduler;
+    private TickScheduler.Task benefitTickTask;
+    private TickScheduler.Task particleTask;
 
     // Track players inside buildings - playerId -> buildingId
     private final Map<UUID, Integer> playersInBuildings = new ConcurrentHashMap<>();
@@ -145,15 +146,24 @@ public class BuildingBenefitManager implements Listener {
         return regionId;
     }
 
+    /**
+     * Sets the scheduler the periodic tasks run on. Must be called before {@link #start()}.
+     */
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     /**
      * Starts the benefit management tasks.
      */
     public void start() {
         // Main benefit tick - runs every second (20 ticks)
-        benefitTickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tickBenefits, 20L, 20L);
+        benefitTickTask = tickScheduler.runTimer("building-benefits", TickScheduler.Priority.NORMAL,
+                20L, 20L, this::tickBenefits);
 
         // Particle effects - runs every 10 ticks (0.5 seconds)
-        particleTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tickParticles, 10L, 10L);
+        particleTask = tickScheduler.runTimer("building-particles", TickScheduler.Priority.COSMETIC,
+                10L, 10L, this::tickParticles);
 
         plugin.getLogger().info("[Buildings] Benefit manager started");
     }
@@ -0,0 +1,386 @@
+package org.flintstqne.entrenched.ObjectiveLogic;
+
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copy of the blocks in a box around a building objective, read by {@link BuildingDetector}
+ * off the main thread.
+ * <p>
+ * {@link #capture} runs on the main thread and only takes chunk snapshots, container contents
+ * and the biome at the anchor. {@link #load()} then runs on a worker thread and packs the
+ * snapshots into a dense palette grid: one {@code short} per block indexing a small table of
+ * distinct block states. Reads outside the box return void air. Cells can also be addressed by
+ * linear index ({@link #index}: Y varies fastest, then Z, then X) so the detector can keep
+ * per-cell state in bitsets and primitive arrays.
+ * <p>
+ * Once loaded, {@link #refresh} patches changed blocks back in from the world on the main
+ * thread, which is only allowed while no worker is reading ({@link #isInUse()}).
+ */
+final class BuildingCapture {
+
+    private static final BlockData AIR = Material.AIR.createBlockData();
+    private static final BlockData VOID_AIR = Material.VOID_AIR.createBlockData();
+
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+    private final int worldMinHeight, worldMaxHeight, seaLevel;
+    private final String biome;
+    private final boolean includeContainers;
+    private final Map<Long, ItemStack[]> containers;
+    private final AtomicInteger readers = new AtomicInteger();
+
+    private List<ChunkSnapshot> snapshots;
+    private volatile boolean loaded;
+    private short[] blocks;
+    private final Map<BlockData, Short> paletteIndexes = new HashMap<>();
+    private BlockData[] palette = new BlockData[64];
+    private Material[] paletteTypes = new Material[64];
+    private int paletteSize;
+    private int[] highestBlockY;
+    private Material[] highestBlockTypes;
+
+    private BuildingCapture(int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                            int worldMinHeight, int worldMaxHeight, int seaLevel, String biome,
+                            List<ChunkSnapshot> snapshots, boolean includeContainers,
+                            Map<Long, ItemStack[]> containers) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = maxX - minX + 1;
+        this.sizeY = maxY - minY + 1;
+        this.sizeZ = maxZ - minZ + 1;
+        this.worldMinHeight = worldMinHeight;
+        this.worldMaxHeight = worldMaxHeight;
+        this.seaLevel = seaLevel;
+        this.biome = biome;
+        this.snapshots = snapshots;
+        this.includeContainers = includeContainers;
+        this.containers = containers;
+    }
+
+    /**
+     * Snapshots every chunk overlapping the box (Y is clamped to the world). Main thread only.
+     *
+     * @param includeContainers also copy the contents of containers inside the box
+     * @param biomeX            block whose biome key is recorded, with biomeY and biomeZ
+     */
+    static BuildingCapture capture(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                                   boolean includeContainers, int biomeX, int biomeY, int biomeZ) {
+        int clampedMinY = Math.max(world.getMinHeight(), minY);
+        int clampedMaxY = Math.min(world.getMaxHeight() - 1, maxY);
+
+        List<ChunkSnapshot> snapshots = new ArrayList<>();
+        Map<Long, ItemStack[]> containers = new HashMap<>();
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+                snapshots.add(chunk.getChunkSnapshot(true, false, false));
+                if (!includeContainers) continue;
+
+                for (BlockState state : chunk.getTileEntities(block ->
+                        block.getX() >= minX && block.getX() <= maxX
+                                && block.getZ() >= minZ && block.getZ() <= maxZ
+                                && block.getY() >= clampedMinY && block.getY() <= clampedMaxY, true)) {
+                    if (!(state instanceof Container container)) continue;
+                    containers.put(PlacedBlockTracker.packCoord(state.getX(), state.getY(), state.getZ()),
+                            copyContents(container));
+                }
+            }
+        }
+
+        String biome = world.getBiome(biomeX, biomeY, biomeZ).getKey().toString().toUpperCase();
+        return new BuildingCapture(minX, clampedMinY, minZ, maxX, clampedMaxY, maxZ,
+                world.getMinHeight(), world.getMaxHeight(), world.getSeaLevel(), biome, snapshots,
+                includeContainers, containers);
+    }
+
+    // Copies the items: the live inventory keeps changing while a worker reads
+    private static ItemStack[] copyContents(Container container) {
+        ItemStack[] contents = container.getInventory().getContents();
+        for (int i = 0; i < contents.length; i++) {
+            if (contents[i] != null) contents[i] = contents[i].clone();
+        }
+        return contents;
+    }
+
+    /**
+     * Packs the chunk snapshots into the palette grid and releases them. Worker thread; does
+     * nothing if already loaded.
+     */
+    synchronized void load() {
+        if (loaded) return;
+        paletteIndex(AIR);
+
+        blocks = new short[sizeX * sizeZ * sizeY];
+        highestBlockY = new int[sizeX * sizeZ];
+        highestBlockTypes = new Material[sizeX * sizeZ];
+        int maxY = minY + sizeY - 1;
+
+        for (ChunkSnapshot snapshot : snapshots) {
+            int baseX = snapshot.getX() << 4;
+            int baseZ = snapshot.getZ() << 4;
+            for (int localX = 0; localX < 16; localX++) {
+                int x = baseX + localX;
+                if (x < minX || x >= minX + sizeX) continue;
+
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    int z = baseZ + localZ;
+                    if (z < minZ || z >= minZ + sizeZ) continue;
+
+                    int column = (x - minX) * sizeZ + (z - minZ);
+                    int highest = snapshot.getHighestBlockYAt(localX, localZ);
+                    highestBlockY[column] = highest;
+                    // The top block can be above the box, so keep its type per column
+                    highestBlockTypes[column] = highest >= worldMinHeight && highest < worldMaxHeight
+                            ? snapshot.getBlockType(localX, highest, localZ) : Material.VOID_AIR;
+
+                    int offset = column * sizeY;
+                    for (int y = minY; y <= maxY; y++) {
+                        // Empty sections stay at index 0 (air)
+                        if (snapshot.isSectionEmpty((y - worldMinHeight) >> 4)) continue;
+
+                        blocks[offset + (y - minY)] = paletteIndex(snapshot.getBlockData(localX, y, localZ));
+                    }
+                }
+            }
+        }
+
+        snapshots = null;
+        loaded = true;
+    }
+
+    private short paletteIndex(BlockData data) {
+        Short index = paletteIndexes.get(data);
+        if (index != null) return index;
+
+        if (paletteSize == palette.length) {
+            palette = Arrays.copyOf(palette, paletteSize * 2);
+            paletteTypes = Arrays.copyOf(paletteTypes, paletteSize * 2);
+        }
+        short added = (short) paletteSize++;
+        palette[added] = data;
+        paletteTypes[added] = data.getMaterial();
+        paletteIndexes.put(data, added);
+        return added;
+    }
+
+    /**
+     * Re-reads the given blocks (packed with {@link PlacedBlockTracker#packCoord}) from the world.
+     * Their six neighbours are re-read too, so the other half of a bed, door or double chest
+     * follows. Main thread, only when loaded and not in use.
+     */
+    void refresh(World world, Collection<Long> changed) {
+        Set<Long> positions = new HashSet<>();
+        Set<Long> columns = new HashSet<>();
+        for (long packed : changed) {
+            int x = PlacedBlockTracker.unpackX(packed);
+            int y = PlacedBlockTracker.unpackY(packed);
+            int z = PlacedBlockTracker.unpackZ(packed);
+            positions.add(packed);
+            positions.add(PlacedBlockTracker.packCoord(x + 1, y, z));
+            positions.add(PlacedBlockTracker.packCoord(x - 1, y, z));
+            positions.add(PlacedBlockTracker.packCoord(x, y + 1, z));
+            positions.add(PlacedBlockTracker.packCoord(x, y - 1, z));
+            positions.add(PlacedBlockTracker.packCoord(x, y, z + 1));
+            positions.add(PlacedBlockTracker.packCoord(x, y, z - 1));
+            columns.add(PlacedBlockTracker.packCoord(x, 0, z));
+        }
+
+        for (long packed : positions) {
+            int x = PlacedBlockTracker.unpackX(packed);
+            int y = PlacedBlockTracker.unpackY(packed);
+            int z = PlacedBlockTracker.unpackZ(packed);
+            int index = index(x, y, z);
+            if (index < 0) continue;
+
+            Block block = world.getBlockAt(x, y, z);
+            blocks[index] = paletteIndex(block.getBlockData());
+            if (includeContainers) {
+                if (block.getState(false) instanceof Container container) {
+                    containers.put(packed, copyContents(container));
+                } else {
+                    containers.remove(packed);
+                }
+            }
+        }
+
+        for (long packed : columns) {
+            int x = PlacedBlockTracker.unpackX(packed);
+            int z = PlacedBlockTracker.unpackZ(packed);
+            int dx = x - minX, dz = z - minZ;
+            if (dx < 0 || dx >= sizeX || dz < 0 || dz >= sizeZ) continue;
+
+            int highest = world.getHighestBlockYAt(x, z);
+            highestBlockY[dx * sizeZ + dz] = highest;
+            highestBlockTypes[dx * sizeZ + dz] = world.getBlockAt(x, highest, z).getType();
+        }
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Marks the start of a worker read. Pair with {@link #release()}.
+     */
+    void acquire() {
+        readers.incrementAndGet();
+    }
+
+    void release() {
+        readers.decrementAndGet();
+    }
+
+    /**
+     * True while a worker is reading; {@link #refresh} must not run.
+     */
+    boolean isInUse() {
+        return readers.get() > 0;
+    }
+
+    /**
+     * True if (x, y, z) lies inside the captured box.
+     */
+    boolean contains(int x, int y, int z) {
+        return index(x, y, z) >= 0;
+    }
+
+    /**
+     * Linear index of (x, y, z), or -1 outside the box.
+     */
+    int index(int x, int y, int z) {
+        int dx = x - minX, dy = y - minY, dz = z - minZ;
+        if (dx < 0 || dx >= sizeX || dy < 0 || dy >= sizeY || dz < 0 || dz >= sizeZ) return -1;
+        return (dx * sizeZ + dz) * sizeY + dy;
+    }
+
+    /**
+     * Index of the cell (dx, dy, dz) away from index, or -1 if either lies outside the box.
+     */
+    int offset(int index, int dx, int dy, int dz) {
+        if (index < 0) return -1;
+        int y = index % sizeY + dy;
+        int z = (index / sizeY) % sizeZ + dz;
+        int x = index / (sizeY * sizeZ) + dx;
+        if (x < 0 || x >= sizeX || y < 0 || y >= sizeY || z < 0 || z >= sizeZ) return -1;
+        return (x * sizeZ + z) * sizeY + y;
+    }
+
+    /**
+     * Number of cells; indexes run from 0 to size() - 1.
+     */
+    int size() {
+        return sizeX * sizeY * sizeZ;
+    }
+
+    int xOf(int index) {
+        return minX + index / (sizeY * sizeZ);
+    }
+
+    int yOf(int index) {
+        return minY + index % sizeY;
+    }
+
+    int zOf(int index) {
+        return minZ + (index / sizeY) % sizeZ;
+    }
+
+    /**
+     * Index of the (x, z) column holding index, from 0 to sizeX * sizeZ - 1.
+     */
+    int columnOf(int index) {
+        return index / sizeY;
+    }
+
+    /**
+     * Lowest Y inside the box.
+     */
+    int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Highest Y inside the box.
+     */
+    int getMaxY() {
+        return minY + sizeY - 1;
+    }
+
+    Material getType(int x, int y, int z) {
+        return getType(index(x, y, z));
+    }
+
+    /**
+     * Type at a linear index; void air for -1.
+     */
+    Material getType(int index) {
+        return index < 0 ? Material.VOID_AIR : paletteTypes[blocks[index]];
+    }
+
+    BlockData getBlockData(int x, int y, int z) {
+        return getBlockData(index(x, y, z));
+    }
+
+    BlockData getBlockData(int index) {
+        return index < 0 ? VOID_AIR : palette[blocks[index]];
+    }
+
+    /**
+     * Contents of the container at (x, y, z), or null if there is none or contents weren't captured.
+     */
+    ItemStack[] getContainerContents(int x, int y, int z) {
+        return containers.get(PlacedBlockTracker.packCoord(x, y, z));
+    }
+
+    int getHighestBlockYAt(int x, int z) {
+        int dx = x - minX, dz = z - minZ;
+        if (dx < 0 || dx >= sizeX || dz < 0 || dz >= sizeZ) return worldMinHeight;
+        return highestBlockY[dx * sizeZ + dz];
+    }
+
+    /**
+     * Type of the block at {@link #getHighestBlockYAt}, even when it lies above the box.
+     */
+    Material getHighestBlockTypeAt(int x, int z) {
+        int dx = x - minX, dz = z - minZ;
+        if (dx < 0 || dx >= sizeX || dz < 0 || dz >= sizeZ) return Material.VOID_AIR;
+        return highestBlockTypes[dx * sizeZ + dz];
+    }
+
+    int getMinHeight() {
+        return worldMinHeight;
+    }
+
+    int getMaxHeight() {
+        return worldMaxHeight;
+    }
+
+    int getSeaLevel() {
+        return seaLevel;
+    }
+
+    /**
+     * Upper-cased biome key at the anchor given to {@link #capture}.
+     */
+    String getBiome() {
+        return biome;
+    }
+}
@@ -4,25 +4,40 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.block.Container;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.potion.PotionType;
 import org.flintstqne.entrenched.ConfigManager;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.OptionalInt;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 /**
  * Evaluates organic Minecraft builds around settlement objective anchors.
+ * <p>
+ * A scan captures the blocks around the anchor on the main thread ({@link BuildingCapture})
+ * and runs the shell expansion, component splitting, interior analysis and scoring on a
+ * worker thread, so rescans don't cost the server tick.
+ * <p>
+ * The capture is kept per objective as a voxel model. Block changes reported through
+ * {@link #onBlockChanged} are patched into it before the next scan instead of capturing the
+ * world again, and an unchanged model returns its last result. A model is recaptured when it
+ * is older than the configured max age, or after {@link #discardModels} (explosions).
  */
 public final class BuildingDetector {
 
@@ -32,13 +47,79 @@ public final class BuildingDetector {
 
     private static final Logger LOGGER = Bukkit.getLogger();
 
+    // Blocks captured beyond the scan area: interior and variant checks look up to 2 blocks
+    // past the building bounds, down to 2 blocks below a floor and up to 8 above a standing cell
+    private static final int CAPTURE_MARGIN = 3;
+    private static final int CAPTURE_BELOW = 3;
+    private static final int CAPTURE_ABOVE = 9;
+    private static final int OUTPOST_VARIANT_RADIUS = 8;
+
     private final ConfigManager config;
     private final boolean debugEnabled;
+    private final ExecutorService workers;
+    private final long modelMaxAgeMs;
+    // Captured blocks per objective id. Main thread only.
+    private final Map<Integer, BuildingModel> models = new HashMap<>();
     private PlacedBlockTracker placedBlockTracker;
 
     public BuildingDetector(ConfigManager config) {
         this.config = config;
         this.debugEnabled = config.isBuildingDetectionDebugEnabled();
+        this.modelMaxAgeMs = config.getBuildingModelMaxAgeSeconds() * 1000L;
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Entrenched-BuildingScan-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+        models.clear();
+    }
+
+    /**
+     * Records a block change so the models containing it re-read that block before their next
+     * scan. Main thread.
+     */
+    public void onBlockChanged(int x, int y, int z) {
+        for (BuildingModel model : models.values()) {
+            if (model.capture.contains(x, y, z)) {
+                model.dirty.add(PlacedBlockTracker.packCoord(x, y, z));
+            }
+        }
+    }
+
+    /**
+     * Drops the models containing any of the given blocks, so their next scan captures the
+     * world again. Returns the affected objective ids. Main thread.
+     */
+    public Set<Integer> discardModels(Collection<Block> blocks) {
+        Set<Integer> discarded = new HashSet<>();
+        models.entrySet().removeIf(entry -> {
+            for (Block block : blocks) {
+                if (entry.getValue().capture.contains(block.getX(), block.getY(), block.getZ())) {
+                    discarded.add(entry.getKey());
+                    return true;
+                }
+            }
+            return false;
+        });
+        return discarded;
+    }
+
+    /**
+     * Forgets the model of one objective (completed, removed or new round).
+     */
+    public void discardModel(int objectiveId) {
+        models.remove(objectiveId);
+    }
+
+    public void discardAllModels() {
+        models.clear();
     }
 
     /**
@@ -62,12 +143,17 @@ public final class BuildingDetector {
 
     private static final int EXPANSION_SHELL_DEPTH = 8;
 
-    public BuildingDetectionResult scan(World world, RegionObjective objective, BuildingType type, String team) {
+    /**
+     * Scans for a building of the given type around the objective. Must be called on the main
+     * thread, which captures the blocks; the analysis runs on a worker thread and the returned
+     * future completes there.
+     */
+    public CompletableFuture<BuildingDetectionResult> scan(World world, RegionObjective objective, BuildingType type, String team) {
         debug("=== SCAN START: %s in region %s ===", type.name(), objective.regionId());
 
         if (world == null || objective == null || !objective.hasLocation()) {
             debug("ABORT: Objective missing anchor location");
-            return invalid(type, "Objective is missing an anchor location.");
+            return CompletableFuture.completedFuture(invalid(type, "Objective is missing an anchor location."));
         }
 
         int initialRadius = config.getBuildingDetectionRadius();
@@ -100,27 +186,98 @@ public final class BuildingDetector {
         int minY = Math.max(world.getMinHeight(), centerY - verticalRange);
         int maxY = Math.min(world.getMaxHeight() - 1, centerY + verticalRange);
 
+        long now = System.currentTimeMillis();
+        models.values().removeIf(existing -> now - existing.capturedAt > modelMaxAgeMs);
+
+        BuildingModel model = models.get(objective.id());
+        if (model != null && !model.matches(world, centerX, centerY, centerZ, type)) {
+            model = null;
+        }
+
+        if (model != null && model.dirty.isEmpty() && model.result != null
+                && !model.result.isCompletedExceptionally() && Objects.equals(model.team, team) && model.useTracking == useTracking) {
+            debug("Model unchanged — reusing last result");
+            return model.result;
+        }
+
+        if (model != null && !model.dirty.isEmpty()) {
+            if (model.capture.isLoaded() && !model.capture.isInUse()) {
+                debug("Applying %d block changes to model", model.dirty.size());
+                model.capture.refresh(world, model.dirty);
+                model.dirty.clear();
+            } else {
+                // A worker is still reading the model; start over rather than wait
+                model = null;
+            }
+        }
+
+        if (model == null) {
+            // Capture everything the widest expansion can read; the worker decides how much to use
+            int horizontal = Math.max(maxExpansionRadius, OUTPOST_VARIANT_RADIUS) + CAPTURE_MARGIN;
+            BuildingCapture capture = BuildingCapture.capture(world,
+                    centerX - horizontal, Math.min(minY - CAPTURE_BELOW, centerY - 4), centerZ - horizontal,
+                    centerX + horizontal, Math.max(maxY + CAPTURE_ABOVE, centerY + 4), centerZ + horizontal,
+                    type != BuildingType.WATCHTOWER, centerX, centerY, centerZ);
+            model = new BuildingModel(world.getUID(), centerX, centerY, centerZ, type, capture, now);
+            models.put(objective.id(), model);
+        }
+
+        ScanSettings settings = new ScanSettings(initialRadius, maxExpansionRadius, verticalRange,
+                config.getBuildingDetectionVerticalRange(), minY, maxY, useTracking, placedSet);
+        BuildingCapture capture = model.capture;
+        capture.acquire();
+        model.team = team;
+        model.useTracking = useTracking;
+        model.result = CompletableFuture.supplyAsync(() -> {
+            try {
+                capture.load();
+                return analyze(capture, objective, type, team, settings);
+            } finally {
+                capture.release();
+            }
+        }, workers);
+        return model.result;
+    }
+
+    /**
+     * Worker-thread half of {@link #scan}: evaluates the captured blocks.
+     */
+    private BuildingDetectionResult analyze(BuildingCapture capture, RegionObjective objective, BuildingType type,
+                                            String team, ScanSettings settings) {
+        int initialRadius = settings.initialRadius;
+        int maxExpansionRadius = settings.maxExpansionRadius;
+        int verticalRange = settings.verticalRange;
+        int minY = settings.minY;
+        int maxY = settings.maxY;
+        boolean useTracking = settings.useTracking;
+        Set<Long> placedSet = settings.placedSet;
+
+        int centerX = objective.locationX();
+        int centerY = objective.locationY();
+        int centerZ = objective.locationZ();
+
         // ── Adaptive scan: start at initial radius, expand outward if blocks touch the edge ──
-        Map<BlockPos, Material> relevantBlocks = new HashMap<>();
+        // Relevant blocks are kept as bits over the capture's linear indexes
+        BitSet relevantBlocks = new BitSet(capture.size());
+        int relevantCount = 0;
         int scannedRadius = 0;
         int currentRadius = initialRadius;
 
         while (currentRadius <= maxExpansionRadius) {
-            int before = relevantBlocks.size();
-            scanShell(world, type, centerX, centerZ, minY, maxY,
-                      scannedRadius, currentRadius, useTracking, placedSet, relevantBlocks);
-            int found = relevantBlocks.size() - before;
+            int found = scanShell(capture, type, centerX, centerZ, minY, maxY,
+                                  scannedRadius, currentRadius, useTracking, placedSet, relevantBlocks);
+            relevantCount += found;
 
             debug("Scan shell r=%d→%d: found %d new blocks (%d total)",
-                  scannedRadius, currentRadius, found, relevantBlocks.size());
+                  scannedRadius, currentRadius, found, relevantCount);
 
             // Check if any block is within 2 blocks of the current scan edge.
             // If so, the building may extend beyond — expand.
             int edgeThresholdSq = (currentRadius - 2) * (currentRadius - 2);
             boolean hasEdgeBlocks = false;
-            for (BlockPos pos : relevantBlocks.keySet()) {
-                int dx = pos.x - centerX;
-                int dz = pos.z - centerZ;
+            for (int i = relevantBlocks.nextSetBit(0); i >= 0; i = relevantBlocks.nextSetBit(i + 1)) {
+                int dx = capture.xOf(i) - centerX;
+                int dz = capture.zOf(i) - centerZ;
                 if (dx * dx + dz * dz >= edgeThresholdSq) {
                     hasEdgeBlocks = true;
                     break;
@@ -145,23 +302,21 @@ public final class BuildingDetector {
         }
 
         debug("Scanning at %d,%d,%d (effective radius=%d, vertical=%d)", centerX, centerY, centerZ, scannedRadius, verticalRange);
-        debug("Found %d relevant blocks in scan area", relevantBlocks.size());
+        debug("Found %d relevant blocks in scan area", relevantCount);
 
         if (relevantBlocks.isEmpty()) {
             debug("RESULT: No qualifying structure blocks found");
             return invalid(type, "No qualifying structure blocks found near the objective.");
         }
 
-        List<Set<BlockPos>> components = splitIntoComponents(relevantBlocks.keySet());
-
-        // Merge nearby components that are separated by natural terrain (sand, dirt, grass, etc.)
-        // Two components are merged if any of their blocks are within MERGE_DISTANCE blocks of each other
-        components = mergeNearbyComponents(components);
+        // Blocks separated by natural terrain (sand, dirt, grass, etc.) still belong together:
+        // two blocks share a component if they are within MERGE_DISTANCE blocks of each other
+        List<int[]> components = splitIntoComponents(capture, relevantBlocks, relevantCount);
 
         // Use the actual scanned radius for anchoring — any block within the scan area is
         // "near enough" to the objective.
         int anchorRadius = scannedRadius;
-        int totalRelevantBlockCount = relevantBlocks.size();
+        int totalRelevantBlockCount = relevantCount;
 
         debug("Split into %d connected components (anchor radius=%d)", components.size(), anchorRadius);
 
@@ -169,41 +324,51 @@ public final class BuildingDetector {
         // In the scan area around one objective, all player-placed blocks are almost
         // certainly part of the same building, even if flood-fill couldn't connect them
         // (e.g. rooms separated by natural ground floors, wide doorways, or hallways).
-        Set<BlockPos> mergedBuilding = new HashSet<>();
-        int anchoredCount = 0;
+        List<int[]> anchored = new ArrayList<>();
+        int mergedSize = 0;
         int componentIndex = 0;
 
-        for (Set<BlockPos> component : components) {
+        for (int[] component : components) {
             componentIndex++;
 
-            int compMinY = component.stream().mapToInt(p -> p.y).min().orElse(0);
-            int compMaxY = component.stream().mapToInt(p -> p.y).max().orElse(0);
-            debug("Component #%d (%d blocks): Y range %d to %d (height span: %d)",
-                  componentIndex, component.size(), compMinY, compMaxY, compMaxY - compMinY);
+            if (debugEnabled) {
+                Bounds componentBounds = Bounds.from(capture, component);
+                debug("Component #%d (%d blocks): Y range %d to %d (height span: %d)",
+                      componentIndex, component.length, componentBounds.minY, componentBounds.maxY,
+                      componentBounds.maxY - componentBounds.minY);
+            }
 
-            if (!isAnchoredNearObjective(component, centerX, centerY, centerZ, anchorRadius)) {
-                debug("Component #%d (%d blocks): NOT anchored near objective", componentIndex, component.size());
+            if (!isAnchoredNearObjective(capture, component, centerX, centerY, centerZ, anchorRadius, settings.anchorVerticalRange)) {
+                debug("Component #%d (%d blocks): NOT anchored near objective", componentIndex, component.length);
                 continue;
             }
 
-            anchoredCount++;
-            debug("Component #%d (%d blocks): Anchored — merging into building", componentIndex, component.size());
-            mergedBuilding.addAll(component);
+            debug("Component #%d (%d blocks): Anchored — merging into building", componentIndex, component.length);
+            anchored.add(component);
+            mergedSize += component.length;
+        }
+
+        int anchoredCount = anchored.size();
+        int[] mergedBuilding = new int[mergedSize];
+        int mergedOffset = 0;
+        for (int[] component : anchored) {
+            System.arraycopy(component, 0, mergedBuilding, mergedOffset, component.length);
+            mergedOffset += component.length;
         }
 
-        if (mergedBuilding.isEmpty()) {
+        if (mergedBuilding.length == 0) {
             debug("RESULT: No anchored components found");
             debug("=== SCAN END: %s ===", type.name());
             return invalid(type, "No structure is anchored close enough to the objective.");
         }
 
-        debug("Merged %d anchored components into single building (%d blocks)", anchoredCount, mergedBuilding.size());
+        debug("Merged %d anchored components into single building (%d blocks)", anchoredCount, mergedBuilding.length);
 
         ScanContext scanCtx = new ScanContext(components.size(), anchoredCount, totalRelevantBlockCount);
-        BuildingDetectionResult best = evaluateComponent(world, objective, type, team, mergedBuilding, useTracking, placedSet, scanCtx);
+        BuildingDetectionResult best = evaluateComponent(capture, objective, type, team, mergedBuilding, useTracking, placedSet, scanCtx);
 
         debug("RESULT: %d anchored components (%d blocks), score=%.1f, valid=%s",
-            anchoredCount, mergedBuilding.size(), best.totalScore(), best.valid());
+            anchoredCount, mergedBuilding.length, best.totalScore(), best.valid());
         debug("=== SCAN END: %s ===", type.name());
 
         return best;
@@ -211,15 +376,18 @@ public final class BuildingDetector {
 
     /**
      * Scans a cylindrical shell between {@code innerRadius} (exclusive) and {@code outerRadius}
-     * (inclusive) around ({@code centerX}, {@code centerZ}), adding any relevant player-built
-     * blocks to {@code out}. On the first call pass {@code innerRadius = 0} to scan the full circle.
+     * (inclusive) around ({@code centerX}, {@code centerZ}), setting the capture index of any
+     * relevant player-built block in {@code out}. On the first call pass {@code innerRadius = 0}
+     * to scan the full circle.
+     *
+     * @return the number of blocks found
      */
-    private void scanShell(World world, BuildingType type, int centerX, int centerZ,
-                           int minY, int maxY, int innerRadius, int outerRadius,
-                           boolean useTracking, Set<Long> placedSet,
-                           Map<BlockPos, Material> out) {
+    private int scanShell(BuildingCapture capture, BuildingType type, int centerX, int centerZ,
+                          int minY, int maxY, int innerRadius, int outerRadius,
+                          boolean useTracking, Set<Long> placedSet, BitSet out) {
         int innerSq = innerRadius * innerRadius;
         int outerSq = outerRadius * outerRadius;
+        int found = 0;
 
         for (int x = centerX - outerRadius; x <= centerX + outerRadius; x++) {
             for (int z = centerZ - outerRadius; z <= centerZ + outerRadius; z++) {
@@ -231,166 +399,123 @@ public final class BuildingDetector {
                 if (distSq > outerSq || distSq <= innerSq) continue;
 
                 for (int y = minY; y <= maxY; y++) {
-                    Material material = world.getBlockAt(x, y, z).getType();
-                    if (!isRelevantMaterial(material, type)) continue;
-
-                    if (useTracking) {
-                        if (isInherentlyPlayerPlaced(material)
-                                || isProcessedConstruction(material)
-                                || (placedSet != null && placedSet.contains(PlacedBlockTracker.packCoord(x, y, z)))) {
-                            out.put(new BlockPos(x, y, z), material);
-                        }
-                    } else {
-                        if (isInherentlyPlayerPlaced(material) || isProcessedConstruction(material)) {
-                            out.put(new BlockPos(x, y, z), material);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    private List<Set<BlockPos>> splitIntoComponents(Set<BlockPos> positions) {
-        Set<BlockPos> remaining = new HashSet<>(positions);
-        List<Set<BlockPos>> components = new ArrayList<>();
-
-        while (!remaining.isEmpty()) {
-            BlockPos start = remaining.iterator().next();
-            ArrayDeque<BlockPos> queue = new ArrayDeque<>();
-            Set<BlockPos> component = new HashSet<>();
-            queue.add(start);
-            remaining.remove(start);
+                    // Cells outside the capture read as void air, which is never relevant
+                    int index = capture.index(x, y, z);
+                    if (index < 0) continue;
 
-            while (!queue.isEmpty()) {
-                BlockPos current = queue.removeFirst();
-                component.add(current);
+                    Material material = capture.getType(index);
+                    if (!isRelevantMaterial(material, type)) continue;
 
-                for (BlockPos neighbor : current.cardinalNeighbors()) {
-                    if (remaining.remove(neighbor)) {
-                        queue.add(neighbor);
+                    boolean built = isInherentlyPlayerPlaced(material) || isProcessedConstruction(material)
+                            || (useTracking && placedSet != null
+                                && placedSet.contains(PlacedBlockTracker.packCoord(x, y, z)));
+                    if (built && !out.get(index)) {
+                        out.set(index);
+                        found++;
                     }
                 }
             }
-
-            components.add(component);
         }
-
-        return components;
+        return found;
     }
 
     /**
-     * Merges components that are within {@code MERGE_DISTANCE} blocks of each other.
+     * Blocks within this many blocks of each other (on every axis) belong to the same component.
      * This handles cases where natural terrain (sand, dirt, grass) breaks
-     * flood-fill connectivity between walls, floors, and roofs.
+     * face-to-face connectivity between walls, floors, and roofs.
      * For example: walls placed on sand don't connect to a placed floor
      * because sand isn't a construction material.  A distance of 3 covers
      * 2-block-wide doorways and moderate hallway gaps between rooms.
      */
     private static final int MERGE_DISTANCE = 3;
 
-    private List<Set<BlockPos>> mergeNearbyComponents(List<Set<BlockPos>> components) {
-        if (components.size() <= 1) return components;
-
-        // Build a spatial index for fast proximity lookups.
-        // Key: raw block coordinate -> list of component indices whose blocks are within MERGE_DISTANCE of that position.
-        // Each block in component i is written to all positions in the ±MERGE_DISTANCE neighbourhood around it.
-        // The query phase then does a single exact lookup of the query block's coordinate;
-        // if component i wrote to that coordinate, the two blocks are ≤MERGE_DISTANCE apart (Chebyshev).
-        Map<Long, List<Integer>> spatialIndex = new HashMap<>();
-        for (int i = 0; i < components.size(); i++) {
-            for (BlockPos pos : components.get(i)) {
-                for (int dx = -MERGE_DISTANCE; dx <= MERGE_DISTANCE; dx++) {
-                    for (int dy = -MERGE_DISTANCE; dy <= MERGE_DISTANCE; dy++) {
-                        for (int dz = -MERGE_DISTANCE; dz <= MERGE_DISTANCE; dz++) {
-                            long key = packPos(pos.x + dx, pos.y + dy, pos.z + dz);
-                            spatialIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
-                        }
-                    }
-                }
-            }
-        }
+    // (dx, dz) of the four horizontal neighbours
+    private static final int[][] HORIZONTAL_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
 
-        // Union-Find to track which components should merge
-        int[] parent = new int[components.size()];
-        for (int i = 0; i < parent.length; i++) parent[i] = i;
-
-        // For each block in each component, check if any block within distance 2
-        // belongs to a different component
-        for (int i = 0; i < components.size(); i++) {
-            for (BlockPos pos : components.get(i)) {
-                long key = packPos(pos.x, pos.y, pos.z);
-                List<Integer> nearby = spatialIndex.get(key);
-                if (nearby == null) continue;
-                for (int j : nearby) {
-                    if (find(parent, i) != find(parent, j)) {
-                        union(parent, i, j);
+    /**
+     * Flood-fills the set bits of {@code blocks} into components of capture indexes. Each step
+     * reaches every block within {@link #MERGE_DISTANCE}, so face-connected blocks and nearby
+     * pieces split by terrain come out as one component.
+     */
+    private List<int[]> splitIntoComponents(BuildingCapture capture, BitSet blocks, int blockCount) {
+        BitSet remaining = (BitSet) blocks.clone();
+        int[] queue = new int[blockCount];
+        List<int[]> components = new ArrayList<>();
+        int boxMinY = capture.getMinY();
+        int boxMaxY = capture.getMaxY();
+
+        for (int start = remaining.nextSetBit(0); start >= 0; start = remaining.nextSetBit(start + 1)) {
+            remaining.clear(start);
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+
+            while (head < tail) {
+                int current = queue[head++];
+                int x = capture.xOf(current);
+                int y = capture.yOf(current);
+                int z = capture.zOf(current);
+                int fromY = Math.max(boxMinY, y - MERGE_DISTANCE);
+                int toY = Math.min(boxMaxY, y + MERGE_DISTANCE);
+
+                for (int nx = x - MERGE_DISTANCE; nx <= x + MERGE_DISTANCE; nx++) {
+                    for (int nz = z - MERGE_DISTANCE; nz <= z + MERGE_DISTANCE; nz++) {
+                        // Y runs are contiguous indexes, so each column is one bitset range
+                        int from = capture.index(nx, fromY, nz);
+                        if (from < 0) continue;
+                        int to = from + (toY - fromY);
+                        for (int next = remaining.nextSetBit(from); next >= 0 && next <= to;
+                             next = remaining.nextSetBit(next + 1)) {
+                            remaining.clear(next);
+                            queue[tail++] = next;
+                        }
                     }
                 }
             }
-        }
-
-        // Group components by their root parent
-        Map<Integer, Set<BlockPos>> merged = new HashMap<>();
-        for (int i = 0; i < components.size(); i++) {
-            int root = find(parent, i);
-            merged.computeIfAbsent(root, k -> new HashSet<>()).addAll(components.get(i));
-        }
-
-        return new ArrayList<>(merged.values());
-    }
 
-    private long packPos(int x, int y, int z) {
-        return ((long) (x & 0x3FFFFF) << 42) | ((long) (y & 0xFFFFF) << 22) | (z & 0x3FFFFF);
-    }
-
-    private int find(int[] parent, int i) {
-        while (parent[i] != i) {
-            parent[i] = parent[parent[i]]; // path compression
-            i = parent[i];
+            components.add(Arrays.copyOf(queue, tail));
         }
-        return i;
-    }
 
-    private void union(int[] parent, int a, int b) {
-        parent[find(parent, a)] = find(parent, b);
+        return components;
     }
 
-    private boolean isAnchoredNearObjective(Set<BlockPos> component, int centerX, int centerY, int centerZ, int anchorRadius) {
+    private boolean isAnchoredNearObjective(BuildingCapture capture, int[] component, int centerX, int centerY, int centerZ,
+                                            int anchorRadius, int configuredVerticalRange) {
         int radiusSquared = anchorRadius * anchorRadius;
         // Use a more generous vertical tolerance than the horizontal anchor radius.
         // Objectives can end up slightly underground or at a different elevation
         // than the player's build. Allow the full vertical scan range for matching.
-        int verticalTolerance = Math.max(anchorRadius, config.getBuildingDetectionVerticalRange());
-        for (BlockPos pos : component) {
-            int dx = pos.x - centerX;
-            int dz = pos.z - centerZ;
-            if ((dx * dx) + (dz * dz) <= radiusSquared && Math.abs(pos.y - centerY) <= verticalTolerance) {
+        int verticalTolerance = Math.max(anchorRadius, configuredVerticalRange);
+        for (int index : component) {
+            int dx = capture.xOf(index) - centerX;
+            int dz = capture.zOf(index) - centerZ;
+            if ((dx * dx) + (dz * dz) <= radiusSquared && Math.abs(capture.yOf(index) - centerY) <= verticalTolerance) {
                 return true;
             }
         }
         return false;
     }
 
-    private BuildingDetectionResult evaluateComponent(World world, RegionObjective objective, BuildingType type,
-                                                      String team, Set<BlockPos> component,
+    private BuildingDetectionResult evaluateComponent(BuildingCapture capture, RegionObjective objective, BuildingType type,
+                                                      String team, int[] component,
                                                       boolean useTracking, Set<Long> placedSet, ScanContext scanCtx) {
-        Bounds bounds = Bounds.from(component);
-        ComponentStats stats = collectComponentStats(world, component, bounds, team);
-        InteriorStats interior = analyzeInterior(world, bounds, useTracking, placedSet);
+        Bounds bounds = Bounds.from(capture, component);
+        ComponentStats stats = collectComponentStats(capture, component, bounds, team);
+        InteriorStats interior = analyzeInterior(capture, bounds, useTracking, placedSet);
 
         return switch (type) {
-            case OUTPOST -> scoreOutpost(world, objective, bounds, stats, interior, scanCtx);
-            case WATCHTOWER -> scoreWatchtower(world, objective, bounds, stats, scanCtx);
-            case GARRISON -> scoreGarrison(world, bounds, stats, interior, team, scanCtx);
+            case OUTPOST -> scoreOutpost(capture, objective, bounds, stats, interior, scanCtx);
+            case WATCHTOWER -> scoreWatchtower(capture, objective, bounds, stats, scanCtx);
+            case GARRISON -> scoreGarrison(capture, bounds, stats, interior, team, scanCtx);
         };
     }
 
-    private BuildingDetectionResult scoreOutpost(World world, RegionObjective objective, Bounds bounds,
+    private BuildingDetectionResult scoreOutpost(BuildingCapture capture, RegionObjective objective, Bounds bounds,
                                                   ComponentStats stats, InteriorStats interior, ScanContext scanCtx) {
         debug("  [OUTPOST] Scoring component at bounds %d,%d,%d to %d,%d,%d",
             bounds.minX, bounds.minY, bounds.minZ, bounds.maxX, bounds.maxY, bounds.maxZ);
 
-        VariantScore variant = detectOutpostVariant(world, objective, bounds);
+        VariantScore variant = detectOutpostVariant(capture, objective, bounds);
 
         boolean enoughStructure = stats.structuralBlocks >= 24;
         boolean enoughFootprint = stats.footprint >= 14;
@@ -453,12 +578,12 @@ public final class BuildingDetector {
                 variant.variant, summary, stats.structuralBlocks, stats.footprint, 0, bounds, scanCtx);
     }
 
-    private BuildingDetectionResult scoreWatchtower(World world, RegionObjective objective, Bounds bounds,
+    private BuildingDetectionResult scoreWatchtower(BuildingCapture capture, RegionObjective objective, Bounds bounds,
                                                     ComponentStats stats, ScanContext scanCtx) {
         debug("  [WATCHTOWER] Scoring component at bounds %d,%d,%d to %d,%d,%d",
             bounds.minX, bounds.minY, bounds.minZ, bounds.maxX, bounds.maxY, bounds.maxZ);
 
-        TowerStats tower = analyzeTower(world, objective, stats, bounds);
+        TowerStats tower = analyzeTower(capture, objective, stats, bounds);
 
         debug("  [WATCHTOWER] Tower analysis: height=%d (need 14), platform=%d (need 9), base=%d (need 9), structural=%d (need 40)",
             tower.height, tower.platformSize, tower.baseFootprint, stats.structuralBlocks);
@@ -517,12 +642,12 @@ public final class BuildingDetector {
                 "Watchtower", summary, stats.structuralBlocks, stats.footprint, 0, bounds, scanCtx);
     }
 
-    private BuildingDetectionResult scoreGarrison(World world, Bounds bounds, ComponentStats stats,
+    private BuildingDetectionResult scoreGarrison(BuildingCapture capture, Bounds bounds, ComponentStats stats,
                                                   InteriorStats interior, String team, ScanContext scanCtx) {
         debug("  [GARRISON] Scoring component at bounds %d,%d,%d to %d,%d,%d",
             bounds.minX, bounds.minY, bounds.minZ, bounds.maxX, bounds.maxY, bounds.maxZ);
 
-        VariantScore variant = detectGarrisonVariant(world, bounds, stats);
+        VariantScore variant = detectGarrisonVariant(capture, bounds, stats);
         int countedBeds = team == null || team.isBlank() ? stats.beds : stats.teamBeds;
 
         debug("  [GARRISON] Stats: structural=%d (need 34), floor=%d (need 12), interior=%d (need 10)",
@@ -586,9 +711,10 @@ public final class BuildingDetector {
                 variant.variant, summary, stats.structuralBlocks, stats.footprint, countedBeds, bounds, scanCtx);
     }
 
-    private ComponentStats collectComponentStats(World world, Set<BlockPos> component, Bounds bounds, String team) {
-        Set<String> footprint = new HashSet<>();
-        Set<String> baseFootprint = new HashSet<>();
+    private ComponentStats collectComponentStats(BuildingCapture capture, int[] component, Bounds bounds, String team) {
+        // Footprints are sets of capture columns
+        BitSet footprint = new BitSet();
+        BitSet baseFootprint = new BitSet();
         Set<Integer> accessLevels = new HashSet<>();
         int structuralBlocks = 0;
         int storageBlocks = 0;
@@ -600,15 +726,16 @@ public final class BuildingDetector {
         int militaryUtilityBlocks = 0;
         int defensiveBlocks = 0;
 
-        for (BlockPos pos : component) {
-            Block block = world.getBlockAt(pos.x, pos.y, pos.z);
-            Material material = block.getType();
+        for (int index : component) {
+            BlockData blockData = capture.getBlockData(index);
+            Material material = blockData.getMaterial();
+            int y = capture.yOf(index);
 
             if (isConstructionMaterial(material)) {
                 structuralBlocks++;
-                footprint.add(pos.x + ":" + pos.z);
-                if (pos.y <= bounds.minY + 2) {
-                    baseFootprint.add(pos.x + ":" + pos.z);
+                footprint.set(capture.columnOf(index));
+                if (y <= bounds.minY + 2) {
+                    baseFootprint.set(capture.columnOf(index));
                 }
             }
 
@@ -618,7 +745,7 @@ public final class BuildingDetector {
             if (material == Material.CRAFTING_TABLE) {
                 craftingTables++;
             }
-            if (isBed(material) && isBedHead(block.getBlockData())) {
+            if (isBed(material) && isBedHead(blockData)) {
                 beds++;
                 if (matchesTeamBed(material, team)) {
                     teamBeds++;
@@ -628,7 +755,7 @@ public final class BuildingDetector {
                 entranceBlocks++;
             }
             if (isAccessMaterial(material)) {
-                accessLevels.add(pos.y);
+                accessLevels.add(y);
             }
             if (isGeneralUtility(material)) {
                 utilityBlocks++;
@@ -643,8 +770,8 @@ public final class BuildingDetector {
 
         return new ComponentStats(
                 structuralBlocks,
-                footprint.size(),
-                baseFootprint.size(),
+                footprint.cardinality(),
+                baseFootprint.cardinality(),
                 storageBlocks,
                 craftingTables,
                 beds,
@@ -657,26 +784,32 @@ public final class BuildingDetector {
         );
     }
 
-    private InteriorStats analyzeInterior(World world, Bounds bounds, boolean useTracking, Set<Long> placedSet) {
+    private InteriorStats analyzeInterior(BuildingCapture capture, Bounds bounds, boolean useTracking, Set<Long> placedSet) {
         int usableCells = 0;
         int interiorCells = 0;
         int roofedCells = 0;
         int shelteredCells = 0;
         int openings = 0;
-        Set<String> floorArea = new HashSet<>();
+        BitSet floorArea = new BitSet();
 
         // Expand scan area by 1 block in each direction so that standing spaces right
         // at the edge of the component (e.g. next to a door) are still evaluated.
         int scanMinX = bounds.minX - 1, scanMaxX = bounds.maxX + 1;
         int scanMinZ = bounds.minZ - 1, scanMaxZ = bounds.maxZ + 1;
-        // Expand Y downward by 1 to catch standing positions whose floor is bounds.minY
-        int scanMinY = bounds.minY - 1, scanMaxY = bounds.maxY + 1;
+        // Expand Y downward by 1 to catch standing positions whose floor is bounds.minY.
+        // Cells outside the capture read as void air with no floor, so they are skipped.
+        int scanMinY = Math.max(capture.getMinY(), bounds.minY - 1);
+        int scanMaxY = Math.min(capture.getMaxY(), Math.min(capture.getMaxHeight() - 2, bounds.maxY + 1));
 
         for (int x = scanMinX; x <= scanMaxX; x++) {
             for (int z = scanMinZ; z <= scanMaxZ; z++) {
-                for (int y = Math.max(world.getMinHeight(), scanMinY); y <= Math.min(world.getMaxHeight() - 2, scanMaxY); y++) {
-                    Material feetBlock = world.getBlockAt(x, y, z).getType();
-                    Material headBlock = world.getBlockAt(x, y + 1, z).getType();
+                int columnStart = capture.index(x, scanMinY, z);
+                if (columnStart < 0) continue;
+
+                for (int y = scanMinY; y <= scanMaxY; y++) {
+                    int index = columnStart + (y - scanMinY);
+                    Material feetBlock = capture.getType(index);
+                    Material headBlock = capture.getType(capture.offset(index, 0, 1, 0));
 
                     // Check if this is a standing space (passable at feet and head level)
                     if (!isPassable(feetBlock) || !isPassable(headBlock)) {
@@ -687,8 +820,8 @@ public final class BuildingDetector {
                     // Accept any solid block as floor — natural ground (dirt, grass, stone) is a
                     // valid surface to stand on. The building quality comes from the walls & roof,
                     // not from whether the player replaced the ground.
-                    Material floor1 = world.getBlockAt(x, y - 1, z).getType();
-                    Material floor2 = world.getBlockAt(x, y - 2, z).getType();
+                    Material floor1 = capture.getType(capture.offset(index, 0, -1, 0));
+                    Material floor2 = capture.getType(capture.offset(index, 0, -2, 0));
                     boolean hasFloor = isValidFloorBlock(floor1) || isValidFloorBlock(floor2);
 
                     if (!hasFloor) {
@@ -698,10 +831,10 @@ public final class BuildingDetector {
                     // Count walls on all 4 sides (check both lower and upper blocks)
                     int sideWalls = 0;
                     boolean opening = false;
-                    BlockPos pos = new BlockPos(x, y, z);
-                    for (BlockPos neighbor : pos.horizontalNeighbors()) {
-                        Material side = world.getBlockAt(neighbor.x, neighbor.y, neighbor.z).getType();
-                        Material sideHead = world.getBlockAt(neighbor.x, neighbor.y + 1, neighbor.z).getType();
+                    for (int[] direction : HORIZONTAL_DIRECTIONS) {
+                        int neighbor = capture.offset(index, direction[0], 0, direction[1]);
+                        Material side = capture.getType(neighbor);
+                        Material sideHead = capture.getType(capture.offset(neighbor, 0, 1, 0));
                         String sideName = side.name();
                         String sideHeadName = sideHead.name();
 
@@ -721,7 +854,7 @@ public final class BuildingDetector {
                     }
 
                     // Check for roof (extended range: 2-8 blocks above)
-                    boolean roof = hasRoofExtended(world, x, y, z, useTracking, placedSet);
+                    boolean roof = hasRoofExtended(capture, index, useTracking, placedSet);
 
                     // Only count as "usable" if it has a roof OR is enclosed by 2+ walls.
                     // Cells with just 1 wall (exterior face of the building) are typically
@@ -739,7 +872,7 @@ public final class BuildingDetector {
                     // Interior cell needs roof AND at least 1 wall
                     if (roof && sideWalls >= 1) {
                         interiorCells++;
-                        floorArea.add(x + ":" + z);
+                        floorArea.set(capture.columnOf(index));
                         if (opening) {
                             openings++;
                         }
@@ -751,7 +884,7 @@ public final class BuildingDetector {
 
         double roofCoverage = usableCells <= 0 ? 0.0 : (double) roofedCells / usableCells;
         double enclosureQuality = usableCells <= 0 ? 0.0 : (double) shelteredCells / usableCells;
-        return new InteriorStats(usableCells, interiorCells, roofedCells, floorArea.size(), roofCoverage, enclosureQuality, openings > 0);
+        return new InteriorStats(usableCells, interiorCells, roofedCells, floorArea.cardinality(), roofCoverage, enclosureQuality, openings > 0);
     }
 
     /**
@@ -769,14 +902,13 @@ public final class BuildingDetector {
         return material.isSolid();
     }
 
-    private boolean hasRoofExtended(World world, int x, int y, int z, boolean useTracking, Set<Long> placedSet) {
-        // y is the feet level where player stands (air)
-        // y+1 is head level (also air for standing space)
-        // Roof could be at y+2 (right above head) up to y+8 (tall ceiling)
+    private boolean hasRoofExtended(BuildingCapture capture, int index, boolean useTracking, Set<Long> placedSet) {
+        // index is the feet level where player stands (air)
+        // One above is head level (also air for standing space)
+        // Roof could be 2 above (right above head) up to 8 above (tall ceiling)
         for (int dy = 2; dy <= 8; dy++) {
-            int roofY = y + dy;
-            Material above = world.getBlockAt(x, roofY, z).getType();
-            if (above == null) continue;
+            int roofIndex = capture.offset(index, 0, dy, 0);
+            Material above = capture.getType(roofIndex);
 
             // Check if this is a roof-like material
             if (isConstructionMaterial(above)) return true;
@@ -793,7 +925,8 @@ public final class BuildingDetector {
             // With tracking disabled: leaves are never counted (can't distinguish from trees).
             if (name.contains("LEAVES")) {
                 if (useTracking && placedSet != null
-                        && placedSet.contains(PlacedBlockTracker.packCoord(x, roofY, z))) {
+                        && placedSet.contains(PlacedBlockTracker.packCoord(
+                                capture.xOf(roofIndex), capture.yOf(roofIndex), capture.zOf(roofIndex)))) {
                     return true;
                 }
                 // Natural leaves — don't count, but don't stop scanning either
@@ -803,7 +936,7 @@ public final class BuildingDetector {
         return false;
     }
 
-    private TowerStats analyzeTower(World world, RegionObjective objective, ComponentStats stats, Bounds bounds) {
+    private TowerStats analyzeTower(BuildingCapture capture, RegionObjective objective, ComponentStats stats, Bounds bounds) {
         int objectiveBaseY = objective.locationY() == null ? bounds.minY : objective.locationY();
         int highestWalkableY = Integer.MIN_VALUE;
         Map<Integer, Integer> walkableByY = new HashMap<>();
@@ -818,7 +951,7 @@ public final class BuildingDetector {
         for (int x = bounds.minX; x <= bounds.maxX; x++) {
             for (int y = bounds.minY; y <= bounds.maxY; y++) {
                 for (int z = bounds.minZ; z <= bounds.maxZ; z++) {
-                    Material current = world.getBlockAt(x, y, z).getType();
+                    Material current = capture.getType(x, y, z);
                     if (!isConstructionMaterial(current)) {
                         continue;
                     }
@@ -826,7 +959,7 @@ public final class BuildingDetector {
                     // Count ALL structural blocks per Y for body density analysis
                     structuralByY.merge(y, 1, Integer::sum);
 
-                    Material above = world.getBlockAt(x, y + 1, z).getType();
+                    Material above = capture.getType(x, y + 1, z);
                     // Use more lenient check - allow stairs/slabs/fences above for roofed platforms
                     if (!isWalkableAbove(above)) {
                         continue;
@@ -848,23 +981,23 @@ public final class BuildingDetector {
         if (highestWalkableY != Integer.MIN_VALUE) {
             for (int x = bounds.minX; x <= bounds.maxX; x++) {
                 for (int z = bounds.minZ; z <= bounds.maxZ; z++) {
-                    Material current = world.getBlockAt(x, highestWalkableY, z).getType();
+                    Material current = capture.getType(x, highestWalkableY, z);
                     // Use more lenient check for platform with roofs
-                    if (!isConstructionMaterial(current) || !isWalkableAbove(world.getBlockAt(x, highestWalkableY + 1, z).getType())) {
+                    if (!isConstructionMaterial(current) || !isWalkableAbove(capture.getType(x, highestWalkableY + 1, z))) {
                         continue;
                     }
 
                     int openSides = 0;
-                    for (BlockPos neighbor : new BlockPos(x, highestWalkableY + 1, z).horizontalNeighbors()) {
-                        if (isPassable(world.getBlockAt(neighbor.x, neighbor.y, neighbor.z).getType())) {
+                    for (int[] direction : HORIZONTAL_DIRECTIONS) {
+                        if (isPassable(capture.getType(x + direction[0], highestWalkableY + 1, z + direction[1]))) {
                             openSides++;
                         }
                     }
                     exposedSides += openSides / 4.0;
                     exposedCount++;
                     // For sky visibility, check if no solid blocks above (stairs/slabs still count as exposed)
-                    int highestBlock = world.getHighestBlockYAt(x, z);
-                    Material highestMat = world.getBlockAt(x, highestBlock, z).getType();
+                    int highestBlock = capture.getHighestBlockYAt(x, z);
+                    Material highestMat = capture.getHighestBlockTypeAt(x, z);
                     boolean isOpenRoof = highestMat.name().contains("STAIR") || highestMat.name().contains("SLAB")
                                        || highestMat.name().contains("FENCE");
                     if (highestBlock <= highestWalkableY + 3 || isOpenRoof) {
@@ -883,7 +1016,7 @@ public final class BuildingDetector {
         double supportStrength = clamp((stats.structuralBlocks / Math.max(1.0, height * 3.25))
                 + (stats.baseFootprint / 6.0), 0.0, 1.0);
         boolean exposedTerrain = objective.locationY() != null
-                && objective.locationY() >= world.getSeaLevel() + 12;
+                && objective.locationY() >= capture.getSeaLevel() + 12;
 
         // Mid-section density: what fraction of body Y levels (between base+3 and platform-2)
         // have at least 3 structural blocks? This prevents thin ladder-column cheats where
@@ -910,7 +1043,7 @@ public final class BuildingDetector {
                 supportStrength, skyExposure, exposedTerrain, midSectionDensity);
     }
 
-    private VariantScore detectOutpostVariant(World world, RegionObjective objective, Bounds bounds) {
+    private VariantScore detectOutpostVariant(BuildingCapture capture, RegionObjective objective, Bounds bounds) {
         int x = objective.locationX();
         int y = objective.locationY();
         int z = objective.locationZ();
@@ -926,8 +1059,8 @@ public final class BuildingDetector {
 
         for (int scanX = x - radius; scanX <= x + radius; scanX++) {
             for (int scanZ = z - radius; scanZ <= z + radius; scanZ++) {
-                for (int scanY = Math.max(world.getMinHeight(), y - 4); scanY <= Math.min(world.getMaxHeight() - 1, y + 4); scanY++) {
-                    Material material = world.getBlockAt(scanX, scanY, scanZ).getType();
+                for (int scanY = Math.max(capture.getMinHeight(), y - 4); scanY <= Math.min(capture.getMaxHeight() - 1, y + 4); scanY++) {
+                    Material material = capture.getType(scanX, scanY, scanZ);
                     String name = material.name();
                     if (material == Material.WATER) water++;
                     if (name.contains("WHEAT") || name.contains("CARROT") || name.contains("POTATO")
@@ -940,7 +1073,7 @@ public final class BuildingDetector {
             }
         }
 
-        String biomeName = world.getBiome(x, y, z).getKey().toString().toUpperCase();
+        String biomeName = capture.getBiome();
 
         // ===== Phase 2: Scan building area for blocks and chest contents =====
         // Scan the building bounds (plus small margin) for specific blocks and items
@@ -963,9 +1096,8 @@ public final class BuildingDetector {
 
         for (int scanX = scanMinX; scanX <= scanMaxX; scanX++) {
             for (int scanZ = scanMinZ; scanZ <= scanMaxZ; scanZ++) {
-                for (int scanY = Math.max(world.getMinHeight(), scanMinY); scanY <= Math.min(world.getMaxHeight() - 1, scanMaxY); scanY++) {
-                    Block block = world.getBlockAt(scanX, scanY, scanZ);
-                    Material mat = block.getType();
+                for (int scanY = Math.max(capture.getMinHeight(), scanMinY); scanY <= Math.min(capture.getMaxHeight() - 1, scanMaxY); scanY++) {
+                    Material mat = capture.getType(scanX, scanY, scanZ);
 
                     // Check for specific blocks
                     if (mat == Material.FURNACE || mat == Material.BLAST_FURNACE) hasFurnace = true;
@@ -974,8 +1106,9 @@ public final class BuildingDetector {
                     if (mat == Material.CACTUS) cactusBlocks++;
 
                     // Check chest contents
-                    if (block.getState() instanceof Container container) {
-                        for (ItemStack item : container.getInventory().getContents()) {
+                    ItemStack[] contents = capture.getContainerContents(scanX, scanY, scanZ);
+                    if (contents != null) {
+                        for (ItemStack item : contents) {
                             if (item == null || item.getType().isAir()) continue;
                             Material itemType = item.getType();
                             String itemName = itemType.name();
@@ -1010,11 +1143,11 @@ public final class BuildingDetector {
         if (isDesertEnv && cactusBlocks >= 3 && hasWaterBucket) {
             return new VariantScore("Desert Outpost", 5.0);
         }
-        boolean isMountainEnv = objective.locationY() != null && objective.locationY() >= world.getSeaLevel() + 22;
+        boolean isMountainEnv = objective.locationY() != null && objective.locationY() >= capture.getSeaLevel() + 22;
         if (isMountainEnv && hasLadder && woolBlocks >= 3) {
             return new VariantScore("Mountain Outpost", 5.0);
         }
-        boolean isMiningEnv = ore >= 6 || (objective.locationY() != null && objective.locationY() <= world.getSeaLevel() - 10);
+        boolean isMiningEnv = ore >= 6 || (objective.locationY() != null && objective.locationY() <= capture.getSeaLevel() - 10);
         if (isMiningEnv && hasFurnace && hasPickaxe) {
             return new VariantScore("Mining Outpost", 5.0);
         }
@@ -1064,7 +1197,7 @@ public final class BuildingDetector {
         return new VariantScore("Standard", 2.0);
     }
 
-    private VariantScore detectGarrisonVariant(World world, Bounds bounds, ComponentStats stats) {
+    private VariantScore detectGarrisonVariant(BuildingCapture capture, Bounds bounds, ComponentStats stats) {
         // Variants do NOT stack — first match in priority order wins.
         // Priority: Fortified > Command > Supply > Armory > Medical > Basic
 
@@ -1080,12 +1213,13 @@ public final class BuildingDetector {
 
         for (int sx = scanMinX; sx <= scanMaxX; sx++) {
             for (int sz = scanMinZ; sz <= scanMaxZ; sz++) {
-                for (int sy = Math.max(world.getMinHeight(), scanMinY);
-                         sy <= Math.min(world.getMaxHeight() - 1, scanMaxY); sy++) {
+                for (int sy = Math.max(capture.getMinHeight(), scanMinY);
+                         sy <= Math.min(capture.getMaxHeight() - 1, scanMaxY); sy++) {
 
-                    if (!(world.getBlockAt(sx, sy, sz).getState() instanceof Container container)) continue;
+                    ItemStack[] contents = capture.getContainerContents(sx, sy, sz);
+                    if (contents == null) continue;
 
-                    for (ItemStack item : container.getInventory().getContents()) {
+                    for (ItemStack item : contents) {
                         if (item == null || item.getType().isAir()) continue;
 
                         int amount = item.getAmount();
@@ -1188,6 +1322,43 @@ public final class BuildingDetector {
 
     private record ScanContext(int componentCount, int anchoredCount, int totalRelevantBlocks) {}
 
+    /**
+     * One objective's captured blocks, the changes not yet applied and the latest scan.
+     */
+    private static final class BuildingModel {
+        final UUID worldId;
+        final int anchorX, anchorY, anchorZ;
+        final BuildingType type;
+        final BuildingCapture capture;
+        final long capturedAt;
+        final Set<Long> dirty = new HashSet<>();
+        String team;
+        boolean useTracking;
+        CompletableFuture<BuildingDetectionResult> result;
+
+        BuildingModel(UUID worldId, int anchorX, int anchorY, int anchorZ, BuildingType type,
+                      BuildingCapture capture, long capturedAt) {
+            this.worldId = worldId;
+            this.anchorX = anchorX;
+            this.anchorY = anchorY;
+            this.anchorZ = anchorZ;
+            this.type = type;
+            this.capture = capture;
+            this.capturedAt = capturedAt;
+        }
+
+        boolean matches(World world, int x, int y, int z, BuildingType type) {
+            return worldId.equals(world.getUID()) && anchorX == x && anchorY == y && anchorZ == z && this.type == type;
+        }
+    }
+
+    /**
+     * Config and tracking state read on the main thread for one scan.
+     */
+    private record ScanSettings(int initialRadius, int maxExpansionRadius, int verticalRange,
+                                int anchorVerticalRange, int minY, int maxY,
+                                boolean useTracking, Set<Long> placedSet) {}
+
     private BuildingDetectionResult result(BuildingType type, boolean valid, double total, double required,
                                            double structureScore, double interiorScore, double accessScore,
                                            double signatureScore, double contextScore, String variant, String summary,
@@ -1533,38 +1704,21 @@ public final class BuildingDetector {
         return Math.max(min, Math.min(max, value));
     }
 
-    private record BlockPos(int x, int y, int z) {
-        List<BlockPos> cardinalNeighbors() {
-            return List.of(
-                    new BlockPos(x + 1, y, z),
-                    new BlockPos(x - 1, y, z),
-                    new BlockPos(x, y + 1, z),
-                    new BlockPos(x, y - 1, z),
-                    new BlockPos(x, y, z + 1),
-                    new BlockPos(x, y, z - 1)
-            );
-        }
-
-        List<BlockPos> horizontalNeighbors() {
-            return List.of(
-                    new BlockPos(x + 1, y, z),
-                    new BlockPos(x - 1, y, z),
-                    new BlockPos(x, y, z + 1),
-                    new BlockPos(x, y, z - 1)
-            );
-        }
-    }
-
     private record Bounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
-        static Bounds from(Set<BlockPos> component) {
-            OptionalInt minX = component.stream().mapToInt(BlockPos::x).min();
-            OptionalInt minY = component.stream().mapToInt(BlockPos::y).min();
-            OptionalInt minZ = component.stream().mapToInt(BlockPos::z).min();
-            OptionalInt maxX = component.stream().mapToInt(BlockPos::x).max();
-            OptionalInt maxY = component.stream().mapToInt(BlockPos::y).max();
-            OptionalInt maxZ = component.stream().mapToInt(BlockPos::z).max();
-            return new Bounds(minX.orElse(0), minY.orElse(0), minZ.orElse(0),
-                    maxX.orElse(0), maxY.orElse(0), maxZ.orElse(0));
+        static Bounds from(BuildingCapture capture, int[] component) {
+            if (component.length == 0) return new Bounds(0, 0, 0, 0, 0, 0);
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+            for (int index : component) {
+                int x = capture.xOf(index), y = capture.yOf(index), z = capture.zOf(index);
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                maxZ = Math.max(maxZ, z);
+            }
+            return new Bounds(minX, minY, minZ, maxX, maxY, maxZ);
         }
     }
 
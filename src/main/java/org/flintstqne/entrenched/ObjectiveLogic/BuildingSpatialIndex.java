@@ -0,0 +1,107 @@
+package org.flintstqne.entrenched.ObjectiveLogic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory chunk-bucket grid over the bounds of active registered buildings.
+ * <p>
+ * Every building is listed in each 16x16 chunk column its bounding box touches, so a point
+ * lookup hashes one chunk key and checks the handful of buildings in that bucket instead of
+ * loading and scanning every active building from the database.
+ * <p>
+ * Not thread-safe on its own; {@link ObjectiveService} guards the shared instance.
+ */
+final class BuildingSpatialIndex {
+
+    private final Map<Long, List<RegisteredBuilding>> buckets = new HashMap<>();
+    private final Map<Integer, RegisteredBuilding> byObjective = new HashMap<>();
+    private int roundId = -1;
+
+    /**
+     * Round the index was loaded for, or -1 if it has not been loaded.
+     */
+    int roundId() {
+        return roundId;
+    }
+
+    /**
+     * Replaces the index contents with the given active buildings.
+     */
+    void load(int roundId, List<RegisteredBuilding> buildings) {
+        clear();
+        this.roundId = roundId;
+        for (RegisteredBuilding building : buildings) {
+            put(building);
+        }
+    }
+
+    /**
+     * Adds a building, replacing any previous entry for the same objective.
+     */
+    void put(RegisteredBuilding building) {
+        remove(building.objectiveId());
+        byObjective.put(building.objectiveId(), building);
+        for (int cx = building.minX() >> 4; cx <= building.maxX() >> 4; cx++) {
+            for (int cz = building.minZ() >> 4; cz <= building.maxZ() >> 4; cz++) {
+                buckets.computeIfAbsent(chunkKey(cx, cz), k -> new ArrayList<>(2)).add(building);
+            }
+        }
+    }
+
+    void remove(int objectiveId) {
+        RegisteredBuilding building = byObjective.remove(objectiveId);
+        if (building == null) return;
+
+        for (int cx = building.minX() >> 4; cx <= building.maxX() >> 4; cx++) {
+            for (int cz = building.minZ() >> 4; cz <= building.maxZ() >> 4; cz++) {
+                long key = chunkKey(cx, cz);
+                List<RegisteredBuilding> bucket = buckets.get(key);
+                if (bucket == null) continue;
+                bucket.removeIf(b -> b.objectiveId() == objectiveId);
+                if (bucket.isEmpty()) buckets.remove(key);
+            }
+        }
+    }
+
+    void removeRegion(String regionId) {
+        List<Integer> objectiveIds = new ArrayList<>();
+        for (RegisteredBuilding building : byObjective.values()) {
+            if (building.regionId().equals(regionId)) {
+                objectiveIds.add(building.objectiveId());
+            }
+        }
+        for (int objectiveId : objectiveIds) {
+            remove(objectiveId);
+        }
+    }
+
+    void clear() {
+        buckets.clear();
+        byObjective.clear();
+        roundId = -1;
+    }
+
+    /**
+     * Finds the first indexed building whose bounds contain (x, y, z), or null.
+     */
+    RegisteredBuilding find(int x, int y, int z) {
+        List<RegisteredBuilding> bucket = buckets.get(chunkKey(x >> 4, z >> 4));
+        if (bucket == null) return null;
+
+        for (RegisteredBuilding building : bucket) {
+            if (x >= building.minX() && x <= building.maxX() &&
+                y >= building.minY() && y <= building.maxY() &&
+                z >= building.minZ() && z <= building.maxZ()) {
+                return building;
+            }
+        }
+        return null;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
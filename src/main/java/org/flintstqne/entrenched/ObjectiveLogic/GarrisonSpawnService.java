@@ -20,12 +20,12 @@ import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 import org.flintstqne.entrenched.BlueMapHook.RegionRenderer;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.RegionLogic.RegionService;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -73,7 +73,8 @@ public class GarrisonSpawnService {
     private static final int SPAWN_MAP_DISTANCE_LIMIT = 50;
 
     // Task for checking spawn map validity
-    private BukkitTask spawnMapCheckTask;
+    private TickScheduler tickScheduler;
+    private TickScheduler.Task spawnMapCheckTask;
 
     // Inventory title for garrison selection GUI
     public static final String GARRISON_GUI_TITLE = "Select Garrison";
@@ -101,12 +102,20 @@ public class GarrisonSpawnService {
         this.regionRenderer = regionRenderer;
     }
 
+    /**
+     * Sets the scheduler the periodic tasks run on. Must be called before {@link #start()}.
+     */
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     /**
      * Starts the spawn map check task.
      */
     public void start() {
         // Check every second if players have moved too far from spawn
-        spawnMapCheckTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkSpawnMapValidity, 20L, 20L);
+        spawnMapCheckTask = tickScheduler.runTimer("garrison-spawn-check", TickScheduler.Priority.NORMAL,
+                20L, 20L, this::checkSpawnMapValidity);
         plugin.getLogger().info("[Garrison] Spawn service started");
     }
 
@@ -1,6 +1,7 @@
 package org.flintstqne.entrenched.ObjectiveLogic;
 
 import org.bukkit.plugin.java.JavaPlugin;
+import org.flintstqne.entrenched.DatabaseLogic.SqliteDatabase;
 
 import java.io.File;
 import java.sql.*;
@@ -11,7 +12,7 @@ import java.util.*;
  */
 public final class ObjectiveDb implements AutoCloseable {
 
-    private final Connection connection;
+    private final SqliteDatabase database;
 
     public ObjectiveDb(JavaPlugin plugin) {
         try {
@@ -21,10 +22,7 @@ public final class ObjectiveDb implements AutoCloseable {
             }
 
             File dbFile = new File(dir, "objectives.db");
-            String url = "jdbc:sqlite:" + dbFile.getAbsolutePath();
-
-            this.connection = DriverManager.getConnection(url);
-            this.connection.setAutoCommit(true);
+            this.database = new SqliteDatabase(dbFile);
 
             migrate();
         } catch (SQLException e) {
@@ -33,142 +31,140 @@ public final class ObjectiveDb implements AutoCloseable {
     }
 
     private void migrate() throws SQLException {
-        try (Statement st = connection.createStatement()) {
-            st.executeUpdate("PRAGMA foreign_keys = ON");
-
-            // Region objectives table
-            st.executeUpdate("""
-                CREATE TABLE IF NOT EXISTS region_objectives (
-                  id INTEGER PRIMARY KEY AUTOINCREMENT,
-                  region_id TEXT NOT NULL,
-                  round_id INTEGER NOT NULL,
-                  objective_type TEXT NOT NULL,
-                  status TEXT DEFAULT 'ACTIVE',
-                  location_x INTEGER,
-                  location_y INTEGER,
-                  location_z INTEGER,
-                  progress REAL DEFAULT 0,
-                  completed_by TEXT,
-                  created_at INTEGER NOT NULL,
-                  completed_at INTEGER
-                )
-                """);
-
-            // Index for faster queries
-            st.executeUpdate("""
-                CREATE INDEX IF NOT EXISTS idx_objectives_region_round 
-                ON region_objectives(region_id, round_id, status)
-                """);
-
-            // Player objective cooldowns
-            st.executeUpdate("""
-                CREATE TABLE IF NOT EXISTS objective_cooldowns (
-                  player_uuid TEXT NOT NULL,
-                  region_id TEXT NOT NULL,
-                  round_id INTEGER NOT NULL,
-                  objective_type TEXT NOT NULL,
-                  cooldown_until INTEGER NOT NULL,
-                  PRIMARY KEY(player_uuid, region_id, round_id, objective_type)
-                )
-                """);
-
-            // Player objective completions (for tracking)
-            st.executeUpdate("""
-                CREATE TABLE IF NOT EXISTS objective_completions (
-                  id INTEGER PRIMARY KEY AUTOINCREMENT,
-                  objective_id INTEGER NOT NULL,
-                  player_uuid TEXT NOT NULL,
-                  team TEXT NOT NULL,
-                  completed_at INTEGER NOT NULL
-                )
-                """);
-
-            // Hold ground tracking (players currently holding ground)
-            st.executeUpdate("""
-                CREATE TABLE IF NOT EXISTS hold_ground_progress (
-                  objective_id INTEGER NOT NULL,
-                  player_uuid TEXT NOT NULL,
-                  team TEXT NOT NULL,
-                  started_at INTEGER NOT NULL,
-                  last_tick INTEGER NOT NULL,
-                  total_seconds INTEGER DEFAULT 0,
-                  PRIMARY KEY(objective_id, player_uuid)
-                )
-                """);
-
-            st.executeUpdate("""
-                CREATE TABLE IF NOT EXISTS registered_buildings (
-                  id INTEGER PRIMARY KEY AUTOINCREMENT,
-                  objective_id INTEGER NOT NULL UNIQUE,
-                  region_id TEXT NOT NULL,
-                  round_id INTEGER NOT NULL,
-                  building_type TEXT NOT NULL,
-                  team TEXT NOT NULL,
-                  status TEXT NOT NULL,
-                  anchor_x INTEGER NOT NULL,
-                  anchor_y INTEGER NOT NULL,
-                  anchor_z INTEGER NOT NULL,
-                  min_x INTEGER NOT NULL,
-                  min_y INTEGER NOT NULL,
-                  min_z INTEGER NOT NULL,
-                  max_x INTEGER NOT NULL,
-                  max_y INTEGER NOT NULL,
-                  max_z INTEGER NOT NULL,
-                  total_score REAL NOT NULL,
-                  structure_score REAL NOT NULL,
-                  interior_score REAL NOT NULL,
-                  access_score REAL NOT NULL,
-                  signature_score REAL NOT NULL,
-                  context_score REAL NOT NULL,
-                  variant TEXT,
-                  registered_at INTEGER NOT NULL,
-                  last_validated_at INTEGER NOT NULL,
-                  invalidated_at INTEGER,
-                  FOREIGN KEY(objective_id) REFERENCES region_objectives(id) ON DELETE CASCADE
-                )
-                """);
-
-            st.executeUpdate("""
-                CREATE INDEX IF NOT EXISTS idx_registered_buildings_round_status
-                ON registered_buildings(round_id, status)
-                """);
-        }
+        database.execute(connection -> {
+            try (Statement st = connection.createStatement()) {
+                st.executeUpdate("PRAGMA foreign_keys = ON");
+
+                // Region objectives table
+                st.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS region_objectives (
+                      id INTEGER PRIMARY KEY AUTOINCREMENT,
+                      region_id TEXT NOT NULL,
+                      round_id INTEGER NOT NULL,
+                      objective_type TEXT NOT NULL,
+                      status TEXT DEFAULT 'ACTIVE',
+                      location_x INTEGER,
+                      location_y INTEGER,
+                      location_z INTEGER,
+                      progress REAL DEFAULT 0,
+                      completed_by TEXT,
+                      created_at INTEGER NOT NULL,
+                      completed_at INTEGER
+                    )
+                    """);
+
+                // Index for faster queries
+                st.executeUpdate("""
+                    CREATE INDEX IF NOT EXISTS idx_objectives_region_round 
+                    ON region_objectives(region_id, round_id, status)
+                    """);
+
+                // Player objective cooldowns
+                st.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS objective_cooldowns (
+                      player_uuid TEXT NOT NULL,
+                      region_id TEXT NOT NULL,
+                      round_id INTEGER NOT NULL,
+                      objective_type TEXT NOT NULL,
+                      cooldown_until INTEGER NOT NULL,
+                      PRIMARY KEY(player_uuid, region_id, round_id, objective_type)
+                    )
+                    """);
+
+                // Player objective completions (for tracking)
+                st.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS objective_completions (
+                      id INTEGER PRIMARY KEY AUTOINCREMENT,
+                      objective_id INTEGER NOT NULL,
+                      player_uuid TEXT NOT NULL,
+                      team TEXT NOT NULL,
+                      completed_at INTEGER NOT NULL
+                    )
+                    """);
+
+                // Hold ground tracking (players currently holding ground)
+                st.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS hold_ground_progress (
+                      objective_id INTEGER NOT NULL,
+                      player_uuid TEXT NOT NULL,
+                      team TEXT NOT NULL,
+                      started_at INTEGER NOT NULL,
+                      last_tick INTEGER NOT NULL,
+                      total_seconds INTEGER DEFAULT 0,
+                      PRIMARY KEY(objective_id, player_uuid)
+                    )
+                    """);
+
+                st.executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS registered_buildings (
+                      id INTEGER PRIMARY KEY AUTOINCREMENT,
+                      objective_id INTEGER NOT NULL UNIQUE,
+                      region_id TEXT NOT NULL,
+                      round_id INTEGER NOT NULL,
+                      building_type TEXT NOT NULL,
+                      team TEXT NOT NULL,
+                      status TEXT NOT NULL,
+                      anchor_x INTEGER NOT NULL,
+                      anchor_y INTEGER NOT NULL,
+                      anchor_z INTEGER NOT NULL,
+                      min_x INTEGER NOT NULL,
+                      min_y INTEGER NOT NULL,
+                      min_z INTEGER NOT NULL,
+                      max_x INTEGER NOT NULL,
+                      max_y INTEGER NOT NULL,
+                      max_z INTEGER NOT NULL,
+                      total_score REAL NOT NULL,
+                      structure_score REAL NOT NULL,
+                      interior_score REAL NOT NULL,
+                      access_score REAL NOT NULL,
+                      signature_score REAL NOT NULL,
+                      context_score REAL NOT NULL,
+                      variant TEXT,
+                      registered_at INTEGER NOT NULL,
+                      last_validated_at INTEGER NOT NULL,
+                      invalidated_at INTEGER,
+                      FOREIGN KEY(objective_id) REFERENCES region_objectives(id) ON DELETE CASCADE
+                    )
+                    """);
+
+                st.executeUpdate("""
+                    CREATE INDEX IF NOT EXISTS idx_registered_buildings_round_status
+                    ON registered_buildings(round_id, status)
+                    """);
+            }
 
-        migrateRegisteredBuildingColumns();
+            migrateRegisteredBuildingColumns();
+        });
     }
 
     private void migrateRegisteredBuildingColumns() throws SQLException {
-        Set<String> columns = new HashSet<>();
+        database.execute(connection -> {
+            Set<String> columns = new HashSet<>();
 
-        try (Statement st = connection.createStatement();
-             ResultSet rs = st.executeQuery("PRAGMA table_info(registered_buildings)")) {
-            while (rs.next()) {
-                columns.add(rs.getString("name"));
+            try (Statement st = connection.createStatement();
+                 ResultSet rs = st.executeQuery("PRAGMA table_info(registered_buildings)")) {
+                while (rs.next()) {
+                    columns.add(rs.getString("name"));
+                }
             }
-        }
 
-        if (columns.contains("type") && !columns.contains("building_type")) {
-            try (Statement st = connection.createStatement()) {
-                st.executeUpdate("ALTER TABLE registered_buildings RENAME COLUMN type TO building_type");
+            if (columns.contains("type") && !columns.contains("building_type")) {
+                try (Statement st = connection.createStatement()) {
+                    st.executeUpdate("ALTER TABLE registered_buildings RENAME COLUMN type TO building_type");
+                }
             }
-        }
 
-        if (!columns.contains("bed_count")) {
-            try (Statement st = connection.createStatement()) {
-                st.executeUpdate("ALTER TABLE registered_buildings ADD COLUMN bed_count INTEGER NOT NULL DEFAULT 0");
+            if (!columns.contains("bed_count")) {
+                try (Statement st = connection.createStatement()) {
+                    st.executeUpdate("ALTER TABLE registered_buildings ADD COLUMN bed_count INTEGER NOT NULL DEFAULT 0");
+                }
             }
-        }
+        });
     }
 
     @Override
     public void close() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-            }
-        } catch (SQLException e) {
-            // Ignore close errors
-        }
+        database.close();
     }
 
     // ==================== OBJECTIVE CRUD ====================
@@ -178,218 +174,169 @@ public final class ObjectiveDb implements AutoCloseable {
      */
     public int createObjective(String regionId, int roundId, ObjectiveType type,
                                 Integer locationX, Integer locationY, Integer locationZ) {
-        String sql = """
-            INSERT INTO region_objectives (region_id, round_id, objective_type, status, 
-                                           location_x, location_y, location_z, progress, created_at)
-            VALUES (?, ?, ?, 'ACTIVE', ?, ?, ?, 0, ?)
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            ps.setString(1, regionId);
-            ps.setInt(2, roundId);
-            ps.setString(3, type.name());
-            if (locationX != null) ps.setInt(4, locationX); else ps.setNull(4, Types.INTEGER);
-            if (locationY != null) ps.setInt(5, locationY); else ps.setNull(5, Types.INTEGER);
-            if (locationZ != null) ps.setInt(6, locationZ); else ps.setNull(6, Types.INTEGER);
-            ps.setLong(7, System.currentTimeMillis());
-
-            ps.executeUpdate();
-
-            try (ResultSet rs = ps.getGeneratedKeys()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
+        return database.write(connection -> {
+            String sql = """
+                INSERT INTO region_objectives (region_id, round_id, objective_type, status, 
+                                               location_x, location_y, location_z, progress, created_at)
+                VALUES (?, ?, ?, 'ACTIVE', ?, ?, ?, 0, ?)
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                ps.setString(1, regionId);
+                ps.setInt(2, roundId);
+                ps.setString(3, type.name());
+                if (locationX != null) ps.setInt(4, locationX); else ps.setNull(4, Types.INTEGER);
+                if (locationY != null) ps.setInt(5, locationY); else ps.setNull(5, Types.INTEGER);
+                if (locationZ != null) ps.setInt(6, locationZ); else ps.setNull(6, Types.INTEGER);
+                ps.setLong(7, System.currentTimeMillis());
+
+                ps.executeUpdate();
+
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    if (rs.next()) {
+                        return rs.getInt(1);
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to create objective", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to create objective", e);
-        }
 
-        return -1;
+            return -1;
+        });
     }
 
     /**
      * Gets an objective by ID.
      */
     public Optional<RegionObjective> getObjective(int id) {
-        String sql = "SELECT * FROM region_objectives WHERE id = ?";
+        return database.read(connection -> {
+            String sql = "SELECT * FROM region_objectives WHERE id = ?";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, id);
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, id);
 
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapObjective(rs));
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.of(mapObjective(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get objective", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get objective", e);
-        }
 
-        return Optional.empty();
+            return Optional.empty();
+        });
     }
 
     /**
-     * Gets all active objectives in a region for a round.
-     */
-    public List<RegionObjective> getActiveObjectives(String regionId, int roundId) {
-        String sql = """
-            SELECT * FROM region_objectives 
-            WHERE region_id = ? AND round_id = ? AND status = 'ACTIVE'
-            ORDER BY created_at ASC
-            """;
-
-        List<RegionObjective> objectives = new ArrayList<>();
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, regionId);
-            ps.setInt(2, roundId);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    objectives.add(mapObjective(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get active objectives", e);
-        }
-
-        return objectives;
-    }
-
-    /**
-     * Gets all active objectives of a specific category in a region.
-     */
-    public List<RegionObjective> getActiveObjectivesByCategory(String regionId, int roundId,
-                                                                ObjectiveCategory category) {
-        return getActiveObjectives(regionId, roundId).stream()
-                .filter(o -> o.type().getCategory() == category)
-                .toList();
-    }
-
-   /**
      * Gets all active objectives for a round across all regions.
      */
     public List<RegionObjective> getActiveObjectivesByRound(int roundId) {
-        String sql = """
-            SELECT * FROM region_objectives 
-            WHERE round_id = ? AND status = 'ACTIVE'
-            ORDER BY created_at ASC
-            """;
-
-        List<RegionObjective> objectives = new ArrayList<>();
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, roundId);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    objectives.add(mapObjective(rs));
+        return database.read(connection -> {
+            String sql = """
+                SELECT * FROM region_objectives 
+                WHERE round_id = ? AND status = 'ACTIVE'
+                ORDER BY created_at ASC
+                """;
+
+            List<RegionObjective> objectives = new ArrayList<>();
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, roundId);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        objectives.add(mapObjective(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get active objectives by round", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get active objectives by round", e);
-        }
 
-        return objectives;
+            return objectives;
+        });
     }
 
     /**
-     * Counts active objectives in a region.
-     */
-    public int countActiveObjectives(String regionId, int roundId) {
-        String sql = """
-            SELECT COUNT(*) FROM region_objectives 
-            WHERE region_id = ? AND round_id = ? AND status = 'ACTIVE'
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, regionId);
-            ps.setInt(2, roundId);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count objectives", e);
-        }
-
-        return 0;
-    }
-
-    /**
-     * Updates an objective's progress.
+     * Updates an objective's progress. Queued on the writer thread; returns immediately.
      */
     public void updateProgress(int objectiveId, double progress) {
-        String sql = "UPDATE region_objectives SET progress = ? WHERE id = ?";
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setDouble(1, Math.min(1.0, Math.max(0.0, progress)));
-            ps.setInt(2, objectiveId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to update objective progress", e);
-        }
+        database.executeAsync(connection -> {
+            String sql = "UPDATE region_objectives SET progress = ? WHERE id = ?";
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setDouble(1, Math.min(1.0, Math.max(0.0, progress)));
+                ps.setInt(2, objectiveId);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to update objective progress", e);
+            }
+        });
     }
 
     /**
-     * Marks an objective as completed.
+     * Marks an objective as completed. Queued on the writer thread; returns immediately.
      */
-    public void completeObjective(int objectiveId, String completedByTeam) {
-        String sql = """
-            UPDATE region_objectives 
-            SET status = 'COMPLETED', progress = 1.0, completed_by = ?, completed_at = ?
-            WHERE id = ?
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, completedByTeam);
-            ps.setLong(2, System.currentTimeMillis());
-            ps.setInt(3, objectiveId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to complete objective", e);
-        }
+    public void completeObjective(int objectiveId, String completedByTeam, long completedAt) {
+        database.executeAsync(connection -> {
+            String sql = """
+                UPDATE region_objectives 
+                SET status = 'COMPLETED', progress = 1.0, completed_by = ?, completed_at = ?
+                WHERE id = ?
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, completedByTeam);
+                ps.setLong(2, completedAt);
+                ps.setInt(3, objectiveId);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to complete objective", e);
+            }
+        });
     }
 
     /**
-     * Marks an objective as expired.
+     * Marks an objective as expired. Queued on the writer thread; returns immediately.
      */
-    public void expireObjective(int objectiveId) {
-        String sql = """
-            UPDATE region_objectives 
-            SET status = 'EXPIRED', completed_at = ?
-            WHERE id = ?
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setLong(1, System.currentTimeMillis());
-            ps.setInt(2, objectiveId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to expire objective", e);
-        }
+    public void expireObjective(int objectiveId, long expiredAt) {
+        database.executeAsync(connection -> {
+            String sql = """
+                UPDATE region_objectives 
+                SET status = 'EXPIRED', completed_at = ?
+                WHERE id = ?
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setLong(1, expiredAt);
+                ps.setInt(2, objectiveId);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to expire objective", e);
+            }
+        });
     }
 
     /**
-     * Expires all active objectives in a region.
+     * Expires all active objectives in a region. Queued on the writer thread; returns immediately.
      */
-    public void expireAllInRegion(String regionId, int roundId) {
-        String sql = """
-            UPDATE region_objectives 
-            SET status = 'EXPIRED', completed_at = ?
-            WHERE region_id = ? AND round_id = ? AND status = 'ACTIVE'
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setLong(1, System.currentTimeMillis());
-            ps.setString(2, regionId);
-            ps.setInt(3, roundId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to expire objectives in region", e);
-        }
+    public void expireAllInRegion(String regionId, int roundId, long expiredAt) {
+        database.executeAsync(connection -> {
+            String sql = """
+                UPDATE region_objectives 
+                SET status = 'EXPIRED', completed_at = ?
+                WHERE region_id = ? AND round_id = ? AND status = 'ACTIVE'
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setLong(1, expiredAt);
+                ps.setString(2, regionId);
+                ps.setInt(3, roundId);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to expire objectives in region", e);
+            }
+        });
     }
 
     // ==================== COOLDOWNS ====================
@@ -399,22 +346,24 @@ public final class ObjectiveDb implements AutoCloseable {
      */
     public void setCooldown(UUID playerUuid, String regionId, int roundId,
                             ObjectiveType type, long cooldownUntil) {
-        String sql = """
-            INSERT OR REPLACE INTO objective_cooldowns 
-            (player_uuid, region_id, round_id, objective_type, cooldown_until)
-            VALUES (?, ?, ?, ?, ?)
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, playerUuid.toString());
-            ps.setString(2, regionId);
-            ps.setInt(3, roundId);
-            ps.setString(4, type.name());
-            ps.setLong(5, cooldownUntil);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to set cooldown", e);
-        }
+        database.execute(connection -> {
+            String sql = """
+                INSERT OR REPLACE INTO objective_cooldowns 
+                (player_uuid, region_id, round_id, objective_type, cooldown_until)
+                VALUES (?, ?, ?, ?, ?)
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, playerUuid.toString());
+                ps.setString(2, regionId);
+                ps.setInt(3, roundId);
+                ps.setString(4, type.name());
+                ps.setLong(5, cooldownUntil);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to set cooldown", e);
+            }
+        });
     }
 
     /**
@@ -422,27 +371,29 @@ public final class ObjectiveDb implements AutoCloseable {
      * Returns 0 if no cooldown exists.
      */
     public long getCooldownUntil(UUID playerUuid, String regionId, int roundId, ObjectiveType type) {
-        String sql = """
-            SELECT cooldown_until FROM objective_cooldowns 
-            WHERE player_uuid = ? AND region_id = ? AND round_id = ? AND objective_type = ?
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, playerUuid.toString());
-            ps.setString(2, regionId);
-            ps.setInt(3, roundId);
-            ps.setString(4, type.name());
-
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getLong(1);
+        return database.read(connection -> {
+            String sql = """
+                SELECT cooldown_until FROM objective_cooldowns 
+                WHERE player_uuid = ? AND region_id = ? AND round_id = ? AND objective_type = ?
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, playerUuid.toString());
+                ps.setString(2, regionId);
+                ps.setInt(3, roundId);
+                ps.setString(4, type.name());
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        return rs.getLong(1);
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get cooldown", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get cooldown", e);
-        }
 
-        return 0;
+            return 0L;
+        });
     }
 
     // ==================== COMPLETION TRACKING ====================
@@ -451,359 +402,382 @@ public final class ObjectiveDb implements AutoCloseable {
      * Records an objective completion for a player.
      */
     public void recordCompletion(int objectiveId, UUID playerUuid, String team) {
-        String sql = """
-            INSERT INTO objective_completions (objective_id, player_uuid, team, completed_at)
-            VALUES (?, ?, ?, ?)
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, objectiveId);
-            ps.setString(2, playerUuid.toString());
-            ps.setString(3, team);
-            ps.setLong(4, System.currentTimeMillis());
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to record completion", e);
-        }
+        database.execute(connection -> {
+            String sql = """
+                INSERT INTO objective_completions (objective_id, player_uuid, team, completed_at)
+                VALUES (?, ?, ?, ?)
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, objectiveId);
+                ps.setString(2, playerUuid.toString());
+                ps.setString(3, team);
+                ps.setLong(4, System.currentTimeMillis());
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to record completion", e);
+            }
+        });
     }
 
     /**
      * Gets all objectives completed by a player in a round.
      */
     public List<RegionObjective> getCompletedByPlayer(UUID playerUuid, int roundId) {
-        String sql = """
-            SELECT o.* FROM region_objectives o
-            INNER JOIN objective_completions c ON o.id = c.objective_id
-            WHERE c.player_uuid = ? AND o.round_id = ?
-            ORDER BY c.completed_at DESC
-            """;
-
-        List<RegionObjective> objectives = new ArrayList<>();
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, playerUuid.toString());
-            ps.setInt(2, roundId);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    objectives.add(mapObjective(rs));
+        return database.read(connection -> {
+            String sql = """
+                SELECT o.* FROM region_objectives o
+                INNER JOIN objective_completions c ON o.id = c.objective_id
+                WHERE c.player_uuid = ? AND o.round_id = ?
+                ORDER BY c.completed_at DESC
+                """;
+
+            List<RegionObjective> objectives = new ArrayList<>();
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, playerUuid.toString());
+                ps.setInt(2, roundId);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        objectives.add(mapObjective(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get completed objectives", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get completed objectives", e);
-        }
 
-        return objectives;
+            return objectives;
+        });
     }
 
     // ==================== HOLD GROUND TRACKING ====================
 
     /**
-     * Updates hold ground progress for a player.
+     * One attacker's Hold Ground time for an objective.
      */
-    public void updateHoldGroundProgress(int objectiveId, UUID playerUuid, String team, int totalSeconds) {
-        String sql = """
-            INSERT OR REPLACE INTO hold_ground_progress 
-            (objective_id, player_uuid, team, started_at, last_tick, total_seconds)
-            VALUES (?, ?, ?, COALESCE(
-                (SELECT started_at FROM hold_ground_progress WHERE objective_id = ? AND player_uuid = ?), 
-                ?
-            ), ?, ?)
-            """;
-
-        long now = System.currentTimeMillis();
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, objectiveId);
-            ps.setString(2, playerUuid.toString());
-            ps.setString(3, team);
-            ps.setInt(4, objectiveId);
-            ps.setString(5, playerUuid.toString());
-            ps.setLong(6, now);
-            ps.setLong(7, now);
-            ps.setInt(8, totalSeconds);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to update hold ground progress", e);
-        }
-    }
+    public record HoldGroundProgress(UUID playerUuid, String team, long startedAt, int totalSeconds) {}
 
     /**
-     * Gets the hold ground progress for a player.
+     * Replaces an objective's hold ground rows with the given progress. Queued on the writer
+     * thread; returns immediately.
      */
-    public int getHoldGroundProgress(int objectiveId, UUID playerUuid) {
-        String sql = """
-            SELECT total_seconds FROM hold_ground_progress 
-            WHERE objective_id = ? AND player_uuid = ?
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, objectiveId);
-            ps.setString(2, playerUuid.toString());
-
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
+    public void saveHoldGroundProgress(int objectiveId, List<HoldGroundProgress> progress, long now) {
+        database.executeAsync(connection -> database.transaction(tx -> {
+            String sql = """
+                INSERT INTO hold_ground_progress 
+                (objective_id, player_uuid, team, started_at, last_tick, total_seconds)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """;
+
+            try (PreparedStatement delete = tx.prepareStatement("DELETE FROM hold_ground_progress WHERE objective_id = ?");
+                 PreparedStatement ps = tx.prepareStatement(sql)) {
+                delete.setInt(1, objectiveId);
+                delete.executeUpdate();
+
+                for (HoldGroundProgress entry : progress) {
+                    ps.setInt(1, objectiveId);
+                    ps.setString(2, entry.playerUuid().toString());
+                    ps.setString(3, entry.team());
+                    ps.setLong(4, entry.startedAt());
+                    ps.setLong(5, now);
+                    ps.setInt(6, entry.totalSeconds());
+                    ps.addBatch();
                 }
+                ps.executeBatch();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to save hold ground progress", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get hold ground progress", e);
-        }
-
-        return 0;
+            return null;
+        }));
     }
 
     /**
-     * Clears hold ground progress for an objective.
+     * Gets the saved hold ground progress of every attacker for an objective.
      */
-    public void clearHoldGroundProgress(int objectiveId) {
-        String sql = "DELETE FROM hold_ground_progress WHERE objective_id = ?";
+    public List<HoldGroundProgress> getHoldGroundProgress(int objectiveId) {
+        return database.read(connection -> {
+            String sql = """
+                SELECT player_uuid, team, started_at, total_seconds FROM hold_ground_progress 
+                WHERE objective_id = ?
+                """;
+
+            List<HoldGroundProgress> progress = new ArrayList<>();
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, objectiveId);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        progress.add(new HoldGroundProgress(
+                                UUID.fromString(rs.getString("player_uuid")),
+                                rs.getString("team"),
+                                rs.getLong("started_at"),
+                                rs.getInt("total_seconds")));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get hold ground progress", e);
+            }
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, objectiveId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to clear hold ground progress", e);
-        }
+            return progress;
+        });
     }
 
     /**
-     * Clears hold ground progress for a specific player in an objective.
+     * Clears hold ground progress for an objective. Queued on the writer thread; returns immediately.
      */
-    public void clearHoldGroundProgressForPlayer(int objectiveId, UUID playerUuid) {
-        String sql = "DELETE FROM hold_ground_progress WHERE objective_id = ? AND player_uuid = ?";
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, objectiveId);
-            ps.setString(2, playerUuid.toString());
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to clear hold ground progress for player", e);
-        }
+    public void clearHoldGroundProgress(int objectiveId) {
+        database.executeAsync(connection -> {
+            String sql = "DELETE FROM hold_ground_progress WHERE objective_id = ?";
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, objectiveId);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to clear hold ground progress", e);
+            }
+        });
     }
 
     // ==================== BUILDING REGISTRY ====================
 
     public void upsertRegisteredBuilding(RegionObjective objective, BuildingDetectionResult detection,
                                          String team, RegisteredBuildingStatus status, long now) {
-        String sql = """
-            INSERT INTO registered_buildings (
-              objective_id, region_id, round_id, building_type, team, status,
-              anchor_x, anchor_y, anchor_z,
-              min_x, min_y, min_z, max_x, max_y, max_z,
-              total_score, structure_score, interior_score, access_score, signature_score, context_score,
-              variant, bed_count, registered_at, last_validated_at, invalidated_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-            ON CONFLICT(objective_id) DO UPDATE SET
-              region_id = excluded.region_id,
-              round_id = excluded.round_id,
-              building_type = excluded.building_type,
-              team = excluded.team,
-              status = excluded.status,
-              anchor_x = excluded.anchor_x,
-              anchor_y = excluded.anchor_y,
-              anchor_z = excluded.anchor_z,
-              min_x = excluded.min_x,
-              min_y = excluded.min_y,
-              min_z = excluded.min_z,
-              max_x = excluded.max_x,
-              max_y = excluded.max_y,
-              max_z = excluded.max_z,
-              total_score = excluded.total_score,
-              structure_score = excluded.structure_score,
-              interior_score = excluded.interior_score,
-              access_score = excluded.access_score,
-              signature_score = excluded.signature_score,
-              context_score = excluded.context_score,
-              variant = excluded.variant,
-              bed_count = excluded.bed_count,
-              last_validated_at = excluded.last_validated_at,
-              invalidated_at = excluded.invalidated_at
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, objective.id());
-            ps.setString(2, objective.regionId());
-            ps.setInt(3, objective.roundId());
-            ps.setString(4, detection.type().name());
-            ps.setString(5, team);
-            ps.setString(6, status.name());
-            ps.setInt(7, objective.locationX());
-            ps.setInt(8, objective.locationY());
-            ps.setInt(9, objective.locationZ());
-            ps.setInt(10, detection.minX());
-            ps.setInt(11, detection.minY());
-            ps.setInt(12, detection.minZ());
-            ps.setInt(13, detection.maxX());
-            ps.setInt(14, detection.maxY());
-            ps.setInt(15, detection.maxZ());
-            ps.setDouble(16, detection.totalScore());
-            ps.setDouble(17, detection.structureScore());
-            ps.setDouble(18, detection.interiorScore());
-            ps.setDouble(19, detection.accessScore());
-            ps.setDouble(20, detection.signatureScore());
-            ps.setDouble(21, detection.contextScore());
-            ps.setString(22, detection.variant());
-            ps.setInt(23, detection.bedCount());
-            ps.setLong(24, now);
-            ps.setLong(25, now);
-            ps.setNull(26, Types.INTEGER);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to upsert registered building", e);
-        }
+        database.execute(connection -> {
+            String sql = """
+                INSERT INTO registered_buildings (
+                  objective_id, region_id, round_id, building_type, team, status,
+                  anchor_x, anchor_y, anchor_z,
+                  min_x, min_y, min_z, max_x, max_y, max_z,
+                  total_score, structure_score, interior_score, access_score, signature_score, context_score,
+                  variant, bed_count, registered_at, last_validated_at, invalidated_at
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT(objective_id) DO UPDATE SET
+                  region_id = excluded.region_id,
+                  round_id = excluded.round_id,
+                  building_type = excluded.building_type,
+                  team = excluded.team,
+                  status = excluded.status,
+                  anchor_x = excluded.anchor_x,
+                  anchor_y = excluded.anchor_y,
+                  anchor_z = excluded.anchor_z,
+                  min_x = excluded.min_x,
+                  min_y = excluded.min_y,
+                  min_z = excluded.min_z,
+                  max_x = excluded.max_x,
+                  max_y = excluded.max_y,
+                  max_z = excluded.max_z,
+                  total_score = excluded.total_score,
+                  structure_score = excluded.structure_score,
+                  interior_score = excluded.interior_score,
+                  access_score = excluded.access_score,
+                  signature_score = excluded.signature_score,
+                  context_score = excluded.context_score,
+                  variant = excluded.variant,
+                  bed_count = excluded.bed_count,
+                  last_validated_at = excluded.last_validated_at,
+                  invalidated_at = excluded.invalidated_at
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, objective.id());
+                ps.setString(2, objective.regionId());
+                ps.setInt(3, objective.roundId());
+                ps.setString(4, detection.type().name());
+                ps.setString(5, team);
+                ps.setString(6, status.name());
+                ps.setInt(7, objective.locationX());
+                ps.setInt(8, objective.locationY());
+                ps.setInt(9, objective.locationZ());
+                ps.setInt(10, detection.minX());
+                ps.setInt(11, detection.minY());
+                ps.setInt(12, detection.minZ());
+                ps.setInt(13, detection.maxX());
+                ps.setInt(14, detection.maxY());
+                ps.setInt(15, detection.maxZ());
+                ps.setDouble(16, detection.totalScore());
+                ps.setDouble(17, detection.structureScore());
+                ps.setDouble(18, detection.interiorScore());
+                ps.setDouble(19, detection.accessScore());
+                ps.setDouble(20, detection.signatureScore());
+                ps.setDouble(21, detection.contextScore());
+                ps.setString(22, detection.variant());
+                ps.setInt(23, detection.bedCount());
+                ps.setLong(24, now);
+                ps.setLong(25, now);
+                ps.setNull(26, Types.INTEGER);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to upsert registered building", e);
+            }
+        });
     }
 
     public Optional<RegisteredBuilding> getRegisteredBuilding(int objectiveId) {
-        String sql = "SELECT * FROM registered_buildings WHERE objective_id = ?";
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, objectiveId);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapRegisteredBuilding(rs));
+        return database.read(connection -> {
+            String sql = "SELECT * FROM registered_buildings WHERE objective_id = ?";
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, objectiveId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.of(mapRegisteredBuilding(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get registered building", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get registered building", e);
-        }
 
-        return Optional.empty();
+            return Optional.empty();
+        });
     }
 
     public List<RegisteredBuilding> getRegisteredBuildingsByStatus(int roundId, RegisteredBuildingStatus status) {
-        String sql = """
-            SELECT * FROM registered_buildings
-            WHERE round_id = ? AND status = ?
-            ORDER BY last_validated_at ASC
-            """;
-
-        List<RegisteredBuilding> buildings = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, roundId);
-            ps.setString(2, status.name());
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    buildings.add(mapRegisteredBuilding(rs));
+        return database.read(connection -> {
+            String sql = """
+                SELECT * FROM registered_buildings
+                WHERE round_id = ? AND status = ?
+                ORDER BY last_validated_at ASC
+                """;
+
+            List<RegisteredBuilding> buildings = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, roundId);
+                ps.setString(2, status.name());
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        buildings.add(mapRegisteredBuilding(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get registered buildings by status", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get registered buildings by status", e);
-        }
-        return buildings;
+            return buildings;
+        });
     }
 
     /**
      * Gets all active registered buildings in a region for a specific team.
      */
     public List<RegisteredBuilding> getAllRegisteredBuildingsByRound(int roundId) {
-        String sql = """
-            SELECT * FROM registered_buildings
-            WHERE round_id = ?
-            ORDER BY region_id ASC, building_type ASC
-            """;
-
-        List<RegisteredBuilding> buildings = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, roundId);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    buildings.add(mapRegisteredBuilding(rs));
+        return database.read(connection -> {
+            String sql = """
+                SELECT * FROM registered_buildings
+                WHERE round_id = ?
+                ORDER BY region_id ASC, building_type ASC
+                """;
+
+            List<RegisteredBuilding> buildings = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, roundId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        buildings.add(mapRegisteredBuilding(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get all registered buildings", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get all registered buildings", e);
-        }
-        return buildings;
+            return buildings;
+        });
     }
 
     /**
      * Gets all active registered buildings in a region for a specific team.
      */
     public List<RegisteredBuilding> getActiveRegisteredBuildingsInRegion(String regionId, int roundId, String team) {
-        String sql = """
-            SELECT * FROM registered_buildings
-            WHERE region_id = ? AND round_id = ? AND team = ? AND status = ?
-            ORDER BY building_type ASC
-            """;
-
-        List<RegisteredBuilding> buildings = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, regionId);
-            ps.setInt(2, roundId);
-            ps.setString(3, team);
-            ps.setString(4, RegisteredBuildingStatus.ACTIVE.name());
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    buildings.add(mapRegisteredBuilding(rs));
+        return database.read(connection -> {
+            String sql = """
+                SELECT * FROM registered_buildings
+                WHERE region_id = ? AND round_id = ? AND team = ? AND status = ?
+                ORDER BY building_type ASC
+                """;
+
+            List<RegisteredBuilding> buildings = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, regionId);
+                ps.setInt(2, roundId);
+                ps.setString(3, team);
+                ps.setString(4, RegisteredBuildingStatus.ACTIVE.name());
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        buildings.add(mapRegisteredBuilding(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get active buildings in region for team", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get active buildings in region for team", e);
-        }
-        return buildings;
+            return buildings;
+        });
     }
 
     /**
      * Counts active registered buildings of a specific type in a region for a team.
      */
     public int countActiveRegisteredBuildingsByType(String regionId, int roundId, String team, BuildingType type) {
-        String sql = """
-            SELECT COUNT(*) FROM registered_buildings
-            WHERE region_id = ? AND round_id = ? AND team = ? AND building_type = ? AND status = ?
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, regionId);
-            ps.setInt(2, roundId);
-            ps.setString(3, team);
-            ps.setString(4, type.name());
-            ps.setString(5, RegisteredBuildingStatus.ACTIVE.name());
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
+        return database.read(connection -> {
+            String sql = """
+                SELECT COUNT(*) FROM registered_buildings
+                WHERE region_id = ? AND round_id = ? AND team = ? AND building_type = ? AND status = ?
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, regionId);
+                ps.setInt(2, roundId);
+                ps.setString(3, team);
+                ps.setString(4, type.name());
+                ps.setString(5, RegisteredBuildingStatus.ACTIVE.name());
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        return rs.getInt(1);
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to count active buildings by type", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count active buildings by type", e);
-        }
-        return 0;
+            return 0;
+        });
     }
 
     public void invalidateRegisteredBuilding(int objectiveId, long now) {
-        String sql = """
-            UPDATE registered_buildings
-            SET status = ?, invalidated_at = ?
-            WHERE objective_id = ?
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, RegisteredBuildingStatus.INVALID.name());
-            ps.setLong(2, now);
-            ps.setInt(3, objectiveId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to invalidate registered building", e);
-        }
+        database.execute(connection -> {
+            String sql = """
+                UPDATE registered_buildings
+                SET status = ?, invalidated_at = ?
+                WHERE objective_id = ?
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, RegisteredBuildingStatus.INVALID.name());
+                ps.setLong(2, now);
+                ps.setInt(3, objectiveId);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to invalidate registered building", e);
+            }
+        });
     }
 
     public void invalidateRegisteredBuildingsInRegion(String regionId, int roundId, long now) {
-        String sql = """
-            UPDATE registered_buildings
-            SET status = ?, invalidated_at = ?
-            WHERE region_id = ? AND round_id = ? AND status <> ?
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, RegisteredBuildingStatus.INVALID.name());
-            ps.setLong(2, now);
-            ps.setString(3, regionId);
-            ps.setInt(4, roundId);
-            ps.setString(5, RegisteredBuildingStatus.INVALID.name());
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to invalidate buildings in region", e);
-        }
+        database.execute(connection -> {
+            String sql = """
+                UPDATE registered_buildings
+                SET status = ?, invalidated_at = ?
+                WHERE region_id = ? AND round_id = ? AND status <> ?
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, RegisteredBuildingStatus.INVALID.name());
+                ps.setLong(2, now);
+                ps.setString(3, regionId);
+                ps.setInt(4, roundId);
+                ps.setString(5, RegisteredBuildingStatus.INVALID.name());
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to invalidate buildings in region", e);
+            }
+        });
     }
 
     // ==================== HELPERS ====================
@@ -5,6 +5,7 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.Container;
 import org.bukkit.entity.Player;
@@ -12,11 +13,24 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
@@ -28,18 +42,19 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.RegionLogic.RegionService;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 import org.flintstqne.entrenched.StatLogic.StatListener;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -59,12 +74,13 @@ public class ObjectiveListener implements Listener {
     private final TeamService teamService;
     private final ConfigManager config;
 
-    private BukkitTask refreshTask;
-    private BukkitTask holdGroundTask;
-    private BukkitTask plantedExplosivesTask;
-    private BukkitTask intelTask;
-    private BukkitTask structureTask;
-    private BukkitTask cleanupTask;
+    private TickScheduler tickScheduler;
+    private TickScheduler.Task refreshTask;
+    private TickScheduler.Task holdGroundTask;
+    private TickScheduler.Task plantedExplosivesTask;
+    private TickScheduler.Task intelTask;
+    private TickScheduler.Task structureTask;
+    private TickScheduler.Task cleanupTask;
     private RoundService roundService;
     private StatListener statListener;
     private PlacedBlockTracker placedBlockTracker;
@@ -131,6 +147,13 @@ public class ObjectiveListener implements Listener {
         this.placedBlockTracker = tracker;
     }
 
+    /**
+     * Sets the scheduler the periodic tasks run on. Must be called before {@link #start()}.
+     */
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     /**
      * Starts the objective refresh task.
      */
@@ -139,9 +162,8 @@ public class ObjectiveListener implements Listener {
         int refreshMinutes = config.getObjectiveRefreshMinutes();
         long refreshTicks = refreshMinutes * 60L * 20L;
 
-        refreshTask = Bukkit.getScheduler().runTaskTimer(plugin,
-                objectiveService::refreshAllObjectives,
-                refreshTicks, refreshTicks);
+        refreshTask = tickScheduler.runTimer("objective-refresh", TickScheduler.Priority.NORMAL,
+                refreshTicks, refreshTicks, objectiveService::refreshAllObjectives);
 
         // Initial spawn of objectives
         Bukkit.getScheduler().runTaskLater(plugin,
@@ -149,28 +171,23 @@ public class ObjectiveListener implements Listener {
                 100L); // 5 seconds after start
 
         // Start hold ground tick task (every second = 20 ticks)
-        holdGroundTask = Bukkit.getScheduler().runTaskTimer(plugin,
-                this::tickHoldGround,
-                20L, 20L);
+        holdGroundTask = tickScheduler.runTimer("objective-hold-ground", TickScheduler.Priority.CRITICAL,
+                20L, 20L, this::tickHoldGround);
 
         // Start planted explosives tick task (every second = 20 ticks)
-        plantedExplosivesTask = Bukkit.getScheduler().runTaskTimer(plugin,
-                objectiveService::tickPlantedExplosives,
-                20L, 20L);
+        plantedExplosivesTask = tickScheduler.runTimer("objective-explosives", TickScheduler.Priority.CRITICAL,
+                20L, 20L, objectiveService::tickPlantedExplosives);
 
         // Start intel tick task (every second = 20 ticks) - handles dropped intel timeout
-        intelTask = Bukkit.getScheduler().runTaskTimer(plugin,
-                objectiveService::tickIntelObjectives,
-                20L, 20L);
+        intelTask = tickScheduler.runTimer("objective-intel", TickScheduler.Priority.CRITICAL,
+                20L, 20L, objectiveService::tickIntelObjectives);
 
-        structureTask = Bukkit.getScheduler().runTaskTimer(plugin,
-                objectiveService::tickStructureObjectives,
-                20L, 20L);
+        structureTask = tickScheduler.runTimer("objective-structures", TickScheduler.Priority.CRITICAL,
+                20L, 20L, objectiveService::tickStructureObjectives);
 
         // Start cleanup task for memory management (every 30 seconds = 600 ticks)
-        cleanupTask = Bukkit.getScheduler().runTaskTimer(plugin,
-                this::cleanupOldTracking,
-                600L, 600L);
+        cleanupTask = tickScheduler.runTimer("objective-cleanup", TickScheduler.Priority.NORMAL,
+                600L, 600L, this::cleanupOldTracking);
 
         plugin.getLogger().info("[Objectives] Listener started, refresh every " + refreshMinutes + " minutes");
     }
@@ -237,6 +254,9 @@ public class ObjectiveListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
+        // Building models follow every change, whoever made it and wherever it is
+        markChanged(event.getBlock());
+
         Player player = event.getPlayer();
         Optional<String> teamOpt = teamService.getPlayerTeam(player.getUniqueId());
         if (teamOpt.isEmpty()) return;
@@ -507,6 +527,14 @@ public class ObjectiveListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockPlace(BlockPlaceEvent event) {
+        if (event instanceof BlockMultiPlaceEvent multiPlace) {
+            for (BlockState replaced : multiPlace.getReplacedBlockStates()) {
+                markChanged(replaced.getBlock());
+            }
+        } else {
+            markChanged(event.getBlock());
+        }
+
         Player player = event.getPlayer();
         Optional<String> teamOpt = teamService.getPlayerTeam(player.getUniqueId());
         if (teamOpt.isEmpty()) return;
@@ -564,10 +592,87 @@ public class ObjectiveListener implements Listener {
         }
     }
 
+    // ==================== NON-PLAYER BLOCK CHANGES ====================
+    // Building models are patched from reported changes, so anything that can change a block
+    // without a break or place event reports it here.
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        markChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        markChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        markChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(BlockSpreadEvent event) {
+        markChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        markChanged(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        markChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        markChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        markChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        markChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        markPistonChanges(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        markPistonChanges(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    /**
+     * Marks the piston head and every moved block at both its old and new position.
+     */
+    private void markPistonChanges(Block piston, List<Block> moved, BlockFace direction) {
+        markChanged(piston.getRelative(direction));
+        for (Block block : moved) {
+            markChanged(block);
+            markChanged(block.getRelative(direction));
+        }
+    }
+
+    private void markChanged(Block block) {
+        objectiveService.onBlockChanged(block.getX(), block.getY(), block.getZ());
+    }
+
     // ==================== EXPLOSION EVENTS ====================
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onEntityExplode(EntityExplodeEvent event) {
+        // Building models can't follow explosions block by block; recapture the ones hit
+        objectiveService.onBlocksExploded(event.blockList());
+
         Location explosionLoc = event.getLocation();
         String locKey = getLocationKey(explosionLoc.getBlockX(), explosionLoc.getBlockY(), explosionLoc.getBlockZ());
 
@@ -614,6 +719,11 @@ public class ObjectiveListener implements Listener {
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        objectiveService.onBlocksExploded(event.blockList());
+    }
+
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerDeath(PlayerDeathEvent event) {
         Player victim = event.getEntity();
@@ -792,6 +902,9 @@ public class ObjectiveListener implements Listener {
 
         if (loc == null || loc.getWorld() == null) return;
 
+        // Building variants read container contents
+        objectiveService.onBlockChanged(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+
         String regionId = regionService.getRegionIdForLocation(loc.getBlockX(), loc.getBlockZ());
         if (regionId == null) return;
 
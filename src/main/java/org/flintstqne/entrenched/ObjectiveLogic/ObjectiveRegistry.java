@@ -0,0 +1,126 @@
+package org.flintstqne.entrenched.ObjectiveLogic;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Authoritative in-memory view of the current round's objectives, kept by {@link ObjectiveService}.
+ * <p>
+ * Active objectives are indexed by region, category and type in an immutable index that is
+ * swapped after every change, so the UI and tick tasks read it without locking or touching
+ * objectives.db. Objectives that complete or expire stay reachable by id until the next
+ * {@link #load}. The service updates the registry first and persists the change afterwards.
+ */
+final class ObjectiveRegistry {
+
+    private record Index(
+            List<RegionObjective> active,
+            Map<String, List<RegionObjective>> byRegion,
+            Map<String, Map<ObjectiveCategory, List<RegionObjective>>> byRegionCategory,
+            Map<ObjectiveType, List<RegionObjective>> byType
+    ) {
+        static final Index EMPTY = new Index(List.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    // Every objective seen this round, active or not
+    private final Map<Integer, RegionObjective> objectives = new ConcurrentHashMap<>();
+    // Active objectives in creation (id) order; guarded by this
+    private final TreeMap<Integer, RegionObjective> active = new TreeMap<>();
+
+    private volatile int roundId = -1;
+    private volatile Index index = Index.EMPTY;
+
+    /**
+     * Replaces the contents with a round's active objectives (roundId -1 for no round).
+     */
+    synchronized void load(int roundId, List<RegionObjective> activeObjectives) {
+        this.roundId = roundId;
+        objectives.clear();
+        active.clear();
+        for (RegionObjective objective : activeObjectives) {
+            objectives.put(objective.id(), objective);
+            if (objective.isActive()) active.put(objective.id(), objective);
+        }
+        rebuild();
+    }
+
+    int getRoundId() {
+        return roundId;
+    }
+
+    /**
+     * Stores the latest state of an objective. Objectives of other rounds are ignored.
+     *
+     * @return true if the registry changed
+     */
+    synchronized boolean put(RegionObjective objective) {
+        if (objective.roundId() != roundId) return false;
+
+        RegionObjective previous = objectives.put(objective.id(), objective);
+        if (objective.equals(previous)) return false;
+
+        if (objective.isActive()) {
+            active.put(objective.id(), objective);
+        } else {
+            active.remove(objective.id());
+        }
+        rebuild();
+        return true;
+    }
+
+    private void rebuild() {
+        if (active.isEmpty()) {
+            index = Index.EMPTY;
+            return;
+        }
+
+        Map<String, List<RegionObjective>> byRegion = new HashMap<>();
+        Map<String, Map<ObjectiveCategory, List<RegionObjective>>> byRegionCategory = new HashMap<>();
+        Map<ObjectiveType, List<RegionObjective>> byType = new EnumMap<>(ObjectiveType.class);
+        for (RegionObjective objective : active.values()) {
+            byRegion.computeIfAbsent(objective.regionId(), k -> new ArrayList<>()).add(objective);
+            byRegionCategory.computeIfAbsent(objective.regionId(), k -> new EnumMap<>(ObjectiveCategory.class))
+                    .computeIfAbsent(objective.type().getCategory(), k -> new ArrayList<>()).add(objective);
+            byType.computeIfAbsent(objective.type(), k -> new ArrayList<>()).add(objective);
+        }
+        byRegion.replaceAll((region, list) -> List.copyOf(list));
+        byRegionCategory.replaceAll((region, categories) -> {
+            categories.replaceAll((category, list) -> List.copyOf(list));
+            return Collections.unmodifiableMap(categories);
+        });
+        byType.replaceAll((type, list) -> List.copyOf(list));
+
+        index = new Index(List.copyOf(active.values()), Collections.unmodifiableMap(byRegion),
+                Collections.unmodifiableMap(byRegionCategory), Collections.unmodifiableMap(byType));
+    }
+
+    /**
+     * An objective of this round by id, whatever its status.
+     */
+    Optional<RegionObjective> get(int objectiveId) {
+        return Optional.ofNullable(objectives.get(objectiveId));
+    }
+
+    /**
+     * Every active objective, oldest first.
+     */
+    List<RegionObjective> getActive() {
+        return index.active();
+    }
+
+    /**
+     * Active objectives in a region, oldest first.
+     */
+    List<RegionObjective> getActive(String regionId) {
+        return index.byRegion().getOrDefault(regionId, List.of());
+    }
+
+    List<RegionObjective> getActive(String regionId, ObjectiveCategory category) {
+        Map<ObjectiveCategory, List<RegionObjective>> categories = index.byRegionCategory().get(regionId);
+        return categories == null ? List.of() : categories.getOrDefault(category, List.of());
+    }
+
+    List<RegionObjective> getActive(ObjectiveType type) {
+        return index.byType().getOrDefault(type, List.of());
+    }
+}
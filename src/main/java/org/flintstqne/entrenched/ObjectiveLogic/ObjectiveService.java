@@ -23,6 +23,8 @@ import org.flintstqne.entrenched.TeamLogic.TeamService;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 
 /**
  * SQL-backed implementation of ObjectiveService.
@@ -109,6 +111,8 @@ public final class ObjectiveService {
     private final RegionService regionService;
     private final ConfigManager config;
     private final BuildingDetector buildingDetector;
+    // Current round's objectives; every read of objective state goes here instead of objectives.db
+    private final ObjectiveRegistry registry = new ObjectiveRegistry();
     private DivisionService divisionService;
     private TeamService teamService;
     private RegionRenderer regionRenderer;
@@ -117,6 +121,7 @@ public final class ObjectiveService {
     private ObjectiveSpawnCallback spawnCallback;
     private BuildingDestroyedCallback buildingDestroyedCallback;
     private org.flintstqne.entrenched.StatLogic.StatListener statListener;
+    private org.flintstqne.entrenched.StatLogic.GameEventBus eventBus;
     private ObjectiveListener objectiveListener;
 
     // Cache for region centers (calculated once)
@@ -162,21 +167,38 @@ public final class ObjectiveService {
     private final Map<Integer, Long> firstValidStructureSeenAt = new ConcurrentHashMap<>();
     private final Map<Integer, Long> lastStructureIntegrityCheck = new ConcurrentHashMap<>();
     private final Map<Integer, BuildingDetectionResult> lastStructureDetections = new ConcurrentHashMap<>();
+    // Latest scan started per objective; a result from an older scan is dropped
+    private final Map<Integer, Integer> structureScanGenerations = new ConcurrentHashMap<>();
 
     // Registered building integrity tracking (separate from pre-registration rescans)
     private final Map<Integer, BukkitTask> pendingBuildingIntegrityRescans = new ConcurrentHashMap<>();
     private final Map<Integer, Integer> buildingFailureCount = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> integrityScanGenerations = new ConcurrentHashMap<>();
     private static final int REQUIRED_FAILURE_COUNT = 3; // Consecutive failures before invalidation
 
-    // Track which attackers currently have hold ground progress (for reset on zone leave)
-    // objectiveId -> Set of player UUIDs with active progress
-    private final Map<Integer, Set<UUID>> holdGroundActivePlayers = new ConcurrentHashMap<>();
+    // Chunk-bucket index of active building bounds for point lookups (loaded lazily per round)
+    private final BuildingSpatialIndex activeBuildingIndex = new BuildingSpatialIndex();
 
-    // Cache for tickStructureObjectives — avoids full DB scans every second.
-    // Lists are refreshed at most once per STRUCTURE_CACHE_REFRESH_INTERVAL_MS.
-    private volatile List<RegionObjective>     cachedStructureObjectives = Collections.emptyList();
-    private long lastStructureCacheRefreshMs = 0L;
-    private static final long STRUCTURE_CACHE_REFRESH_INTERVAL_MS = 5_000L;
+    // Hold ground seconds of the attackers currently in each zone (reset on zone leave)
+    // objectiveId -> player UUID -> timer. Checkpointed to the database, not written per tick.
+    private final Map<Integer, Map<UUID, HoldGroundTimer>> holdGroundProgress = new ConcurrentHashMap<>();
+    // Objectives whose hold ground progress changed since the last checkpoint
+    private final Set<Integer> holdGroundDirty = ConcurrentHashMap.newKeySet();
+    private int holdGroundTicksSinceCheckpoint = 0;
+    private static final int HOLD_GROUND_REQUIRED_SECONDS = 60;
+
+    // Internal mutable timer for one attacker in a hold zone
+    private static final class HoldGroundTimer {
+        final String team;
+        final long startedAt;
+        int seconds;
+
+        HoldGroundTimer(String team, long startedAt, int seconds) {
+            this.team = team;
+            this.startedAt = startedAt;
+            this.seconds = seconds;
+        }
+    }
 
     // Building limits per region (from docs)
     private static final int MAX_OUTPOSTS_PER_REGION = 2;
@@ -262,6 +284,46 @@ public final class ObjectiveService {
 
         // Pre-calculate region centers
         calculateRegionCenters();
+
+        // Objectives belong to a round: load the new round's objectives whenever it changes
+        reloadRegistry();
+        roundService.addListener((change, previous, current) -> {
+            if (previous.roundId() != current.roundId()) {
+                reloadRegistry();
+            }
+        });
+    }
+
+    /**
+     * Reloads the in-memory objectives of the current round from the database.
+     */
+    public void reloadRegistry() {
+        int roundId = getCurrentRoundId().orElse(-1);
+        registry.load(roundId, roundId == -1 ? List.of() : db.getActiveObjectivesByRound(roundId));
+
+        // Resume checkpointed hold ground timers; attackers no longer in the zone reset on the next tick
+        holdGroundProgress.clear();
+        holdGroundDirty.clear();
+        for (RegionObjective objective : registry.getActive(ObjectiveType.RAID_HOLD_GROUND)) {
+            Map<UUID, HoldGroundTimer> timers = new HashMap<>();
+            for (ObjectiveDb.HoldGroundProgress saved : db.getHoldGroundProgress(objective.id())) {
+                timers.put(saved.playerUuid(), new HoldGroundTimer(saved.team(), saved.startedAt(), saved.totalSeconds()));
+            }
+            if (!timers.isEmpty()) {
+                holdGroundProgress.put(objective.id(), timers);
+            }
+        }
+    }
+
+    /**
+     * Stores an objective's new state in the registry.
+     *
+     * @return false if nothing changed (the caller can skip persisting)
+     */
+    private boolean applyChange(RegionObjective previous, RegionObjective current) {
+        if (current.equals(previous)) return false;
+        registry.put(current);
+        return true;
     }
 
     /**
@@ -289,6 +351,14 @@ public final class ObjectiveService {
         this.buildingDetector.setPlacedBlockTracker(tracker);
     }
 
+    /**
+     * Stops the building scan workers. Scans still running are abandoned.
+     */
+    public void shutdown() {
+        buildingDetector.shutdown();
+        checkpointHoldGround();
+    }
+
     private void calculateRegionCenters() {
         int regionSize = config.getRegionSize();
         int gridSize = 4; // 4x4 grid
@@ -315,17 +385,25 @@ public final class ObjectiveService {
 
     // ==================== OBJECTIVE QUERIES ====================
     public List<RegionObjective> getActiveObjectives(String regionId) {
-        return getCurrentRoundId()
-                .map(roundId -> db.getActiveObjectives(regionId, roundId))
-                .orElse(Collections.emptyList());
+        return registry.getActive(regionId);
     }
     public List<RegionObjective> getActiveObjectives(String regionId, ObjectiveCategory category) {
-        return getCurrentRoundId()
-                .map(roundId -> db.getActiveObjectivesByCategory(regionId, roundId, category))
-                .orElse(Collections.emptyList());
+        return registry.getActive(regionId, category);
+    }
+
+    /**
+     * Active objectives of one type across all regions, oldest first.
+     */
+    public List<RegionObjective> getActiveObjectives(ObjectiveType type) {
+        return registry.getActive(type);
     }
+
+    /**
+     * Gets an objective from memory, falling back to the database for objectives of earlier rounds.
+     */
     public Optional<RegionObjective> getObjective(int objectiveId) {
-        return db.getObjective(objectiveId);
+        Optional<RegionObjective> objective = registry.get(objectiveId);
+        return objective.isPresent() ? objective : db.getObjective(objectiveId);
     }
     public Optional<RegionObjective> getNearestObjective(String regionId, int x, int z) {
         List<RegionObjective> objectives = getActiveObjectives(regionId);
@@ -344,9 +422,7 @@ public final class ObjectiveService {
                 .orElse(Collections.emptyList());
     }
     public int countActiveObjectives(String regionId) {
-        return getCurrentRoundId()
-                .map(roundId -> db.countActiveObjectives(regionId, roundId))
-                .orElse(0);
+        return registry.getActive(regionId).size();
     }
 
     // ==================== OBJECTIVE SPAWNING ====================
@@ -988,6 +1064,8 @@ public final class ObjectiveService {
 
         if (objectiveId > 0) {
             plugin.getLogger().info("[Objectives] Spawned " + type.getDisplayName() + " in " + regionId);
+            Optional<RegionObjective> spawned = db.getObjective(objectiveId);
+            spawned.ifPresent(objective -> applyChange(null, objective));
 
             // Special handling for Capture Intel - spawn the intel item
             if (type == ObjectiveType.RAID_CAPTURE_INTEL && x != null && y != null && z != null) {
@@ -996,7 +1074,7 @@ public final class ObjectiveService {
 
             // Notify callback
             if (spawnCallback != null) {
-                db.getObjective(objectiveId).ifPresent(spawnCallback::onObjectiveSpawned);
+                spawned.ifPresent(spawnCallback::onObjectiveSpawned);
             }
 
             return SpawnResult.SUCCESS;
@@ -1058,9 +1136,16 @@ public final class ObjectiveService {
     }
     public void expireObjectivesInRegion(String regionId) {
         getCurrentRoundId().ifPresent(roundId -> {
-            List<RegionObjective> activeObjectives = db.getActiveObjectives(regionId, roundId);
-            db.expireAllInRegion(regionId, roundId);
+            List<RegionObjective> activeObjectives = registry.getActive(regionId);
+            long now = System.currentTimeMillis();
+            for (RegionObjective objective : activeObjectives) {
+                applyChange(objective, objective.asExpired(now));
+            }
+            db.expireAllInRegion(regionId, roundId, now);
             db.invalidateRegisteredBuildingsInRegion(regionId, roundId, System.currentTimeMillis());
+            synchronized (activeBuildingIndex) {
+                activeBuildingIndex.removeRegion(regionId);
+            }
 
             // Clear block tracking for this region's objectives
             objectiveBlocksTracking.remove(regionId + ":SECURE_PERIMETER");
@@ -1081,23 +1166,29 @@ public final class ObjectiveService {
 
     // ==================== OBJECTIVE PROGRESS ====================
     public Optional<RegionObjective> updateProgress(int objectiveId, double progress) {
-        db.updateProgress(objectiveId, progress);
-        return db.getObjective(objectiveId);
+        Optional<RegionObjective> objOpt = getObjective(objectiveId);
+        if (objOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RegionObjective updated = objOpt.get().withProgress(Math.min(1.0, Math.max(0.0, progress)));
+        if (applyChange(objOpt.get(), updated)) {
+            db.updateProgress(objectiveId, updated.progress());
+        }
+        return Optional.of(updated);
     }
     public Optional<RegionObjective> addProgress(int objectiveId, double progressDelta) {
-        Optional<RegionObjective> objOpt = db.getObjective(objectiveId);
+        Optional<RegionObjective> objOpt = getObjective(objectiveId);
         if (objOpt.isEmpty()) {
             return Optional.empty();
         }
 
-        double newProgress = Math.min(1.0, objOpt.get().progress() + progressDelta);
-        db.updateProgress(objectiveId, newProgress);
-        return db.getObjective(objectiveId);
+        return updateProgress(objectiveId, objOpt.get().progress() + progressDelta);
     }
 
     // ==================== OBJECTIVE COMPLETION ====================
     public CompleteResult completeObjective(int objectiveId, UUID playerUuid, String team) {
-        Optional<RegionObjective> objOpt = db.getObjective(objectiveId);
+        Optional<RegionObjective> objOpt = getObjective(objectiveId);
         if (objOpt.isEmpty()) {
             return CompleteResult.OBJECTIVE_NOT_FOUND;
         }
@@ -1162,7 +1253,9 @@ public final class ObjectiveService {
         }
 
         // Mark completed
-        db.completeObjective(objectiveId, team);
+        RegionObjective completed = objective.asCompleted(team, System.currentTimeMillis());
+        applyChange(objective, completed);
+        db.completeObjective(objectiveId, team, completed.completedAt());
         db.recordCompletion(objectiveId, playerUuid, team);
 
         // Set cooldown
@@ -1185,8 +1278,20 @@ public final class ObjectiveService {
 
         // Notify callback
         if (completionCallback != null) {
-            db.getObjective(objectiveId).ifPresent(completed ->
-                    completionCallback.onObjectiveCompleted(completed, playerUuid, team));
+            completionCallback.onObjectiveCompleted(completed, playerUuid, team);
+        }
+
+        // Push to external clients
+        if (eventBus != null) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("objective_id", objectiveId);
+            data.put("type", objective.type().name());
+            data.put("name", objective.type().getDisplayName());
+            data.put("region", objective.regionId());
+            data.put("team", team);
+            data.put("player_uuid", playerUuid.toString());
+            data.put("influence", objective.getInfluenceReward());
+            eventBus.publish("objective_completed", data);
         }
 
         // Record stats for objective completion
@@ -1302,7 +1407,7 @@ public final class ObjectiveService {
     }
 
     private void runStructureRescan(int objectiveId) {
-        Optional<RegionObjective> objectiveOpt = db.getObjective(objectiveId);
+        Optional<RegionObjective> objectiveOpt = getObjective(objectiveId);
         if (objectiveOpt.isEmpty()) {
             clearStructureTracking(objectiveId);
             return;
@@ -1324,12 +1429,31 @@ public final class ObjectiveService {
                 .map(RegisteredBuilding::team)
                 .orElse(pendingStructureTeams.getOrDefault(objectiveId, ""));
 
-        BuildingDetectionResult result = buildingDetector.scan(world, objective, buildingTypeOpt.get(), detectionTeam);
-        lastStructureDetections.put(objectiveId, result);
+        int generation = structureScanGenerations.merge(objectiveId, 1, Integer::sum);
+        scanBuilding(world, objective, buildingTypeOpt.get(), detectionTeam, result -> {
+            if (structureScanGenerations.getOrDefault(objectiveId, 0) != generation) return;
+            lastStructureDetections.put(objectiveId, result);
 
-        if (objective.isActive()) {
-            handleActiveStructureObjective(objective, result);
-        }
+            // The objective may have completed or expired while the scan ran
+            getObjective(objectiveId)
+                    .filter(RegionObjective::isActive)
+                    .ifPresent(current -> handleActiveStructureObjective(current, result));
+        });
+    }
+
+    /**
+     * Runs a building scan off the main thread and hands the result to onResult on the main thread.
+     */
+    private void scanBuilding(World world, RegionObjective objective, BuildingType type, String team,
+                              Consumer<BuildingDetectionResult> onResult) {
+        buildingDetector.scan(world, objective, type, team).whenComplete((result, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "[Buildings] Scan failed for objective " + objective.id(), error);
+                return;
+            }
+            if (!plugin.isEnabled()) return;
+            plugin.getServer().getScheduler().runTask(plugin, () -> onResult.accept(result));
+        });
     }
 
     /**
@@ -1364,7 +1488,7 @@ public final class ObjectiveService {
 
         RegisteredBuilding building = buildingOpt.get();
 
-        Optional<RegionObjective> objectiveOpt = db.getObjective(objectiveId);
+        Optional<RegionObjective> objectiveOpt = getObjective(objectiveId);
         if (objectiveOpt.isEmpty()) {
             buildingFailureCount.remove(objectiveId);
             return;
@@ -1380,7 +1504,22 @@ public final class ObjectiveService {
         World world = roundService.getGameWorld().orElse(null);
         if (world == null) return;
 
-        BuildingDetectionResult result = buildingDetector.scan(world, objective, buildingTypeOpt.get(), building.team());
+        int generation = integrityScanGenerations.merge(objectiveId, 1, Integer::sum);
+        scanBuilding(world, objective, buildingTypeOpt.get(), building.team(), result -> {
+            if (integrityScanGenerations.getOrDefault(objectiveId, 0) != generation) return;
+            applyRegisteredBuildingRescan(objectiveId, result);
+        });
+    }
+
+    private void applyRegisteredBuildingRescan(int objectiveId, BuildingDetectionResult result) {
+        // Re-check: the building may have been invalidated while the scan ran
+        Optional<RegisteredBuilding> buildingOpt = db.getRegisteredBuilding(objectiveId);
+        if (buildingOpt.isEmpty() || buildingOpt.get().status() != RegisteredBuildingStatus.ACTIVE) {
+            buildingFailureCount.remove(objectiveId);
+            return;
+        }
+
+        RegisteredBuilding building = buildingOpt.get();
         lastStructureDetections.put(objectiveId, result);
 
         if (result.valid()) {
@@ -1405,6 +1544,9 @@ public final class ObjectiveService {
         buildingFailureCount.remove(objectiveId);
         long now = System.currentTimeMillis();
         db.invalidateRegisteredBuilding(objectiveId, now);
+        synchronized (activeBuildingIndex) {
+            activeBuildingIndex.remove(objectiveId);
+        }
 
         plugin.getLogger().info("[Buildings] INVALIDATED " + building.type().getDisplayName() +
                 " (obj " + objectiveId + ") in " + building.regionId() + " — " + result.summary());
@@ -1568,6 +1710,13 @@ public final class ObjectiveService {
 
         if (completion == CompleteResult.SUCCESS || completion == CompleteResult.ALREADY_COMPLETED) {
             db.upsertRegisteredBuilding(objective, result, team, RegisteredBuildingStatus.ACTIVE, now);
+            db.getRegisteredBuilding(objective.id()).ifPresent(building -> {
+                synchronized (activeBuildingIndex) {
+                    if (activeBuildingIndex.roundId() == building.roundId()) {
+                        activeBuildingIndex.put(building);
+                    }
+                }
+            });
 
             if (isGarrison) {
                 sendGarrisonDebug(objective.id(), org.bukkit.ChatColor.GREEN + "✔ Garrison registered! "
@@ -1795,6 +1944,35 @@ public final class ObjectiveService {
         firstValidStructureSeenAt.remove(objectiveId);
         lastStructureIntegrityCheck.remove(objectiveId);
         lastStructureDetections.remove(objectiveId);
+        structureScanGenerations.remove(objectiveId);
+        buildingDetector.discardModel(objectiveId);
+    }
+
+    /**
+     * A block or a container's contents changed, by a player or otherwise; building models
+     * re-read it before their next scan.
+     */
+    public void onBlockChanged(int x, int y, int z) {
+        buildingDetector.onBlockChanged(x, y, z);
+    }
+
+    /**
+     * Blocks were destroyed by an explosion. Buildings around them are captured again and rescanned.
+     */
+    public void onBlocksExploded(List<Block> blocks) {
+        if (blocks.isEmpty()) return;
+
+        long delay = config.getBuildingDetectionDebounceTicks();
+        for (int objectiveId : buildingDetector.discardModels(blocks)) {
+            boolean registered = db.getRegisteredBuilding(objectiveId)
+                    .filter(building -> building.status() == RegisteredBuildingStatus.ACTIVE)
+                    .isPresent();
+            if (registered) {
+                scheduleRegisteredBuildingRescan(objectiveId, delay);
+            } else if (getObjective(objectiveId).filter(RegionObjective::isActive).isPresent()) {
+                scheduleStructureRescan(objectiveId, null, null, delay);
+            }
+        }
     }
     public void onBlockDestroyed(UUID playerUuid, String team, String regionId,
                                   int x, int y, int z, String blockType) {
@@ -2126,15 +2304,12 @@ public final class ObjectiveService {
                         killerTeamOpt.get().equalsIgnoreCase(defenderTeam) &&
                         !victimTeamOpt.get().equalsIgnoreCase(defenderTeam)) {
 
-                        // Check if victim had hold ground progress
-                        int victimProgress = db.getHoldGroundProgress(obj.id(), victimUuid);
+                        // Check if victim had hold ground progress, and clear it
+                        Map<UUID, HoldGroundTimer> timers = holdGroundProgress.get(obj.id());
+                        HoldGroundTimer victimTimer = timers != null ? timers.remove(victimUuid) : null;
+                        int victimProgress = victimTimer != null ? victimTimer.seconds : 0;
                         if (victimProgress > 0) {
-                            // Clear their progress
-                            db.clearHoldGroundProgressForPlayer(obj.id(), victimUuid);
-
-                            // Also remove from active tracking
-                            Set<UUID> active = holdGroundActivePlayers.get(obj.id());
-                            if (active != null) active.remove(victimUuid);
+                            holdGroundDirty.add(obj.id());
 
                             // Reduce enemy influence for successful defense
                             double defenseReward = config.getDefenseObjectiveReward() * (victimProgress / 60.0);
@@ -2468,99 +2643,92 @@ public final class ObjectiveService {
         // Note: don't return early on empty playerData — we still need to reset
         // progress for players who disconnected or left the game world.
 
-        // Get all regions with active hold ground objectives
-        for (RegionStatus status : regionService.getAllRegionStatuses()) {
+        // Bucket players by region once instead of scanning every player for every region
+        Map<String, List<Map.Entry<UUID, HoldGroundPlayerData>>> playersByRegion = new HashMap<>();
+        for (Map.Entry<UUID, HoldGroundPlayerData> entry : playerData.entrySet()) {
+            playersByRegion.computeIfAbsent(entry.getValue().regionId(), k -> new ArrayList<>()).add(entry);
+        }
+
+        int holdRadius = config.getRegionSize() / 8; // Hold zone is 1/8 of region size
+        long holdRadiusSquared = (long) holdRadius * holdRadius;
+        long now = System.currentTimeMillis();
+        Set<String> tickedRegions = new HashSet<>();
+
+        // Oldest active hold ground objective of each region
+        for (RegionObjective holdGroundObj : getActiveObjectives(ObjectiveType.RAID_HOLD_GROUND)) {
+            String regionId = holdGroundObj.regionId();
+            if (!tickedRegions.add(regionId)) continue;
+
             // Skip non-owned regions (hold ground is a raid objective)
+            Optional<RegionStatus> statusOpt = regionService.getRegionStatus(regionId);
+            if (statusOpt.isEmpty()) continue;
+            RegionStatus status = statusOpt.get();
             if (status.state() != RegionState.OWNED && status.state() != RegionState.CONTESTED) {
                 continue;
             }
 
-            String regionId = status.regionId();
-            List<RegionObjective> objectives = getActiveObjectives(regionId, ObjectiveCategory.RAID);
-
-            // Find hold ground objective
-            RegionObjective holdGroundObj = null;
-            for (RegionObjective obj : objectives) {
-                if (obj.type() == ObjectiveType.RAID_HOLD_GROUND) {
-                    holdGroundObj = obj;
-                    break;
-                }
-            }
-
-            if (holdGroundObj == null) continue;
-
             // Get hold zone info
             int[] center = regionCenters.get(regionId);
             if (center == null) continue;
 
-            int holdRadius = config.getRegionSize() / 8; // Hold zone is 1/8 of region size
             String defenderTeam = status.ownerTeam();
+            Map<UUID, HoldGroundTimer> timers = holdGroundProgress.computeIfAbsent(holdGroundObj.id(), k -> new HashMap<>());
 
             // Track who is in the zone THIS tick
             Set<UUID> inZoneThisTick = new HashSet<>();
             double maxProgress = 0;
             boolean completed = false;
 
-            // Check each player
-            for (Map.Entry<UUID, HoldGroundPlayerData> entry : playerData.entrySet()) {
+            // Check each player in this region
+            for (Map.Entry<UUID, HoldGroundPlayerData> entry : playersByRegion.getOrDefault(regionId, List.of())) {
                 UUID playerId = entry.getKey();
                 HoldGroundPlayerData data = entry.getValue();
 
-                // Player must be in this region
-                if (!regionId.equals(data.regionId())) continue;
-
                 // Player must be an attacker (not the defender)
                 if (defenderTeam != null && defenderTeam.equalsIgnoreCase(data.team())) continue;
 
                 // Check if player is in the hold zone
-                double distance = Math.sqrt(
-                        Math.pow(data.x() - center[0], 2) +
-                        Math.pow(data.z() - center[1], 2)
-                );
-
-                if (distance <= holdRadius) {
-                    inZoneThisTick.add(playerId);
-
-                    // Player is in hold zone - add progress
-                    int currentSeconds = db.getHoldGroundProgress(holdGroundObj.id(), playerId);
-                    int newSeconds = currentSeconds + 1;
-                    db.updateHoldGroundProgress(holdGroundObj.id(), playerId, data.team(), newSeconds);
-
-                    // Check for completion (60 seconds)
-                    if (newSeconds >= 60) {
-                        completeObjective(holdGroundObj.id(), playerId, data.team());
-                        db.clearHoldGroundProgress(holdGroundObj.id());
-                        holdGroundActivePlayers.remove(holdGroundObj.id());
-                        completed = true;
-                        plugin.getLogger().info("[Objectives] Hold Ground completed by " + playerId +
-                                " in " + regionId + " after " + newSeconds + " seconds");
-                        break; // Objective completed, stop processing players
-                    } else {
-                        double progress = newSeconds / 60.0;
-                        maxProgress = Math.max(maxProgress, progress);
-                    }
+                long dx = data.x() - center[0];
+                long dz = data.z() - center[1];
+                if (dx * dx + dz * dz > holdRadiusSquared) continue;
+
+                inZoneThisTick.add(playerId);
+
+                // Player is in hold zone - add progress
+                HoldGroundTimer timer = timers.computeIfAbsent(playerId, k -> new HoldGroundTimer(data.team(), now, 0));
+                int newSeconds = ++timer.seconds;
+                holdGroundDirty.add(holdGroundObj.id());
+
+                // Check for completion (60 seconds)
+                if (newSeconds >= HOLD_GROUND_REQUIRED_SECONDS) {
+                    completeObjective(holdGroundObj.id(), playerId, data.team());
+                    holdGroundProgress.remove(holdGroundObj.id());
+                    holdGroundDirty.remove(holdGroundObj.id());
+                    db.clearHoldGroundProgress(holdGroundObj.id());
+                    completed = true;
+                    plugin.getLogger().info("[Objectives] Hold Ground completed by " + playerId +
+                            " in " + regionId + " after " + newSeconds + " seconds");
+                    break; // Objective completed, stop processing players
+                } else {
+                    double progress = newSeconds / (double) HOLD_GROUND_REQUIRED_SECONDS;
+                    maxProgress = Math.max(maxProgress, progress);
                 }
             }
 
             if (completed) continue;
 
             // Reset progress for players who LEFT the zone (prevents dip-in/dip-out cheese)
-            Set<UUID> previouslyActive = holdGroundActivePlayers.get(holdGroundObj.id());
-            if (previouslyActive != null) {
-                for (UUID prevPlayer : previouslyActive) {
-                    if (!inZoneThisTick.contains(prevPlayer)) {
-                        db.clearHoldGroundProgressForPlayer(holdGroundObj.id(), prevPlayer);
-                        plugin.getLogger().fine("[Objectives] Reset hold ground progress for " +
-                                prevPlayer + " — left zone in " + regionId);
-                    }
-                }
+            boolean anyLeft = timers.keySet().removeIf(player -> {
+                if (inZoneThisTick.contains(player)) return false;
+                plugin.getLogger().fine("[Objectives] Reset hold ground progress for " +
+                        player + " — left zone in " + regionId);
+                return true;
+            });
+            if (anyLeft) {
+                holdGroundDirty.add(holdGroundObj.id());
             }
-
-            // Update active player tracking
-            if (inZoneThisTick.isEmpty()) {
-                holdGroundActivePlayers.remove(holdGroundObj.id());
-            } else {
-                holdGroundActivePlayers.put(holdGroundObj.id(), inZoneThisTick);
+            if (timers.isEmpty()) {
+                holdGroundProgress.remove(holdGroundObj.id());
             }
 
             // Update objective progress display with the HIGHEST attacker's progress
@@ -2571,6 +2739,39 @@ public final class ObjectiveService {
                 updateProgress(holdGroundObj.id(), 0.0);
             }
         }
+
+        if (++holdGroundTicksSinceCheckpoint >= config.getHoldGroundCheckpointSeconds()) {
+            holdGroundTicksSinceCheckpoint = 0;
+            checkpointHoldGround();
+        }
+    }
+
+    /**
+     * Writes hold ground progress changed since the last checkpoint to the database. Progress
+     * of objectives that are no longer active is dropped.
+     */
+    private void checkpointHoldGround() {
+        holdGroundProgress.keySet().removeIf(objectiveId -> {
+            boolean ended = registry.get(objectiveId).filter(RegionObjective::isActive).isEmpty();
+            if (ended) holdGroundDirty.add(objectiveId);
+            return ended;
+        });
+
+        long now = System.currentTimeMillis();
+        for (Iterator<Integer> it = holdGroundDirty.iterator(); it.hasNext(); ) {
+            int objectiveId = it.next();
+            it.remove();
+
+            List<ObjectiveDb.HoldGroundProgress> saved = new ArrayList<>();
+            Map<UUID, HoldGroundTimer> timers = holdGroundProgress.get(objectiveId);
+            if (timers != null) {
+                for (Map.Entry<UUID, HoldGroundTimer> entry : timers.entrySet()) {
+                    HoldGroundTimer timer = entry.getValue();
+                    saved.add(new ObjectiveDb.HoldGroundProgress(entry.getKey(), timer.team, timer.startedAt, timer.seconds));
+                }
+            }
+            db.saveHoldGroundProgress(objectiveId, saved, now);
+        }
     }
     public Optional<int[]> getHoldZoneInfo(String regionId) {
         // Check if there's an active hold ground objective in this region
@@ -2594,18 +2795,11 @@ public final class ObjectiveService {
 
         long now = System.currentTimeMillis();
 
-        // Refresh cached objective list at most once every 5 seconds to avoid
-        // full DB scans per second (this method runs every 20 ticks / 1 second).
-        if (now - lastStructureCacheRefreshMs >= STRUCTURE_CACHE_REFRESH_INTERVAL_MS) {
-            cachedStructureObjectives = db.getActiveObjectivesByRound(roundIdOpt.get());
-            lastStructureCacheRefreshMs = now;
-        }
-
         // Periodically rescan ACTIVE building objectives that haven't been scanned recently.
         // This ensures watchtowers (tall structures) and other buildings update even if the player
         // is building far above/below the objective marker and block events don't trigger rescans.
         long activeRescanIntervalMs = 10_000L; // 10 seconds for active objectives
-        for (RegionObjective objective : cachedStructureObjectives) {
+        for (RegionObjective objective : registry.getActive()) {
             Optional<BuildingType> typeOpt = BuildingType.fromObjectiveType(objective.type());
             if (typeOpt.isEmpty() || !objective.hasLocation()) continue;
             if (pendingStructureRescans.containsKey(objective.id())) continue;
@@ -2651,16 +2845,14 @@ public final class ObjectiveService {
             return Optional.empty();
         }
 
-        // Get all active buildings and check if the location is within any of their bounds
-        for (RegisteredBuilding building : db.getRegisteredBuildingsByStatus(roundIdOpt.get(), RegisteredBuildingStatus.ACTIVE)) {
-            if (x >= building.minX() && x <= building.maxX() &&
-                y >= building.minY() && y <= building.maxY() &&
-                z >= building.minZ() && z <= building.maxZ()) {
-                return Optional.of(building);
+        int roundId = roundIdOpt.get();
+        synchronized (activeBuildingIndex) {
+            if (activeBuildingIndex.roundId() != roundId) {
+                // First lookup of the round: load active buildings once, then keep the index in sync on mutation
+                activeBuildingIndex.load(roundId, db.getRegisteredBuildingsByStatus(roundId, RegisteredBuildingStatus.ACTIVE));
             }
+            return Optional.ofNullable(activeBuildingIndex.find(x, y, z));
         }
-
-        return Optional.empty();
     }
     public Optional<BuildingDetectionResult> getBuildingDetectionResult(int objectiveId) {
         return Optional.ofNullable(lastStructureDetections.get(objectiveId));
@@ -2686,19 +2878,20 @@ public final class ObjectiveService {
         resourceDepotLastCounts.clear();
         resourceDepotLastUpdate.clear();
         containerPlacementCooldowns.clear();
-        holdGroundActivePlayers.clear();
+        holdGroundProgress.clear();
+        holdGroundDirty.clear();
+        holdGroundTicksSinceCheckpoint = 0;
         firstValidStructureSeenAt.clear();
         lastStructureIntegrityCheck.clear();
         lastStructureDetections.clear();
         pendingStructureActors.clear();
-        // Reset cached lists so the new round starts with a fresh fetch
-        cachedStructureObjectives = Collections.emptyList();
-        lastStructureCacheRefreshMs = 0L;
         pendingStructureTeams.clear();
         for (BukkitTask task : pendingStructureRescans.values()) {
             task.cancel();
         }
         pendingStructureRescans.clear();
+        structureScanGenerations.clear();
+        buildingDetector.discardAllModels();
 
         // Clear registered building integrity tracking
         for (BukkitTask task : pendingBuildingIntegrityRescans.values()) {
@@ -2706,6 +2899,10 @@ public final class ObjectiveService {
         }
         pendingBuildingIntegrityRescans.clear();
         buildingFailureCount.clear();
+        integrityScanGenerations.clear();
+        synchronized (activeBuildingIndex) {
+            activeBuildingIndex.clear();
+        }
 
         // Remove glowing from any active intel carriers before clearing
         for (IntelCarrierData data : intelCarriers.values()) {
@@ -3303,7 +3500,10 @@ public final class ObjectiveService {
         }
 
         if (objectiveId > 0) {
-            db.expireObjective(objectiveId);
+            long expiredAt = System.currentTimeMillis();
+            getObjective(objectiveId).filter(RegionObjective::isActive).ifPresent(objective ->
+                    applyChange(objective, objective.asExpired(expiredAt)));
+            db.expireObjective(objectiveId, expiredAt);
             plugin.getLogger().info("[Objectives] Intel objective expired in " + regionId + ": 10-minute lifetime exceeded");
         }
     }
@@ -3351,6 +3551,13 @@ public final class ObjectiveService {
         this.statListener = listener;
     }
 
+    /**
+     * Sets the event bus that objective completions are published to.
+     */
+    public void setEventBus(org.flintstqne.entrenched.StatLogic.GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
     /**
      * Sets the objective listener for building damage tracking.
      */
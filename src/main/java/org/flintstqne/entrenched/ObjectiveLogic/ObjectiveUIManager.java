@@ -9,13 +9,13 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.RegionLogic.RegionService;
 import org.flintstqne.entrenched.RegionLogic.RegionState;
 import org.flintstqne.entrenched.RegionLogic.RegionStatus;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,9 +45,10 @@ public class ObjectiveUIManager {
     private final Set<UUID> glowingTargets = ConcurrentHashMap.newKeySet();
 
     // Scheduled tasks
-    private BukkitTask uiUpdateTask;
-    private BukkitTask particleTask;
-    private BukkitTask assassinationUpdateTask;
+    private TickScheduler tickScheduler;
+    private TickScheduler.Task uiUpdateTask;
+    private TickScheduler.Task particleTask;
+    private TickScheduler.Task assassinationUpdateTask;
 
     // Track which region each player was last in (for enemy-enter-region detection)
     private final Map<UUID, String> playerLastRegion = new ConcurrentHashMap<>();
@@ -67,20 +68,29 @@ public class ObjectiveUIManager {
         this.config = config;
     }
 
+    /**
+     * Sets the scheduler the UI tasks run on. Must be called before {@link #start()}.
+     */
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     /**
      * Starts the UI update tasks.
      */
     public void start() {
-        // Update UI every second
-        uiUpdateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateAllPlayerUI, 20L, 20L);
+        // Update each player's UI once per second, spread across the second's ticks
+        uiUpdateTask = tickScheduler.runPerPlayer("objective-ui", TickScheduler.Priority.NORMAL, 20L, this::tickPlayerUI);
 
         // Spawn particles every half second if markers are enabled
         if (config.isObjectiveMarkersEnabled()) {
-            particleTask = Bukkit.getScheduler().runTaskTimer(plugin, this::spawnObjectiveParticles, 10L, 10L);
+            particleTask = tickScheduler.runTimer("objective-particles", TickScheduler.Priority.COSMETIC,
+                    10L, 10L, this::spawnObjectiveParticles);
         }
 
         // Update assassination targets every second (glowing effect)
-        assassinationUpdateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateAssassinationTargets, 20L, 20L);
+        assassinationUpdateTask = tickScheduler.runTimer("objective-assassination", TickScheduler.Priority.NORMAL,
+                20L, 20L, this::updateAssassinationTargets);
 
         plugin.getLogger().info("[Objectives] UI Manager started");
     }
@@ -117,24 +127,22 @@ public class ObjectiveUIManager {
     }
 
     /**
-     * Updates UI for all online players.
+     * Updates UI for one online player. Every player is visited once per second.
      */
-    private void updateAllPlayerUI() {
+    private void tickPlayerUI(Player player) {
         World gameWorld = roundService.getGameWorld().orElse(null);
         if (gameWorld == null) return;
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!player.getWorld().equals(gameWorld)) {
-                clearBossBars(player.getUniqueId());
-                playerLastRegion.remove(player.getUniqueId());
-                continue;
-            }
+        if (!player.getWorld().equals(gameWorld)) {
+            clearBossBars(player.getUniqueId());
+            playerLastRegion.remove(player.getUniqueId());
+            return;
+        }
 
-            // Check if an enemy just entered a defended region — alert defenders
-            checkEnemyRegionEntry(player, gameWorld);
+        // Check if an enemy just entered a defended region — alert defenders
+        checkEnemyRegionEntry(player, gameWorld);
 
-            updatePlayerUI(player);
-        }
+        updatePlayerUI(player);
     }
 
     /**
@@ -1384,7 +1392,7 @@ public class ObjectiveUIManager {
      * Called when a player joins to set up their UI.
      */
     public void onPlayerJoin(Player player) {
-        // Nothing special needed, updateAllPlayerUI will handle them
+        // Nothing special needed, tickPlayerUI will handle them
     }
 
     /**
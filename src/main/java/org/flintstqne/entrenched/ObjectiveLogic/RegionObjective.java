@@ -128,17 +128,17 @@ public record RegionObjective(
     /**
      * Creates a copy marked as completed.
      */
-    public RegionObjective asCompleted(String team) {
+    public RegionObjective asCompleted(String team, long completedAt) {
         return new RegionObjective(id, regionId, roundId, type, ObjectiveStatus.COMPLETED,
-                locationX, locationY, locationZ, 1.0, team, createdAt, System.currentTimeMillis());
+                locationX, locationY, locationZ, 1.0, team, createdAt, completedAt);
     }
 
     /**
      * Creates a copy marked as expired.
      */
-    public RegionObjective asExpired() {
+    public RegionObjective asExpired(long expiredAt) {
         return new RegionObjective(id, regionId, roundId, type, ObjectiveStatus.EXPIRED,
-                locationX, locationY, locationZ, progress, completedBy, createdAt, System.currentTimeMillis());
+                locationX, locationY, locationZ, progress, completedBy, createdAt, expiredAt);
     }
 }
 
@@ -28,7 +28,7 @@ public final class PartyService {
     }
 
     private int getCurrentRoundId() {
-        return getCurrentRound().map(Round::roundId).orElse(-1);
+        return roundService.getCurrentRoundId();
     }
 
     /**
@@ -0,0 +1,124 @@
+package org.flintstqne.entrenched.RegionLogic;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory sliding-window rate limiter for influence actions.
+ * <p>
+ * Each (player, region, action) slot keeps a ring buffer of its last {@code cap} action
+ * timestamps. A slot is limited when the buffer is full and its oldest entry is still
+ * inside the window. Slots for a player live in one flat array indexed by region and
+ * action, so checks and records allocate nothing after the first use. Players with no
+ * activity inside the longest window are dropped during periodic sweeps.
+ */
+final class ActionRateLimiter {
+
+    private static final long SWEEP_INTERVAL_MS = 60_000;
+
+    private final int regionCount;
+    private final int actionCount;
+
+    private final Map<UUID, PlayerWindows> players = new HashMap<>();
+    private long lastSweep = System.currentTimeMillis();
+
+    private static final class PlayerWindows {
+        final Window[] slots;
+        long lastActionAt;
+        long longestWindowMs;
+
+        PlayerWindows(int size) {
+            this.slots = new Window[size];
+        }
+    }
+
+    private static final class Window {
+        long[] stamps;
+        int head;   // index of the oldest timestamp
+        int size;
+
+        Window(int cap) {
+            this.stamps = new long[cap];
+        }
+    }
+
+    ActionRateLimiter(int regionCount, int actionCount) {
+        this.regionCount = regionCount;
+        this.actionCount = actionCount;
+    }
+
+    /**
+     * Returns true if {@code cap} actions have already been recorded within the last {@code windowMs}.
+     */
+    synchronized boolean isLimited(UUID playerUuid, int regionIndex, int action, int cap, long windowMs, long now) {
+        if (cap <= 0) return true;
+        if (!isValidSlot(regionIndex, action)) return false;
+
+        PlayerWindows windows = players.get(playerUuid);
+        if (windows == null) return false;
+
+        Window window = windows.slots[slotIndex(regionIndex, action)];
+        if (window == null || window.stamps.length != cap || window.size < cap) return false;
+
+        return now - window.stamps[window.head] < windowMs;
+    }
+
+    /**
+     * Records one action at {@code now}, evicting the oldest timestamp once the buffer is full.
+     */
+    synchronized void record(UUID playerUuid, int regionIndex, int action, int cap, long windowMs, long now) {
+        if (cap <= 0 || !isValidSlot(regionIndex, action)) return;
+
+        if (now - lastSweep > SWEEP_INTERVAL_MS) {
+            sweep(now);
+        }
+
+        PlayerWindows windows = players.computeIfAbsent(playerUuid, k -> new PlayerWindows(regionCount * actionCount));
+        windows.lastActionAt = now;
+        windows.longestWindowMs = Math.max(windows.longestWindowMs, windowMs);
+
+        int slot = slotIndex(regionIndex, action);
+        Window window = windows.slots[slot];
+        if (window == null || window.stamps.length != cap) {
+            // First use, or the cap was changed by a config reload
+            window = new Window(cap);
+            windows.slots[slot] = window;
+        }
+
+        if (window.size < cap) {
+            window.stamps[(window.head + window.size) % cap] = now;
+            window.size++;
+        } else {
+            window.stamps[window.head] = now;
+            window.head = (window.head + 1) % cap;
+        }
+    }
+
+    /**
+     * Forgets all recorded actions (round change).
+     */
+    synchronized void clear() {
+        players.clear();
+    }
+
+    private void sweep(long now) {
+        lastSweep = now;
+        Iterator<PlayerWindows> it = players.values().iterator();
+        while (it.hasNext()) {
+            PlayerWindows windows = it.next();
+            if (now - windows.lastActionAt > windows.longestWindowMs) {
+                it.remove();
+            }
+        }
+    }
+
+    private boolean isValidSlot(int regionIndex, int action) {
+        return regionIndex >= 0 && regionIndex < regionCount && action >= 0 && action < actionCount;
+    }
+
+    private int slotIndex(int regionIndex, int action) {
+        return regionIndex * actionCount + action;
+    }
+}
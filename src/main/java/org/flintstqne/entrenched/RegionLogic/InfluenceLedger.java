@@ -0,0 +1,233 @@
+package org.flintstqne.entrenched.RegionLogic;
+
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * In-memory influence ledger with a write-behind journal to regions.db.
+ * <p>
+ * Region influence and per-player contributions live here as the source of truth while
+ * a round is running. Every change only updates maps; the accumulated changes are written
+ * to SQLite in one transaction every few seconds, on capture and on shutdown.
+ */
+public class InfluenceLedger {
+
+    private final JavaPlugin plugin;
+    private final Logger logger;
+    private final RegionDb db;
+    private final long flushIntervalTicks;
+
+    // Latest unwritten influence per region (absolute values, newest wins)
+    private final Map<RegionKey, RegionDb.InfluenceRow> pendingInfluence = new ConcurrentHashMap<>();
+
+    // Unwritten player stat deltas per player per region (additive)
+    private final Map<PlayerKey, StatDelta> pendingStats = new ConcurrentHashMap<>();
+
+    // Running influence earned per player, per region; loaded lazily from the database
+    private final Map<RegionKey, Map<String, Double>> contributions = new ConcurrentHashMap<>();
+
+    // Bumped after each committed flush, before its influence rows leave pendingInfluence
+    private final AtomicLong flushGeneration = new AtomicLong();
+
+    private BukkitTask flushTask;
+
+    private record RegionKey(String regionId, int roundId) {}
+
+    private record PlayerKey(String playerUuid, String regionId, int roundId) {}
+
+    private static final class StatDelta {
+        double influenceEarned;
+        int kills;
+        int deaths;
+        int blocksPlaced;
+        int blocksMined;
+        int bannersPlaced;
+    }
+
+    public InfluenceLedger(JavaPlugin plugin, RegionDb db, long flushIntervalSeconds) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.db = db;
+        this.flushIntervalTicks = Math.max(1, flushIntervalSeconds) * 20L;
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    public void start() {
+        flushTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(
+                plugin, this::flush, flushIntervalTicks, flushIntervalTicks);
+
+        logger.info("[Regions] Influence ledger started (flush every " + (flushIntervalTicks / 20) + "s)");
+    }
+
+    public void stop() {
+        if (flushTask != null) flushTask.cancel();
+
+        // Synchronous final flush
+        flush();
+    }
+
+    // ==================== INFLUENCE ====================
+
+    /**
+     * Records the new influence values for a region. Only the latest values are written.
+     */
+    public void setInfluence(String regionId, int roundId, double redInfluence, double blueInfluence) {
+        pendingInfluence.put(new RegionKey(regionId, roundId),
+                new RegionDb.InfluenceRow(regionId, roundId, redInfluence, blueInfluence));
+    }
+
+    /**
+     * Applies any unwritten influence to a status read from the database.
+     */
+    public RegionStatus overlay(RegionStatus status) {
+        RegionDb.InfluenceRow pending = pendingInfluence.get(new RegionKey(status.regionId(), status.roundId()));
+        if (pending == null) return status;
+
+        return new RegionStatus(status.regionId(), status.roundId(), status.ownerTeam(), status.state(),
+                pending.redInfluence(), pending.blueInfluence(),
+                status.fortifiedUntil(), status.ownedSince(), status.timesCaptured());
+    }
+
+    /**
+     * Runs a database read that applies {@link #overlay} to its results, retrying it if a flush
+     * committed and dropped its rows in the meantime. Without the retry a read that started
+     * before the commit and overlaid after the drop would miss that influence entirely.
+     */
+    public <T> T readOverlaid(Supplier<T> read) {
+        while (true) {
+            long generation = flushGeneration.get();
+            T result = read.get();
+            if (flushGeneration.get() == generation) return result;
+        }
+    }
+
+    /**
+     * Forgets unwritten influence for a region whose influence the database has just reset
+     * (capture), so a retried flush can't write the old values back over it.
+     */
+    public synchronized void discardInfluence(String regionId, int roundId) {
+        pendingInfluence.remove(new RegionKey(regionId, roundId));
+    }
+
+    // ==================== PLAYER CONTRIBUTIONS ====================
+
+    /**
+     * Adds influence earned by a player in a region.
+     */
+    public void addContribution(UUID playerUuid, String regionId, int roundId, double points) {
+        String uuid = playerUuid.toString();
+        getContributions(regionId, roundId).merge(uuid, points, Double::sum);
+        pendingStats.compute(new PlayerKey(uuid, regionId, roundId), (key, delta) -> {
+            if (delta == null) delta = new StatDelta();
+            delta.influenceEarned += points;
+            return delta;
+        });
+    }
+
+    /**
+     * Increments a player_region_stats counter column by one.
+     */
+    public void incrementStat(UUID playerUuid, String regionId, int roundId, String statColumn) {
+        String uuid = playerUuid.toString();
+        // The row exists once this is written, so the player can be picked as top contributor
+        getContributions(regionId, roundId).putIfAbsent(uuid, 0.0);
+        pendingStats.compute(new PlayerKey(uuid, regionId, roundId), (key, delta) -> {
+            if (delta == null) delta = new StatDelta();
+            switch (statColumn) {
+                case "kills" -> delta.kills++;
+                case "deaths" -> delta.deaths++;
+                case "blocks_placed" -> delta.blocksPlaced++;
+                case "blocks_mined" -> delta.blocksMined++;
+                case "banners_placed" -> delta.bannersPlaced++;
+                default -> throw new IllegalArgumentException("Unknown stat column: " + statColumn);
+            }
+            return delta;
+        });
+    }
+
+    /**
+     * Gets the UUID of the player who earned the most influence in a region this round.
+     */
+    public Optional<String> getTopContributor(String regionId, int roundId) {
+        String top = null;
+        double best = Double.NEGATIVE_INFINITY;
+        for (Map.Entry<String, Double> entry : getContributions(regionId, roundId).entrySet()) {
+            if (entry.getValue() > best) {
+                best = entry.getValue();
+                top = entry.getKey();
+            }
+        }
+        return Optional.ofNullable(top);
+    }
+
+    private Map<String, Double> getContributions(String regionId, int roundId) {
+        return contributions.computeIfAbsent(new RegionKey(regionId, roundId),
+                key -> new ConcurrentHashMap<>(db.getInfluenceContributions(regionId, roundId)));
+    }
+
+    /**
+     * Writes everything pending and forgets the in-memory contribution totals (round change).
+     */
+    public void reset() {
+        flush();
+        contributions.clear();
+    }
+
+    // ==================== FLUSH ====================
+
+    /**
+     * Writes pending influence and stat deltas in a single transaction.
+     * Runs on an async thread from the timer, and synchronously on capture and shutdown.
+     */
+    public synchronized void flush() {
+        List<RegionDb.InfluenceRow> influence = new ArrayList<>(pendingInfluence.values());
+
+        List<RegionDb.PlayerStatRow> stats = new ArrayList<>();
+        for (PlayerKey key : new ArrayList<>(pendingStats.keySet())) {
+            StatDelta delta = pendingStats.remove(key);
+            if (delta == null) continue;
+            stats.add(new RegionDb.PlayerStatRow(key.playerUuid(), key.regionId(), key.roundId(),
+                    delta.influenceEarned, delta.kills, delta.deaths,
+                    delta.blocksPlaced, delta.blocksMined, delta.bannersPlaced));
+        }
+
+        if (influence.isEmpty() && stats.isEmpty()) return;
+
+        try {
+            db.batchWriteInfluence(influence, stats);
+        } catch (RuntimeException e) {
+            logger.warning("[Regions] Failed to flush influence ledger: " + e.getMessage());
+            // Put the deltas back so the next flush retries them
+            for (RegionDb.PlayerStatRow row : stats) {
+                requeue(row);
+            }
+            return;
+        }
+
+        // Influence is only dropped once written, and only if it hasn't changed since
+        flushGeneration.incrementAndGet();
+        for (RegionDb.InfluenceRow row : influence) {
+            pendingInfluence.remove(new RegionKey(row.regionId(), row.roundId()), row);
+        }
+    }
+
+    private void requeue(RegionDb.PlayerStatRow row) {
+        pendingStats.compute(new PlayerKey(row.playerUuid(), row.regionId(), row.roundId()), (key, delta) -> {
+            if (delta == null) delta = new StatDelta();
+            delta.influenceEarned += row.influenceEarned();
+            delta.kills += row.kills();
+            delta.deaths += row.deaths();
+            delta.blocksPlaced += row.blocksPlaced();
+            delta.blocksMined += row.blocksMined();
+            delta.bannersPlaced += row.bannersPlaced();
+            return delta;
+        });
+    }
+}
@@ -7,10 +7,10 @@ import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.flintstqne.entrenched.BlueMapHook.RegionRenderer;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,7 +33,8 @@ public final class RegionNotificationManager {
     private final Map<UUID, String> playerRegions = new ConcurrentHashMap<>();
 
     // Update task
-    private BukkitTask updateTask;
+    private TickScheduler tickScheduler;
+    private TickScheduler.Task updateTask;
 
     public RegionNotificationManager(JavaPlugin plugin, RegionService regionService,
                                      TeamService teamService, ConfigManager configManager,
@@ -55,6 +56,13 @@ public final class RegionNotificationManager {
         return regionId;
     }
 
+    /**
+     * Sets the scheduler the periodic tasks run on. Must be called before {@link #start()}.
+     */
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     /**
      * Starts the notification update task.
      */
@@ -64,7 +72,8 @@ public final class RegionNotificationManager {
         }
 
         // Update every second
-        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::update, 20L, 20L);
+        updateTask = tickScheduler.runTimer("region-notifications", TickScheduler.Priority.NORMAL,
+                20L, 20L, this::update);
     }
 
     /**
@@ -10,6 +10,7 @@ import org.flintstqne.entrenched.StatLogic.StatListener;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
@@ -46,6 +47,8 @@ public final class RegionService {
     private static final int HALF_SIZE = (GRID_SIZE * REGION_BLOCKS) / 2;
 
     private final RegionDb db;
+    private final InfluenceLedger ledger;
+    private final ActionRateLimiter rateLimiter = new ActionRateLimiter(GRID_SIZE * GRID_SIZE, 4);
     private final RoundService roundService;
     private final ConfigManager configManager;
     private final Logger logger;
@@ -57,6 +60,8 @@ public final class RegionService {
     private final Map<String, RegionStatus> regionCache = new ConcurrentHashMap<>();
     private long lastCacheRefresh = 0;
     private static final long CACHE_TTL_MS = 5000; // 5 seconds
+    // Bumped whenever a cached region status changes
+    private final AtomicLong cacheVersion = new AtomicLong();
 
     // Capture callback for notifications
     private CaptureCallback captureCallback;
@@ -96,11 +101,20 @@ public final class RegionService {
         void onHeatGenerated(String regionId, double heat);
     }
 
-    public RegionService(RegionDb db, RoundService roundService, ConfigManager configManager) {
+    public RegionService(RegionDb db, InfluenceLedger ledger, RoundService roundService, ConfigManager configManager) {
         this.db = db;
+        this.ledger = ledger;
         this.roundService = roundService;
         this.configManager = configManager;
         this.logger = Bukkit.getLogger();
+
+        // Write out and forget contribution totals and rate limits whenever the round changes
+        roundService.addListener((change, previous, current) -> {
+            if (change == RoundService.RoundChange.STARTED || change == RoundService.RoundChange.ENDED) {
+                ledger.reset();
+                rateLimiter.clear();
+            }
+        });
     }
 
     /**
@@ -137,7 +151,7 @@ public final class RegionService {
     }
 
     private int getCurrentRoundId() {
-        return getCurrentRound().map(Round::roundId).orElse(-1);
+        return roundService.getCurrentRoundId();
     }
 
     private void log(String message) {
@@ -189,11 +203,19 @@ public final class RegionService {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return Optional.empty();
 
-        Optional<RegionStatus> fromDb = db.getRegionStatus(regionId, roundId);
+        Optional<RegionStatus> fromDb = ledger.readOverlaid(() -> db.getRegionStatus(regionId, roundId).map(ledger::overlay));
         // Update cache with the result
-        fromDb.ifPresent(status -> regionCache.put(regionId, status));
+        fromDb.ifPresent(status -> cacheStatus(regionId, status));
         return fromDb;
     }
+    /**
+     * Counter that changes whenever any region status returned by this service changes.
+     */
+    public long getDataVersion() {
+        refreshCacheIfNeeded();
+        return cacheVersion.get();
+    }
+
     public List<RegionStatus> getAllRegionStatuses() {
         refreshCacheIfNeeded();
         return new ArrayList<>(regionCache.values());
@@ -258,7 +280,7 @@ public final class RegionService {
         }
 
         // Check rate limiting for certain actions
-        if (isRateLimited(playerUuid, regionId, roundId, action)) {
+        if (isRateLimited(playerUuid, regionId, action)) {
             return InfluenceResult.RATE_LIMITED;
         }
 
@@ -270,15 +292,15 @@ public final class RegionService {
         double currentInfluence = status.getInfluence(team);
         double newInfluence = currentInfluence + points;
 
-        // Update database
+        // Update in-memory influence (written to the database by the ledger)
         if ("red".equalsIgnoreCase(team)) {
-            db.updateInfluence(regionId, roundId, newInfluence, status.blueInfluence());
+            setInfluence(status, newInfluence, status.blueInfluence());
         } else {
-            db.updateInfluence(regionId, roundId, status.redInfluence(), newInfluence);
+            setInfluence(status, status.redInfluence(), newInfluence);
         }
 
         // Track player stats
-        db.addInfluenceEarned(playerUuid.toString(), regionId, roundId, points);
+        ledger.addContribution(playerUuid, regionId, roundId, points);
 
         // Record stat for IP earned
         if (statListener != null && points > 0) {
@@ -288,7 +310,7 @@ public final class RegionService {
         }
 
         // Update rate limit tracking
-        updateRateLimit(playerUuid, regionId, roundId, action);
+        updateRateLimit(playerUuid, regionId, action);
 
         // Update state if needed
         updateRegionState(regionId, status, team);
@@ -296,9 +318,6 @@ public final class RegionService {
         // Check for capture
         checkAndProcessCapture(regionId, team);
 
-        // Invalidate cache
-        invalidateCache(regionId);
-
         // Notify heat callback for endgame overtime target selection
         if (heatCallback != null && points > 0) {
             heatCallback.onHeatGenerated(regionId, points);
@@ -324,15 +343,11 @@ public final class RegionService {
         double currentInfluence = status.getInfluence(team);
         double newInfluence = Math.max(0, currentInfluence - points);
 
-        // Update database
         if ("red".equalsIgnoreCase(team)) {
-            db.updateInfluence(regionId, roundId, newInfluence, status.blueInfluence());
+            setInfluence(status, newInfluence, status.blueInfluence());
         } else {
-            db.updateInfluence(regionId, roundId, status.redInfluence(), newInfluence);
+            setInfluence(status, status.redInfluence(), newInfluence);
         }
-
-        // Invalidate cache
-        invalidateCache(regionId);
     }
 
     private double getPointsForAction(InfluenceAction action) {
@@ -349,49 +364,65 @@ public final class RegionService {
         };
     }
 
-    private boolean isRateLimited(UUID playerUuid, String regionId, int roundId, InfluenceAction action) {
-        // Rate limit block mining actions (per second)
-        if (action == InfluenceAction.MINE_ENEMY_BLOCK) {
-            int cap = configManager.getRegionMineCapPerSecond();
-            int count = db.getActionCount(playerUuid.toString(), regionId, roundId, "mine", 1000);
-            return count >= cap;
-        }
-        // Rate limit defensive blocks (per second)
-        if (action == InfluenceAction.PLACE_DEFENSIVE_BLOCK) {
-            int cap = configManager.getRegionDefensiveCapPerSecond();
-            int count = db.getActionCount(playerUuid.toString(), regionId, roundId, "defensive", 1000);
-            return count >= cap;
-        }
-        // Rate limit workstations (per minute) - prevents crafting table spam
-        if (action == InfluenceAction.PLACE_WORKSTATION) {
-            int cap = configManager.getRegionWorkstationCapPerMinute();
-            int count = db.getActionCount(playerUuid.toString(), regionId, roundId, "workstation", 60000);
-            return count >= cap;
-        }
-        // Rate limit torches (per minute)
-        if (action == InfluenceAction.PLACE_TORCH) {
-            int cap = configManager.getRegionTorchCapPerMinute();
-            int count = db.getActionCount(playerUuid.toString(), regionId, roundId, "torch", 60000);
-            return count >= cap;
-        }
-        return false;
+    // Rate limit slots: one per capped action type
+    private static final int RATE_MINE = 0;
+    private static final int RATE_DEFENSIVE = 1;
+    private static final int RATE_WORKSTATION = 2;
+    private static final int RATE_TORCH = 3;
+
+    private boolean isRateLimited(UUID playerUuid, String regionId, InfluenceAction action) {
+        int slot = getRateLimitSlot(action);
+        if (slot < 0) return false;
+        return rateLimiter.isLimited(playerUuid, getRegionIndex(regionId), slot,
+                getRateLimitCap(slot), getRateLimitWindowMs(slot), System.currentTimeMillis());
+    }
+
+    private void updateRateLimit(UUID playerUuid, String regionId, InfluenceAction action) {
+        int slot = getRateLimitSlot(action);
+        if (slot < 0) return;
+        rateLimiter.record(playerUuid, getRegionIndex(regionId), slot,
+                getRateLimitCap(slot), getRateLimitWindowMs(slot), System.currentTimeMillis());
+    }
+
+    private int getRateLimitSlot(InfluenceAction action) {
+        return switch (action) {
+            case MINE_ENEMY_BLOCK -> RATE_MINE;
+            case PLACE_DEFENSIVE_BLOCK -> RATE_DEFENSIVE;
+            case PLACE_WORKSTATION -> RATE_WORKSTATION;
+            case PLACE_TORCH -> RATE_TORCH;
+            default -> -1;
+        };
     }
 
-    private void updateRateLimit(UUID playerUuid, String regionId, int roundId, InfluenceAction action) {
-        String actionType = switch (action) {
-            case MINE_ENEMY_BLOCK -> "mine";
-            case PLACE_DEFENSIVE_BLOCK -> "defensive";
-            case PLACE_WORKSTATION -> "workstation";
-            case PLACE_TORCH -> "torch";
-            default -> null;
+    private int getRateLimitCap(int slot) {
+        return switch (slot) {
+            case RATE_MINE -> configManager.getRegionMineCapPerSecond();
+            case RATE_DEFENSIVE -> configManager.getRegionDefensiveCapPerSecond();
+            // Workstations per minute - prevents crafting table spam
+            case RATE_WORKSTATION -> configManager.getRegionWorkstationCapPerMinute();
+            default -> configManager.getRegionTorchCapPerMinute();
         };
+    }
 
-        if (actionType != null) {
-            // Use appropriate time window (seconds vs minutes)
-            int windowMs = (action == InfluenceAction.PLACE_WORKSTATION || action == InfluenceAction.PLACE_TORCH)
-                    ? 60000 : 1000;
-            db.incrementActionCount(playerUuid.toString(), regionId, roundId, actionType, windowMs);
+    private long getRateLimitWindowMs(int slot) {
+        // Mining and defensive blocks are capped per second, workstations and torches per minute
+        return (slot == RATE_WORKSTATION || slot == RATE_TORCH) ? 60000 : 1000;
+    }
+
+    /**
+     * Converts a region ID ("A1".."D4") to a 0-based grid index, or -1 if it isn't on the grid.
+     */
+    private int getRegionIndex(String regionId) {
+        if (regionId == null || regionId.length() < 2) return -1;
+        int row = regionId.charAt(0) - 'A';
+        int col;
+        try {
+            col = Integer.parseInt(regionId.substring(1)) - 1;
+        } catch (NumberFormatException e) {
+            return -1;
         }
+        if (row < 0 || row >= GRID_SIZE || col < 0 || col >= GRID_SIZE) return -1;
+        return row * GRID_SIZE + col;
     }
 
     private void updateRegionState(String regionId, RegionStatus status, String attackingTeam) {
@@ -407,10 +438,11 @@ public final class RegionService {
             double attackerInfluence = status.getInfluence(attackingTeam);
             if (attackerInfluence > 0) {
                 db.updateRegionState(regionId, roundId, RegionState.CONTESTED);
+                invalidateCache(regionId);
 
                 // Record stat for region contested (top contributor gets credit)
                 if (statListener != null) {
-                    db.getTopContributor(regionId, roundId).ifPresent(topContributorUuid -> {
+                    ledger.getTopContributor(regionId, roundId).ifPresent(topContributorUuid -> {
                         try {
                             java.util.UUID uuid = java.util.UUID.fromString(topContributorUuid);
                             org.bukkit.entity.Player player = Bukkit.getPlayer(uuid);
@@ -482,7 +514,10 @@ public final class RegionService {
         long fortificationMinutes = configManager.getRegionFortificationMinutes();
         Long fortifiedUntil = System.currentTimeMillis() + (fortificationMinutes * 60 * 1000);
 
-        // Perform capture
+        // Perform capture (write out pending stats first; drop pending influence so it can't
+        // overwrite the reset even if that flush failed)
+        ledger.flush();
+        ledger.discardInfluence(regionId, roundId);
         db.captureRegion(regionId, roundId, team, RegionState.FORTIFIED, fortifiedUntil);
         invalidateCache(regionId);
 
@@ -495,7 +530,7 @@ public final class RegionService {
 
         // Record stat for region capture (award to top IP contributor)
         if (statListener != null) {
-            db.getTopContributor(regionId, roundId).ifPresent(topContributorUuid -> {
+            ledger.getTopContributor(regionId, roundId).ifPresent(topContributorUuid -> {
                 try {
                     java.util.UUID uuid = java.util.UUID.fromString(topContributorUuid);
                     org.bukkit.entity.Player player = Bukkit.getPlayer(uuid);
@@ -569,6 +604,8 @@ public final class RegionService {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return;
 
+        ledger.flush();
+        ledger.discardInfluence(regionId, roundId);
         db.captureRegion(regionId, roundId, team, RegionState.FORTIFIED, fortifyUntil);
         invalidateCache(regionId);
     }
@@ -578,7 +615,7 @@ public final class RegionService {
 
         db.updateRegionOwner(regionId, roundId, null);
         db.updateRegionState(regionId, roundId, RegionState.NEUTRAL);
-        db.updateInfluence(regionId, roundId, 0, 0);
+        ledger.setInfluence(regionId, roundId, 0, 0);
         invalidateCache(regionId);
     }
     public void setRegionState(String regionId, RegionState state) {
@@ -599,8 +636,7 @@ public final class RegionService {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return;
 
-        db.updateInfluence(regionId, roundId, 0, 0);
-        invalidateCache(regionId);
+        getRegionStatus(regionId).ifPresent(status -> setInfluence(status, 0, 0));
     }
     public void addInfluence(String regionId, String team, double amount, UUID playerUuid) {
         int roundId = getCurrentRoundId();
@@ -619,20 +655,15 @@ public final class RegionService {
             newBlue += amount;
         }
 
-        db.updateInfluence(regionId, roundId, newRed, newBlue);
-        invalidateCache(regionId);
+        RegionStatus updated = setInfluence(status, newRed, newBlue);
 
         // Track player stats if provided
         if (playerUuid != null) {
-            db.addInfluenceEarned(playerUuid.toString(), regionId, roundId, amount);
+            ledger.addContribution(playerUuid, regionId, roundId, amount);
         }
 
         // Update region state (OWNED -> CONTESTED if enemy is gaining influence)
-        // Need to refresh status after influence update
-        Optional<RegionStatus> updatedStatusOpt = getRegionStatus(regionId);
-        if (updatedStatusOpt.isPresent()) {
-            updateRegionState(regionId, updatedStatusOpt.get(), team);
-        }
+        updateRegionState(regionId, updated, team);
 
         // Check for capture
         checkAndProcessCapture(regionId, team);
@@ -803,7 +834,7 @@ public final class RegionService {
             if (status.state() == RegionState.CONTESTED) {
                 double newRed = Math.max(0, status.redInfluence() - decayPerMinute);
                 double newBlue = Math.max(0, status.blueInfluence() - decayPerMinute);
-                db.updateInfluence(status.regionId(), roundId, newRed, newBlue);
+                ledger.setInfluence(status.regionId(), roundId, newRed, newBlue);
 
                 // If both influences are 0, return to OWNED state
                 if (newRed == 0 && newBlue == 0 && status.ownerTeam() != null) {
@@ -853,8 +884,8 @@ public final class RegionService {
 
         // Record the kill for future multiplier calculations
         db.recordKill(killerUuid.toString(), victimUuid.toString(), regionId, roundId);
-        db.incrementPlayerStat(killerUuid.toString(), regionId, roundId, "kills");
-        db.incrementPlayerStat(victimUuid.toString(), regionId, roundId, "deaths");
+        ledger.incrementStat(killerUuid, regionId, roundId, "kills");
+        ledger.incrementStat(victimUuid, regionId, roundId, "deaths");
 
         // DEFENDER KILL: If killer owns this region (CONTESTED), reduce enemy influence
         if (status.isOwnedBy(killerTeam) && status.state() == RegionState.CONTESTED) {
@@ -913,8 +944,7 @@ public final class RegionService {
             newBlue = Math.max(0, newBlue - amount);
         }
 
-        db.updateInfluence(regionId, roundId, newRed, newBlue);
-        invalidateCache(regionId);
+        setInfluence(status, newRed, newBlue);
 
         // Check if enemy influence is now 0 - return to OWNED state
         if (newRed == 0 && newBlue == 0 && status.ownerTeam() != null) {
@@ -950,7 +980,7 @@ public final class RegionService {
         if (status.isOwnedBy(team)) return;
 
         // Track stats
-        db.incrementPlayerStat(playerUuid.toString(), regionId, roundId, "blocks_placed");
+        ledger.incrementStat(playerUuid, regionId, roundId, "blocks_placed");
 
         // Determine action type
         InfluenceAction action = null;
@@ -1001,7 +1031,7 @@ public final class RegionService {
         RegionStatus status = statusOpt.get();
 
         // Track stats
-        db.incrementPlayerStat(playerUuid.toString(), regionId, roundId, "blocks_mined");
+        ledger.incrementStat(playerUuid, regionId, roundId, "blocks_mined");
 
         // Check all tracking maps for anti-farming - remove IP if same team breaks their placed blocks
         String blockKey = blockX + "," + blockY + "," + blockZ;
@@ -1054,7 +1084,7 @@ public final class RegionService {
         if (status.isOwnedBy(team)) return;
 
         // Track stats
-        db.incrementPlayerStat(playerUuid.toString(), regionId, roundId, "banners_placed");
+        ledger.incrementStat(playerUuid, regionId, roundId, "banners_placed");
 
         // Record stat for banner placed
         if (statListener != null) {
@@ -1130,9 +1160,17 @@ public final class RegionService {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return;
 
-        regionCache.clear();
-        for (RegionStatus status : db.getAllRegionStatuses(roundId)) {
-            regionCache.put(status.regionId(), status);
+        Map<String, RegionStatus> fresh = ledger.readOverlaid(() -> {
+            Map<String, RegionStatus> statuses = new HashMap<>();
+            for (RegionStatus status : db.getAllRegionStatuses(roundId)) {
+                statuses.put(status.regionId(), ledger.overlay(status));
+            }
+            return statuses;
+        });
+        if (!fresh.equals(regionCache)) {
+            regionCache.clear();
+            regionCache.putAll(fresh);
+            cacheVersion.incrementAndGet();
         }
         lastCacheRefresh = System.currentTimeMillis();
     }
@@ -1141,9 +1179,30 @@ public final class RegionService {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return;
 
-        db.getRegionStatus(regionId, roundId).ifPresent(status ->
-            regionCache.put(regionId, status)
-        );
+        ledger.readOverlaid(() -> db.getRegionStatus(regionId, roundId).map(ledger::overlay))
+                .ifPresent(status -> cacheStatus(regionId, status));
+    }
+
+    /**
+     * Stores a status in the cache, bumping the data version only if it differs from the cached one.
+     */
+    private void cacheStatus(String regionId, RegionStatus status) {
+        if (!status.equals(regionCache.put(regionId, status))) {
+            cacheVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Sets a region's influence in memory and queues it for the next ledger flush.
+     * @return the updated status, already stored in the cache
+     */
+    private RegionStatus setInfluence(RegionStatus status, double redInfluence, double blueInfluence) {
+        ledger.setInfluence(status.regionId(), status.roundId(), redInfluence, blueInfluence);
+        RegionStatus updated = new RegionStatus(status.regionId(), status.roundId(), status.ownerTeam(),
+                status.state(), redInfluence, blueInfluence,
+                status.fortifiedUntil(), status.ownedSince(), status.timesCaptured());
+        cacheStatus(status.regionId(), updated);
+        return updated;
     }
 }
 
@@ -0,0 +1,267 @@
+package org.flintstqne.entrenched.RoadLogic;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Primitive open-addressing map from packed block coordinates to an int value.
+ * <p>
+ * Coordinates use the same 26/12/26-bit layout as {@code PlacedBlockTracker.packCoord},
+ * so a lookup is one multiply-shift hash and a short linear probe with no boxing and no
+ * string keys. Removal uses backward-shift deletion, so there are no tombstones and the
+ * table never degrades after many place/break cycles.
+ * <p>
+ * Not thread-safe on its own; {@link RoadService} guards the shared cache instance.
+ */
+final class RoadBlockIndex {
+
+    /** Returned by {@link #get(long)} when the key is absent. */
+    static final int NO_VALUE = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    // Key 0 (block 0,0,0) is the empty-slot marker, so it is stored out of band
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    RoadBlockIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    RoadBlockIndex(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    // ==================== COORDINATE PACKING ====================
+
+    /**
+     * Packs (x, y, z) into a single long.
+     * x: bits 0-25, y: bits 26-37, z: bits 38-63 (same layout as PlacedBlockTracker).
+     */
+    static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF))
+                | (((long) (y & 0xFFF)) << 26)
+                | (((long) (z & 0x3FFFFFF)) << 38);
+    }
+
+    static long pack(RoadBlock block) {
+        return pack(block.x(), block.y(), block.z());
+    }
+
+    static int unpackX(long packed) {
+        int raw = (int) (packed & 0x3FFFFFF);
+        return (raw & 0x2000000) != 0 ? raw | ~0x3FFFFFF : raw; // sign-extend
+    }
+
+    static int unpackY(long packed) {
+        int raw = (int) ((packed >> 26) & 0xFFF);
+        return (raw & 0x800) != 0 ? raw | ~0xFFF : raw; // sign-extend
+    }
+
+    static int unpackZ(long packed) {
+        int raw = (int) ((packed >>> 38) & 0x3FFFFFF);
+        return (raw & 0x2000000) != 0 ? raw | ~0x3FFFFFF : raw; // sign-extend
+    }
+
+    // ==================== MAP OPERATIONS ====================
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(long key) {
+        return get(key) != NO_VALUE;
+    }
+
+    /**
+     * Gets the value for a key, or {@link #NO_VALUE}.
+     */
+    int get(long key) {
+        if (key == 0) return hasZeroKey ? zeroValue : NO_VALUE;
+
+        int slot = slot(key);
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Associates a non-negative value with a key.
+     * @return the previous value, or {@link #NO_VALUE}
+     */
+    int put(long key, int value) {
+        if (key == 0) {
+            int previous = hasZeroKey ? zeroValue : NO_VALUE;
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+
+        int slot = slot(key);
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Removes a key.
+     * @return the removed value, or {@link #NO_VALUE}
+     */
+    int remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) return NO_VALUE;
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+
+        int slot = slot(key);
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                int previous = values[slot];
+                size--;
+                shiftKeys(slot);
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    void clear() {
+        if (size == 0) return;
+        size = 0;
+        hasZeroKey = false;
+        Arrays.fill(keys, 0L);
+    }
+
+    /**
+     * Calls the consumer for every entry. The index must not be modified during iteration.
+     */
+    void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) consumer.accept(0L, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) consumer.accept(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Removes every entry whose value matches the predicate.
+     * @return number of removed entries
+     */
+    int removeIf(IntPredicate predicate) {
+        int removed = 0;
+        if (hasZeroKey && predicate.test(zeroValue)) {
+            hasZeroKey = false;
+            size--;
+            removed++;
+        }
+        // Collect first: backward-shift deletion moves entries around while removing
+        long[] matches = new long[size];
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0 && predicate.test(values[i])) {
+                matches[count++] = keys[i];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            remove(matches[i]);
+        }
+        removed += count;
+        return removed;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    // ==================== INTERNALS ====================
+
+    private int slot(long key) {
+        // Fibonacci hashing spreads the packed coordinate bits across the table
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Backward-shift deletion: pulls later entries of the probe chain into the freed slot.
+     */
+    private void shiftKeys(int pos) {
+        int last;
+        long key;
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+            while (true) {
+                if ((key = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                int home = slot(key);
+                // Move the entry only if its home slot is not between last (exclusive) and pos (inclusive)
+                if (last <= pos ? last >= home || home > pos : last >= home && home > pos) break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = key;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == 0) continue;
+            int slot = slot(key);
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.max(1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1;
+        int capacity = Integer.highestOneBit(Math.max(needed - 1, 1)) << 1;
+        return Math.max(MIN_CAPACITY, capacity);
+    }
+}
@@ -0,0 +1,210 @@
+package org.flintstqne.entrenched.RoadLogic;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Scans world terrain for road path blocks without blocking the main thread.
+ * <p>
+ * Chunk snapshots are captured on the main thread a few chunks per tick, and the column
+ * analysis for each snapshot runs on a small worker pool. The returned future completes
+ * on a worker thread once every chunk in the area has been analysed.
+ */
+public class RoadScanner {
+
+    /**
+     * A path block found by a scan.
+     */
+    public record PathBlockHit(int x, int y, int z, Material type) {}
+
+    private final JavaPlugin plugin;
+    private final int chunksPerTick;
+    private final ExecutorService workers;
+
+    public RoadScanner(JavaPlugin plugin, int chunksPerTick) {
+        this.plugin = plugin;
+        this.chunksPerTick = Math.max(1, chunksPerTick);
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Entrenched-RoadScan-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Scans every column in the area for path blocks.
+     * Each column is scanned up from startY until airThreshold consecutive air blocks, then down
+     * from startY - 1 until solidThreshold consecutive non-path solid blocks (0 skips the downward scan).
+     * Can be called from any thread.
+     */
+    public CompletableFuture<List<PathBlockHit>> scan(World world, int minX, int maxX, int minZ, int maxZ,
+                                                      Set<Material> pathBlocks, int startY,
+                                                      int airThreshold, int solidThreshold) {
+        ScanJob job = new ScanJob(world, minX, maxX, minZ, maxZ,
+                pathBlocks.isEmpty() ? EnumSet.noneOf(Material.class) : EnumSet.copyOf(pathBlocks),
+                startY, airThreshold, solidThreshold);
+        plugin.getServer().getScheduler().runTaskTimer(plugin, job, 0L, 1L);
+        return job.result;
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * One area scan. Runs every tick on the main thread until all chunk snapshots are captured.
+     */
+    private final class ScanJob implements Consumer<BukkitTask> {
+        final World world;
+        final int minX, maxX, minZ, maxZ;
+        final Set<Material> pathBlocks;
+        final int startY, airThreshold, solidThreshold;
+        final int minHeight, maxHeight;
+
+        final int minChunkX, maxChunkZ, minChunkZ, chunkColumns;
+        final int totalChunks;
+        int nextChunk;
+
+        final Queue<List<PathBlockHit>> chunkResults = new ConcurrentLinkedQueue<>();
+        final AtomicInteger remaining;
+        final CompletableFuture<List<PathBlockHit>> result = new CompletableFuture<>();
+
+        ScanJob(World world, int minX, int maxX, int minZ, int maxZ, Set<Material> pathBlocks,
+                int startY, int airThreshold, int solidThreshold) {
+            this.world = world;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minZ = minZ;
+            this.maxZ = maxZ;
+            this.pathBlocks = pathBlocks;
+            this.startY = startY;
+            this.airThreshold = airThreshold;
+            this.solidThreshold = solidThreshold;
+            this.minHeight = world.getMinHeight();
+            this.maxHeight = world.getMaxHeight();
+
+            this.minChunkX = minX >> 4;
+            this.minChunkZ = minZ >> 4;
+            this.maxChunkZ = maxZ >> 4;
+            this.chunkColumns = (maxX >> 4) - minChunkX + 1;
+            this.totalChunks = Math.max(0, chunkColumns * (maxChunkZ - minChunkZ + 1));
+            this.remaining = new AtomicInteger(totalChunks);
+        }
+
+        @Override
+        public void accept(BukkitTask task) {
+            if (result.isDone()) {
+                task.cancel();
+                return;
+            }
+            if (!plugin.isEnabled()) {
+                result.completeExceptionally(new CancellationException("Plugin disabled during road scan"));
+                task.cancel();
+                return;
+            }
+            if (totalChunks == 0) {
+                // Empty area: no worker will ever complete the result
+                result.complete(new ArrayList<>());
+                task.cancel();
+                return;
+            }
+
+            try {
+                for (int i = 0; i < chunksPerTick && nextChunk < totalChunks; i++, nextChunk++) {
+                    int chunkX = minChunkX + nextChunk % chunkColumns;
+                    int chunkZ = minChunkZ + nextChunk / chunkColumns;
+                    ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+                    workers.execute(() -> analyse(snapshot));
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+
+            if (nextChunk >= totalChunks || result.isDone()) {
+                task.cancel();
+            }
+        }
+
+        private void analyse(ChunkSnapshot snapshot) {
+            if (result.isDone()) return;
+            try {
+                chunkResults.add(scanChunk(snapshot));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            if (remaining.decrementAndGet() == 0) {
+                List<PathBlockHit> hits = new ArrayList<>();
+                for (List<PathBlockHit> chunkHits : chunkResults) {
+                    hits.addAll(chunkHits);
+                }
+                result.complete(hits);
+            }
+        }
+
+        private List<PathBlockHit> scanChunk(ChunkSnapshot snapshot) {
+            List<PathBlockHit> hits = new ArrayList<>();
+            int baseX = snapshot.getX() << 4;
+            int baseZ = snapshot.getZ() << 4;
+
+            for (int localX = 0; localX < 16; localX++) {
+                int x = baseX + localX;
+                if (x < minX || x > maxX) continue;
+
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    int z = baseZ + localZ;
+                    if (z < minZ || z > maxZ) continue;
+
+                    // Scan up from startY
+                    int consecutiveAir = 0;
+                    for (int y = startY; y < maxHeight && consecutiveAir < airThreshold; y++) {
+                        Material type = snapshot.getBlockType(localX, y, localZ);
+                        if (type.isAir()) {
+                            consecutiveAir++;
+                        } else {
+                            consecutiveAir = 0;
+                            if (pathBlocks.contains(type)) {
+                                hits.add(new PathBlockHit(x, y, z, type));
+                            }
+                        }
+                    }
+
+                    // Scan down from startY
+                    int consecutiveSolid = 0;
+                    for (int y = startY - 1; y >= minHeight && consecutiveSolid < solidThreshold; y--) {
+                        Material type = snapshot.getBlockType(localX, y, localZ);
+                        if (pathBlocks.contains(type)) {
+                            hits.add(new PathBlockHit(x, y, z, type));
+                            consecutiveSolid = 0;
+                        } else if (type.isAir()) {
+                            consecutiveSolid = 0;
+                        } else {
+                            consecutiveSolid++;
+                        }
+                    }
+                }
+            }
+            return hits;
+        }
+    }
+}
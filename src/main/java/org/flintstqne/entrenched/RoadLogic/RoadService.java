@@ -5,13 +5,12 @@ import org.bukkit.entity.Player;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.RegionLogic.RegionService;
 import org.flintstqne.entrenched.RegionLogic.RegionStatus;
-import org.flintstqne.entrenched.RoundLogic.Round;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * SQL-backed implementation of RoadService.
@@ -23,13 +22,38 @@ public final class RoadService {
     private static final int HALF_SIZE = (GRID_SIZE * REGION_BLOCKS) / 2;
 
     private final RoadDb db;
+    private final RoadScanner roadScanner;
     private final RoundService roundService;
     private final RegionService regionService;
     private final ConfigManager configManager;
     private final Logger logger;
 
-    // In-memory cache for road blocks (for fast lookups)
-    private final Map<String, RoadBlock> roadBlockCache = new ConcurrentHashMap<>();
+    // In-memory set of every road block in the round: packed coordinate -> packed meta
+    // (team, player-placed, region). Guarded by its own monitor; the supply recalculation
+    // runs on an async thread.
+    private final RoadBlockIndex roadBlockCache = new RoadBlockIndex(4096);
+
+    // Round whose road blocks are fully loaded into roadBlockCache, or -1
+    private int loadedRoundId = -1;
+
+    // Incremental road connectivity built from roadBlockCache; null until first needed.
+    // Guarded by the roadBlockCache monitor.
+    private SupplyGraph supplyGraph;
+
+    // Team names referenced by the team ordinal in cached meta values
+    private final List<String> cachedTeams = new ArrayList<>();
+
+    // Meta layout: bits 0-7 team ordinal, bit 8 player-placed, bits 9-13 region index
+    private static final int META_TEAM_MASK = 0xFF;
+    private static final int META_PLAYER_PLACED = 1 << 8;
+    private static final int META_REGION_SHIFT = 9;
+
+    private static final String[] REGION_IDS = new String[GRID_SIZE * GRID_SIZE];
+    static {
+        for (int i = 0; i < REGION_IDS.length; i++) {
+            REGION_IDS[i] = (char) ('A' + i / GRID_SIZE) + String.valueOf(i % GRID_SIZE + 1);
+        }
+    }
 
     // Cache for supply status
     private final Map<String, SupplyLevel> supplyCache = new ConcurrentHashMap<>();
@@ -39,17 +63,34 @@ public final class RoadService {
     private volatile long lastRecalculationTime = 0;
     private static final long RECALCULATION_DEBOUNCE_MS = 3000; // 3 seconds
 
-    public RoadService(RoadDb db, RoundService roundService, RegionService regionService,
+    // Terrain auto-scan parameters
+    private static final UUID SYSTEM_UUID = UUID.fromString("00000000-0000-0000-0000-000000000000"); // System-placed
+    private static final int SCAN_START_Y = 52;
+    private static final int REGION_SCAN_AIR_THRESHOLD = 10;
+    private static final int AREA_SCAN_AIR_THRESHOLD = 100; // High threshold to catch elevated roads/bridges
+    private static final int SCAN_SOLID_THRESHOLD = 10;
+
+    public RoadService(RoadDb db, RoadScanner roadScanner, RoundService roundService, RegionService regionService,
                           ConfigManager configManager) {
         this.db = db;
+        this.roadScanner = roadScanner;
         this.roundService = roundService;
         this.regionService = regionService;
         this.configManager = configManager;
         this.logger = Bukkit.getLogger();
+
+        // Reload the road set whenever the round changes
+        roundService.addListener((change, previous, current) -> {
+            if (change == RoundService.RoundChange.STARTED || change == RoundService.RoundChange.ENDED) {
+                synchronized (roadBlockCache) {
+                    loadRoadBlocks(current.roundId());
+                }
+            }
+        });
     }
 
     private int getCurrentRoundId() {
-        return roundService.getCurrentRound().map(Round::roundId).orElse(-1);
+        return roundService.getCurrentRoundId();
     }
 
     private void log(String message) {
@@ -72,8 +113,7 @@ public final class RoadService {
         db.insertRoadBlock(roundId, regionId, x, y, z, playerUuid.toString(), team, now, true);
 
         // Update cache
-        RoadBlock block = new RoadBlock(x, y, z, regionId, playerUuid.toString(), team, now, true);
-        roadBlockCache.put(block.toKey(), block);
+        cacheRoadBlock(x, y, z, team, true);
 
         log("Road block placed at " + x + "," + y + "," + z + " by " + team + " in " + regionId);
 
@@ -99,8 +139,7 @@ public final class RoadService {
         db.insertRoadBlock(roundId, regionId, x, y, z, playerUuid.toString(), team, now, playerPlaced);
 
         // Update cache
-        RoadBlock block = new RoadBlock(x, y, z, regionId, playerUuid.toString(), team, now, playerPlaced);
-        roadBlockCache.put(block.toKey(), block);
+        cacheRoadBlock(x, y, z, team, playerPlaced);
 
         // NO recalculation - caller must call recalculateSupply() when done
     }
@@ -108,13 +147,19 @@ public final class RoadService {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return Optional.empty();
 
+        // Remove from cache; the cache holds every road block, so a miss means there is nothing to delete
+        synchronized (roadBlockCache) {
+            ensureLoaded(roundId);
+            int meta = roadBlockCache.remove(RoadBlockIndex.pack(x, y, z));
+            if (meta == RoadBlockIndex.NO_VALUE) {
+                return Optional.empty();
+            }
+            removeFromSupplyGraph(x, y, z, meta);
+        }
+
         // Remove from database and get team
         Optional<String> teamOpt = db.deleteRoadBlock(roundId, x, y, z);
 
-        // Remove from cache
-        String key = RoadBlock.toKey(x, y, z);
-        roadBlockCache.remove(key);
-
         if (teamOpt.isPresent()) {
             log("Road block removed at " + x + "," + y + "," + z + " owned by " + teamOpt.get());
             // Schedule debounced recalculation for affected team
@@ -166,20 +211,122 @@ public final class RoadService {
     public boolean isRoadBlock(int x, int y, int z) {
         return getRoadBlock(x, y, z).isPresent();
     }
+    /**
+     * Gets a tracked road block. Answered entirely from the in-memory road set, so a miss
+     * never touches roads.db. Returned blocks only carry coordinates, region, team and the
+     * player-placed flag (no placer UUID or timestamp).
+     */
     public Optional<RoadBlock> getRoadBlock(int x, int y, int z) {
-        String key = RoadBlock.toKey(x, y, z);
-
-        // Check cache first
-        RoadBlock cached = roadBlockCache.get(key);
-        if (cached != null) return Optional.of(cached);
-
-        // Fall back to database
         int roundId = getCurrentRoundId();
         if (roundId < 0) return Optional.empty();
 
-        Optional<RoadBlock> block = db.getRoadBlock(roundId, x, y, z);
-        block.ifPresent(b -> roadBlockCache.put(key, b));
-        return block;
+        int meta;
+        synchronized (roadBlockCache) {
+            ensureLoaded(roundId);
+            meta = roadBlockCache.get(RoadBlockIndex.pack(x, y, z));
+        }
+        if (meta == RoadBlockIndex.NO_VALUE) return Optional.empty();
+        return Optional.of(toRoadBlock(x, y, z, meta));
+    }
+
+    /**
+     * Loads the round's road blocks if the cache holds a different round.
+     * Must be called while holding the roadBlockCache monitor.
+     */
+    private void ensureLoaded(int roundId) {
+        if (loadedRoundId != roundId) {
+            loadRoadBlocks(roundId);
+        }
+    }
+
+    /**
+     * Replaces the cache contents with every road block of the given round.
+     * Must be called while holding the roadBlockCache monitor.
+     */
+    private void loadRoadBlocks(int roundId) {
+        roadBlockCache.clear();
+        cachedTeams.clear();
+        supplyGraph = null;
+        loadedRoundId = roundId;
+        if (roundId < 0) return;
+
+        List<RoadBlock> blocks = db.getAllRoadBlocks(roundId);
+        for (RoadBlock block : blocks) {
+            cacheRoadBlock(block.x(), block.y(), block.z(), block.team(), block.playerPlaced());
+        }
+        log("Loaded " + blocks.size() + " road blocks for round " + roundId);
+    }
+
+    /**
+     * Adds a block to the in-memory cache.
+     */
+    private void cacheRoadBlock(int x, int y, int z, String team, boolean playerPlaced) {
+        int regionIndex = getRegionIndexForLocation(x, z);
+        if (regionIndex < 0) return;
+
+        synchronized (roadBlockCache) {
+            int teamOrdinal = cachedTeams.indexOf(team);
+            if (teamOrdinal < 0) {
+                if (cachedTeams.size() > META_TEAM_MASK) return; // More teams than the meta can hold
+                teamOrdinal = cachedTeams.size();
+                cachedTeams.add(team);
+            }
+
+            int meta = teamOrdinal
+                    | (playerPlaced ? META_PLAYER_PLACED : 0)
+                    | (regionIndex << META_REGION_SHIFT);
+            int previous = roadBlockCache.put(RoadBlockIndex.pack(x, y, z), meta);
+
+            if (previous != RoadBlockIndex.NO_VALUE) removeFromSupplyGraph(x, y, z, previous);
+            addToSupplyGraph(x, y, z, meta);
+        }
+    }
+
+    // ==================== SUPPLY GRAPH ====================
+
+    /**
+     * Gets the supply graph for the round, rebuilding it from the road set if the round
+     * or the supply settings changed. Must be called while holding the roadBlockCache monitor.
+     */
+    private SupplyGraph getSupplyGraph(int roundId) {
+        ensureLoaded(roundId);
+
+        SupplyGraph.Settings settings = new SupplyGraph.Settings(
+                configManager.getSupplyAdjacencyRadius(),
+                configManager.getSupplyYTolerance(),
+                configManager.getSupplyBorderWidth(),
+                requirePlayerPlaced());
+
+        if (supplyGraph == null || !supplyGraph.settings().equals(settings)) {
+            supplyGraph = new SupplyGraph(GRID_SIZE, REGION_BLOCKS, settings);
+            roadBlockCache.forEach((key, meta) -> addToSupplyGraph(
+                    RoadBlockIndex.unpackX(key), RoadBlockIndex.unpackY(key), RoadBlockIndex.unpackZ(key), meta));
+            log("Rebuilt supply graph from " + roadBlockCache.size() + " road blocks");
+        }
+        return supplyGraph;
+    }
+
+    private void addToSupplyGraph(int x, int y, int z, int meta) {
+        if (supplyGraph == null || !countsForSupply(meta)) return;
+        supplyGraph.add(cachedTeams.get(meta & META_TEAM_MASK), x, y, z);
+    }
+
+    private void removeFromSupplyGraph(int x, int y, int z, int meta) {
+        if (supplyGraph == null || !countsForSupply(meta)) return;
+        supplyGraph.remove(cachedTeams.get(meta & META_TEAM_MASK), x, y, z);
+    }
+
+    private boolean countsForSupply(int meta) {
+        return !supplyGraph.settings().playerPlacedOnly() || (meta & META_PLAYER_PLACED) != 0;
+    }
+
+    private RoadBlock toRoadBlock(int x, int y, int z, int meta) {
+        String team;
+        synchronized (roadBlockCache) {
+            team = cachedTeams.get(meta & META_TEAM_MASK);
+        }
+        return new RoadBlock(x, y, z, REGION_IDS[meta >>> META_REGION_SHIFT], null, team, 0L,
+                (meta & META_PLAYER_PLACED) != 0);
     }
 
     // ==================== SUPPLY STATUS OPERATIONS ====================
@@ -416,8 +563,14 @@ public final class RoadService {
         if (homeRegion == null) return false;
         if (regionId.equals(homeRegion)) return false; // Home never has gaps
 
-        // Get all road blocks in this region (filtered by player-placed if configured)
-        List<RoadBlock> blocks = db.getRoadBlocksInRegion(roundId, regionId, team, requirePlayerPlaced());
+        int regionIndex = getRegionIndex(regionId);
+        if (regionIndex < 0) return false;
+
+        // Count road blocks in this region (filtered by player-placed if configured)
+        int blockCount;
+        synchronized (roadBlockCache) {
+            blockCount = getSupplyGraph(roundId).getBlockCount(team, regionIndex);
+        }
 
         // Minimum block threshold depends on whether we're filtering to player-placed only.
         // Player-placed roads are intentional, so even small counts are meaningful.
@@ -425,7 +578,7 @@ public final class RoadService {
         int minBlocksForGapCheck = requirePlayerPlaced() ? 5 : 20;
 
         // If few blocks, assume no meaningful gap
-        if (blocks.size() < minBlocksForGapCheck) return false;
+        if (blockCount < minBlocksForGapCheck) return false;
 
         // Find the entry region (the adjacent supplied region toward home)
         String entryRegion = findEntryRegion(regionId, team);
@@ -433,88 +586,46 @@ public final class RoadService {
             // Can't find entry - don't flag as gap, let other checks handle it
             return false;
         }
+        int entryIndex = getRegionIndex(entryRegion);
 
-        // Get border area with entry region
-        int[] entryBorder = getBorderArea(regionId, entryRegion);
-        if (entryBorder == null) return false;
-
-        // Find blocks at the entry border
-        List<RoadBlock> entryBlocks = blocks.stream()
-                .filter(b -> isInBorderArea(b, entryBorder))
-                .toList();
+        // Count blocks at the entry border, and blocks whose road component reaches it
+        int entryBlocks;
+        int reachable;
+        synchronized (roadBlockCache) {
+            SupplyGraph graph = getSupplyGraph(roundId);
+            entryBlocks = graph.getBorderBlockCount(team, regionIndex, entryIndex);
+            reachable = graph.getReachableFromBorder(team, regionIndex, entryIndex);
+        }
 
         // If no blocks at entry, that's handled by checkBorderRoadConnection
-        if (entryBlocks.isEmpty()) return false;
-
-        // Use A* flood-fill to count reachable blocks from entry
-        int xzRadius = configManager.getSupplyAdjacencyRadius();
-        int yTolerance = configManager.getSupplyYTolerance();
-
-        Map<String, RoadBlock> spatialIndex = buildSpatialIndex(blocks);
-
-        Set<String> reachable = new HashSet<>();
-        Queue<String> queue = new LinkedList<>();
-
-        // Start from entry blocks
-        for (RoadBlock entry : entryBlocks) {
-            String key = entry.toKey();
-            queue.add(key);
-            reachable.add(key);
-        }
-
-        // Flood fill with sufficient iterations
-        // Each iteration processes one block, so we need at least blocks.size() iterations
-        // to potentially reach all blocks. Add extra headroom for complex paths.
-        int maxIterations = Math.max(blocks.size() * 3, 5000);
-        int iterations = 0;
-
-        while (!queue.isEmpty() && iterations < maxIterations) {
-            iterations++;
-            String currentKey = queue.poll();
-            RoadBlock current = spatialIndex.get(currentKey);
-            if (current == null) continue;
-
-            // Check neighbors efficiently
-            for (int dx = -xzRadius; dx <= xzRadius; dx++) {
-                for (int dz = -xzRadius; dz <= xzRadius; dz++) {
-                    for (int dy = -yTolerance; dy <= yTolerance; dy++) {
-                        if (dx == 0 && dy == 0 && dz == 0) continue;
-                        String neighborKey = RoadBlock.toKey(current.x() + dx, current.y() + dy, current.z() + dz);
-                        if (spatialIndex.containsKey(neighborKey) && !reachable.contains(neighborKey)) {
-                            reachable.add(neighborKey);
-                            queue.add(neighborKey);
-                        }
-                    }
-                }
-            }
-        }
+        if (entryBlocks == 0) return false;
 
         // Gap detection thresholds depend on whether we're using player-placed-only mode.
         // Player-placed blocks are intentional - disconnections are real gaps.
         // Auto-scanned blocks include terrain noise requiring very lenient thresholds.
-        double reachablePercent = (double) reachable.size() / blocks.size();
+        double reachablePercent = (double) reachable / blockCount;
         boolean playerPlacedOnly = requirePlayerPlaced();
 
         logger.info("[RoadService] hasRoadGapsInRegion " + regionId + ": " +
-                reachable.size() + "/" + blocks.size() + " reachable (" +
-                String.format("%.1f%%", reachablePercent * 100) + "), entryBlocks=" + entryBlocks.size() +
+                reachable + "/" + blockCount + " reachable (" +
+                String.format("%.1f%%", reachablePercent * 100) + "), entryBlocks=" + entryBlocks +
                 ", entryRegion=" + entryRegion + ", playerPlacedOnly=" + playerPlacedOnly);
 
         boolean hasGap;
         if (playerPlacedOnly) {
             // Tighter thresholds for player-placed roads:
             // Gap if less than 60% reachable, at least 5 total blocks, at least 1 entry block
-            hasGap = reachablePercent < 0.60 && blocks.size() >= 5 && entryBlocks.size() >= 1;
+            hasGap = reachablePercent < 0.60 && blockCount >= 5 && entryBlocks >= 1;
         } else {
             // Lenient thresholds for auto-scanned roads (includes terrain noise):
             // Gap only if less than 15% reachable, at least 100 total, at least 10 entry blocks
-            hasGap = reachablePercent < 0.15 && blocks.size() >= 100 && entryBlocks.size() >= 10;
+            hasGap = reachablePercent < 0.15 && blockCount >= 100 && entryBlocks >= 10;
         }
 
         if (hasGap) {
             logger.info("[RoadService] Gap detected in " + regionId + ": only " +
                     String.format("%.1f%%", reachablePercent * 100) + " reachable (" +
-                    reachable.size() + "/" + blocks.size() + ")");
+                    reachable + "/" + blockCount + ")");
             return true;
         }
 
@@ -545,18 +656,18 @@ public final class RoadService {
     /**
      * Quick check if there are road blocks at the border between two regions.
      * This is a fast check that doesn't do full pathfinding.
-     * Uses COUNT query for efficiency instead of loading all blocks.
      */
     private boolean hasRoadBlocksAtBorder(String region1, String region2, String team) {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return false;
 
-        int[] border = getBorderArea(region1, region2);
-        if (border == null) return false;
+        int index1 = getRegionIndex(region1);
+        int index2 = getRegionIndex(region2);
+        if (index1 < 0 || index2 < 0) return false;
 
-        // Use count query - much faster than loading all blocks just to check presence
-        int count = db.countRoadBlocksInArea(roundId, border[0], border[1], border[2], border[3], team, requirePlayerPlaced());
-        return count > 0;
+        synchronized (roadBlockCache) {
+            return getSupplyGraph(roundId).hasBlocksAtBorder(team, index1, index2);
+        }
     }
 
     // ==================== ROAD CONNECTIVITY ====================
@@ -655,7 +766,7 @@ public final class RoadService {
 
     /**
      * Verifies that there is a CONTINUOUS road through a region from one border to another.
-     * Uses pathfinding to trace actual road blocks, not just checking border presence.
+     * Uses the connected road components, not just checking border presence.
      *
      * @param regionId The region to check
      * @param entryRegion The region the road comes FROM
@@ -673,72 +784,15 @@ public final class RoadService {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return false;
 
-        int xzRadius = configManager.getSupplyAdjacencyRadius();
-        int yTolerance = configManager.getSupplyYTolerance();
-
-        // Get all road blocks in this region (filtered by player-placed if configured)
-        List<RoadBlock> allBlocks = db.getRoadBlocksInRegion(roundId, regionId, team, requirePlayerPlaced());
-        if (allBlocks.isEmpty()) return false;
-
-        // Get the border areas
-        int[] entryBorder = getBorderArea(regionId, entryRegion);
-        int[] exitBorder = getBorderArea(regionId, exitRegion);
-        if (entryBorder == null || exitBorder == null) return false;
-
-        // Find blocks at the entry border (within this region)
-        List<RoadBlock> entryBlocks = allBlocks.stream()
-                .filter(b -> isInBorderArea(b, entryBorder))
-                .toList();
-
-        // Find blocks at the exit border (within this region)
-        List<RoadBlock> exitBlocks = allBlocks.stream()
-                .filter(b -> isInBorderArea(b, exitBorder))
-                .toList();
-
-        if (entryBlocks.isEmpty() || exitBlocks.isEmpty()) {
-            return false;
-        }
-
-        // Build spatial index for O(1) neighbor lookups
-        Map<String, RoadBlock> spatialIndex = buildSpatialIndex(allBlocks);
-
-        // BFS from entry blocks to see if we can reach any exit block
-        Set<String> exitKeys = exitBlocks.stream().map(RoadBlock::toKey).collect(Collectors.toSet());
-        Set<String> visited = new HashSet<>();
-        Queue<String> bfsQueue = new LinkedList<>();
-        int maxIterations = Math.max(allBlocks.size() * 2, 5000); // Scale with block count
-        int iterations = 0;
-
-        // Start from all entry blocks
-        for (RoadBlock entry : entryBlocks) {
-            String key = entry.toKey();
-            bfsQueue.add(key);
-            visited.add(key);
-        }
-
-        while (!bfsQueue.isEmpty() && iterations < maxIterations) {
-            iterations++;
-            String currentKey = bfsQueue.poll();
-
-            // Check if we've reached an exit block
-            if (exitKeys.contains(currentKey)) {
-                return true; // Found a continuous path!
-            }
+        int regionIndex = getRegionIndex(regionId);
+        int entryIndex = getRegionIndex(entryRegion);
+        int exitIndex = getRegionIndex(exitRegion);
+        if (regionIndex < 0 || entryIndex < 0 || exitIndex < 0) return false;
 
-            RoadBlock current = spatialIndex.get(currentKey);
-            if (current == null) continue;
-
-            // Explore neighbors using spatial index with flexible Y tolerance
-            Set<String> neighbors = getNeighbors(current, spatialIndex, xzRadius, yTolerance);
-            for (String neighbor : neighbors) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    bfsQueue.add(neighbor);
-                }
-            }
+        // A single road component in this region must touch both the entry and exit borders
+        synchronized (roadBlockCache) {
+            return getSupplyGraph(roundId).connectsBorders(team, regionIndex, entryIndex, exitIndex);
         }
-
-        return false; // No continuous path found through this region
     }
 
     /**
@@ -750,349 +804,60 @@ public final class RoadService {
     }
 
     /**
-     * Builds a spatial index for O(1) neighbor lookups.
-     */
-    private Map<String, RoadBlock> buildSpatialIndex(List<RoadBlock> blocks) {
-        Map<String, RoadBlock> index = new HashMap<>();
-        for (RoadBlock block : blocks) {
-            index.put(block.toKey(), block);
-        }
-        return index;
-    }
-
-    /**
-     * Builds a chunk-based spatial index for efficient neighbor lookups.
-     * Groups blocks into chunks for faster proximity searches.
-     */
-    private Map<String, List<RoadBlock>> buildChunkIndex(List<RoadBlock> blocks, int chunkSize) {
-        Map<String, List<RoadBlock>> index = new HashMap<>();
-        for (RoadBlock block : blocks) {
-            String chunkKey = (block.x() / chunkSize) + "," + (block.z() / chunkSize);
-            index.computeIfAbsent(chunkKey, k -> new ArrayList<>()).add(block);
-        }
-        return index;
-    }
-
-    /**
-     * Gets neighbors for a block using chunk-based spatial index.
-     * Much faster than O(n³) iteration - only checks blocks in nearby chunks.
+     * Gets the indices of the blocks that lie within a border area.
      */
-    private Set<String> getNeighbors(RoadBlock block, Map<String, RoadBlock> spatialIndex,
-                                     Map<String, List<RoadBlock>> chunkIndex, int xzRadius, int yTolerance) {
-        Set<String> neighbors = new HashSet<>();
-
-        // Calculate which chunks to check
-        int chunkSize = Math.max(xzRadius * 2, 16);
-        int blockChunkX = block.x() / chunkSize;
-        int blockChunkZ = block.z() / chunkSize;
-
-        // Check surrounding chunks (including current chunk)
-        for (int cx = blockChunkX - 1; cx <= blockChunkX + 1; cx++) {
-            for (int cz = blockChunkZ - 1; cz <= blockChunkZ + 1; cz++) {
-                String chunkKey = cx + "," + cz;
-                List<RoadBlock> chunkBlocks = chunkIndex.get(chunkKey);
-                if (chunkBlocks == null) continue;
-
-                for (RoadBlock other : chunkBlocks) {
-                    if (other.toKey().equals(block.toKey())) continue;
-
-                    // Check if within radius
-                    int dx = Math.abs(other.x() - block.x());
-                    int dy = Math.abs(other.y() - block.y());
-                    int dz = Math.abs(other.z() - block.z());
-
-                    if (dx <= xzRadius && dy <= yTolerance && dz <= xzRadius) {
-                        neighbors.add(other.toKey());
-                    }
-                }
+    private BitSet findBlocksInBorderArea(List<RoadBlock> blocks, int[] border) {
+        BitSet result = new BitSet(blocks.size());
+        for (int i = 0; i < blocks.size(); i++) {
+            if (isInBorderArea(blocks.get(i), border)) {
+                result.set(i);
             }
         }
-        return neighbors;
+        return result;
     }
 
     /**
-     * Gets neighbors for a block using spatial index (O(1) per neighbor check).
-     * Uses separate X/Z radius and Y tolerance for terrain flexibility.
-     *
-     * OPTIMIZATION: Instead of iterating all possible coordinates (expensive with large Y tolerance),
-     * we only check common neighbor offsets (adjacent blocks, cardinal directions).
-     * For large Y tolerances, we sample key Y levels rather than checking every single one.
+     * Checks if the team's roads cross the border between two adjacent regions, i.e. a road
+     * block on one side is within the adjacency range of one on the other side.
      */
-    private Set<String> getNeighbors(RoadBlock block, Map<String, RoadBlock> spatialIndex, int xzRadius, int yTolerance) {
-        Set<String> neighbors = new HashSet<>();
-
-        // Optimization: For performance, we use a smarter neighbor search
-        // Instead of checking ALL (2*xzRadius+1)*(2*yTolerance+1)*(2*xzRadius+1) positions,
-        // we check a reduced set of positions that are most likely to contain road blocks
-
-        // Sample Y levels: check current Y, +/- small increments, and extremes
-        int[] yOffsets;
-        if (yTolerance <= 3) {
-            // Small tolerance - check all
-            yOffsets = new int[yTolerance * 2 + 1];
-            for (int i = 0; i <= yTolerance * 2; i++) {
-                yOffsets[i] = i - yTolerance;
-            }
-        } else {
-            // Large tolerance - sample key levels (same level, ±1, ±2, ±4, ±8, ±16, ±max)
-            Set<Integer> ySet = new java.util.TreeSet<>();
-            ySet.add(0);
-            for (int step : new int[]{1, 2, 3, 4, 6, 8, 12, 16, 24, 32}) {
-                if (step <= yTolerance) {
-                    ySet.add(step);
-                    ySet.add(-step);
-                }
-            }
-            yOffsets = ySet.stream().mapToInt(Integer::intValue).toArray();
-        }
-
-        // Check all XZ positions within radius, but only sampled Y positions
-        for (int dx = -xzRadius; dx <= xzRadius; dx++) {
-            for (int dz = -xzRadius; dz <= xzRadius; dz++) {
-                for (int dy : yOffsets) {
-                    if (dx == 0 && dy == 0 && dz == 0) continue;
-                    String neighborKey = RoadBlock.toKey(block.x() + dx, block.y() + dy, block.z() + dz);
-                    if (spatialIndex.containsKey(neighborKey)) {
-                        neighbors.add(neighborKey);
-                    }
-                }
-            }
-        }
-        return neighbors;
-    }
-
-    /**
-     * Gets neighbors for a block using spatial index with same radius for all axes.
-     * @deprecated Use getNeighbors(block, spatialIndex, xzRadius, yTolerance) instead
-     */
-    private Set<String> getNeighbors(RoadBlock block, Map<String, RoadBlock> spatialIndex, int radius) {
-        return getNeighbors(block, spatialIndex, radius, radius);
-    }
     public boolean checkBorderRoadConnection(String region1, String region2, String team) {
         int roundId = getCurrentRoundId();
         if (roundId < 0) {
             return false;
         }
 
-        // Get the border area between the two regions
-        int[] border = getBorderArea(region1, region2);
-        if (border == null) {
-            return false;
-        }
-
-        boolean playerPlacedOnly = requirePlayerPlaced();
-        int minX = border[0], maxX = border[1], minZ = border[2], maxZ = border[3];
-
-        // Get road blocks in the border area (filtered by player-placed if configured)
-        List<RoadBlock> borderBlocks = db.getRoadBlocksInArea(roundId, minX, maxX, minZ, maxZ, team, playerPlacedOnly);
-
-        int xzRadius = configManager.getSupplyAdjacencyRadius();
-        int yTolerance = configManager.getSupplyYTolerance();
-
-        // If we have blocks in the border area, do the standard check
-        if (!borderBlocks.isEmpty()) {
-            // Get blocks that are in region1 (just inside the border)
-            List<RoadBlock> region1BorderBlocks = borderBlocks.stream()
-                    .filter(b -> isBlockInRegion(b, region1))
-                    .toList();
-
-            // Get blocks that are in region2 (just inside the border)
-            List<RoadBlock> region2BorderBlocks = borderBlocks.stream()
-                    .filter(b -> isBlockInRegion(b, region2))
-                    .toList();
-
-            // If we have blocks on both sides of the border, check if they connect
-            if (!region1BorderBlocks.isEmpty() && !region2BorderBlocks.isEmpty()) {
-                // Build spatial index for O(1) neighbor lookups
-                Map<String, RoadBlock> spatialIndex = buildSpatialIndex(borderBlocks);
-
-                // BFS from any region1 block to see if we can reach any region2 block
-                Set<String> region2Keys = region2BorderBlocks.stream()
-                        .map(RoadBlock::toKey)
-                        .collect(Collectors.toSet());
-
-                Set<String> visited = new HashSet<>();
-                Queue<String> queue = new LinkedList<>();
-
-                // Start from all region1 blocks
-                for (RoadBlock r1Block : region1BorderBlocks) {
-                    String key = r1Block.toKey();
-                    queue.add(key);
-                    visited.add(key);
-                }
-
-                int maxIterations = 2000; // Increased limit for thorough checking
-                int iterations = 0;
-
-                while (!queue.isEmpty() && iterations < maxIterations) {
-                    iterations++;
-                    String currentKey = queue.poll();
-
-                    // Check if we've reached a region2 block
-                    if (region2Keys.contains(currentKey)) {
-                        return true; // Found a path!
-                    }
-
-                    RoadBlock current = spatialIndex.get(currentKey);
-                    if (current == null) continue;
-
-                    // Explore neighbors using spatial index with flexible Y tolerance
-                    Set<String> neighbors = getNeighbors(current, spatialIndex, xzRadius, yTolerance);
-                    for (String neighbor : neighbors) {
-                        if (!visited.contains(neighbor)) {
-                            visited.add(neighbor);
-                            queue.add(neighbor);
-                        }
-                    }
-                }
-
-                // No "assume connected" shortcut - if BFS couldn't find a path, it's not connected
-            }
-        }
-
-        // FALLBACK: If standard border check failed, try extended check
-        // Look for road blocks NEAR the border that could connect via pathfinding
-        // This handles cases where the road doesn't quite reach the border line
-
-        // Get all road blocks in both regions (filtered by player-placed if configured)
-        List<RoadBlock> region1Blocks = db.getRoadBlocksInRegion(roundId, region1, team, playerPlacedOnly);
-        List<RoadBlock> region2Blocks = db.getRoadBlocksInRegion(roundId, region2, team, playerPlacedOnly);
-
-        if (region1Blocks.isEmpty() || region2Blocks.isEmpty()) {
-            return false;
-        }
-
-        // Find the closest blocks to the border in each region
-        // Extended border area - look a bit further into each region (2x, tighter than before)
-        int extendedWidth = configManager.getSupplyBorderWidth() * 2;
-        int[] extendedBorder = getExtendedBorderArea(region1, region2, extendedWidth);
-        if (extendedBorder == null) return false;
-
-        // Get blocks near the border (extended area)
-        List<RoadBlock> region1NearBorder = region1Blocks.stream()
-                .filter(b -> isInExtendedBorderArea(b, extendedBorder, region1))
-                .toList();
-
-        List<RoadBlock> region2NearBorder = region2Blocks.stream()
-                .filter(b -> isInExtendedBorderArea(b, extendedBorder, region2))
-                .toList();
-
-        if (region1NearBorder.isEmpty() || region2NearBorder.isEmpty()) {
+        int index1 = getRegionIndex(region1);
+        int index2 = getRegionIndex(region2);
+        if (index1 < 0 || index2 < 0) {
             return false;
         }
 
-        // Check if any block from region1 is within adjacency radius of any block in region2
-        // Tightened: use normal adjacency radius instead of doubled
-        for (RoadBlock b1 : region1NearBorder) {
-            for (RoadBlock b2 : region2NearBorder) {
-                int dx = Math.abs(b1.x() - b2.x());
-                int dz = Math.abs(b1.z() - b2.z());
-                int dy = Math.abs(b1.y() - b2.y());
-
-                // If blocks are within adjacency range, consider them connected
-                if (dx <= xzRadius && dz <= xzRadius && dy <= yTolerance) {
-                    return true;
-                }
-            }
-        }
-
-        return false; // No connection found
-    }
-
-    /**
-     * Gets an extended border area for fallback connection checking.
-     */
-    private int[] getExtendedBorderArea(String region1, String region2, int extendedWidth) {
-        // Parse region IDs (e.g., "A1", "B2")
-        if (region1.length() < 2 || region2.length() < 2) return null;
-
-        char row1 = region1.charAt(0);
-        int col1 = Integer.parseInt(region1.substring(1));
-        char row2 = region2.charAt(0);
-        int col2 = Integer.parseInt(region2.substring(1));
-
-        // Calculate region bounds
-        int region1MinX = (col1 - 1) * REGION_BLOCKS - HALF_SIZE;
-        int region1MaxX = col1 * REGION_BLOCKS - HALF_SIZE - 1;
-        int region1MinZ = (row1 - 'A') * REGION_BLOCKS - HALF_SIZE;
-        int region1MaxZ = (row1 - 'A' + 1) * REGION_BLOCKS - HALF_SIZE - 1;
-
-        if (col1 == col2 && Math.abs(row1 - row2) == 1) {
-            // Vertical neighbors (N/S)
-            int borderZ = (row1 < row2) ? region1MaxZ : region1MinZ;
-            return new int[]{
-                    region1MinX, region1MaxX,
-                    borderZ - extendedWidth, borderZ + extendedWidth
-            };
-        } else if (row1 == row2 && Math.abs(col1 - col2) == 1) {
-            // Horizontal neighbors (E/W)
-            int borderX = (col1 < col2) ? region1MaxX : region1MinX;
-            return new int[]{
-                    borderX - extendedWidth, borderX + extendedWidth,
-                    region1MinZ, region1MaxZ
-            };
+        synchronized (roadBlockCache) {
+            return getSupplyGraph(roundId).isBorderConnected(team, index1, index2);
         }
-
-        return null;
-    }
-
-    /**
-     * Checks if a block is in the extended border area for a specific region.
-     */
-    private boolean isInExtendedBorderArea(RoadBlock block, int[] extendedBorder, String regionId) {
-        // First check if it's in the extended border area
-        if (block.x() < extendedBorder[0] || block.x() > extendedBorder[1]) return false;
-        if (block.z() < extendedBorder[2] || block.z() > extendedBorder[3]) return false;
-
-        // Then check if it's actually in the specified region
-        return isBlockInRegion(block, regionId);
     }
 
-    /**
-     * Checks if a road block is within a specific region.
-     */
-    private boolean isBlockInRegion(RoadBlock block, String regionId) {
-        String blockRegion = getRegionIdForLocation(block.x(), block.z());
-        return regionId.equals(blockRegion);
-    }
     public int[] getBorderAreaPublic(String region1, String region2) {
         return getBorderArea(region1, region2);
     }
-    public int scanBorderArea(String region1, String region2, String team, org.bukkit.World world) {
+    /**
+     * Scans the border area between two regions for path blocks and registers them.
+     * The world is read off the main thread; the future completes with the number of new blocks.
+     */
+    public CompletableFuture<Integer> scanBorderArea(String region1, String region2, String team, org.bukkit.World world) {
         int[] border = getBorderArea(region1, region2);
-        if (border == null) return 0;
-
-        // Get valid path block types from config
-        List<String> pathBlockNames = configManager.getSupplyPathBlocks();
-        Set<org.bukkit.Material> pathBlocks = new java.util.HashSet<>();
-        if (pathBlockNames == null || pathBlockNames.isEmpty()) {
-            pathBlocks.add(org.bukkit.Material.DIRT_PATH);
-            pathBlocks.add(org.bukkit.Material.GRAVEL);
-            pathBlocks.add(org.bukkit.Material.COBBLESTONE);
-            pathBlocks.add(org.bukkit.Material.STONE_BRICKS);
-            pathBlocks.add(org.bukkit.Material.POLISHED_ANDESITE);
-        } else {
-            for (String name : pathBlockNames) {
-                try {
-                    pathBlocks.add(org.bukkit.Material.valueOf(name.toUpperCase()));
-                } catch (IllegalArgumentException ignored) {}
-            }
-        }
-
-        UUID systemUuid = UUID.fromString("00000000-0000-0000-0000-000000000000");
+        if (border == null) return CompletableFuture.completedFuture(0);
 
         logger.info("[RoadService] Scanning border " + region1 + "<->" + region2 +
                 ": X[" + border[0] + " to " + border[1] + "] Z[" + border[2] + " to " + border[3] + "]");
 
-        int found = scanAreaForRoads(border[0], border[1], border[2], border[3],
-                world, pathBlocks, systemUuid, team);
-
-        logger.info("[RoadService] Found " + found + " road blocks at border " + region1 + "<->" + region2);
-
-        return found;
+        return scanAreaForRoads(border[0], border[1], border[2], border[3], world, getPathBlockTypes(), team)
+                .thenApply(found -> {
+                    logger.info("[RoadService] Found " + found + " road blocks at border " + region1 + "<->" + region2);
+                    return found;
+                });
     }
 
-
     /**
      * Gets the border area between two adjacent regions.
      * Returns [minX, maxX, minZ, maxZ] or null if not adjacent.
@@ -1178,76 +943,61 @@ public final class RoadService {
             }
         }
 
-        // Build spatial index and chunk index
+        // Build spatial index
         int xzRadius = configManager.getSupplyAdjacencyRadius();
         int yTolerance = configManager.getSupplyYTolerance();
-        int chunkSize = Math.max(xzRadius * 2, 16);
-
-        Map<String, RoadBlock> spatialIndex = new HashMap<>();
-        for (RoadBlock block : blocks) {
-            spatialIndex.put(block.toKey(), block);
-        }
-        Map<String, List<RoadBlock>> chunkIndex = buildChunkIndex(blocks, chunkSize);
+        RoadSpatialIndex spatialIndex = new RoadSpatialIndex(blocks);
 
         // Find border blocks (connected to adjacent regions)
-        Set<String> borderBlockKeys = new HashSet<>();
-        Map<String, String> blockToBorder = new HashMap<>(); // Which border each block touches
+        BitSet borderBlocks = new BitSet(blocks.size());
+        Map<RoadBlock, String> blockToBorder = new IdentityHashMap<>(); // Which border each block touches
         for (String adj : adjacentOwned) {
             int[] border = getBorderArea(regionId, adj);
             if (border == null) continue;
 
-            for (RoadBlock block : blocks) {
-                if (isInBorderArea(block, border)) {
-                    borderBlockKeys.add(block.toKey());
-                    blockToBorder.put(block.toKey(), adj);
+            for (int i = 0; i < blocks.size(); i++) {
+                if (isInBorderArea(blocks.get(i), border)) {
+                    borderBlocks.set(i);
+                    blockToBorder.put(blocks.get(i), adj);
                 }
             }
         }
 
         // Use union-find to find connected components
-        Map<String, String> parent = new HashMap<>();
-        for (RoadBlock block : blocks) {
-            parent.put(block.toKey(), block.toKey());
+        int[] parent = new int[blocks.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
         }
 
-        final java.util.function.Function<String, String>[] findRef = new java.util.function.Function[1];
-        findRef[0] = key -> {
-            if (!parent.get(key).equals(key)) {
-                parent.put(key, findRef[0].apply(parent.get(key)));
-            }
-            return parent.get(key);
-        };
-
         // Union neighboring blocks
-        for (RoadBlock block : blocks) {
-            Set<String> neighbors = getNeighbors(block, spatialIndex, chunkIndex, xzRadius, yTolerance);
-            String blockRoot = findRef[0].apply(block.toKey());
-            for (String neighborKey : neighbors) {
-                String neighborRoot = findRef[0].apply(neighborKey);
-                if (!blockRoot.equals(neighborRoot)) {
-                    parent.put(neighborRoot, blockRoot);
+        for (int i = 0; i < blocks.size(); i++) {
+            final int block = i;
+            spatialIndex.forEachNeighbor(block, xzRadius, yTolerance, neighbor -> {
+                int blockRoot = findRoot(parent, block);
+                int neighborRoot = findRoot(parent, neighbor);
+                if (blockRoot != neighborRoot) {
+                    parent[neighborRoot] = blockRoot;
                 }
-            }
+            });
         }
 
         // Group blocks by connected component
-        Map<String, List<RoadBlock>> components = new HashMap<>();
-        for (RoadBlock block : blocks) {
-            String root = findRef[0].apply(block.toKey());
-            components.computeIfAbsent(root, k -> new ArrayList<>()).add(block);
+        Map<Integer, List<RoadBlock>> components = new HashMap<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            components.computeIfAbsent(findRoot(parent, i), k -> new ArrayList<>()).add(blocks.get(i));
         }
 
         // Identify which components are part of the supply line (touch a border)
-        Set<String> supplyLineComponents = new HashSet<>();
-        for (String borderKey : borderBlockKeys) {
-            supplyLineComponents.add(findRef[0].apply(borderKey));
+        Set<Integer> supplyLineComponents = new HashSet<>();
+        for (int i = borderBlocks.nextSetBit(0); i >= 0; i = borderBlocks.nextSetBit(i + 1)) {
+            supplyLineComponents.add(findRoot(parent, i));
         }
 
         // Sort components: supply line first (by size), then isolated (by size)
         List<List<RoadBlock>> supplyComponents = new ArrayList<>();
         List<List<RoadBlock>> isolatedComponents = new ArrayList<>();
 
-        for (Map.Entry<String, List<RoadBlock>> entry : components.entrySet()) {
+        for (Map.Entry<Integer, List<RoadBlock>> entry : components.entrySet()) {
             if (supplyLineComponents.contains(entry.getKey())) {
                 supplyComponents.add(entry.getValue());
             } else {
@@ -1269,7 +1019,7 @@ public final class RoadService {
                 // Find which borders this segment touches
                 Set<String> touchedBorders = new HashSet<>();
                 for (RoadBlock block : component) {
-                    String border = blockToBorder.get(block.toKey());
+                    String border = blockToBorder.get(block);
                     if (border != null) touchedBorders.add(border);
                 }
 
@@ -1356,10 +1106,8 @@ public final class RoadService {
         debug.add("Entry border area: X[" + entryBorder[0] + " to " + entryBorder[1] + "] Z[" + entryBorder[2] + " to " + entryBorder[3] + "]");
 
         // Find blocks at the entry border
-        List<RoadBlock> entryBlocks = blocks.stream()
-                .filter(b -> isInBorderArea(b, entryBorder))
-                .toList();
-        debug.add("Blocks at entry border: " + entryBlocks.size());
+        BitSet entryBlocks = findBlocksInBorderArea(blocks, entryBorder);
+        debug.add("Blocks at entry border: " + entryBlocks.cardinality());
 
         if (entryBlocks.isEmpty()) {
             debug.add("No blocks at entry border - gap detection skipped");
@@ -1369,52 +1117,28 @@ public final class RoadService {
 
         // Show first few entry blocks
         int shown = 0;
-        for (RoadBlock b : entryBlocks) {
-            if (shown++ >= 3) break;
+        for (int i = entryBlocks.nextSetBit(0); i >= 0 && shown < 3; i = entryBlocks.nextSetBit(i + 1), shown++) {
+            RoadBlock b = blocks.get(i);
             debug.add("  Entry block: " + b.x() + ", " + b.y() + ", " + b.z());
         }
 
         // Build spatial index
         int xzRadius = configManager.getSupplyAdjacencyRadius();
         int yTolerance = configManager.getSupplyYTolerance();
-        int chunkSize = Math.max(xzRadius * 2, 16);
 
         debug.add("Adjacency settings: xzRadius=" + xzRadius + ", yTolerance=" + yTolerance);
 
-        Map<String, RoadBlock> spatialIndex = buildSpatialIndex(blocks);
-        Map<String, List<RoadBlock>> chunkIndex = buildChunkIndex(blocks, chunkSize);
+        RoadSpatialIndex spatialIndex = new RoadSpatialIndex(blocks);
 
         // BFS from entry blocks
-        Set<String> connectedToEntry = new HashSet<>();
-        Queue<String> queue = new LinkedList<>();
+        BitSet connectedToEntry = new BitSet(blocks.size());
         int maxIterations = Math.min(blocks.size() * 2, 5000);
-        int iterations = 0;
+        spatialIndex.floodFill(entryBlocks, null, connectedToEntry, maxIterations, xzRadius, yTolerance);
 
-        for (RoadBlock entry : entryBlocks) {
-            String key = entry.toKey();
-            queue.add(key);
-            connectedToEntry.add(key);
-        }
-
-        while (!queue.isEmpty() && iterations < maxIterations) {
-            iterations++;
-            String currentKey = queue.poll();
-            RoadBlock current = spatialIndex.get(currentKey);
-            if (current == null) continue;
+        debug.add("BFS iteration limit: " + maxIterations);
+        debug.add("Blocks connected to entry: " + connectedToEntry.cardinality() + " / " + blocks.size());
 
-            Set<String> neighbors = getNeighbors(current, spatialIndex, chunkIndex, xzRadius, yTolerance);
-            for (String neighborKey : neighbors) {
-                if (!connectedToEntry.contains(neighborKey)) {
-                    connectedToEntry.add(neighborKey);
-                    queue.add(neighborKey);
-                }
-            }
-        }
-
-        debug.add("BFS iterations: " + iterations + " (max: " + maxIterations + ")");
-        debug.add("Blocks connected to entry: " + connectedToEntry.size() + " / " + blocks.size());
-
-        int disconnectedCount = blocks.size() - connectedToEntry.size();
+        int disconnectedCount = blocks.size() - connectedToEntry.cardinality();
         debug.add("Disconnected blocks: " + disconnectedCount);
 
         double disconnectedPercent = (double) disconnectedCount / blocks.size() * 100;
@@ -1433,20 +1157,30 @@ public final class RoadService {
             debug.add("");
             debug.add("Sample disconnected blocks:");
             int count = 0;
-            for (RoadBlock block : blocks) {
-                if (!connectedToEntry.contains(block.toKey())) {
-                    if (count++ >= 5) {
-                        debug.add("  ... and " + (disconnectedCount - 5) + " more");
-                        break;
-                    }
-                    debug.add("  " + block.x() + ", " + block.y() + ", " + block.z());
+            for (int i = connectedToEntry.nextClearBit(0); i < blocks.size(); i = connectedToEntry.nextClearBit(i + 1)) {
+                if (count++ >= 5) {
+                    debug.add("  ... and " + (disconnectedCount - 5) + " more");
+                    break;
                 }
+                RoadBlock block = blocks.get(i);
+                debug.add("  " + block.x() + ", " + block.y() + ", " + block.z());
             }
         }
 
         return debug;
     }
 
+    /**
+     * Union-find root lookup with path halving.
+     */
+    private static int findRoot(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
     /**
      * Gets the bounding box of a component [minX, maxX, minY, maxY, minZ, maxZ].
      */
@@ -1532,11 +1266,17 @@ public final class RoadService {
     }
 
     // ==================== AUTO-SCANNING ====================
-    public int scanRegionForRoads(String regionId, String team, org.bukkit.World world) {
+
+    /**
+     * Scans a region for existing path blocks and registers them for the team, then scans the
+     * borders of adjacent owned regions. The world is read off the main thread; the future
+     * completes (on a scan worker thread) with the number of new blocks.
+     */
+    public CompletableFuture<Integer> scanRegionForRoads(String regionId, String team, org.bukkit.World world) {
         int roundId = getCurrentRoundId();
         if (roundId < 0) {
             logger.warning("[RoadService] Cannot scan region - no active round!");
-            return 0;
+            return CompletableFuture.completedFuture(0);
         }
 
         // When player-placed-only mode is active, auto-scanning terrain blocks is pointless
@@ -1548,24 +1288,60 @@ public final class RoadService {
             // This handles the recapture scenario: Red builds road → Blue captures → Red recaptures
             // Red's old road blocks still exist in DB and should reconnect supply
             recalculateSupply(team);
-            return 0;
+            return CompletableFuture.completedFuture(0);
         }
 
         if (world == null) {
             logger.warning("[RoadService] Cannot scan region - world is null!");
-            return 0;
+            return CompletableFuture.completedFuture(0);
         }
 
         // Get region bounds
         int[] bounds = getRegionBounds(regionId);
         if (bounds == null) {
             logger.warning("[RoadService] Cannot scan region - invalid region ID: " + regionId);
-            return 0;
+            return CompletableFuture.completedFuture(0);
         }
 
-        int minX = bounds[0], maxX = bounds[1], minZ = bounds[2], maxZ = bounds[3];
+        Set<org.bukkit.Material> pathBlocks = getPathBlockTypes();
 
-        // Get valid path block types from config
+        return roadScanner.scan(world, bounds[0], bounds[1], bounds[2], bounds[3], pathBlocks,
+                        SCAN_START_Y, REGION_SCAN_AIR_THRESHOLD, SCAN_SOLID_THRESHOLD)
+                .thenCompose(hits -> {
+                    // Batch insert all found blocks in a single transaction
+                    int foundCount = registerScannedBlocks(hits, team);
+                    if (foundCount > 0) {
+                        recalculateSupply(team);
+                        logger.info("[RoadService] Auto-scanned " + regionId + " for " + team + ": found " + foundCount + " road blocks");
+                    }
+
+                    // Also scan the border areas of adjacent owned regions to ensure connections work
+                    // This fixes the case where home region has roads but they weren't registered
+                    return scanAdjacentBordersForRoads(regionId, team, world, pathBlocks).thenApply(borderBlocksFound -> {
+                        if (borderBlocksFound > 0) {
+                            recalculateSupply(team);
+                            logger.info("[RoadService] Auto-scanned adjacent borders for " + regionId + ": found " + borderBlocksFound + " additional road blocks");
+                        }
+                        return foundCount + borderBlocksFound;
+                    });
+                });
+    }
+
+    /**
+     * Scans an area for path blocks off the main thread without registering them.
+     * Used by the admin world inspection commands.
+     */
+    public CompletableFuture<List<RoadScanner.PathBlockHit>> findPathBlocks(org.bukkit.World world,
+                                                                            int minX, int maxX, int minZ, int maxZ,
+                                                                            int airThreshold, int solidThreshold) {
+        return roadScanner.scan(world, minX, maxX, minZ, maxZ, getPathBlockTypes(),
+                SCAN_START_Y, airThreshold, solidThreshold);
+    }
+
+    /**
+     * Gets the configured path block types, or the defaults if none are configured.
+     */
+    private Set<org.bukkit.Material> getPathBlockTypes() {
         List<String> pathBlockNames = configManager.getSupplyPathBlocks();
         Set<org.bukkit.Material> pathBlocks = new java.util.HashSet<>();
         if (pathBlockNames == null || pathBlockNames.isEmpty()) {
@@ -1581,172 +1357,100 @@ public final class RoadService {
                 } catch (IllegalArgumentException ignored) {}
             }
         }
+        return pathBlocks;
+    }
 
-        // Scan parameters
-        final int START_Y = 52;
-        final int AIR_THRESHOLD = 10;
-        final int SOLID_THRESHOLD = 10;
-
-        UUID systemUuid = UUID.fromString("00000000-0000-0000-0000-000000000000"); // System-placed
-        long now = System.currentTimeMillis();
-
-        // Collect blocks for batch insert instead of inserting one at a time
-        List<int[]> newBlocks = new ArrayList<>();
+    /**
+     * Scans the border areas of adjacent owned regions for path blocks.
+     * If an adjacent region has NO road blocks, does a full scan of that region too.
+     * Adjacent regions are scanned one after another.
+     */
+    private CompletableFuture<Integer> scanAdjacentBordersForRoads(String regionId, String team, org.bukkit.World world,
+                                                                   Set<org.bukkit.Material> pathBlocks) {
+        int roundId = getCurrentRoundId();
+        if (roundId < 0) return CompletableFuture.completedFuture(0);
 
-        // Scan the region for path blocks
-        for (int x = minX; x <= maxX; x++) {
-            for (int z = minZ; z <= maxZ; z++) {
-                // Scan up from START_Y
-                int consecutiveAir = 0;
-                for (int y = START_Y; y < world.getMaxHeight() && consecutiveAir < AIR_THRESHOLD; y++) {
-                    org.bukkit.block.Block block = world.getBlockAt(x, y, z);
-                    org.bukkit.Material type = block.getType();
-
-                    if (type.isAir()) {
-                        consecutiveAir++;
-                    } else {
-                        consecutiveAir = 0;
-                        if (pathBlocks.contains(type)) {
-                            // Check if already registered
-                            if (!isRoadBlock(x, y, z)) {
-                                newBlocks.add(new int[]{x, y, z});
-                            }
-                        }
-                    }
-                }
+        logger.info("[RoadService] Scanning adjacent borders for " + regionId + " (team: " + team + ")");
 
-                // Scan down from START_Y
-                int consecutiveSolid = 0;
-                for (int y = START_Y - 1; y >= world.getMinHeight() && consecutiveSolid < SOLID_THRESHOLD; y--) {
-                    org.bukkit.block.Block block = world.getBlockAt(x, y, z);
-                    org.bukkit.Material type = block.getType();
+        // Get adjacent regions that are owned by the same team
+        List<String> adjacentRegions = regionService.getAdjacentRegions(regionId);
+        logger.info("[RoadService] Adjacent regions: " + adjacentRegions);
 
-                    if (pathBlocks.contains(type)) {
-                        // Check if already registered
-                        if (!isRoadBlock(x, y, z)) {
-                            newBlocks.add(new int[]{x, y, z});
-                        }
-                        consecutiveSolid = 0;
-                    } else if (type.isAir()) {
-                        consecutiveSolid = 0;
-                    } else {
-                        consecutiveSolid++;
-                    }
-                }
-            }
+        CompletableFuture<Integer> total = CompletableFuture.completedFuture(0);
+        for (String adjRegion : adjacentRegions) {
+            total = total.thenCompose(found -> scanAdjacentRegion(regionId, adjRegion, team, world, pathBlocks)
+                    .thenApply(adjFound -> found + adjFound));
         }
 
-        // Batch insert all found blocks in a single transaction
-        int foundCount = 0;
-        if (!newBlocks.isEmpty()) {
-            foundCount = db.batchInsertRoadBlocks(roundId, newBlocks, regionId,
-                    systemUuid.toString(), team, now, false,
-                    coords -> getRegionIdForLocation(coords[0], coords[2]));
+        return total.thenApply(totalFound -> {
+            logger.info("[RoadService] Total found in adjacent scans: " + totalFound);
+            return totalFound;
+        });
+    }
 
-            // Update in-memory cache for the batch
-            for (int[] c : newBlocks) {
-                String blockRegion = getRegionIdForLocation(c[0], c[2]);
-                if (blockRegion != null) {
-                    RoadBlock rb = new RoadBlock(c[0], c[1], c[2], blockRegion, systemUuid.toString(), team, now, false);
-                    roadBlockCache.put(rb.toKey(), rb);
-                }
-            }
+    private CompletableFuture<Integer> scanAdjacentRegion(String regionId, String adjRegion, String team,
+                                                          org.bukkit.World world, Set<org.bukkit.Material> pathBlocks) {
+        Optional<RegionStatus> adjStatus = regionService.getRegionStatus(adjRegion);
 
-            recalculateSupply(team);
-            logger.info("[RoadService] Auto-scanned " + regionId + " for " + team + ": found " + foundCount + " road blocks");
+        if (adjStatus.isEmpty()) {
+            logger.info("[RoadService] " + adjRegion + " has no status");
+            return CompletableFuture.completedFuture(0);
         }
 
-        // Also scan the border areas of adjacent owned regions to ensure connections work
-        // This fixes the case where home region has roads but they weren't registered
-        int borderBlocksFound = scanAdjacentBordersForRoads(regionId, team, world, pathBlocks);
-        if (borderBlocksFound > 0) {
-            recalculateSupply(team);
-            logger.info("[RoadService] Auto-scanned adjacent borders for " + regionId + ": found " + borderBlocksFound + " additional road blocks");
+        if (!adjStatus.get().isOwnedBy(team)) {
+            logger.info("[RoadService] " + adjRegion + " not owned by " + team + " (owner: " + adjStatus.get().ownerTeam() + ")");
+            return CompletableFuture.completedFuture(0);
         }
 
-        return foundCount + borderBlocksFound;
-    }
-
-    /**
-     * Scans the border areas of adjacent owned regions for path blocks.
-     * If an adjacent region has NO road blocks, does a full scan of that region too.
-     */
-    private int scanAdjacentBordersForRoads(String regionId, String team, org.bukkit.World world,
-                                             Set<org.bukkit.Material> pathBlocks) {
-        int roundId = getCurrentRoundId();
-        if (roundId < 0) return 0;
+        // Check if adjacent region has ANY road blocks
+        int existingBlocks = getRoadBlockCount(adjRegion, team);
+        logger.info("[RoadService] " + adjRegion + " has " + existingBlocks + " existing road blocks");
 
-        UUID systemUuid = UUID.fromString("00000000-0000-0000-0000-000000000000");
-        int totalFound = 0;
+        if (existingBlocks == 0) {
+            // Adjacent region has NO road blocks - do a full scan of that region
+            // This handles the case where home region was never scanned
+            logger.info("[RoadService] Adjacent region " + adjRegion + " has no road blocks - scanning entire region");
 
-        logger.info("[RoadService] Scanning adjacent borders for " + regionId + " (team: " + team + ")");
+            int[] adjBounds = getRegionBounds(adjRegion);
+            if (adjBounds == null) return CompletableFuture.completedFuture(0);
 
-        // Get adjacent regions that are owned by the same team
-        List<String> adjacentRegions = regionService.getAdjacentRegions(regionId);
-        logger.info("[RoadService] Adjacent regions: " + adjacentRegions);
+            logger.info("[RoadService] Scanning " + adjRegion + " bounds: X[" + adjBounds[0] + " to " + adjBounds[1] + "] Z[" + adjBounds[2] + " to " + adjBounds[3] + "]");
+            return scanAreaForRoads(adjBounds[0], adjBounds[1], adjBounds[2], adjBounds[3], world, pathBlocks, team)
+                    .thenApply(adjFound -> {
+                        logger.info("[RoadService] Found " + adjFound + " road blocks in " + adjRegion);
+                        return adjFound;
+                    });
+        }
 
-        for (String adjRegion : adjacentRegions) {
-            Optional<RegionStatus> adjStatus = regionService.getRegionStatus(adjRegion);
+        // Adjacent region has blocks - scan the border area
+        int[] border = getBorderArea(regionId, adjRegion);
+        if (border == null) return CompletableFuture.completedFuture(0);
 
-            if (adjStatus.isEmpty()) {
-                logger.info("[RoadService] " + adjRegion + " has no status");
-                continue;
-            }
+        logger.info("[RoadService] Scanning border " + regionId + "<->" + adjRegion +
+                ": X[" + border[0] + " to " + border[1] + "] Z[" + border[2] + " to " + border[3] + "]");
 
-            if (!adjStatus.get().isOwnedBy(team)) {
-                logger.info("[RoadService] " + adjRegion + " not owned by " + team + " (owner: " + adjStatus.get().ownerTeam() + ")");
-                continue;
-            }
+        // Check how many existing blocks are at the border ON BOTH SIDES
+        List<RoadBlock> blocksInAdj = getRoadBlocksInRegion(adjRegion, team).stream()
+                .filter(b -> isInBorderArea(b, border))
+                .toList();
+        List<RoadBlock> blocksInThis = getRoadBlocksInRegion(regionId, team).stream()
+                .filter(b -> isInBorderArea(b, border))
+                .toList();
+        logger.info("[RoadService] Existing blocks at border - " + adjRegion + ": " + blocksInAdj.size() +
+                ", " + regionId + ": " + blocksInThis.size());
 
-            // Check if adjacent region has ANY road blocks
-            int existingBlocks = getRoadBlockCount(adjRegion, team);
-            logger.info("[RoadService] " + adjRegion + " has " + existingBlocks + " existing road blocks");
-
-            if (existingBlocks == 0) {
-                // Adjacent region has NO road blocks - do a full scan of that region
-                // This handles the case where home region was never scanned
-                logger.info("[RoadService] Adjacent region " + adjRegion + " has no road blocks - scanning entire region");
-
-                int[] adjBounds = getRegionBounds(adjRegion);
-                if (adjBounds != null) {
-                    logger.info("[RoadService] Scanning " + adjRegion + " bounds: X[" + adjBounds[0] + " to " + adjBounds[1] + "] Z[" + adjBounds[2] + " to " + adjBounds[3] + "]");
-                    int adjFound = scanAreaForRoads(adjBounds[0], adjBounds[1], adjBounds[2], adjBounds[3],
-                            world, pathBlocks, systemUuid, team);
-                    totalFound += adjFound;
-                    logger.info("[RoadService] Found " + adjFound + " road blocks in " + adjRegion);
-                }
-            } else {
-                // Adjacent region has blocks - scan the border area
-                int[] border = getBorderArea(regionId, adjRegion);
-                if (border != null) {
-                    logger.info("[RoadService] Scanning border " + regionId + "<->" + adjRegion +
-                            ": X[" + border[0] + " to " + border[1] + "] Z[" + border[2] + " to " + border[3] + "]");
-
-                    // Check how many existing blocks are at the border ON BOTH SIDES
-                    List<RoadBlock> blocksInAdj = getRoadBlocksInRegion(adjRegion, team).stream()
-                            .filter(b -> b.x() >= border[0] && b.x() <= border[1] &&
-                                        b.z() >= border[2] && b.z() <= border[3])
-                            .toList();
-                    List<RoadBlock> blocksInThis = getRoadBlocksInRegion(regionId, team).stream()
-                            .filter(b -> b.x() >= border[0] && b.x() <= border[1] &&
-                                        b.z() >= border[2] && b.z() <= border[3])
-                            .toList();
-                    logger.info("[RoadService] Existing blocks at border - " + adjRegion + ": " + blocksInAdj.size() +
-                            ", " + regionId + ": " + blocksInThis.size());
-
-                    // Show sample coordinates
-                    if (!blocksInAdj.isEmpty()) {
-                        RoadBlock sample = blocksInAdj.get(0);
-                        logger.info("[RoadService] Sample block in " + adjRegion + ": " + sample.x() + "," + sample.y() + "," + sample.z());
-                    }
-                    if (!blocksInThis.isEmpty()) {
-                        RoadBlock sample = blocksInThis.get(0);
-                        logger.info("[RoadService] Sample block in " + regionId + ": " + sample.x() + "," + sample.y() + "," + sample.z());
-                    }
+        // Show sample coordinates
+        if (!blocksInAdj.isEmpty()) {
+            RoadBlock sample = blocksInAdj.get(0);
+            logger.info("[RoadService] Sample block in " + adjRegion + ": " + sample.x() + "," + sample.y() + "," + sample.z());
+        }
+        if (!blocksInThis.isEmpty()) {
+            RoadBlock sample = blocksInThis.get(0);
+            logger.info("[RoadService] Sample block in " + regionId + ": " + sample.x() + "," + sample.y() + "," + sample.z());
+        }
 
-                    int borderFound = scanAreaForRoads(border[0], border[1], border[2], border[3],
-                            world, pathBlocks, systemUuid, team);
-                    totalFound += borderFound;
+        return scanAreaForRoads(border[0], border[1], border[2], border[3], world, pathBlocks, team)
+                .thenApply(borderFound -> {
                     if (borderFound > 0) {
                         logger.info("[RoadService] Found " + borderFound + " NEW road blocks at border " + regionId + "<->" + adjRegion);
                     } else {
@@ -1758,94 +1462,56 @@ public final class RoadService {
                             logger.info("[RoadService] Border connection check: " + (connected ? "CONNECTED" : "FAILED"));
                         } else if (blocksInAdj.isEmpty()) {
                             logger.info("[RoadService] " + adjRegion + " has no blocks at border!");
-                        } else if (blocksInThis.isEmpty()) {
+                        } else {
                             logger.info("[RoadService] " + regionId + " has no blocks at border!");
                         }
                     }
-                }
-            }
-        }
-
-        logger.info("[RoadService] Total found in adjacent scans: " + totalFound);
-        return totalFound;
+                    return borderFound;
+                });
     }
 
     /**
      * Scans a rectangular area for path blocks and registers them.
      * Auto-scanned blocks are marked as NOT player-placed, so they won't count
      * for supply connectivity when require-player-placed-roads is enabled.
-     * Uses batch inserts for significantly better performance.
      */
-    private int scanAreaForRoads(int minX, int maxX, int minZ, int maxZ,
-                                  org.bukkit.World world, Set<org.bukkit.Material> pathBlocks,
-                                  UUID systemUuid, String team) {
-        final int START_Y = 52;
-        final int AIR_THRESHOLD = 100; // High threshold to catch elevated roads/bridges
-        final int SOLID_THRESHOLD = 10;
-
-        // Collect blocks for batch insert instead of one-by-one
-        List<int[]> newBlocks = new ArrayList<>();
-
-        for (int x = minX; x <= maxX; x++) {
-            for (int z = minZ; z <= maxZ; z++) {
-                // Scan up from START_Y
-                int consecutiveAir = 0;
-                for (int y = START_Y; y < world.getMaxHeight() && consecutiveAir < AIR_THRESHOLD; y++) {
-                    org.bukkit.block.Block block = world.getBlockAt(x, y, z);
-                    org.bukkit.Material type = block.getType();
+    private CompletableFuture<Integer> scanAreaForRoads(int minX, int maxX, int minZ, int maxZ,
+                                                        org.bukkit.World world, Set<org.bukkit.Material> pathBlocks,
+                                                        String team) {
+        return roadScanner.scan(world, minX, maxX, minZ, maxZ, pathBlocks,
+                        SCAN_START_Y, AREA_SCAN_AIR_THRESHOLD, SCAN_SOLID_THRESHOLD)
+                .thenApply(hits -> registerScannedBlocks(hits, team));
+    }
 
-                    if (type.isAir()) {
-                        consecutiveAir++;
-                    } else {
-                        consecutiveAir = 0;
-                        if (pathBlocks.contains(type)) {
-                            if (!isRoadBlock(x, y, z)) {
-                                newBlocks.add(new int[]{x, y, z});
-                            }
-                        }
-                    }
-                }
+    private int registerScannedBlocks(List<RoadScanner.PathBlockHit> hits, String team) {
+        return registerPathBlocks(hits, SYSTEM_UUID, team);
+    }
 
-                // Scan down from START_Y
-                int consecutiveSolid = 0;
-                for (int y = START_Y - 1; y >= world.getMinHeight() && consecutiveSolid < SOLID_THRESHOLD; y--) {
-                    org.bukkit.block.Block block = world.getBlockAt(x, y, z);
-                    org.bukkit.Material type = block.getType();
+    /**
+     * Registers scanned path blocks that aren't road blocks yet, using one batch insert.
+     * Blocks are marked as NOT player-placed and no supply recalculation is scheduled.
+     * @return number of new road blocks
+     */
+    public int registerPathBlocks(List<RoadScanner.PathBlockHit> hits, UUID placedBy, String team) {
+        int roundId = getCurrentRoundId();
+        if (roundId < 0 || hits.isEmpty()) return 0;
 
-                    if (pathBlocks.contains(type)) {
-                        if (!isRoadBlock(x, y, z)) {
-                            newBlocks.add(new int[]{x, y, z});
-                        }
-                        consecutiveSolid = 0;
-                    } else if (type.isAir()) {
-                        consecutiveSolid = 0;
-                    } else {
-                        consecutiveSolid++;
-                    }
-                }
+        List<int[]> newBlocks = new ArrayList<>();
+        for (RoadScanner.PathBlockHit hit : hits) {
+            if (!isRoadBlock(hit.x(), hit.y(), hit.z())) {
+                newBlocks.add(new int[]{hit.x(), hit.y(), hit.z()});
             }
         }
+        if (newBlocks.isEmpty()) return 0;
 
-        // Batch insert all found blocks in a single transaction
-        if (!newBlocks.isEmpty()) {
-            int roundId = getCurrentRoundId();
-            if (roundId < 0) return 0;
-            long now = System.currentTimeMillis();
-
-            db.batchInsertRoadBlocks(roundId, newBlocks, null,
-                    systemUuid.toString(), team, now, false,
-                    coords -> getRegionIdForLocation(coords[0], coords[2]));
+        db.batchInsertRoadBlocks(roundId, newBlocks, null,
+                placedBy.toString(), team, System.currentTimeMillis(), false,
+                coords -> getRegionIdForLocation(coords[0], coords[2]));
 
-            // Update in-memory cache
-            for (int[] c : newBlocks) {
-                String regionId = getRegionIdForLocation(c[0], c[2]);
-                if (regionId != null) {
-                    RoadBlock rb = new RoadBlock(c[0], c[1], c[2], regionId, systemUuid.toString(), team, now, false);
-                    roadBlockCache.put(rb.toKey(), rb);
-                }
-            }
+        // Update in-memory cache
+        for (int[] c : newBlocks) {
+            cacheRoadBlock(c[0], c[1], c[2], team, false);
         }
-
         return newBlocks.size();
     }
 
@@ -1882,7 +1548,11 @@ public final class RoadService {
         int roundId = getCurrentRoundId();
         if (roundId < 0) return;
         db.clearAllData(roundId);
-        roadBlockCache.clear();
+        synchronized (roadBlockCache) {
+            roadBlockCache.clear();
+            cachedTeams.clear();
+            supplyGraph = null;
+        }
         supplyCache.clear();
     }
     public void clearRegionData(String regionId) {
@@ -1891,7 +1561,11 @@ public final class RoadService {
         db.clearRegionData(roundId, regionId);
 
         // Clear cache entries for this region
-        roadBlockCache.entrySet().removeIf(e -> e.getValue().regionId().equals(regionId));
+        int regionIndex = getRegionIndex(regionId);
+        synchronized (roadBlockCache) {
+            roadBlockCache.removeIf(meta -> (meta >>> META_REGION_SHIFT) == regionIndex);
+            supplyGraph = null;
+        }
         supplyCache.entrySet().removeIf(e -> e.getKey().startsWith(regionId + ":"));
     }
 
@@ -1909,6 +1583,29 @@ public final class RoadService {
         return rowLabel + String.valueOf(gridX + 1);
     }
 
+    /**
+     * Gets the 0-based grid index (row * GRID_SIZE + column) for a region ID, or -1 if invalid.
+     */
+    private static int getRegionIndex(String regionId) {
+        for (int i = 0; i < REGION_IDS.length; i++) {
+            if (REGION_IDS[i].equals(regionId)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the 0-based grid index (row * GRID_SIZE + column) for a location, or -1 outside the grid.
+     */
+    private int getRegionIndexForLocation(int blockX, int blockZ) {
+        int gridX = (blockX + HALF_SIZE) / REGION_BLOCKS;
+        int gridZ = (blockZ + HALF_SIZE) / REGION_BLOCKS;
+
+        if (gridX < 0 || gridX >= GRID_SIZE || gridZ < 0 || gridZ >= GRID_SIZE) {
+            return -1;
+        }
+        return gridZ * GRID_SIZE + gridX;
+    }
+
     private String getHomeRegion(String team) {
         if ("red".equalsIgnoreCase(team)) {
             return configManager.getRegionRedHome();
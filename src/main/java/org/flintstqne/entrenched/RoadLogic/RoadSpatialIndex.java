@@ -0,0 +1,119 @@
+package org.flintstqne.entrenched.RoadLogic;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Read-only spatial index over a list of road blocks, used by the flood fills in {@link RoadService}.
+ * <p>
+ * Blocks are addressed by their position in the source list. Coordinates are copied into
+ * int arrays, and blocks are chained per (x, z) column, so a neighbor search probes one
+ * column per XZ offset and then walks the few blocks stacked in it, instead of hashing
+ * a string key for every (dx, dy, dz) combination.
+ */
+final class RoadSpatialIndex {
+
+    private final List<RoadBlock> blocks;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] zs;
+
+    // packed coordinate -> block index
+    private final RoadBlockIndex byCoord;
+    // packed (x, 0, z) -> first block index in that column; nextInColumn links the rest
+    private final RoadBlockIndex columnHead;
+    private final int[] nextInColumn;
+
+    RoadSpatialIndex(List<RoadBlock> blocks) {
+        int n = blocks.size();
+        this.blocks = blocks;
+        this.xs = new int[n];
+        this.ys = new int[n];
+        this.zs = new int[n];
+        this.byCoord = new RoadBlockIndex(n);
+        this.columnHead = new RoadBlockIndex(n);
+        this.nextInColumn = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            RoadBlock block = blocks.get(i);
+            xs[i] = block.x();
+            ys[i] = block.y();
+            zs[i] = block.z();
+            byCoord.put(RoadBlockIndex.pack(block.x(), block.y(), block.z()), i);
+            nextInColumn[i] = columnHead.put(RoadBlockIndex.pack(block.x(), 0, block.z()), i);
+        }
+    }
+
+    int size() {
+        return xs.length;
+    }
+
+    RoadBlock get(int index) {
+        return blocks.get(index);
+    }
+
+    /**
+     * Gets the index of the block at (x, y, z), or {@link RoadBlockIndex#NO_VALUE}.
+     */
+    int indexOf(int x, int y, int z) {
+        return byCoord.get(RoadBlockIndex.pack(x, y, z));
+    }
+
+    /**
+     * Calls the consumer with every other block within xzRadius horizontally and yTolerance vertically.
+     */
+    void forEachNeighbor(int index, int xzRadius, int yTolerance, IntConsumer consumer) {
+        int x = xs[index], y = ys[index], z = zs[index];
+        for (int dx = -xzRadius; dx <= xzRadius; dx++) {
+            for (int dz = -xzRadius; dz <= xzRadius; dz++) {
+                int other = columnHead.get(RoadBlockIndex.pack(x + dx, 0, z + dz));
+                while (other != RoadBlockIndex.NO_VALUE) {
+                    if (other != index && Math.abs(ys[other] - y) <= yTolerance) {
+                        consumer.accept(other);
+                    }
+                    other = nextInColumn[other];
+                }
+            }
+        }
+    }
+
+    /**
+     * Breadth-first flood fill from the start blocks.
+     * Stops as soon as a block in {@code targets} is dequeued, or after maxIterations dequeues.
+     *
+     * @param starts     block indices to start from
+     * @param targets    block indices that end the search, or null to fill everything reachable
+     * @param visited    receives every block reached (including the starts)
+     * @return true if a target block was reached
+     */
+    boolean floodFill(BitSet starts, BitSet targets, BitSet visited,
+                      int maxIterations, int xzRadius, int yTolerance) {
+        int[] queue = new int[size()];
+        int[] tail = {0};
+        int head = 0;
+
+        for (int i = starts.nextSetBit(0); i >= 0; i = starts.nextSetBit(i + 1)) {
+            if (!visited.get(i)) {
+                visited.set(i);
+                queue[tail[0]++] = i;
+            }
+        }
+
+        IntConsumer enqueue = neighbor -> {
+            if (!visited.get(neighbor)) {
+                visited.set(neighbor);
+                queue[tail[0]++] = neighbor;
+            }
+        };
+
+        int iterations = 0;
+        while (head < tail[0] && iterations < maxIterations) {
+            iterations++;
+            int current = queue[head++];
+            if (targets != null && targets.get(current)) return true;
+            forEachNeighbor(current, xzRadius, yTolerance, enqueue);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,550 @@
+package org.flintstqne.entrenched.RoadLogic;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Incrementally maintained road connectivity used by the supply calculation.
+ * <p>
+ * Road blocks are grouped per team and per region. Inside a region, blocks within the
+ * supply adjacency radius are joined with union-find as they are placed. Removing a block
+ * re-splits its component only when a bounded search can't reconnect the block's neighbours
+ * without it; otherwise the block is just unlinked. Each component root counts how many
+ * of its blocks lie in each of the region's four border strips, so gap and through-road
+ * checks are answered from component totals instead of a flood fill.
+ * <p>
+ * Adjacent blocks on opposite sides of a region border are counted per border. Those
+ * counts form the region-level graph: two regions are road-connected while their
+ * border has at least one such pair.
+ * <p>
+ * Not thread-safe on its own; {@link RoadService} guards it with the road cache monitor.
+ */
+final class SupplyGraph {
+
+    // Border directions: rows run along Z, columns along X
+    private static final int NORTH = 0; // row - 1
+    private static final int SOUTH = 1; // row + 1
+    private static final int WEST = 2;  // column - 1
+    private static final int EAST = 3;  // column + 1
+
+    private static final int FREE = -1;
+
+    // Blocks a delete may visit checking that the component holds together before re-splitting it
+    private static final int CUT_SEARCH_LIMIT = 512;
+
+    /**
+     * Config values the graph was built with. The graph must be rebuilt when they change.
+     */
+    record Settings(int xzRadius, int yTolerance, int borderWidth, boolean playerPlacedOnly) {}
+
+    @FunctionalInterface
+    private interface NeighborConsumer {
+        void accept(RegionRoads region, int slot);
+    }
+
+    private final int gridSize;
+    private final int regionBlocks;
+    private final int halfSize;
+    private final Settings settings;
+    private final Map<String, TeamRoads> teams = new HashMap<>();
+
+    SupplyGraph(int gridSize, int regionBlocks, Settings settings) {
+        this.gridSize = gridSize;
+        this.regionBlocks = regionBlocks;
+        this.halfSize = (gridSize * regionBlocks) / 2;
+        this.settings = settings;
+    }
+
+    Settings settings() {
+        return settings;
+    }
+
+    // ==================== UPDATES ====================
+
+    /**
+     * Adds a road block for a team. Blocks outside the grid or already present are ignored.
+     */
+    void add(String team, int x, int y, int z) {
+        int regionIndex = getRegionIndexAt(x, z);
+        if (regionIndex < 0) return;
+        teams.computeIfAbsent(team, k -> new TeamRoads()).add(regionIndex, x, y, z);
+    }
+
+    /**
+     * Removes a road block for a team, re-splitting its component if needed.
+     */
+    void remove(String team, int x, int y, int z) {
+        int regionIndex = getRegionIndexAt(x, z);
+        if (regionIndex < 0) return;
+        TeamRoads roads = teams.get(team);
+        if (roads != null) roads.remove(regionIndex, x, y, z);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Returns true if any of the team's blocks in one region is adjacent to one in the other.
+     */
+    boolean isBorderConnected(String team, int regionIndex, int adjacentIndex) {
+        int direction = getDirection(regionIndex, adjacentIndex);
+        TeamRoads roads = teams.get(team);
+        return direction >= 0 && roads != null && roads.crossEdges[regionIndex * 4 + direction] > 0;
+    }
+
+    /**
+     * Returns true if the team has blocks in the border strip on either side of the border.
+     */
+    boolean hasBlocksAtBorder(String team, int regionIndex, int adjacentIndex) {
+        int direction = getDirection(regionIndex, adjacentIndex);
+        if (direction < 0) return false;
+        return getStripCount(team, regionIndex, direction) > 0
+                || getStripCount(team, adjacentIndex, opposite(direction)) > 0;
+    }
+
+    int getBlockCount(String team, int regionIndex) {
+        RegionRoads region = getRegion(team, regionIndex);
+        return region != null ? region.blockCount : 0;
+    }
+
+    /**
+     * Gets the number of blocks in the region's border strip toward the adjacent region.
+     */
+    int getBorderBlockCount(String team, int regionIndex, int adjacentIndex) {
+        int direction = getDirection(regionIndex, adjacentIndex);
+        return direction >= 0 ? getStripCount(team, regionIndex, direction) : 0;
+    }
+
+    /**
+     * Gets the number of blocks in the region that are connected to its border strip
+     * toward the adjacent region.
+     */
+    int getReachableFromBorder(String team, int regionIndex, int adjacentIndex) {
+        int direction = getDirection(regionIndex, adjacentIndex);
+        RegionRoads region = getRegion(team, regionIndex);
+        if (direction < 0 || region == null) return 0;
+
+        int reachable = 0;
+        for (int slot = 0; slot < region.slotCount; slot++) {
+            if (region.parent[slot] == slot && region.componentStrips[slot * 4 + direction] > 0) {
+                reachable += region.componentSize[slot];
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Returns true if one road component in the region touches both the entry and exit border strips.
+     */
+    boolean connectsBorders(String team, int regionIndex, int entryIndex, int exitIndex) {
+        int entryDirection = getDirection(regionIndex, entryIndex);
+        int exitDirection = getDirection(regionIndex, exitIndex);
+        RegionRoads region = getRegion(team, regionIndex);
+        if (entryDirection < 0 || exitDirection < 0 || region == null) return false;
+
+        for (int slot = 0; slot < region.slotCount; slot++) {
+            if (region.parent[slot] == slot
+                    && region.componentStrips[slot * 4 + entryDirection] > 0
+                    && region.componentStrips[slot * 4 + exitDirection] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== GRID HELPERS ====================
+
+    private RegionRoads getRegion(String team, int regionIndex) {
+        TeamRoads roads = teams.get(team);
+        if (roads == null || regionIndex < 0 || regionIndex >= roads.regions.length) return null;
+        return roads.regions[regionIndex];
+    }
+
+    private int getStripCount(String team, int regionIndex, int direction) {
+        RegionRoads region = getRegion(team, regionIndex);
+        return region != null ? region.stripCounts[direction] : 0;
+    }
+
+    private int getRegionIndexAt(int x, int z) {
+        int gridX = (x + halfSize) / regionBlocks;
+        int gridZ = (z + halfSize) / regionBlocks;
+        if (gridX < 0 || gridX >= gridSize || gridZ < 0 || gridZ >= gridSize) return -1;
+        return gridZ * gridSize + gridX;
+    }
+
+    /**
+     * Gets the border direction from one region to an orthogonally adjacent one, or -1.
+     */
+    private int getDirection(int regionIndex, int adjacentIndex) {
+        int count = gridSize * gridSize;
+        if (regionIndex < 0 || regionIndex >= count || adjacentIndex < 0 || adjacentIndex >= count) return -1;
+
+        int gridX = regionIndex % gridSize, gridZ = regionIndex / gridSize;
+        int adjX = adjacentIndex % gridSize, adjZ = adjacentIndex / gridSize;
+        if (gridX == adjX && adjZ == gridZ - 1) return NORTH;
+        if (gridX == adjX && adjZ == gridZ + 1) return SOUTH;
+        if (gridZ == adjZ && adjX == gridX - 1) return WEST;
+        if (gridZ == adjZ && adjX == gridX + 1) return EAST;
+        return -1;
+    }
+
+    private static int opposite(int direction) {
+        return direction ^ 1;
+    }
+
+    // ==================== TEAM ====================
+
+    private final class TeamRoads {
+        final RegionRoads[] regions = new RegionRoads[gridSize * gridSize];
+        // Adjacent block pairs across each border, indexed by regionIndex * 4 + direction
+        final int[] crossEdges = new int[gridSize * gridSize * 4];
+
+        void add(int regionIndex, int x, int y, int z) {
+            RegionRoads home = regions[regionIndex];
+            if (home == null) {
+                home = new RegionRoads(regionIndex);
+                regions[regionIndex] = home;
+            }
+
+            int slot = home.insert(x, y, z);
+            if (slot < 0) return;
+
+            RegionRoads region = home;
+            forEachNeighbor(x, y, z, (neighborRegion, other) -> {
+                if (neighborRegion == region) {
+                    if (other != slot) region.union(slot, other);
+                } else {
+                    countCrossEdge(region.regionIndex, neighborRegion.regionIndex, 1);
+                }
+            });
+        }
+
+        void remove(int regionIndex, int x, int y, int z) {
+            RegionRoads home = regions[regionIndex];
+            if (home == null) return;
+
+            int slot = home.slotAt(x, y, z);
+            if (slot == RoadBlockIndex.NO_VALUE) return;
+
+            forEachNeighbor(x, y, z, (neighborRegion, other) -> {
+                if (neighborRegion != home) {
+                    countCrossEdge(home.regionIndex, neighborRegion.regionIndex, -1);
+                }
+            });
+            home.delete(slot);
+        }
+
+        private void countCrossEdge(int regionIndex, int adjacentIndex, int delta) {
+            // Diagonal neighbors (near region corners) share no border
+            int direction = getDirection(regionIndex, adjacentIndex);
+            if (direction < 0) return;
+            crossEdges[regionIndex * 4 + direction] += delta;
+            crossEdges[adjacentIndex * 4 + opposite(direction)] += delta;
+        }
+
+        /**
+         * Calls the consumer with every block within the adjacency range, in any region.
+         */
+        private void forEachNeighbor(int x, int y, int z, NeighborConsumer consumer) {
+            int radius = settings.xzRadius();
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    int regionIndex = getRegionIndexAt(x + dx, z + dz);
+                    if (regionIndex < 0 || regions[regionIndex] == null) continue;
+                    RegionRoads region = regions[regionIndex];
+                    region.forEachInColumn(x + dx, z + dz, y, other -> consumer.accept(region, other));
+                }
+            }
+        }
+    }
+
+    // ==================== REGION ====================
+
+    private final class RegionRoads {
+        final int regionIndex;
+        final int minX, maxX, minZ, maxZ;
+
+        // packed coordinate -> slot, packed (x, 0, z) -> first slot in that column
+        final RoadBlockIndex slots = new RoadBlockIndex();
+        final RoadBlockIndex columnHead = new RoadBlockIndex();
+
+        int[] xs = new int[16];
+        int[] ys = new int[16];
+        int[] zs = new int[16];
+        int[] nextInColumn = new int[16];
+
+        // Union-find parent (FREE for unused slots) and a circular list of each component's members
+        int[] parent = new int[16];
+        int[] nextMember = new int[16];
+
+        // Valid at component roots only
+        int[] componentSize = new int[16];
+        int[] componentStrips = new int[16 * 4];
+
+        // Bit per direction: which border strips the block lies in
+        byte[] stripMask = new byte[16];
+
+        // Scratch state for the search in neighborsStayConnected
+        int[] searchMark = new int[16];
+        int[] searchQueue = new int[16];
+        int searchTail;
+        int searchRemaining;
+        int searchStamp = -1;
+
+        int[] freeSlots = new int[16];
+        int freeCount;
+        int slotCount;
+        int blockCount;
+        final int[] stripCounts = new int[4];
+
+        RegionRoads(int regionIndex) {
+            this.regionIndex = regionIndex;
+            this.minX = (regionIndex % gridSize) * regionBlocks - halfSize;
+            this.maxX = minX + regionBlocks - 1;
+            this.minZ = (regionIndex / gridSize) * regionBlocks - halfSize;
+            this.maxZ = minZ + regionBlocks - 1;
+        }
+
+        int slotAt(int x, int y, int z) {
+            return slots.get(RoadBlockIndex.pack(x, y, z));
+        }
+
+        /**
+         * Inserts a block as its own component.
+         * @return the new slot, or -1 if the block is already present
+         */
+        int insert(int x, int y, int z) {
+            long key = RoadBlockIndex.pack(x, y, z);
+            if (slots.contains(key)) return -1;
+
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : allocateSlot();
+            xs[slot] = x;
+            ys[slot] = y;
+            zs[slot] = z;
+            slots.put(key, slot);
+            nextInColumn[slot] = columnHead.put(RoadBlockIndex.pack(x, 0, z), slot);
+
+            int mask = getStripMask(x, z);
+            stripMask[slot] = (byte) mask;
+            for (int direction = 0; direction < 4; direction++) {
+                stripCounts[direction] += (mask >> direction) & 1;
+            }
+            resetComponent(slot);
+            blockCount++;
+            return slot;
+        }
+
+        /**
+         * Removes a block. If its neighbours still reach each other without it the component
+         * is kept and the block unlinked from it; otherwise the component is rebuilt from its
+         * remaining members.
+         */
+        void delete(int slot) {
+            int root = find(slot);
+            int[] members = new int[componentSize[root] - 1];
+            int count = 0;
+            for (int member = nextMember[slot]; member != slot; member = nextMember[member]) {
+                members[count++] = member;
+            }
+            int[] strips = new int[4];
+            for (int direction = 0; direction < 4; direction++) {
+                strips[direction] = componentStrips[root * 4 + direction] - ((stripMask[slot] >> direction) & 1);
+            }
+
+            slots.remove(RoadBlockIndex.pack(xs[slot], ys[slot], zs[slot]));
+            unlinkFromColumn(slot);
+            for (int direction = 0; direction < 4; direction++) {
+                stripCounts[direction] -= (stripMask[slot] >> direction) & 1;
+            }
+            parent[slot] = FREE;
+            if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            freeSlots[freeCount++] = slot;
+            blockCount--;
+            if (count == 0) return;
+
+            if (neighborsStayConnected(slot)) {
+                // Still one component: re-point the members at a new root, no neighbour scans
+                int newRoot = members[0];
+                for (int i = 0; i < count; i++) {
+                    parent[members[i]] = newRoot;
+                    nextMember[members[i]] = members[(i + 1) % count];
+                }
+                componentSize[newRoot] = count;
+                System.arraycopy(strips, 0, componentStrips, newRoot * 4, 4);
+                return;
+            }
+
+            // Re-split: only members of the broken component are touched
+            for (int i = 0; i < count; i++) {
+                resetComponent(members[i]);
+            }
+            for (int i = 0; i < count; i++) {
+                int member = members[i];
+                forEachLocalNeighbor(member, other -> union(member, other));
+            }
+        }
+
+        /**
+         * Checks whether the neighbours of a just removed block still reach each other, visiting
+         * at most CUT_SEARCH_LIMIT blocks. False means they may not and the component must be rebuilt.
+         */
+        private boolean neighborsStayConnected(int removed) {
+            int visited = nextSearchStamp();
+            int target = visited + 1;
+
+            searchTail = 0;
+            forEachLocalNeighbor(removed, other -> {
+                if (searchMark[other] != target) {
+                    searchMark[other] = target;
+                    enqueueSearch(other);
+                }
+            });
+            if (searchTail <= 1) return true;
+
+            // Search from the first neighbour until it has reached all the others
+            searchRemaining = searchTail - 1;
+            searchMark[searchQueue[0]] = visited;
+            searchTail = 1;
+            for (int head = 0; head < searchTail; head++) {
+                if (head >= CUT_SEARCH_LIMIT) return false;
+                forEachLocalNeighbor(searchQueue[head], other -> {
+                    int mark = searchMark[other];
+                    if (mark == visited) return;
+                    if (mark == target) searchRemaining--;
+                    searchMark[other] = visited;
+                    enqueueSearch(other);
+                });
+                if (searchRemaining == 0) return true;
+            }
+            return false;
+        }
+
+        private int nextSearchStamp() {
+            searchStamp += 2;
+            if (searchStamp <= 0 || searchStamp == Integer.MAX_VALUE) {
+                Arrays.fill(searchMark, 0);
+                searchStamp = 1;
+            }
+            return searchStamp;
+        }
+
+        private void enqueueSearch(int slot) {
+            if (searchTail == searchQueue.length) searchQueue = Arrays.copyOf(searchQueue, searchTail * 2);
+            searchQueue[searchTail++] = slot;
+        }
+
+        void union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) return;
+
+            // Attach the smaller component under the larger one
+            if (componentSize[rootA] < componentSize[rootB]) {
+                int swap = rootA;
+                rootA = rootB;
+                rootB = swap;
+            }
+            parent[rootB] = rootA;
+            componentSize[rootA] += componentSize[rootB];
+            for (int direction = 0; direction < 4; direction++) {
+                componentStrips[rootA * 4 + direction] += componentStrips[rootB * 4 + direction];
+            }
+
+            // Splice the two circular member lists together
+            int next = nextMember[rootA];
+            nextMember[rootA] = nextMember[rootB];
+            nextMember[rootB] = next;
+        }
+
+        int find(int slot) {
+            while (parent[slot] != slot) {
+                parent[slot] = parent[parent[slot]]; // path halving
+                slot = parent[slot];
+            }
+            return slot;
+        }
+
+        /**
+         * Calls the consumer with every block in column (x, z) within the Y tolerance of y.
+         */
+        void forEachInColumn(int x, int z, int y, IntConsumer consumer) {
+            int slot = columnHead.get(RoadBlockIndex.pack(x, 0, z));
+            while (slot != RoadBlockIndex.NO_VALUE) {
+                int next = nextInColumn[slot];
+                if (Math.abs(ys[slot] - y) <= settings.yTolerance()) {
+                    consumer.accept(slot);
+                }
+                slot = next;
+            }
+        }
+
+        private void forEachLocalNeighbor(int slot, IntConsumer consumer) {
+            int radius = settings.xzRadius();
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    forEachInColumn(xs[slot] + dx, zs[slot] + dz, ys[slot], other -> {
+                        if (other != slot) consumer.accept(other);
+                    });
+                }
+            }
+        }
+
+        private void resetComponent(int slot) {
+            parent[slot] = slot;
+            nextMember[slot] = slot;
+            componentSize[slot] = 1;
+            for (int direction = 0; direction < 4; direction++) {
+                componentStrips[slot * 4 + direction] = (stripMask[slot] >> direction) & 1;
+            }
+        }
+
+        private void unlinkFromColumn(int slot) {
+            long column = RoadBlockIndex.pack(xs[slot], 0, zs[slot]);
+            int head = columnHead.get(column);
+            if (head == slot) {
+                if (nextInColumn[slot] == RoadBlockIndex.NO_VALUE) {
+                    columnHead.remove(column);
+                } else {
+                    columnHead.put(column, nextInColumn[slot]);
+                }
+                return;
+            }
+            int previous = head;
+            while (nextInColumn[previous] != slot) {
+                previous = nextInColumn[previous];
+            }
+            nextInColumn[previous] = nextInColumn[slot];
+        }
+
+        /**
+         * Gets the border strips (as direction bits) that a position inside this region lies in.
+         */
+        private int getStripMask(int x, int z) {
+            int width = settings.borderWidth();
+            int mask = 0;
+            if (z <= minZ + width) mask |= 1 << NORTH;
+            if (z >= maxZ - width) mask |= 1 << SOUTH;
+            if (x <= minX + width) mask |= 1 << WEST;
+            if (x >= maxX - width) mask |= 1 << EAST;
+            return mask;
+        }
+
+        private int allocateSlot() {
+            if (slotCount == parent.length) {
+                int capacity = slotCount * 2;
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                zs = Arrays.copyOf(zs, capacity);
+                nextInColumn = Arrays.copyOf(nextInColumn, capacity);
+                parent = Arrays.copyOf(parent, capacity);
+                nextMember = Arrays.copyOf(nextMember, capacity);
+                componentSize = Arrays.copyOf(componentSize, capacity);
+                componentStrips = Arrays.copyOf(componentStrips, capacity * 4);
+                stripMask = Arrays.copyOf(stripMask, capacity);
+                searchMark = Arrays.copyOf(searchMark, capacity);
+            }
+            return slotCount++;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package org.flintstqne.entrenched.RoundLogic;
 
 import org.bukkit.plugin.java.JavaPlugin;
+import org.flintstqne.entrenched.DatabaseLogic.SqliteDatabase;
 
+import java.io.File;
 import java.sql.*;
 import java.util.Optional;
 
@@ -10,134 +12,136 @@ import java.util.Optional;
  */
 public class EndgameDb {
 
-    private final Connection connection;
+    private final SqliteDatabase database;
 
     public EndgameDb(JavaPlugin plugin) {
         try {
-            this.connection = DriverManager.getConnection(
-                    "jdbc:sqlite:" + plugin.getDataFolder().getAbsolutePath() + "/entrenched.db"
-            );
+            this.database = new SqliteDatabase(new File(plugin.getDataFolder(), "entrenched.db"));
             initTables();
-        } catch (SQLException e) {
+        } catch (RuntimeException e) {
             throw new RuntimeException("Failed to initialize endgame database", e);
         }
     }
 
     private void initTables() {
-        String sql = """
-            CREATE TABLE IF NOT EXISTS round_endgame_state (
-                round_id INTEGER PRIMARY KEY,
-                stage TEXT NOT NULL DEFAULT 'NORMAL',
-                early_win_team TEXT,
-                early_win_started_at INTEGER,
-                overtime_region_id TEXT,
-                overtime_started_at INTEGER,
-                overtime_ends_at INTEGER,
-                overtime_hold_team TEXT,
-                overtime_hold_started_at INTEGER
-            )
-            """;
-
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to create endgame tables", e);
-        }
+        database.execute(connection -> {
+            String sql = """
+                CREATE TABLE IF NOT EXISTS round_endgame_state (
+                    round_id INTEGER PRIMARY KEY,
+                    stage TEXT NOT NULL DEFAULT 'NORMAL',
+                    early_win_team TEXT,
+                    early_win_started_at INTEGER,
+                    overtime_region_id TEXT,
+                    overtime_started_at INTEGER,
+                    overtime_ends_at INTEGER,
+                    overtime_hold_team TEXT,
+                    overtime_hold_started_at INTEGER
+                )
+                """;
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute(sql);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to create endgame tables", e);
+            }
+        });
     }
 
     /**
      * Gets the endgame state for a round, creating default if not exists.
      */
     public RoundEndgameState getOrCreate(int roundId) {
-        String sql = "SELECT * FROM round_endgame_state WHERE round_id = ?";
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, roundId);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return mapState(rs);
+        return database.read(connection -> {
+            String sql = "SELECT * FROM round_endgame_state WHERE round_id = ?";
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, roundId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        return mapState(rs);
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get endgame state", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get endgame state", e);
-        }
 
-        // Create default state
-        RoundEndgameState defaultState = RoundEndgameState.createDefault(roundId);
-        save(defaultState);
-        return defaultState;
+            // Create default state
+            RoundEndgameState defaultState = RoundEndgameState.createDefault(roundId);
+            save(defaultState);
+            return defaultState;
+        });
     }
 
     /**
      * Gets the endgame state for a round if it exists.
      */
     public Optional<RoundEndgameState> get(int roundId) {
-        String sql = "SELECT * FROM round_endgame_state WHERE round_id = ?";
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, roundId);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapState(rs));
+        return database.read(connection -> {
+            String sql = "SELECT * FROM round_endgame_state WHERE round_id = ?";
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, roundId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.of(mapState(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get endgame state", e);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to get endgame state", e);
-        }
 
-        return Optional.empty();
+            return Optional.empty();
+        });
     }
 
     /**
      * Saves or updates the endgame state.
      */
     public void save(RoundEndgameState state) {
-        String sql = """
-            INSERT OR REPLACE INTO round_endgame_state (
-                round_id, stage, early_win_team, early_win_started_at,
-                overtime_region_id, overtime_started_at, overtime_ends_at,
-                overtime_hold_team, overtime_hold_started_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-            """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, state.roundId());
-            ps.setString(2, state.stage().name());
-            ps.setString(3, state.earlyWinTeam());
-            setNullableLong(ps, 4, state.earlyWinStartedAt());
-            ps.setString(5, state.overtimeRegionId());
-            setNullableLong(ps, 6, state.overtimeStartedAt());
-            setNullableLong(ps, 7, state.overtimeEndsAt());
-            ps.setString(8, state.overtimeHoldTeam());
-            setNullableLong(ps, 9, state.overtimeHoldStartedAt());
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to save endgame state", e);
-        }
+        database.execute(connection -> {
+            String sql = """
+                INSERT OR REPLACE INTO round_endgame_state (
+                    round_id, stage, early_win_team, early_win_started_at,
+                    overtime_region_id, overtime_started_at, overtime_ends_at,
+                    overtime_hold_team, overtime_hold_started_at
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, state.roundId());
+                ps.setString(2, state.stage().name());
+                ps.setString(3, state.earlyWinTeam());
+                setNullableLong(ps, 4, state.earlyWinStartedAt());
+                ps.setString(5, state.overtimeRegionId());
+                setNullableLong(ps, 6, state.overtimeStartedAt());
+                setNullableLong(ps, 7, state.overtimeEndsAt());
+                ps.setString(8, state.overtimeHoldTeam());
+                setNullableLong(ps, 9, state.overtimeHoldStartedAt());
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to save endgame state", e);
+            }
+        });
     }
 
     /**
      * Deletes the endgame state for a round.
      */
     public void delete(int roundId) {
-        String sql = "DELETE FROM round_endgame_state WHERE round_id = ?";
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, roundId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to delete endgame state", e);
-        }
+        database.execute(connection -> {
+            String sql = "DELETE FROM round_endgame_state WHERE round_id = ?";
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, roundId);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to delete endgame state", e);
+            }
+        });
     }
 
     public void close() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-            }
-        } catch (SQLException e) {
-            // Ignore close errors
-        }
+        database.close();
     }
 
     private RoundEndgameState mapState(ResultSet rs) throws SQLException {
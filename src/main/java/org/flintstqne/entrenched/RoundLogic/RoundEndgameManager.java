@@ -8,15 +8,16 @@ import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.flintstqne.entrenched.BlueMapHook.RegionRenderer;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.RegionLogic.RegionService;
 import org.flintstqne.entrenched.RegionLogic.RegionStatus;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages endgame evaluation including:
@@ -54,11 +55,15 @@ public class RoundEndgameManager {
 
     // Cached state
     private RoundEndgameState currentState;
-    private BukkitTask tickTask;
+    private TickScheduler tickScheduler;
+    private TickScheduler.Task tickTask;
 
     // Callback for round end
     private RoundEndCallback roundEndCallback;
 
+    // Listeners for endgame state transitions
+    private final List<EndgameListener> endgameListeners = new CopyOnWriteArrayList<>();
+
     public RoundEndgameManager(JavaPlugin plugin, EndgameDb db, RoundService roundService,
                                 RegionService regionService, ConfigManager config) {
         this.plugin = plugin;
@@ -72,10 +77,24 @@ public class RoundEndgameManager {
         this.regionRenderer = regionRenderer;
     }
 
+    /**
+     * Sets the scheduler the endgame tick runs on. Must be called before {@link #start()}.
+     */
+    public void setTickScheduler(TickScheduler tickScheduler) {
+        this.tickScheduler = tickScheduler;
+    }
+
     public void setRoundEndCallback(RoundEndCallback callback) {
         this.roundEndCallback = callback;
     }
 
+    /**
+     * Registers a listener that is notified of every saved endgame state change.
+     */
+    public void addEndgameListener(EndgameListener listener) {
+        endgameListeners.add(listener);
+    }
+
     /**
      * Starts the endgame manager for the current round.
      */
@@ -90,7 +109,8 @@ public class RoundEndgameManager {
         currentState = db.getOrCreate(roundId);
 
         // Start tick task
-        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, TICK_INTERVAL_TICKS, TICK_INTERVAL_TICKS);
+        tickTask = tickScheduler.runTimer("endgame", TickScheduler.Priority.CRITICAL,
+                TICK_INTERVAL_TICKS, TICK_INTERVAL_TICKS, this::tick);
 
         plugin.getLogger().info("[Endgame] Manager started for round " + roundId + " (stage: " + currentState.stage() + ")");
     }
@@ -215,8 +235,7 @@ public class RoundEndgameManager {
         if (candidateTeam != null) {
             // Start early win hold
             long now = System.currentTimeMillis();
-            currentState = currentState.withEarlyWinHold(candidateTeam, now);
-            db.save(currentState);
+            updateState(currentState.withEarlyWinHold(candidateTeam, now));
 
             broadcastEarlyWinStart(candidateTeam);
             plugin.getLogger().info("[Endgame] Early win hold started for " + candidateTeam +
@@ -242,8 +261,7 @@ public class RoundEndgameManager {
 
         if (!stillValid) {
             // Hold broken
-            currentState = currentState.resetToNormal();
-            db.save(currentState);
+            updateState(currentState.resetToNormal());
 
             broadcastEarlyWinBroken(holdTeam);
             plugin.getLogger().info("[Endgame] Early win hold broken for " + holdTeam);
@@ -327,8 +345,7 @@ public class RoundEndgameManager {
         long now = System.currentTimeMillis();
         long endsAt = now + OVERTIME_DURATION_MS;
 
-        currentState = currentState.withOvertime(targetRegion, now, endsAt);
-        db.save(currentState);
+        updateState(currentState.withOvertime(targetRegion, now, endsAt));
 
         broadcastOvertimeStart(targetRegion);
         plugin.getLogger().info("[Endgame] Overtime started - target region: " + targetRegion);
@@ -361,15 +378,13 @@ public class RoundEndgameManager {
 
         if (currentOwner != null && !currentOwner.equalsIgnoreCase(previousHoldTeam)) {
             // New owner - reset hold timer
-            currentState = currentState.withOvertimeHold(currentOwner, now);
-            db.save(currentState);
+            updateState(currentState.withOvertimeHold(currentOwner, now));
 
             broadcastOvertimeHoldChange(currentOwner);
             plugin.getLogger().info("[Endgame] Overtime hold started by " + currentOwner);
         } else if (currentOwner == null && previousHoldTeam != null) {
             // Region became neutral - clear hold
-            currentState = currentState.withOvertimeHold(null, null);
-            db.save(currentState);
+            updateState(currentState.withOvertimeHold(null, null));
 
             broadcastOvertimeNeutral();
             plugin.getLogger().info("[Endgame] Overtime region became neutral");
@@ -746,6 +761,18 @@ public class RoundEndgameManager {
         }
     }
 
+    /**
+     * Saves a new endgame state and notifies listeners.
+     */
+    private void updateState(RoundEndgameState next) {
+        RoundEndgameState previous = currentState;
+        currentState = next;
+        db.save(next);
+        for (EndgameListener listener : endgameListeners) {
+            listener.onEndgameChanged(previous, next);
+        }
+    }
+
     // ==================== INNER CLASSES ====================
 
     private record HeatEntry(long timestamp, double heat) {}
@@ -754,5 +781,10 @@ public class RoundEndgameManager {
     public interface RoundEndCallback {
         void onRoundEnd(String winner);
     }
+
+    @FunctionalInterface
+    public interface EndgameListener {
+        void onEndgameChanged(RoundEndgameState previous, RoundEndgameState current);
+    }
 }
 
@@ -6,27 +6,88 @@ import org.bukkit.World;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
 
 public final class RoundService {
 
     private final RoundDb db;
 
+    // Authoritative in-memory view of the current round. Swapped atomically on every
+    // start/end/phase/world change so hot-path readers never query rounds.db.
+    private final AtomicReference<RoundSnapshot> snapshot = new AtomicReference<>(RoundSnapshot.NONE);
+
+    private final List<RoundChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * What changed between two round snapshots.
+     */
+    public enum RoundChange {
+        STARTED,
+        PHASE_CHANGED,
+        WORLD_CHANGED,
+        ENDED
+    }
+
+    /**
+     * Listener for round state changes. Invoked on the thread that made the change
+     * (normally the main thread) after the new snapshot is visible.
+     */
+    @FunctionalInterface
+    public interface RoundChangeListener {
+        void onRoundChanged(RoundChange change, RoundSnapshot previous, RoundSnapshot current);
+    }
+
     public RoundService(RoundDb db) {
         this.db = db;
+        this.snapshot.set(loadSnapshot());
+    }
+
+    /**
+     * Registers a listener that is notified whenever the round starts, ends,
+     * changes phase or changes world.
+     */
+    public void addListener(RoundChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(RoundChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Gets the current in-memory round snapshot. Never null and never touches the database.
+     */
+    public RoundSnapshot getSnapshot() {
+        return snapshot.get();
     }
 
     public Optional<Round> getCurrentRound() {
-        return db.getCurrentRound();
+        return snapshot.get().round();
+    }
+
+    /**
+     * Gets the current round ID, or -1 if there is no pending or active round.
+     */
+    public int getCurrentRoundId() {
+        return snapshot.get().roundId();
     }
 
     public Round startNewRound(long worldSeed) {
         int roundId = db.createRound(worldSeed);
         db.updateRoundStatus(roundId, Round.RoundStatus.ACTIVE);
-        return db.getRound(roundId).orElseThrow();
+        Round round = db.getRound(roundId).orElseThrow();
+        publish(RoundChange.STARTED, new RoundSnapshot(round, resolveWorld(round)));
+        return round;
     }
 
     public void setWorldName(int roundId, String worldName) {
         db.setWorldName(roundId, worldName);
+        RoundSnapshot current = snapshot.get();
+        if (current.roundId() == roundId) {
+            publish(RoundChange.WORLD_CHANGED, loadSnapshot());
+        }
     }
 
     /**
@@ -34,15 +95,18 @@ public final class RoundService {
      * Falls back to default world name from config if no world name is stored.
      */
     public Optional<World> getGameWorld() {
-        return getCurrentRound()
-                .map(round -> {
-                    String worldName = round.worldName();
-                    if (worldName != null && !worldName.isEmpty()) {
-                        return Bukkit.getWorld(worldName);
-                    }
-                    // Fallback to default "world" if no world name stored
-                    return Bukkit.getWorld("world");
-                });
+        RoundSnapshot current = snapshot.get();
+        if (current.world() != null || !current.hasRound()) {
+            return current.worldOptional();
+        }
+
+        // World not resolved yet (e.g. loaded from disk after the snapshot was taken)
+        World world = resolveWorld(current.round().orElseThrow());
+        if (world == null) {
+            return Optional.empty();
+        }
+        RoundSnapshot resolved = current.withWorld(world);
+        return snapshot.compareAndSet(current, resolved) ? resolved.worldOptional() : Optional.of(world);
     }
 
     public PhaseResult advancePhase() {
@@ -59,6 +123,7 @@ public final class RoundService {
         }
 
         db.updatePhase(current.roundId(), current.currentPhase() + 1);
+        publish(RoundChange.PHASE_CHANGED, loadSnapshot());
         return PhaseResult.ADVANCED;
     }
 
@@ -73,13 +138,33 @@ public final class RoundService {
         Round current = currentOpt.get();
         if (current.status() == Round.RoundStatus.COMPLETED) return false;
         db.updatePhase(current.roundId(), phase);
+        publish(RoundChange.PHASE_CHANGED, loadSnapshot());
         return true;
     }
 
     public void endRound(String winningTeam) {
-        getCurrentRound().ifPresent(round ->
-                db.completeRound(round.roundId(), winningTeam)
-        );
+        getCurrentRound().ifPresent(round -> {
+            db.completeRound(round.roundId(), winningTeam);
+            publish(RoundChange.ENDED, loadSnapshot());
+        });
+    }
+
+    /**
+     * Reloads the snapshot from the database. Only needed if rounds.db was changed
+     * outside this service or a world was loaded/unloaded underneath it.
+     */
+    public void refresh() {
+        RoundSnapshot next = loadSnapshot();
+        RoundSnapshot previous = snapshot.getAndSet(next);
+        RoundChange change;
+        if (previous.roundId() != next.roundId()) {
+            change = next.hasRound() ? RoundChange.STARTED : RoundChange.ENDED;
+        } else if (previous.phase() != next.phase()) {
+            change = RoundChange.PHASE_CHANGED;
+        } else {
+            change = RoundChange.WORLD_CHANGED;
+        }
+        notifyListeners(change, previous, next);
     }
 
     public Map<String, String> getRegionNames(int roundId) {
@@ -91,9 +176,7 @@ public final class RoundService {
     }
 
     public boolean isRoundActive() {
-        return getCurrentRound()
-                .map(r -> r.status() == Round.RoundStatus.ACTIVE)
-                .orElse(false);
+        return snapshot.get().isActive();
     }
 
     public Optional<Round> getRound(int roundId) {
@@ -104,6 +187,36 @@ public final class RoundService {
         return db.getRoundHistory();
     }
 
+    private RoundSnapshot loadSnapshot() {
+        Optional<Round> round = db.getCurrentRound();
+        if (round.isEmpty()) return RoundSnapshot.NONE;
+        return new RoundSnapshot(round.get(), resolveWorld(round.get()));
+    }
+
+    private World resolveWorld(Round round) {
+        String worldName = round.worldName();
+        if (worldName != null && !worldName.isEmpty()) {
+            return Bukkit.getWorld(worldName);
+        }
+        // Fallback to default "world" if no world name stored
+        return Bukkit.getWorld("world");
+    }
+
+    private void publish(RoundChange change, RoundSnapshot next) {
+        RoundSnapshot previous = snapshot.getAndSet(next);
+        notifyListeners(change, previous, next);
+    }
+
+    private void notifyListeners(RoundChange change, RoundSnapshot previous, RoundSnapshot current) {
+        for (RoundChangeListener listener : listeners) {
+            try {
+                listener.onRoundChanged(change, previous, current);
+            } catch (Exception e) {
+                Bukkit.getLogger().log(Level.WARNING, "[RoundService] Round listener failed on " + change, e);
+            }
+        }
+    }
+
     public enum PhaseResult {
         ADVANCED,
         ROUND_ENDED,
@@ -0,0 +1,80 @@
+package org.flintstqne.entrenched.RoundLogic;
+
+import org.bukkit.World;
+
+import java.util.Optional;
+
+/**
+ * Immutable view of the current round held in memory by {@link RoundService}.
+ * A new snapshot is swapped in whenever the round starts, ends, changes phase
+ * or changes world, so readers never need to touch the database.
+ */
+public final class RoundSnapshot {
+
+    static final RoundSnapshot NONE = new RoundSnapshot(null, null);
+
+    private final Round round;
+    private final Optional<Round> roundOptional;
+    private final World world;
+    private final Optional<World> worldOptional;
+
+    RoundSnapshot(Round round, World world) {
+        this.round = round;
+        this.roundOptional = Optional.ofNullable(round);
+        this.world = world;
+        this.worldOptional = Optional.ofNullable(world);
+    }
+
+    /**
+     * The current round, or empty when no round is pending or active.
+     * The same Optional instance is returned on every call.
+     */
+    public Optional<Round> round() {
+        return roundOptional;
+    }
+
+    /**
+     * The resolved game world, or null if the round has no world or it isn't loaded yet.
+     */
+    public World world() {
+        return world;
+    }
+
+    Optional<World> worldOptional() {
+        return worldOptional;
+    }
+
+    public boolean hasRound() {
+        return round != null;
+    }
+
+    public int roundId() {
+        return round != null ? round.roundId() : -1;
+    }
+
+    public int phase() {
+        return round != null ? round.currentPhase() : 0;
+    }
+
+    public Round.RoundStatus status() {
+        return round != null ? round.status() : null;
+    }
+
+    public String worldName() {
+        return round != null ? round.worldName() : null;
+    }
+
+    public boolean isActive() {
+        return round != null && round.status() == Round.RoundStatus.ACTIVE;
+    }
+
+    RoundSnapshot withWorld(World world) {
+        return new RoundSnapshot(round, world);
+    }
+
+    @Override
+    public String toString() {
+        return "RoundSnapshot{round=" + roundId() + ", phase=" + phase() + ", status=" + status() +
+                ", world=" + worldName() + "}";
+    }
+}
@@ -0,0 +1,60 @@
+package org.flintstqne.entrenched.StatLogic;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free per-key token bucket for the Stats API.
+ * <p>
+ * Each key holds a single "bucket empty at" timestamp (the GCRA form of a token bucket):
+ * taking a token pushes it forward by one refill interval, and a request is rejected when
+ * that would put it more than a full bucket ahead of now. One CAS per request, no queues.
+ */
+final class ApiRateLimiter {
+
+    private static final long PRUNE_INTERVAL_NANOS = 300_000_000_000L; // 5 minutes
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long refillNanos;
+    private final long capacityNanos;
+    private final AtomicLong nextPrune = new AtomicLong(System.nanoTime() + PRUNE_INTERVAL_NANOS);
+
+    /**
+     * @param requestsPerMinute bucket capacity, refilled evenly over one minute
+     */
+    ApiRateLimiter(int requestsPerMinute) {
+        int capacity = Math.max(1, requestsPerMinute);
+        this.refillNanos = 60_000_000_000L / capacity;
+        this.capacityNanos = refillNanos * capacity;
+    }
+
+    /**
+     * Takes a token for key. Returns false if the bucket is empty.
+     */
+    boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+        pruneIfDue(now);
+
+        AtomicLong emptyAt = buckets.computeIfAbsent(key, k -> new AtomicLong(now - capacityNanos));
+        while (true) {
+            long current = emptyAt.get();
+            long next = Math.max(current, now - capacityNanos) + refillNanos;
+            if (next - now > 0) {
+                return false;
+            }
+            if (emptyAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled completely; they behave the same as a new one.
+     */
+    private void pruneIfDue(long now) {
+        long due = nextPrune.get();
+        if (now - due < 0 || !nextPrune.compareAndSet(due, now + PRUNE_INTERVAL_NANOS)) return;
+        buckets.values().removeIf(emptyAt -> emptyAt.get() <= now - capacityNanos);
+    }
+}
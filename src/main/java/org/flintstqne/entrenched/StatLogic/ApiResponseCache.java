@@ -0,0 +1,96 @@
+package org.flintstqne.entrenched.StatLogic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized API responses keyed by endpoint and query.
+ * <p>
+ * Each entry remembers the data version it was built from; a lookup with a different version,
+ * or after the max age (for data that has no version counter, such as teams and merits), misses
+ * and the handler rebuilds it. Entries hold the JSON bytes, a gzip copy and a content ETag, so a
+ * hit costs a hash lookup and a write instead of service calls and serialization.
+ */
+final class ApiResponseCache {
+
+    private static final int MAX_ENTRIES = 2048;
+    private static final int GZIP_MIN_BYTES = 512;
+
+    /**
+     * The data version counters a response was built from. Responses that depend on two
+     * counters key on both, so different combinations of changes never compare equal.
+     */
+    record Version(long primary, long secondary) {
+        static Version of(long version) {
+            return new Version(version, 0);
+        }
+    }
+
+    /**
+     * One cached response. gzipBody is null when the body is too small to be worth compressing.
+     */
+    record Entry(Version version, long createdAt, int status, byte[] body, byte[] gzipBody, String etag) {}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long maxAgeMs;
+
+    ApiResponseCache(long maxAgeMs) {
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * Gets the entry for key if it was built from the given version and is not too old.
+     */
+    Entry get(String key, Version version, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.version().equals(version) || now - entry.createdAt() > maxAgeMs) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Stores a serialized response and returns its entry.
+     */
+    Entry put(String key, Version version, int status, byte[] body, long now) {
+        Entry entry = new Entry(version, now, status, body,
+                body.length >= GZIP_MIN_BYTES ? gzip(body) : null, etag(body));
+
+        if (entries.size() >= MAX_ENTRIES && !entries.containsKey(key)) {
+            entries.values().removeIf(e -> now - e.createdAt() > maxAgeMs);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(key, entry);
+        return entry;
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Strong ETag from the body contents, so a rebuild that produces the same JSON still matches.
+     */
+    private static String etag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + Integer.toHexString(body.length) + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
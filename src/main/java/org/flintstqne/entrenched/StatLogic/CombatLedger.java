@@ -0,0 +1,113 @@
+package org.flintstqne.entrenched.StatLogic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory combat history for assists, revenge kills and first blood.
+ * <p>
+ * Each victim keeps a small ring of (attacker, last hit time) slots: repeat hits from the same
+ * attacker refresh its slot, and a new attacker overwrites the stalest one. Kills are kept in a
+ * killer -> victim -> time map for revenge checks, and first blood is a claimed flag per round.
+ * Entries older than their window are dropped during periodic sweeps.
+ */
+final class CombatLedger {
+
+    private static final int ATTACKERS_PER_VICTIM = 8;
+
+    private final long assistWindowMs;
+    private final long revengeWindowMs;
+
+    private final Map<UUID, AttackerRing> attackersByVictim = new HashMap<>();
+    private final Map<UUID, Map<UUID, Long>> killsByKiller = new HashMap<>();
+    private final Set<Integer> firstBloodRounds = new HashSet<>();
+
+    private static final class AttackerRing {
+        final UUID[] attackers = new UUID[ATTACKERS_PER_VICTIM];
+        final long[] lastHitAt = new long[ATTACKERS_PER_VICTIM];
+        long latestHitAt;
+    }
+
+    CombatLedger(long assistWindowMs, long revengeWindowMs) {
+        this.assistWindowMs = assistWindowMs;
+        this.revengeWindowMs = revengeWindowMs;
+    }
+
+    /**
+     * Records a hit from attacker on victim at {@code now}.
+     */
+    synchronized void recordDamage(UUID attacker, UUID victim, long now) {
+        AttackerRing ring = attackersByVictim.computeIfAbsent(victim, k -> new AttackerRing());
+        ring.latestHitAt = now;
+
+        int stalest = 0;
+        for (int i = 0; i < ATTACKERS_PER_VICTIM; i++) {
+            if (attacker.equals(ring.attackers[i])) {
+                ring.lastHitAt[i] = now;
+                return;
+            }
+            if (ring.lastHitAt[i] < ring.lastHitAt[stalest]) {
+                stalest = i;
+            }
+        }
+        ring.attackers[stalest] = attacker;
+        ring.lastHitAt[stalest] = now;
+    }
+
+    /**
+     * Gets every attacker who hit the victim within the assist window.
+     */
+    synchronized List<UUID> getRecentAttackers(UUID victim, long now) {
+        AttackerRing ring = attackersByVictim.get(victim);
+        if (ring == null) return List.of();
+
+        List<UUID> attackers = new ArrayList<>(ATTACKERS_PER_VICTIM);
+        for (int i = 0; i < ATTACKERS_PER_VICTIM; i++) {
+            if (ring.attackers[i] != null && now - ring.lastHitAt[i] <= assistWindowMs) {
+                attackers.add(ring.attackers[i]);
+            }
+        }
+        return attackers;
+    }
+
+    /**
+     * Records a kill. Returns true if it is a revenge kill (the victim killed the killer within the window).
+     */
+    synchronized boolean recordKill(UUID killer, UUID victim, long now) {
+        Map<UUID, Long> victimKills = killsByKiller.get(victim);
+        Long killedKillerAt = victimKills != null ? victimKills.get(killer) : null;
+        boolean revenge = killedKillerAt != null && now - killedKillerAt <= revengeWindowMs;
+
+        killsByKiller.computeIfAbsent(killer, k -> new HashMap<>()).put(victim, now);
+        return revenge;
+    }
+
+    /**
+     * Marks first blood as claimed. Returns true if this call claimed it.
+     */
+    synchronized boolean claimFirstBlood(int roundId) {
+        return firstBloodRounds.add(roundId);
+    }
+
+    /**
+     * Drops attacker rings and kills that are outside their windows.
+     */
+    synchronized void sweep(long now) {
+        attackersByVictim.values().removeIf(ring -> now - ring.latestHitAt > assistWindowMs);
+
+        Iterator<Map<UUID, Long>> it = killsByKiller.values().iterator();
+        while (it.hasNext()) {
+            Map<UUID, Long> victimKills = it.next();
+            victimKills.values().removeIf(killedAt -> now - killedAt > revengeWindowMs);
+            if (victimKills.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+}
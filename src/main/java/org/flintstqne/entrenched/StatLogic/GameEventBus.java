@@ -0,0 +1,141 @@
+package org.flintstqne.entrenched.StatLogic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process bus for game events pushed to external clients (the Stats API event stream).
+ * <p>
+ * Every event gets a sequence number and is kept in a fixed-size history ring, so a client
+ * that reconnects can resume after the last sequence it saw. Sequences restart with every
+ * bus, so clients resume with the bus {@link #getEpoch() epoch} as well. Each subscriber has a bounded
+ * queue; publishing never blocks, and a subscriber that falls too far behind is marked as
+ * overflowed and should reconnect to resume from history.
+ */
+public final class GameEventBus {
+
+    private static final int HISTORY_SIZE = 512;
+
+    /**
+     * One published event. Data maps are unmodifiable.
+     */
+    public record GameEvent(long sequence, String type, long timestamp, Map<String, Object> data) {}
+
+    // Identifies this bus instance (server boot), so sequences from an earlier boot aren't mistaken for ours
+    private final long epoch = System.currentTimeMillis();
+    private final GameEvent[] history = new GameEvent[HISTORY_SIZE];
+    private long lastSequence;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Publishes an event to the history and every subscriber. Safe to call from any thread.
+     */
+    public void publish(String type, Map<String, Object> data) {
+        synchronized (history) {
+            GameEvent event = new GameEvent(++lastSequence, type, System.currentTimeMillis(),
+                    Collections.unmodifiableMap(data));
+            history[(int) (event.sequence() % HISTORY_SIZE)] = event;
+            for (Subscription subscription : subscriptions) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    /**
+     * Subscribes to new events, first replaying every retained event after afterSequence of
+     * afterEpoch (sequence 0 for none). If events after that point have already left the
+     * history, or belong to another epoch, the subscription replays what is retained and
+     * starts with {@link Subscription#missedEvents()} set.
+     */
+    public Subscription subscribe(long afterEpoch, long afterSequence, int capacity) {
+        synchronized (history) {
+            List<GameEvent> replay = new ArrayList<>();
+            boolean missed = false;
+            if (afterSequence > 0 && (afterEpoch != epoch || afterSequence != lastSequence)) {
+                long oldestRetained = Math.max(1, lastSequence - HISTORY_SIZE + 1);
+                long from;
+                if (afterEpoch != epoch || afterSequence > lastSequence) {
+                    // Sequence from another boot: nothing the client saw is in our history
+                    missed = true;
+                    from = oldestRetained;
+                } else {
+                    missed = afterSequence + 1 < oldestRetained;
+                    from = Math.max(afterSequence + 1, oldestRetained);
+                }
+                for (long seq = from; seq <= lastSequence; seq++) {
+                    replay.add(history[(int) (seq % HISTORY_SIZE)]);
+                }
+            }
+
+            Subscription subscription = new Subscription(Math.max(capacity, replay.size()), missed);
+            for (GameEvent event : replay) {
+                subscription.offer(event);
+            }
+            subscriptions.add(subscription);
+            return subscription;
+        }
+    }
+
+    public long getLastSequence() {
+        synchronized (history) {
+            return lastSequence;
+        }
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * A subscriber's bounded event queue.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final BlockingQueue<GameEvent> queue;
+        private final boolean missedEvents;
+        private volatile boolean overflowed;
+
+        private Subscription(int capacity, boolean missedEvents) {
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+            this.missedEvents = missedEvents;
+        }
+
+        private void offer(GameEvent event) {
+            if (!overflowed && !queue.offer(event)) {
+                overflowed = true;
+            }
+        }
+
+        /**
+         * Waits up to timeoutMs for the next event. Returns null on timeout.
+         */
+        public GameEvent poll(long timeoutMs) throws InterruptedException {
+            return queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * True if events between the requested resume point and the history were lost.
+         */
+        public boolean missedEvents() {
+            return missedEvents;
+        }
+
+        /**
+         * True once the queue filled up and an event was dropped. Queued events are still
+         * in order; the subscriber should drain them, then reconnect to resume.
+         */
+        public boolean isOverflowed() {
+            return overflowed;
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package org.flintstqne.entrenched.StatLogic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * In-memory leaderboards for lifetime stats and the current round.
+ * <p>
+ * Mirrors the player_stats and current round_player_stats values, fed by the same coalesced
+ * deltas {@link StatService#flush()} writes to the database. Each category keeps its top
+ * {@link #TOP_K} players in a sorted set that is updated per changed player; a full rescan of
+ * the mirror is only needed when a player inside the top K drops while others sit below it.
+ * Readers get an immutable, versioned {@link Snapshot}, so leaderboard requests never sort a table.
+ */
+final class LeaderboardIndex {
+
+    static final int TOP_K = 100;
+
+    private static final StatCategory[] CATEGORIES = StatCategory.values();
+    private static final Comparator<Ranked> RANK_ORDER = Comparator
+            .comparingDouble(Ranked::value).reversed()
+            .thenComparing(Ranked::uuid);
+
+    /**
+     * Published leaderboards. Lists are unmodifiable and ranked from 1.
+     */
+    record Snapshot(long version, int roundId,
+                    List<List<LeaderboardEntry>> lifetime,
+                    List<List<LeaderboardEntry>> round,
+                    List<LeaderboardEntry> roundMvp) {
+
+        List<LeaderboardEntry> lifetime(StatCategory category, int limit) {
+            return head(lifetime.get(category.ordinal()), limit);
+        }
+
+        List<LeaderboardEntry> round(StatCategory category, int limit) {
+            return head(round.get(category.ordinal()), limit);
+        }
+
+        private static List<LeaderboardEntry> head(List<LeaderboardEntry> entries, int limit) {
+            return entries.size() <= limit ? entries : entries.subList(0, limit);
+        }
+    }
+
+    private record Ranked(UUID uuid, double value) {}
+
+    /**
+     * Top K players for one value, kept in rank order.
+     */
+    private static final class TopK {
+        final Map<UUID, Double> members = new HashMap<>();
+        final TreeSet<Ranked> ordered = new TreeSet<>(RANK_ORDER);
+        boolean dirty = true;
+
+        /**
+         * Applies a player's new value. Returns false if the top K can no longer be
+         * maintained incrementally and must be rebuilt from the full table.
+         */
+        boolean update(UUID uuid, double value, int tableSize) {
+            Double old = members.get(uuid);
+            if (old != null) {
+                if (old == value) return true;
+                ordered.remove(new Ranked(uuid, old));
+                members.remove(uuid);
+                dirty = true;
+                // A member dropped: someone outside the top K may now outrank it
+                if (value < old && tableSize > TOP_K) return false;
+            }
+            offer(uuid, value);
+            return true;
+        }
+
+        void offer(UUID uuid, double value) {
+            if (members.size() >= TOP_K) {
+                Ranked last = ordered.last();
+                if (RANK_ORDER.compare(new Ranked(uuid, value), last) >= 0) return;
+                ordered.pollLast();
+                members.remove(last.uuid());
+            }
+            ordered.add(new Ranked(uuid, value));
+            members.put(uuid, value);
+            dirty = true;
+        }
+
+        void rebuild(Map<UUID, double[]> values, int index) {
+            members.clear();
+            ordered.clear();
+            for (Map.Entry<UUID, double[]> entry : values.entrySet()) {
+                offer(entry.getKey(), entry.getValue()[index]);
+            }
+            dirty = true;
+        }
+
+        List<LeaderboardEntry> toEntries(Map<UUID, String> names) {
+            List<LeaderboardEntry> entries = new ArrayList<>(ordered.size());
+            int rank = 1;
+            for (Ranked ranked : ordered) {
+                entries.add(new LeaderboardEntry(rank++, ranked.uuid(), names.get(ranked.uuid()), ranked.value()));
+            }
+            return Collections.unmodifiableList(entries);
+        }
+    }
+
+    /**
+     * Mirror of one stats table (lifetime, or one round) with a top K per category.
+     */
+    private static final class StatTable {
+        final int roundId;
+        final Map<UUID, double[]> values = new HashMap<>();
+        final TopK[] tops = new TopK[CATEGORIES.length];
+        final TopK mvp = new TopK();
+
+        StatTable(int roundId) {
+            this.roundId = roundId;
+            for (int i = 0; i < tops.length; i++) {
+                tops[i] = new TopK();
+            }
+        }
+
+        void load(List<PlayerStats> rows) {
+            for (PlayerStats row : rows) {
+                double[] stats = new double[CATEGORIES.length];
+                for (StatCategory category : CATEGORIES) {
+                    stats[category.ordinal()] = row.getStat(category);
+                }
+                values.put(row.getUuid(), stats);
+            }
+            for (int i = 0; i < tops.length; i++) {
+                tops[i].rebuild(values, i);
+            }
+            rebuildMvp();
+        }
+
+        boolean ensure(UUID uuid) {
+            if (values.containsKey(uuid)) return false;
+            values.put(uuid, new double[CATEGORIES.length]);
+            for (TopK top : tops) {
+                top.offer(uuid, 0.0);
+            }
+            mvp.offer(uuid, 0.0);
+            return true;
+        }
+
+        /**
+         * Applies a coalesced delta: counters add, other categories take the value.
+         */
+        void apply(UUID uuid, StatCategory category, double value) {
+            double[] stats = values.get(uuid);
+            if (stats == null) return;
+            int index = category.ordinal();
+            set(uuid, index, category.isCounter() ? stats[index] + value : value);
+        }
+
+        void set(UUID uuid, int index, double value) {
+            double[] stats = values.get(uuid);
+            if (stats == null) return;
+            stats[index] = value;
+            if (!tops[index].update(uuid, value, values.size())) {
+                tops[index].rebuild(values, index);
+            }
+        }
+
+        void updateMvp(UUID uuid) {
+            double[] stats = values.get(uuid);
+            if (stats == null) return;
+            if (!mvp.update(uuid, mvpScore(stats), values.size())) {
+                rebuildMvp();
+            }
+        }
+
+        private void rebuildMvp() {
+            mvp.members.clear();
+            mvp.ordered.clear();
+            for (Map.Entry<UUID, double[]> entry : values.entrySet()) {
+                mvp.offer(entry.getKey(), mvpScore(entry.getValue()));
+            }
+            mvp.dirty = true;
+        }
+
+        private static double mvpScore(double[] stats) {
+            return PlayerStats.mvpScore(
+                    stats[StatCategory.KILLS.ordinal()],
+                    stats[StatCategory.OBJECTIVES_COMPLETED.ordinal()],
+                    stats[StatCategory.REGIONS_CAPTURED.ordinal()],
+                    stats[StatCategory.IP_EARNED.ordinal()]);
+        }
+    }
+
+    private final StatDb db;
+    private final Map<UUID, String> names = new HashMap<>();
+    private StatTable lifetime = new StatTable(-1);
+    private StatTable round = new StatTable(-1);
+    private long version;
+    private volatile Snapshot snapshot;
+
+    LeaderboardIndex(StatDb db) {
+        this.db = db;
+        publish();
+    }
+
+    Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Loads lifetime stats and the given round from the database.
+     */
+    synchronized void load(int roundId) {
+        lifetime = new StatTable(-1);
+        List<PlayerStats> rows = db.getAllPlayerStats();
+        for (PlayerStats row : rows) {
+            names.put(row.getUuid(), row.getLastKnownName());
+        }
+        lifetime.load(rows);
+        loadRound(roundId);
+        publish();
+    }
+
+    /**
+     * Applies a flush that has already been committed to the database.
+     */
+    synchronized void apply(Map<UUID, String> playerNames, List<StatDb.StatDelta> lifetimeDeltas,
+                            List<StatDb.StatDelta> roundDeltas) {
+        // New players were inserted with their name; existing names are only changed on login
+        for (Map.Entry<UUID, String> entry : playerNames.entrySet()) {
+            if (entry.getValue() != null && lifetime.ensure(entry.getKey())) {
+                names.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        for (StatDb.StatDelta delta : lifetimeDeltas) {
+            lifetime.apply(delta.uuid(), delta.category(), delta.value());
+        }
+
+        int newerRound = round.roundId;
+        for (StatDb.StatDelta delta : roundDeltas) {
+            if (delta.roundId() == round.roundId) {
+                round.ensure(delta.uuid());
+                round.apply(delta.uuid(), delta.category(), delta.value());
+                round.updateMvp(delta.uuid());
+            } else if (delta.roundId() > newerRound) {
+                newerRound = delta.roundId();
+            }
+        }
+        if (newerRound != round.roundId) {
+            // A new round started: its rows (including this flush) are already in the database
+            loadRound(newerRound);
+        }
+
+        publish();
+    }
+
+    /**
+     * Mirrors a player row created or renamed outside the stat pipeline (login).
+     */
+    synchronized void onPlayerLogin(UUID uuid, String name, int roundId) {
+        boolean changed = lifetime.ensure(uuid);
+        if (!name.equals(names.put(uuid, name))) {
+            changed = true;
+            markAllDirty();
+        }
+        if (roundId > 0 && roundId == round.roundId) {
+            changed |= round.ensure(uuid);
+        }
+        if (changed) publish();
+    }
+
+    /**
+     * Mirrors a lifetime stat set directly in the database (login streaks).
+     */
+    synchronized void onLifetimeStatSet(UUID uuid, StatCategory category, double value) {
+        if (!lifetime.values.containsKey(uuid)) return;
+        lifetime.set(uuid, category.ordinal(), value);
+        publish();
+    }
+
+    synchronized void onRoundPurged(int roundId) {
+        if (roundId != round.roundId) return;
+        round = new StatTable(roundId);
+        publish();
+    }
+
+    private void loadRound(int roundId) {
+        round = new StatTable(roundId);
+        if (roundId > 0) {
+            round.load(db.getAllRoundPlayerStats(roundId));
+        }
+    }
+
+    private void markAllDirty() {
+        for (TopK top : lifetime.tops) top.dirty = true;
+        for (TopK top : round.tops) top.dirty = true;
+        round.mvp.dirty = true;
+    }
+
+    /**
+     * Publishes a new snapshot, rebuilding entry lists only for categories that changed.
+     */
+    private void publish() {
+        Snapshot previous = snapshot;
+        boolean sameRound = previous != null && previous.roundId() == round.roundId;
+
+        List<List<LeaderboardEntry>> lifetimeLists = new ArrayList<>(CATEGORIES.length);
+        List<List<LeaderboardEntry>> roundLists = new ArrayList<>(CATEGORIES.length);
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            lifetimeLists.add(entries(lifetime.tops[i], previous != null ? previous.lifetime().get(i) : null));
+            roundLists.add(entries(round.tops[i], sameRound ? previous.round().get(i) : null));
+        }
+        List<LeaderboardEntry> mvp = entries(round.mvp, sameRound ? previous.roundMvp() : null);
+
+        snapshot = new Snapshot(++version, round.roundId,
+                Collections.unmodifiableList(lifetimeLists),
+                Collections.unmodifiableList(roundLists),
+                mvp);
+    }
+
+    private List<LeaderboardEntry> entries(TopK top, List<LeaderboardEntry> previous) {
+        if (!top.dirty && previous != null) return previous;
+        top.dirty = false;
+        return top.toEntries(names);
+    }
+}
@@ -94,6 +94,13 @@ public class PlayerStats {
         double captures = getStat(StatCategory.REGIONS_CAPTURED);
         double ip = getStat(StatCategory.IP_EARNED);
 
+        return mvpScore(kills, objectives, captures, ip);
+    }
+
+    /**
+     * MVP formula shared with the in-memory leaderboards.
+     */
+    static double mvpScore(double kills, double objectives, double captures, double ip) {
         return (kills * 10) + (objectives * 25) + (captures * 50) + (ip * 0.1);
     }
 
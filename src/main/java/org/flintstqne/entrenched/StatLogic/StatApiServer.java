@@ -2,6 +2,10 @@ package org.flintstqne.entrenched.StatLogic;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
@@ -22,8 +26,15 @@ import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 /**
@@ -41,13 +52,33 @@ public class StatApiServer {
     private final RegionService regionService;
     private final TeamService teamService;
     private LinkService linkService;
+    private GameEventBus eventBus;
 
     private HttpServer server;
+    private ExecutorService executor;
 
-    // Rate limiting: API key -> list of request timestamps (thread-safe via synchronization)
-    private final Map<String, java.util.concurrent.ConcurrentLinkedDeque<Long>> rateLimitMap = new ConcurrentHashMap<>();
-    private long lastRateLimitPrune = System.currentTimeMillis();
-    private static final long PRUNE_INTERVAL_MS = 300_000; // 5 minutes
+    // Request timeouts; endpoints that fan out into many lookups get longer
+    private static final long DEFAULT_TIMEOUT_MS = 5_000;
+    private static final long FAN_OUT_TIMEOUT_MS = 15_000;
+
+    // Caps how many requests use the services (and so the database) at once
+    private final Semaphore dbPermits;
+
+    // Set while a guarded handler runs; its responses are dropped once the guard has answered
+    private static final ThreadLocal<AtomicBoolean> RESPONSE_CLAIM = new ThreadLocal<>();
+
+    // Serialized responses for the endpoints the Discord bot polls
+    private final ApiResponseCache responseCache;
+
+    // Event stream: compact JSON (one line per SSE data field), bounded subscribers and buffers
+    private final Gson eventGson = new GsonBuilder().serializeNulls().create();
+    private static final int MAX_EVENT_SUBSCRIBERS = 32;
+    private final AtomicInteger eventSubscribers = new AtomicInteger();
+    private static final int EVENT_BUFFER_SIZE = 256;
+    private static final long EVENT_KEEPALIVE_MS = 15_000;
+
+    // Rate limiting: token bucket per API key
+    private final ApiRateLimiter rateLimiter;
 
     public StatApiServer(JavaPlugin plugin, StatService statService, ConfigManager config,
                          MeritService meritService, DivisionService divisionService,
@@ -64,6 +95,9 @@ public class StatApiServer {
                 .setPrettyPrinting()
                 .serializeNulls()
                 .create();
+        this.responseCache = new ApiResponseCache(config.getStatApiCacheMaxAgeSeconds() * 1000L);
+        this.rateLimiter = new ApiRateLimiter(config.getStatApiRateLimit());
+        this.dbPermits = new Semaphore(config.getStatApiMaxDbConcurrency());
     }
 
     /**
@@ -73,6 +107,13 @@ public class StatApiServer {
         this.linkService = linkService;
     }
 
+    /**
+     * Sets the game event bus streamed by /api/events (optional, wired after construction).
+     */
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
     /**
      * Starts the API server.
      */
@@ -80,24 +121,29 @@ public class StatApiServer {
         int port = config.getStatApiPort();
         try {
             server = HttpServer.create(new InetSocketAddress(port), 0);
-            server.setExecutor(Executors.newFixedThreadPool(4));
+            // One virtual thread per request: a slow lookup no longer holds up the others
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            server.setExecutor(executor);
 
             // Register endpoints
-            server.createContext("/api/player", new PlayerHandler());
-            server.createContext("/api/leaderboard", new LeaderboardHandler());
-            server.createContext("/api/team", new TeamHandler());
-            server.createContext("/api/round", new RoundHandler());
-            server.createContext("/api/rounds", new RoundsHandler());
-            server.createContext("/api/categories", new CategoriesHandler());
-            server.createContext("/api/health", new HealthHandler());
-            server.createContext("/api/merits", new MeritsHandler());
-            server.createContext("/api/divisions", new DivisionsHandler());
-            server.createContext("/api/division", new DivisionHandler());
-            server.createContext("/api/regions", new RegionsHandler());
-            server.createContext("/api/achievements", new AchievementsHandler());
-            server.createContext("/api/ranks", new RanksHandler());
-            server.createContext("/api/online", new OnlineHandler());
-            server.createContext("/api/linked", new LinkedLookupHandler());
+            server.createContext("/api/player", guarded(new PlayerHandler(), FAN_OUT_TIMEOUT_MS));
+            server.createContext("/api/players", guarded(new PlayersHandler(), FAN_OUT_TIMEOUT_MS));
+            server.createContext("/api/leaderboard", guarded(new LeaderboardHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/team", guarded(new TeamHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/round", guarded(new RoundHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/rounds", guarded(new RoundsHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/categories", guarded(new CategoriesHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/health", guarded(new HealthHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/merits", guarded(new MeritsHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/divisions", guarded(new DivisionsHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/division", guarded(new DivisionHandler(), FAN_OUT_TIMEOUT_MS));
+            server.createContext("/api/regions", guarded(new RegionsHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/achievements", guarded(new AchievementsHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/ranks", guarded(new RanksHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/online", guarded(new OnlineHandler(), DEFAULT_TIMEOUT_MS));
+            server.createContext("/api/linked", guarded(new LinkedLookupHandler(), FAN_OUT_TIMEOUT_MS));
+            // Long-lived stream: not guarded, it holds no database permit and has no timeout
+            server.createContext("/api/events", new EventsHandler());
 
             server.start();
             logger.info("[Stats API] Server started on port " + port);
@@ -114,39 +160,114 @@ public class StatApiServer {
             server.stop(0);
             logger.info("[Stats API] Server stopped");
         }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
     }
 
     /**
-     * Checks rate limit for an API key.
+     * Wraps a handler so it runs while holding a database permit and answers within timeoutMs.
+     * The API key and rate limit are checked before a permit is taken. Requests that cannot get
+     * a permit in time get 503; handlers that overrun get 504, are interrupted, and give their
+     * permit back at once. Whichever of the handler and the deadline responds first wins; the
+     * other's response is dropped.
      */
-    private boolean checkRateLimit(String apiKey) {
-        int limit = config.getStatApiRateLimit();
-        long windowMs = 60_000; // 1 minute
+    private HttpHandler guarded(HttpHandler handler, long timeoutMs) {
+        return exchange -> {
+            if (!checkAccess(exchange)) return;
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            try {
+                if (!dbPermits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    sendError(exchange, 503, "Server busy");
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.close();
+                return;
+            }
 
-        java.util.concurrent.ConcurrentLinkedDeque<Long> timestamps =
-                rateLimitMap.computeIfAbsent(apiKey, k -> new java.util.concurrent.ConcurrentLinkedDeque<>());
-        long now = System.currentTimeMillis();
+            AtomicBoolean responded = new AtomicBoolean();
+            AtomicBoolean permitReleased = new AtomicBoolean();
+            Runnable releasePermit = () -> {
+                if (permitReleased.compareAndSet(false, true)) dbPermits.release();
+            };
 
-        // Remove old timestamps for this key.
-        Long head;
-        while ((head = timestamps.peekFirst()) != null && head < now - windowMs) {
-            timestamps.pollFirst();
-        }
+            Future<?> task;
+            try {
+                task = executor.submit(() -> {
+                    RESPONSE_CLAIM.set(responded);
+                    try {
+                        handler.handle(exchange);
+                    } finally {
+                        RESPONSE_CLAIM.remove();
+                        releasePermit.run();
+                    }
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                releasePermit.run();
+                throw e;
+            }
 
-        // Periodically prune empty entries to prevent memory leak
-        if (now - lastRateLimitPrune > PRUNE_INTERVAL_MS) {
-            lastRateLimitPrune = now;
-            rateLimitMap.entrySet().removeIf(e -> e.getValue().isEmpty());
-        }
+            try {
+                task.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.cancel(true);
+                releasePermit.run();
+                logger.warning("[Stats API] " + exchange.getRequestURI().getPath() + " timed out after " + timeoutMs + "ms");
+                if (responded.compareAndSet(false, true)) {
+                    try { sendError(exchange, 504, "Request timed out"); } catch (IOException ignored) {}
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException io) throw io;
+                logger.severe("[Stats API] Handler error on " + exchange.getRequestURI().getPath() + ": " + e.getCause());
+                if (responded.compareAndSet(false, true)) {
+                    try { sendError(exchange, 500, "Internal server error"); } catch (IOException ignored) {}
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.close();
+            }
+        };
+    }
+
+    /**
+     * Claims the right to respond to the current guarded exchange.
+     * @return false if the guard already answered it (e.g. with a 504)
+     */
+    private static boolean claimResponse() {
+        AtomicBoolean claim = RESPONSE_CLAIM.get();
+        return claim == null || claim.compareAndSet(false, true);
+    }
 
-        if (timestamps.size() >= limit) {
+    /**
+     * Checks the API key and rate limit, answering 401 or 429 if either fails.
+     * @return true if the request may proceed
+     */
+    private boolean checkAccess(HttpExchange exchange) throws IOException {
+        if (!validateApiKey(exchange)) {
+            sendError(exchange, 401, "Invalid API key");
             return false;
         }
 
-        timestamps.addLast(now);
+        String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
+        if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) {
+            sendError(exchange, 429, "Rate limit exceeded");
+            return false;
+        }
         return true;
     }
 
+    /**
+     * Checks rate limit for an API key.
+     */
+    private boolean checkRateLimit(String apiKey) {
+        return rateLimiter.tryAcquire(apiKey);
+    }
+
     /**
      * Validates API key from request.
      */
@@ -166,6 +287,7 @@ public class StatApiServer {
      * Sends a JSON response.
      */
     private void sendResponse(HttpExchange exchange, int code, Object response) throws IOException {
+        if (!claimResponse()) return;
         String json = gson.toJson(response);
         byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
 
@@ -180,6 +302,75 @@ public class StatApiServer {
         }
     }
 
+    /**
+     * Sends the cached response for key if it is still current for version.
+     * @return true if a response was sent
+     */
+    private boolean sendCached(HttpExchange exchange, String key, ApiResponseCache.Version version) throws IOException {
+        ApiResponseCache.Entry entry = responseCache.get(key, version, System.currentTimeMillis());
+        if (entry == null) return false;
+        sendEntry(exchange, entry);
+        return true;
+    }
+
+    /**
+     * Serializes a response, caches it under key for version, and sends it.
+     */
+    private void sendCachedResponse(HttpExchange exchange, String key, ApiResponseCache.Version version, int code, Object response) throws IOException {
+        byte[] bytes = gson.toJson(response).getBytes(StandardCharsets.UTF_8);
+        sendEntry(exchange, responseCache.put(key, version, code, bytes, System.currentTimeMillis()));
+    }
+
+    /**
+     * Sends a cached entry: 304 if the client already has it, gzip if the client accepts it.
+     */
+    private void sendEntry(HttpExchange exchange, ApiResponseCache.Entry entry) throws IOException {
+        if (!claimResponse()) return;
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+        exchange.getResponseHeaders().set("ETag", entry.etag());
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+
+        if (entry.status() == 200 && matchesETag(exchange.getRequestHeaders().getFirst("If-None-Match"), entry.etag())) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = entry.body();
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (entry.gzipBody() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            bytes = entry.gzipBody();
+        }
+        exchange.sendResponseHeaders(entry.status(), bytes.length);
+
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Cache key for a request: path plus query parameters in sorted order.
+     */
+    private String cacheKey(HttpExchange exchange) {
+        return exchange.getRequestURI().getPath() + "?" + new TreeMap<>(parseQueryParams(exchange));
+    }
+
+    private long divisionVersion() {
+        return divisionService != null ? divisionService.getDataVersion() : 0;
+    }
+
     /**
      * Sends an error response.
      */
@@ -228,17 +419,6 @@ public class StatApiServer {
     private class PlayerHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) {
-                sendError(exchange, 401, "Invalid API key");
-                return;
-            }
-
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) {
-                sendError(exchange, 429, "Rate limit exceeded");
-                return;
-            }
-
             String path = exchange.getRequestURI().getPath();
             String[] parts = path.split("/");
 
@@ -256,6 +436,10 @@ public class StatApiServer {
                 return;
             }
 
+            String cacheKey = cacheKey(exchange);
+            ApiResponseCache.Version version = new ApiResponseCache.Version(statService.getDataVersion(), divisionVersion());
+            if (sendCached(exchange, cacheKey, version)) return;
+
             // Check if round-specific stats requested
             if (parts.length >= 6 && parts[4].equals("round")) {
                 int roundId;
@@ -272,7 +456,7 @@ public class StatApiServer {
                     return;
                 }
 
-                sendResponse(exchange, 200, buildPlayerResponse(stats.get(), roundId));
+                sendCachedResponse(exchange, cacheKey, version, 200, buildPlayerResponse(stats.get(), roundId, meritOf(uuid), divisionOf(uuid)));
             } else {
                 Optional<PlayerStats> stats = statService.getPlayerStats(uuid);
                 if (stats.isEmpty()) {
@@ -296,166 +480,240 @@ public class StatApiServer {
                                             return n != null ? n : uuid.toString();
                                         })
                                 : (offlinePlayer.getName() != null ? offlinePlayer.getName() : uuid.toString());
-                        sendResponse(exchange, 200, buildEmptyPlayerResponse(uuid, knownName));
+                        sendCachedResponse(exchange, cacheKey, version, 200, buildEmptyPlayerResponse(uuid, knownName, meritOf(uuid), divisionOf(uuid)));
                     } else {
                         sendError(exchange, 404, "Player not found");
                     }
                     return;
                 }
 
-                sendResponse(exchange, 200, buildPlayerResponse(stats.get(), null));
+                sendCachedResponse(exchange, cacheKey, version, 200, buildPlayerResponse(stats.get(), null, meritOf(uuid), divisionOf(uuid)));
             }
         }
+    }
 
-        /** Returns a zeroed player profile for a known player who has no stats yet. */
-        private Map<String, Object> buildEmptyPlayerResponse(UUID uuid, String username) {
-            Map<String, Object> response = new LinkedHashMap<>();
-            response.put("uuid", uuid.toString());
-            response.put("username", username);
-            response.put("hasStats", false);
-            response.put("lastSeen", null);
+    /** Returns a zeroed player profile for a known player who has no stats yet. */
+    private Map<String, Object> buildEmptyPlayerResponse(UUID uuid, String username,
+                                                         PlayerMeritData meritData, Division division) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("uuid", uuid.toString());
+        response.put("username", username);
+        response.put("hasStats", false);
+        response.put("lastSeen", null);
+
+        // Team (real data even if no stats yet)
+        if (teamService != null) {
+            Optional<String> teamOpt = teamService.getPlayerTeam(uuid);
+            response.put("team", teamOpt.orElse(null));
+        }
 
-            // Team (real data even if no stats yet)
-            if (teamService != null) {
-                Optional<String> teamOpt = teamService.getPlayerTeam(uuid);
-                response.put("team", teamOpt.orElse(null));
+        // All stat groups initialised to zero
+        Map<String, Map<String, Object>> groups = new LinkedHashMap<>();
+        for (StatCategory.StatGroup group : StatCategory.StatGroup.values()) {
+            Map<String, Object> groupStats = new LinkedHashMap<>();
+            for (StatCategory cat : StatCategory.getByGroup(group)) {
+                groupStats.put(cat.getKey(), 0.0);
             }
+            groups.put(group.name().toLowerCase(), groupStats);
+        }
+        response.put("stats", groups);
+
+        // Computed stats (all zero)
+        Map<String, Object> computed = new LinkedHashMap<>();
+        computed.put("kdr", 0.0);
+        computed.put("kda", 0.0);
+        computed.put("mvp_score", 0.0);
+        computed.put("win_rate", 0.0);
+        response.put("computed", computed);
+
+        // Merit rank (real data if available, otherwise default Recruit)
+        if (meritService != null) {
+            response.put("merit", buildMeritInfo(meritData));
+        }
 
-            // All stat groups initialised to zero
-            Map<String, Map<String, Object>> groups = new LinkedHashMap<>();
-            for (StatCategory.StatGroup group : StatCategory.StatGroup.values()) {
-                Map<String, Object> groupStats = new LinkedHashMap<>();
-                for (StatCategory cat : StatCategory.getByGroup(group)) {
-                    groupStats.put(cat.getKey(), 0.0);
-                }
-                groups.put(group.name().toLowerCase(), groupStats);
-            }
-            response.put("stats", groups);
+        // Division (real data if available)
+        if (divisionService != null) {
+            response.put("division", buildDivisionInfo(division));
+        }
 
-            // Computed stats (all zero)
-            Map<String, Object> computed = new LinkedHashMap<>();
-            computed.put("kdr", 0.0);
-            computed.put("kda", 0.0);
-            computed.put("mvp_score", 0.0);
-            computed.put("win_rate", 0.0);
-            response.put("computed", computed);
+        return response;
+    }
 
-            // Merit rank (real data if available, otherwise default Recruit)
-            if (meritService != null) {
-                Optional<PlayerMeritData> meritOpt = meritService.getPlayerData(uuid);
-                Map<String, Object> merit = new LinkedHashMap<>();
-                if (meritOpt.isPresent()) {
-                    PlayerMeritData data = meritOpt.get();
-                    MeritRank rank = data.getRank();
-                    merit.put("rank_name", rank.getDisplayName());
-                    merit.put("rank_tag", rank.getTag());
-                    merit.put("merits", data.receivedMerits());
-                    merit.put("token_balance", data.tokenBalance());
-                    MeritRank nextRank = rank.getNextRank();
-                    if (nextRank != null) {
-                        merit.put("next_rank", nextRank.getDisplayName());
-                        merit.put("next_rank_tag", nextRank.getTag());
-                        merit.put("merits_to_next", rank.getMeritsToNextRank(data.receivedMerits()));
-                        merit.put("next_rank_required", nextRank.getMeritsRequired());
-                    }
-                } else {
-                    merit.put("rank_name", MeritRank.RECRUIT.getDisplayName());
-                    merit.put("rank_tag", MeritRank.RECRUIT.getTag());
-                    merit.put("merits", 0);
-                    merit.put("token_balance", 0);
-                }
-                response.put("merit", merit);
+    private Map<String, Object> buildPlayerResponse(PlayerStats stats, Integer roundId,
+                                                    PlayerMeritData meritData, Division division) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("uuid", stats.getUuid().toString());
+        response.put("username", stats.getLastKnownName());
+        response.put("hasStats", true);
+        response.put("lastSeen", Instant.ofEpochMilli(stats.getLastLogin()).toString());
+
+        if (roundId != null) {
+            response.put("roundId", roundId);
+        }
+
+        // Stats by group
+        Map<String, Map<String, Object>> groups = new LinkedHashMap<>();
+        for (StatCategory.StatGroup group : StatCategory.StatGroup.values()) {
+            Map<String, Object> groupStats = new LinkedHashMap<>();
+            for (StatCategory cat : StatCategory.getByGroup(group)) {
+                groupStats.put(cat.getKey(), stats.getStat(cat));
             }
+            groups.put(group.name().toLowerCase(), groupStats);
+        }
+        response.put("stats", groups);
+
+        // Computed stats
+        Map<String, Object> computed = new LinkedHashMap<>();
+        computed.put("kdr", Math.round(stats.getKDR() * 100.0) / 100.0);
+        computed.put("kda", Math.round(stats.getKDA() * 100.0) / 100.0);
+        computed.put("mvp_score", stats.getMVPScore());
+        computed.put("win_rate", Math.round(stats.getWinRate() * 100.0) / 100.0);
+        response.put("computed", computed);
+
+        // Team
+        if (teamService != null) {
+            Optional<String> teamOpt = teamService.getPlayerTeam(stats.getUuid());
+            response.put("team", teamOpt.orElse(null));
+        }
 
-            // Division (real data if available)
-            if (divisionService != null) {
-                Optional<Division> divOpt = divisionService.getPlayerDivision(uuid);
-                Map<String, Object> division = new LinkedHashMap<>();
-                if (divOpt.isPresent()) {
-                    division.put("name", divOpt.get().name());
-                    division.put("tag", divOpt.get().tag());
-                }
-                response.put("division", division);
+        // Division
+        if (divisionService != null) {
+            response.put("division", buildDivisionInfo(division));
+        }
+
+        // Merit rank info
+        if (meritService != null) {
+            response.put("merit", buildMeritInfo(meritData));
+        }
+
+        return response;
+    }
+
+    /**
+     * Merit section of a player profile; players without merit data show as Recruit.
+     */
+    private Map<String, Object> buildMeritInfo(PlayerMeritData data) {
+        Map<String, Object> merit = new LinkedHashMap<>();
+        if (data != null) {
+            MeritRank rank = data.getRank();
+            merit.put("rank_name", rank.getDisplayName());
+            merit.put("rank_tag", rank.getTag());
+            merit.put("merits", data.receivedMerits());
+            merit.put("token_balance", data.tokenBalance());
+            MeritRank nextRank = rank.getNextRank();
+            if (nextRank != null) {
+                merit.put("next_rank", nextRank.getDisplayName());
+                merit.put("next_rank_tag", nextRank.getTag());
+                merit.put("merits_to_next", rank.getMeritsToNextRank(data.receivedMerits()));
+                merit.put("next_rank_required", nextRank.getMeritsRequired());
             }
+        } else {
+            merit.put("rank_name", MeritRank.RECRUIT.getDisplayName());
+            merit.put("rank_tag", MeritRank.RECRUIT.getTag());
+            merit.put("merits", 0);
+            merit.put("token_balance", 0);
+        }
+        return merit;
+    }
 
-            return response;
+    /**
+     * Division section of a player profile; empty when the player has no division.
+     */
+    private Map<String, Object> buildDivisionInfo(Division div) {
+        Map<String, Object> division = new LinkedHashMap<>();
+        if (div != null) {
+            division.put("name", div.name());
+            division.put("tag", div.tag());
         }
+        return division;
+    }
 
-        private Map<String, Object> buildPlayerResponse(PlayerStats stats, Integer roundId) {
-            Map<String, Object> response = new LinkedHashMap<>();
-            response.put("uuid", stats.getUuid().toString());
-            response.put("username", stats.getLastKnownName());
-            response.put("hasStats", true);
-            response.put("lastSeen", Instant.ofEpochMilli(stats.getLastLogin()).toString());
+    private PlayerMeritData meritOf(UUID uuid) {
+        return meritService != null ? meritService.getPlayerData(uuid).orElse(null) : null;
+    }
 
-            if (roundId != null) {
-                response.put("roundId", roundId);
+    private Division divisionOf(UUID uuid) {
+        return divisionService != null ? divisionService.getPlayerDivision(uuid).orElse(null) : null;
+    }
+
+    /**
+     * Names for many players from the stats database in one query, falling back to
+     * Bukkit's offline player cache only for players the database does not know.
+     */
+    private Map<UUID, String> resolveNames(Collection<UUID> uuids) {
+        Map<UUID, String> names = new HashMap<>(statService.getPlayerNames(uuids));
+        for (UUID uuid : uuids) {
+            if (!names.containsKey(uuid)) {
+                String name = Bukkit.getOfflinePlayer(uuid).getName();
+                if (name != null) names.put(uuid, name);
             }
+        }
+        return names;
+    }
 
-            // Stats by group
-            Map<String, Map<String, Object>> groups = new LinkedHashMap<>();
-            for (StatCategory.StatGroup group : StatCategory.StatGroup.values()) {
-                Map<String, Object> groupStats = new LinkedHashMap<>();
-                for (StatCategory cat : StatCategory.getByGroup(group)) {
-                    groupStats.put(cat.getKey(), stats.getStat(cat));
-                }
-                groups.put(group.name().toLowerCase(), groupStats);
+    /**
+     * POST /api/players  {"uuids": ["...", ...]}
+     * Lifetime profiles for up to 100 players in one request, using one bulk lookup per
+     * data source instead of one per player. Unknown or invalid UUIDs are listed in "missing".
+     */
+    private class PlayersHandler implements HttpHandler {
+        private static final int MAX_PLAYERS = 100;
+        private static final int MAX_BODY_BYTES = 16 * 1024;
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Use POST with a JSON body: {\"uuids\": [...]}");
+                return;
             }
-            response.put("stats", groups);
 
-            // Computed stats
-            Map<String, Object> computed = new LinkedHashMap<>();
-            computed.put("kdr", Math.round(stats.getKDR() * 100.0) / 100.0);
-            computed.put("kda", Math.round(stats.getKDA() * 100.0) / 100.0);
-            computed.put("mvp_score", stats.getMVPScore());
-            computed.put("win_rate", Math.round(stats.getWinRate() * 100.0) / 100.0);
-            response.put("computed", computed);
+            byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) { sendError(exchange, 413, "Request body too large"); return; }
 
-            // Team
-            if (teamService != null) {
-                Optional<String> teamOpt = teamService.getPlayerTeam(stats.getUuid());
-                response.put("team", teamOpt.orElse(null));
+            List<String> requested;
+            try {
+                JsonObject json = JsonParser.parseString(new String(body, StandardCharsets.UTF_8)).getAsJsonObject();
+                JsonArray array = json.getAsJsonArray("uuids");
+                if (array == null) { sendError(exchange, 400, "Missing 'uuids' array"); return; }
+                requested = new ArrayList<>(array.size());
+                for (JsonElement element : array) {
+                    requested.add(element.getAsString());
+                }
+            } catch (RuntimeException e) {
+                sendError(exchange, 400, "Invalid JSON body");
+                return;
             }
+            if (requested.size() > MAX_PLAYERS) { sendError(exchange, 400, "At most " + MAX_PLAYERS + " UUIDs per request"); return; }
 
-            // Division
-            if (divisionService != null) {
-                Optional<Division> divOpt = divisionService.getPlayerDivision(stats.getUuid());
-                Map<String, Object> division = new LinkedHashMap<>();
-                if (divOpt.isPresent()) {
-                    division.put("name", divOpt.get().name());
-                    division.put("tag", divOpt.get().tag());
+            List<String> missing = new ArrayList<>();
+            Set<UUID> uuids = new LinkedHashSet<>();
+            for (String value : requested) {
+                try {
+                    uuids.add(UUID.fromString(value));
+                } catch (IllegalArgumentException e) {
+                    missing.add(value);
                 }
-                response.put("division", division);
             }
 
-            // Merit rank info
-            if (meritService != null) {
-                Optional<PlayerMeritData> meritOpt = meritService.getPlayerData(stats.getUuid());
-                Map<String, Object> merit = new LinkedHashMap<>();
-                if (meritOpt.isPresent()) {
-                    PlayerMeritData data = meritOpt.get();
-                    MeritRank rank = data.getRank();
-                    merit.put("rank_name", rank.getDisplayName());
-                    merit.put("rank_tag", rank.getTag());
-                    merit.put("merits", data.receivedMerits());
-                    merit.put("token_balance", data.tokenBalance());
-                    MeritRank nextRank = rank.getNextRank();
-                    if (nextRank != null) {
-                        merit.put("next_rank", nextRank.getDisplayName());
-                        merit.put("next_rank_tag", nextRank.getTag());
-                        merit.put("merits_to_next", rank.getMeritsToNextRank(data.receivedMerits()));
-                        merit.put("next_rank_required", nextRank.getMeritsRequired());
-                    }
-                } else {
-                    merit.put("rank_name", MeritRank.RECRUIT.getDisplayName());
-                    merit.put("rank_tag", MeritRank.RECRUIT.getTag());
-                    merit.put("merits", 0);
-                    merit.put("token_balance", 0);
+            Map<UUID, PlayerStats> stats = statService.getPlayerStats(uuids);
+            Map<UUID, PlayerMeritData> merits = meritService != null ? meritService.getPlayerData(uuids) : Map.of();
+            Map<UUID, Division> divisions = divisionService != null ? divisionService.getPlayerDivisions(uuids) : Map.of();
+
+            List<Map<String, Object>> players = new ArrayList<>(stats.size());
+            for (UUID uuid : uuids) {
+                PlayerStats playerStats = stats.get(uuid);
+                if (playerStats == null) {
+                    missing.add(uuid.toString());
+                    continue;
                 }
-                response.put("merit", merit);
+                players.add(buildPlayerResponse(playerStats, null, merits.get(uuid), divisions.get(uuid)));
             }
 
-            return response;
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("count", players.size());
+            response.put("players", players);
+            response.put("missing", missing);
+            sendResponse(exchange, 200, response);
         }
     }
 
@@ -465,17 +723,6 @@ public class StatApiServer {
     private class LeaderboardHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) {
-                sendError(exchange, 401, "Invalid API key");
-                return;
-            }
-
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) {
-                sendError(exchange, 429, "Rate limit exceeded");
-                return;
-            }
-
             String categoryStr = getPathParam(exchange, "/api/leaderboard");
             if (categoryStr == null || categoryStr.isEmpty()) {
                 sendError(exchange, 400, "Missing category");
@@ -496,6 +743,10 @@ public class StatApiServer {
                 }
             } catch (NumberFormatException ignored) {}
 
+            String cacheKey = "/api/leaderboard/" + category.getKey() + "?limit=" + limit;
+            ApiResponseCache.Version version = ApiResponseCache.Version.of(statService.getDataVersion());
+            if (sendCached(exchange, cacheKey, version)) return;
+
             List<LeaderboardEntry> entries = statService.getLeaderboard(category, limit);
 
             Map<String, Object> response = new LinkedHashMap<>();
@@ -503,6 +754,10 @@ public class StatApiServer {
             response.put("displayName", category.getDisplayName());
             response.put("period", "lifetime");
 
+            Map<UUID, PlayerMeritData> merits = meritService != null
+                    ? meritService.getPlayerData(entries.stream().map(LeaderboardEntry::uuid).toList())
+                    : Map.of();
+
             List<Map<String, Object>> entryList = new ArrayList<>();
             for (LeaderboardEntry entry : entries) {
                 Map<String, Object> entryMap = new LinkedHashMap<>();
@@ -512,9 +767,9 @@ public class StatApiServer {
                 entryMap.put("value", entry.value());
                 // Include merit rank tag
                 if (meritService != null) {
-                    Optional<PlayerMeritData> md = meritService.getPlayerData(entry.uuid());
-                    if (md.isPresent()) {
-                        MeritRank mr = md.get().getRank();
+                    PlayerMeritData md = merits.get(entry.uuid());
+                    if (md != null) {
+                        MeritRank mr = md.getRank();
                         entryMap.put("merit_rank", mr.getDisplayName());
                         entryMap.put("merit_tag", mr.getTag());
                     } else {
@@ -526,7 +781,7 @@ public class StatApiServer {
             }
             response.put("entries", entryList);
 
-            sendResponse(exchange, 200, response);
+            sendCachedResponse(exchange, cacheKey, version, 200, response);
         }
     }
 
@@ -536,17 +791,6 @@ public class StatApiServer {
     private class TeamHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) {
-                sendError(exchange, 401, "Invalid API key");
-                return;
-            }
-
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) {
-                sendError(exchange, 429, "Rate limit exceeded");
-                return;
-            }
-
             String team = getPathParam(exchange, "/api/team");
             if (team == null || (!team.equalsIgnoreCase("red") && !team.equalsIgnoreCase("blue"))) {
                 sendError(exchange, 400, "Invalid team. Use 'red' or 'blue'");
@@ -605,17 +849,6 @@ public class StatApiServer {
     private class RoundHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) {
-                sendError(exchange, 401, "Invalid API key");
-                return;
-            }
-
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) {
-                sendError(exchange, 429, "Rate limit exceeded");
-                return;
-            }
-
             String roundStr = getPathParam(exchange, "/api/round");
             if (roundStr == null || roundStr.isEmpty()) {
                 sendError(exchange, 400, "Missing round ID");
@@ -675,17 +908,6 @@ public class StatApiServer {
     private class RoundsHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) {
-                sendError(exchange, 401, "Invalid API key");
-                return;
-            }
-
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) {
-                sendError(exchange, 429, "Rate limit exceeded");
-                return;
-            }
-
             List<Integer> roundIds = statService.getAllRoundIds();
 
             Map<String, Object> response = new LinkedHashMap<>();
@@ -702,11 +924,6 @@ public class StatApiServer {
     private class CategoriesHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) {
-                sendError(exchange, 401, "Invalid API key");
-                return;
-            }
-
             List<Map<String, Object>> categories = new ArrayList<>();
             for (StatCategory cat : StatCategory.values()) {
                 Map<String, Object> catMap = new LinkedHashMap<>();
@@ -736,17 +953,6 @@ public class StatApiServer {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
             try {
-                if (!validateApiKey(exchange)) {
-                    sendError(exchange, 401, "Invalid API key");
-                    return;
-                }
-
-                String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-                if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) {
-                    sendError(exchange, 429, "Rate limit exceeded");
-                    return;
-                }
-
                 Map<String, String> params = parseQueryParams(exchange);
                 String action = params.get("action");
 
@@ -901,10 +1107,6 @@ public class StatApiServer {
     private class MeritsHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) { sendError(exchange, 401, "Invalid API key"); return; }
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) { sendError(exchange, 429, "Rate limit exceeded"); return; }
-
             String uuidStr = getPathParam(exchange, "/api/merits");
             if (uuidStr == null || uuidStr.isEmpty()) { sendError(exchange, 400, "Missing player UUID"); return; }
 
@@ -973,15 +1175,15 @@ public class StatApiServer {
     private class DivisionsHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) { sendError(exchange, 401, "Invalid API key"); return; }
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) { sendError(exchange, 429, "Rate limit exceeded"); return; }
-
             if (divisionService == null) { sendError(exchange, 503, "Division system not available"); return; }
 
             Map<String, String> params = parseQueryParams(exchange);
             String teamFilter = params.get("team");
 
+            String cacheKey = cacheKey(exchange);
+            ApiResponseCache.Version version = ApiResponseCache.Version.of(divisionVersion());
+            if (sendCached(exchange, cacheKey, version)) return;
+
             List<Division> allDivisions = new ArrayList<>();
             if (teamFilter != null && (teamFilter.equalsIgnoreCase("red") || teamFilter.equalsIgnoreCase("blue"))) {
                 allDivisions.addAll(divisionService.getDivisionsForTeam(teamFilter.toLowerCase()));
@@ -990,6 +1192,7 @@ public class StatApiServer {
                 allDivisions.addAll(divisionService.getDivisionsForTeam("blue"));
             }
 
+            Map<Integer, Integer> memberCounts = divisionService.getMemberCounts();
             List<Map<String, Object>> divList = new ArrayList<>();
             for (Division div : allDivisions) {
                 Map<String, Object> dm = new LinkedHashMap<>();
@@ -998,14 +1201,14 @@ public class StatApiServer {
                 dm.put("tag", div.tag());
                 dm.put("team", div.team());
                 dm.put("description", div.description());
-                dm.put("member_count", divisionService.getMembers(div.divisionId()).size());
+                dm.put("member_count", memberCounts.getOrDefault(div.divisionId(), 0));
                 divList.add(dm);
             }
 
             Map<String, Object> response = new LinkedHashMap<>();
             response.put("count", divList.size());
             response.put("divisions", divList);
-            sendResponse(exchange, 200, response);
+            sendCachedResponse(exchange, cacheKey, version, 200, response);
         }
     }
 
@@ -1015,10 +1218,6 @@ public class StatApiServer {
     private class DivisionHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) { sendError(exchange, 401, "Invalid API key"); return; }
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) { sendError(exchange, 429, "Rate limit exceeded"); return; }
-
             if (divisionService == null) { sendError(exchange, 503, "Division system not available"); return; }
 
             String nameOrTag = getPathParam(exchange, "/api/division");
@@ -1060,27 +1259,35 @@ public class StatApiServer {
             response.put("description", found.description());
             response.put("created_at", Instant.ofEpochMilli(found.createdAt()).toString());
 
+            // Names and merit data for the founder and every member, one lookup each
+            List<DivisionMember> members = divisionService.getMembers(found.divisionId());
+            UUID founderUuid = UUID.fromString(found.founderUuid());
+            List<UUID> uuids = new ArrayList<>(members.size() + 1);
+            uuids.add(founderUuid);
+            for (DivisionMember member : members) {
+                uuids.add(UUID.fromString(member.playerUuid()));
+            }
+            Map<UUID, String> names = resolveNames(uuids);
+            Map<UUID, PlayerMeritData> merits = meritService != null ? meritService.getPlayerData(uuids) : Map.of();
+
             // Founder name
-            String founderName = Bukkit.getOfflinePlayer(UUID.fromString(found.founderUuid())).getName();
-            response.put("founder", founderName != null ? founderName : found.founderUuid());
+            response.put("founder", names.getOrDefault(founderUuid, found.founderUuid()));
 
             // Members with roles and merit ranks
-            List<DivisionMember> members = divisionService.getMembers(found.divisionId());
             List<Map<String, Object>> memberList = new ArrayList<>();
             for (DivisionMember member : members) {
                 Map<String, Object> mm = new LinkedHashMap<>();
                 UUID memberUuid = UUID.fromString(member.playerUuid());
-                String memberName = Bukkit.getOfflinePlayer(memberUuid).getName();
                 mm.put("uuid", member.playerUuid());
-                mm.put("username", memberName != null ? memberName : member.playerUuid());
+                mm.put("username", names.getOrDefault(memberUuid, member.playerUuid()));
                 mm.put("role", member.role().name());
                 mm.put("role_symbol", member.role().getSymbol());
 
                 if (meritService != null) {
-                    Optional<PlayerMeritData> md = meritService.getPlayerData(memberUuid);
-                    if (md.isPresent()) {
-                        mm.put("merit_rank", md.get().getRank().getDisplayName());
-                        mm.put("merit_tag", md.get().getRank().getTag());
+                    PlayerMeritData md = merits.get(memberUuid);
+                    if (md != null) {
+                        mm.put("merit_rank", md.getRank().getDisplayName());
+                        mm.put("merit_tag", md.getRank().getTag());
                     } else {
                         mm.put("merit_rank", MeritRank.RECRUIT.getDisplayName());
                         mm.put("merit_tag", MeritRank.RECRUIT.getTag());
@@ -1101,12 +1308,12 @@ public class StatApiServer {
     private class RegionsHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) { sendError(exchange, 401, "Invalid API key"); return; }
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) { sendError(exchange, 429, "Rate limit exceeded"); return; }
-
             if (regionService == null) { sendError(exchange, 503, "Region system not available"); return; }
 
+            String cacheKey = "/api/regions";
+            ApiResponseCache.Version version = ApiResponseCache.Version.of(regionService.getDataVersion());
+            if (sendCached(exchange, cacheKey, version)) return;
+
             List<RegionStatus> statuses = regionService.getAllRegionStatuses();
 
             int redCount = 0, blueCount = 0, neutralCount = 0, contestedCount = 0;
@@ -1135,7 +1342,7 @@ public class StatApiServer {
             response.put("neutral", neutralCount);
             response.put("contested", contestedCount);
             response.put("regions", regionList);
-            sendResponse(exchange, 200, response);
+            sendCachedResponse(exchange, cacheKey, version, 200, response);
         }
     }
 
@@ -1146,10 +1353,6 @@ public class StatApiServer {
     private class AchievementsHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) { sendError(exchange, 401, "Invalid API key"); return; }
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) { sendError(exchange, 429, "Rate limit exceeded"); return; }
-
             // Group achievements by category
             Map<String, List<Map<String, Object>>> grouped = new LinkedHashMap<>();
             for (Achievement a : Achievement.values()) {
@@ -1177,10 +1380,6 @@ public class StatApiServer {
     private class RanksHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) { sendError(exchange, 401, "Invalid API key"); return; }
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) { sendError(exchange, 429, "Rate limit exceeded"); return; }
-
             List<Map<String, Object>> rankList = new ArrayList<>();
             for (MeritRank rank : MeritRank.values()) {
                 Map<String, Object> rm = new LinkedHashMap<>();
@@ -1214,9 +1413,10 @@ public class StatApiServer {
     private class OnlineHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            if (!validateApiKey(exchange)) { sendError(exchange, 401, "Invalid API key"); return; }
-            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-            if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) { sendError(exchange, 429, "Rate limit exceeded"); return; }
+            // Team and rank changes have no counter; the cache max age bounds how stale those get
+            String cacheKey = "/api/online";
+            ApiResponseCache.Version version = new ApiResponseCache.Version(statService.getOnlineVersion(), divisionVersion());
+            if (sendCached(exchange, cacheKey, version)) return;
 
             List<Map<String, Object>> playerList = new ArrayList<>();
             for (Player p : Bukkit.getOnlinePlayers()) {
@@ -1260,7 +1460,100 @@ public class StatApiServer {
             response.put("count", playerList.size());
             response.put("max", Bukkit.getMaxPlayers());
             response.put("players", playerList);
-            sendResponse(exchange, 200, response);
+            sendCachedResponse(exchange, cacheKey, version, 200, response);
+        }
+    }
+
+    /**
+     * GET /api/events  (Server-Sent Events)
+     * Streams game events as they happen: region_captured, objective_completed, round_changed,
+     * endgame_changed and supply_disrupted. Each event's SSE id is "<epoch>-<seq>", so a
+     * reconnecting client resumes with the standard Last-Event-ID header (or ?since=<id>). If the
+     * requested events are no longer retained or came from an earlier server boot, a "reset"
+     * event tells the client to refetch state.
+     * A client that falls behind its buffer is disconnected after draining and should reconnect.
+     */
+    private class EventsHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if (!checkAccess(exchange)) return;
+
+            if (eventBus == null) { sendError(exchange, 503, "Event stream not available"); return; }
+
+            // Reserve a slot first so concurrent connects can't overshoot the limit
+            if (eventSubscribers.incrementAndGet() > MAX_EVENT_SUBSCRIBERS) {
+                eventSubscribers.decrementAndGet();
+                sendError(exchange, 503, "Too many event subscribers");
+                return;
+            }
+            try {
+                stream(exchange);
+            } finally {
+                eventSubscribers.decrementAndGet();
+            }
+        }
+
+        private void stream(HttpExchange exchange) throws IOException {
+            // Ids are "<epoch>-<seq>"; a bare sequence is taken to be from the current epoch
+            String resumeFrom = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+            if (resumeFrom == null) resumeFrom = parseQueryParams(exchange).get("since");
+            long epoch = eventBus.getEpoch();
+            long since = 0;
+            try {
+                if (resumeFrom != null) {
+                    String id = resumeFrom.trim();
+                    int dash = id.indexOf('-');
+                    if (dash > 0) {
+                        epoch = Long.parseLong(id.substring(0, dash));
+                        id = id.substring(dash + 1);
+                    }
+                    since = Math.max(0, Long.parseLong(id));
+                }
+            } catch (NumberFormatException ignored) {
+                since = 0;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+            exchange.sendResponseHeaders(200, 0);
+
+            try (GameEventBus.Subscription subscription = eventBus.subscribe(epoch, since, EVENT_BUFFER_SIZE);
+                 OutputStream os = exchange.getResponseBody()) {
+                writeSse(os, "retry: 5000\n\n");
+                if (subscription.missedEvents()) {
+                    writeSse(os, "event: reset\ndata: " + eventGson.toJson(Map.of(
+                            "epoch", eventBus.getEpoch(), "last_seq", eventBus.getLastSequence())) + "\n\n");
+                }
+
+                while (true) {
+                    GameEventBus.GameEvent event = subscription.poll(EVENT_KEEPALIVE_MS);
+                    if (event != null) {
+                        Map<String, Object> payload = new LinkedHashMap<>();
+                        payload.put("seq", event.sequence());
+                        payload.put("type", event.type());
+                        payload.put("timestamp", Instant.ofEpochMilli(event.timestamp()).toString());
+                        payload.put("data", event.data());
+                        writeSse(os, "id: " + eventBus.getEpoch() + "-" + event.sequence() + "\nevent: " + event.type()
+                                + "\ndata: " + eventGson.toJson(payload) + "\n\n");
+                    } else if (subscription.isOverflowed()) {
+                        // Drained everything that fit; the client resumes from its last id
+                        break;
+                    } else {
+                        writeSse(os, ": keepalive\n\n");
+                    }
+                }
+            } catch (IOException e) {
+                // Client disconnected
+            } catch (InterruptedException e) {
+                // Server stopping
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void writeSse(OutputStream os, String chunk) throws IOException {
+            os.write(chunk.getBytes(StandardCharsets.UTF_8));
+            os.flush();
         }
     }
 
@@ -1275,10 +1568,6 @@ public class StatApiServer {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
             try {
-                if (!validateApiKey(exchange)) { sendError(exchange, 401, "Invalid API key"); return; }
-                String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
-                if (!checkRateLimit(apiKey != null ? apiKey : "anonymous")) { sendError(exchange, 429, "Rate limit exceeded"); return; }
-
                 if (linkService == null) { sendError(exchange, 503, "Link system not available"); return; }
 
                 String pathParam = getPathParam(exchange, "/api/linked");
@@ -25,7 +25,6 @@ import org.flintstqne.entrenched.DivisionLogic.DivisionRole;
 import org.flintstqne.entrenched.DivisionLogic.DivisionService;
 import org.flintstqne.entrenched.RegionLogic.RegionService;
 import org.flintstqne.entrenched.RegionLogic.RegionStatus;
-import org.flintstqne.entrenched.RoundLogic.Round;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
 
@@ -126,6 +125,7 @@ public class StatListener implements Listener {
 
         // Track session start
         sessionStartTimes.put(uuid, System.currentTimeMillis());
+        statService.onOnlinePlayersChanged();
 
         // Get team and round
         Optional<String> teamOpt = teamService.getPlayerTeam(uuid);
@@ -149,6 +149,12 @@ public class StatListener implements Listener {
         }
 
         enemyTerritoryTime.remove(uuid);
+
+        // The player is still listed as online during the quit event; bump again once removed
+        statService.onOnlinePlayersChanged();
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, statService::onOnlinePlayersChanged);
+        }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -304,9 +310,7 @@ public class StatListener implements Listener {
      * Gets the current round ID.
      */
     private int getCurrentRoundId() {
-        return roundService.getCurrentRound()
-                .map(Round::roundId)
-                .orElse(-1);
+        return roundService.getCurrentRoundId();
     }
 
     // === OBJECTIVE STAT RECORDING METHODS ===
@@ -1,14 +1,16 @@
 package org.flintstqne.entrenched.StatLogic;
 
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 import org.flintstqne.entrenched.ConfigManager;
-import org.flintstqne.entrenched.RoundLogic.Round;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
@@ -20,7 +22,7 @@ public final class StatService {
     private static final long ASSIST_WINDOW_MS = 10_000L; // 10 seconds for assists
     private static final long REVENGE_WINDOW_MS = 60_000L; // 1 minute for revenge
     private static final long LOGIN_STREAK_RESET_MS = 36 * 60 * 60 * 1000L; // 36 hours
-    private static final long DAMAGE_CLEANUP_MS = 60_000L; // Clean damage tracking every minute
+    private static final long COMBAT_SWEEP_TICKS = 1200L; // Sweep combat ledger every minute
 
     // MVP Formula weights
     private static final double MVP_KILLS_WEIGHT = 10.0;
@@ -35,28 +37,53 @@ public final class StatService {
     private final Logger logger;
 
     private final ConcurrentLinkedQueue<StatEvent> writeQueue = new ConcurrentLinkedQueue<>();
+
+    // Coalesced changes of a flush that failed to write; the next flush starts from them
+    private FlushBatch retryBatch;
     private BukkitTask flushTask;
     private BukkitTask cleanupTask;
 
     // Track current kill streaks in memory (reset on death)
     private final Map<UUID, Integer> currentKillStreaks = new HashMap<>();
 
+    // Recent attackers, recent kills and first blood, kept in memory
+    private final CombatLedger combatLedger = new CombatLedger(ASSIST_WINDOW_MS, REVENGE_WINDOW_MS);
+
+    // Top-K leaderboards for lifetime and current round stats, fed by flush()
+    private final LeaderboardIndex leaderboards;
+
+    // Bumped whenever stored stats change, so API responses built from them can be reused until then
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    // Bumped when a player joins or leaves, for responses built from the online player list
+    private final AtomicLong onlineVersion = new AtomicLong();
+
     public StatService(JavaPlugin plugin, StatDb db, RoundService roundService, ConfigManager config) {
         this.plugin = plugin;
         this.db = db;
         this.roundService = roundService;
         this.config = config;
         this.logger = plugin.getLogger();
+        this.leaderboards = new LeaderboardIndex(db);
     }
     public void start() {
         // Start async flush task
         flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flush, 
                 FLUSH_INTERVAL_TICKS, FLUSH_INTERVAL_TICKS);
 
-        // Start cleanup task for damage tracking
-        cleanupTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, 
-                () -> db.cleanupDamageTracking(DAMAGE_CLEANUP_MS), 
-                1200L, 1200L); // Every minute
+        // Start cleanup task for the combat ledger
+        cleanupTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin,
+                () -> combatLedger.sweep(System.currentTimeMillis()),
+                COMBAT_SWEEP_TICKS, COMBAT_SWEEP_TICKS);
+
+        // Restarted mid-round: first blood may already be in the database
+        int roundId = getCurrentRoundId();
+        if (db.isInitialized()) {
+            leaderboards.load(roundId);
+        }
+        if (roundId > 0 && db.isFirstBloodClaimed(roundId)) {
+            combatLedger.claimFirstBlood(roundId);
+        }
 
         logger.info("[Stats] Service started with 10-second flush interval");
     }
@@ -72,49 +99,86 @@ public final class StatService {
         flush(); // Final flush
         logger.info("[Stats] Service stopped");
     }
-    public void flush() {
-        if (writeQueue.isEmpty()) return;
+    /**
+     * Drains the write queue, coalesces events into one net change per
+     * (player, round, category), and writes everything in a single transaction.
+     * If the write fails the coalesced changes are kept and retried by the next flush.
+     */
+    public synchronized void flush() {
+        if (writeQueue.isEmpty() && retryBatch == null) return;
+
+        // Changes left by a failed flush come first, so newer events still apply on top
+        FlushBatch batch = retryBatch != null ? retryBatch : new FlushBatch();
+        retryBatch = null;
+        double sampleRate = config.getStatEventLogSampleRate();
 
-        List<StatEvent> batch = new ArrayList<>();
         StatEvent event;
         while ((event = writeQueue.poll()) != null) {
-            batch.add(event);
+            batch.eventCount++;
+
+            // Keep the first non-null name seen for the player
+            if (event.playerName() != null) {
+                batch.playerNames.putIfAbsent(event.playerUuid(), event.playerName());
+            }
+
+            // Counters sum; set-style stats keep the latest value
+            accumulate(batch.lifetime, new DeltaKey(event.playerUuid(), -1, event.category()), event);
+            if (event.hasRound()) {
+                accumulate(batch.round, new DeltaKey(event.playerUuid(), event.roundId(), event.category()), event);
+            }
+
+            // Raw event log is optional and sampled
+            if (sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+                batch.sampledEvents.add(event);
+            }
         }
 
-        if (batch.isEmpty()) return;
+        if (batch.eventCount == 0) return;
 
-        // Process batch
-        for (StatEvent e : batch) {
-            try {
-                // Ensure player exists
-                db.ensurePlayerExists(e.playerUuid(), e.playerName());
+        List<StatDb.StatDelta> lifetimeDeltas = toDeltas(batch.lifetime);
+        List<StatDb.StatDelta> roundDeltas = toDeltas(batch.round);
+        try {
+            db.batchWriteStats(batch.playerNames, lifetimeDeltas, roundDeltas, batch.sampledEvents);
+        } catch (Exception ex) {
+            logger.warning("[Stats] Failed to flush " + batch.eventCount + " stat events, will retry: " + ex.getMessage());
+            retryBatch = batch;
+            return;
+        }
+        leaderboards.apply(batch.playerNames, lifetimeDeltas, roundDeltas);
+        dataVersion.incrementAndGet();
 
-                // Update lifetime stats
-                if (e.isSetOperation()) {
-                    db.setLifetimeStat(e.playerUuid(), e.category(), e.delta());
-                } else {
-                    db.incrementLifetimeStat(e.playerUuid(), e.category(), e.delta());
-                }
+        logger.fine("[Stats] Flushed " + batch.eventCount + " stat events as "
+                + (batch.lifetime.size() + batch.round.size()) + " stat changes");
+    }
 
-                // Update round stats if applicable
-                if (e.hasRound()) {
-                    db.ensureRoundEntryExists(e.playerUuid(), e.roundId(), null);
-                    if (e.isSetOperation()) {
-                        db.setRoundStat(e.playerUuid(), e.roundId(), e.category(), e.delta());
-                    } else {
-                        db.incrementRoundStat(e.playerUuid(), e.roundId(), e.category(), e.delta());
-                    }
-                }
+    /**
+     * Events drained by one flush, coalesced.
+     */
+    private static final class FlushBatch {
+        final Map<UUID, String> playerNames = new HashMap<>();
+        final Map<DeltaKey, Double> lifetime = new LinkedHashMap<>();
+        final Map<DeltaKey, Double> round = new LinkedHashMap<>();
+        final List<StatEvent> sampledEvents = new ArrayList<>();
+        int eventCount;
+    }
 
-                // Log event for detailed tracking
-                db.logEvent(e.playerUuid(), e.roundId(), e.category(), e.delta(), e.metadata());
+    private record DeltaKey(UUID uuid, int roundId, StatCategory category) {}
 
-            } catch (Exception ex) {
-                logger.warning("[Stats] Failed to process event: " + ex.getMessage());
-            }
+    private static void accumulate(Map<DeltaKey, Double> deltas, DeltaKey key, StatEvent event) {
+        if (event.isSetOperation()) {
+            deltas.put(key, event.delta());
+        } else {
+            deltas.merge(key, event.delta(), Double::sum);
         }
+    }
 
-        logger.fine("[Stats] Flushed " + batch.size() + " stat events");
+    private static List<StatDb.StatDelta> toDeltas(Map<DeltaKey, Double> deltas) {
+        List<StatDb.StatDelta> result = new ArrayList<>(deltas.size());
+        for (Map.Entry<DeltaKey, Double> entry : deltas.entrySet()) {
+            DeltaKey key = entry.getKey();
+            result.add(new StatDb.StatDelta(key.uuid(), key.roundId(), key.category(), entry.getValue()));
+        }
+        return result;
     }
     public void recordEvent(StatEvent event) {
         writeQueue.offer(event);
@@ -130,13 +194,12 @@ public final class StatService {
         recordEvent(StatEvent.set(playerUuid, playerName, category, value, roundId));
     }
     public void recordDamage(UUID attacker, UUID victim, double damage) {
-        // Run async to not block main thread
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            db.recordDamage(attacker, victim, damage);
-        });
+        combatLedger.recordDamage(attacker, victim, System.currentTimeMillis());
     }
     public void recordKill(UUID killerUuid, String killerName, UUID victimUuid, String victimName,
                            int roundId, boolean isCommanderKill) {
+        long now = System.currentTimeMillis();
+
         // Increment kills
         incrementStat(killerUuid, killerName, StatCategory.KILLS, 1, roundId);
 
@@ -145,15 +208,10 @@ public final class StatService {
             incrementStat(killerUuid, killerName, StatCategory.COMMANDER_KILLS, 1, roundId);
         }
 
-        // Check for revenge kill
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            if (db.isRevengeKill(killerUuid, victimUuid, REVENGE_WINDOW_MS)) {
-                incrementStat(killerUuid, killerName, StatCategory.REVENGE_KILLS, 1, roundId);
-            }
-            
-            // Record this kill for future revenge tracking
-            db.recordKill(killerUuid, victimUuid);
-        });
+        // Check for revenge kill (and record this kill for future revenge tracking)
+        if (combatLedger.recordKill(killerUuid, victimUuid, now)) {
+            incrementStat(killerUuid, killerName, StatCategory.REVENGE_KILLS, 1, roundId);
+        }
 
         // Update kill streak
         int newStreak = currentKillStreaks.getOrDefault(killerUuid, 0) + 1;
@@ -168,24 +226,19 @@ public final class StatService {
         }
 
         // Check for first blood
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            if (!db.isFirstBloodClaimed(roundId)) {
-                incrementStat(killerUuid, killerName, StatCategory.FIRST_BLOOD, 1, roundId);
-            }
-        });
+        if (roundId > 0 && combatLedger.claimFirstBlood(roundId)) {
+            incrementStat(killerUuid, killerName, StatCategory.FIRST_BLOOD, 1, roundId);
+        }
 
         // Award assists to recent attackers
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            List<UUID> assisters = db.getRecentAttackers(victimUuid, ASSIST_WINDOW_MS);
-            for (UUID assisterId : assisters) {
-                if (!assisterId.equals(killerUuid)) {
-                    // Get assister name from DB
-                    Optional<PlayerStats> assisterStats = db.getPlayerStats(assisterId);
-                    String assisterName = assisterStats.map(PlayerStats::getLastKnownName).orElse("Unknown");
-                    incrementStat(assisterId, assisterName, StatCategory.ASSISTS, 1, roundId);
-                }
+        for (UUID assisterId : combatLedger.getRecentAttackers(victimUuid, now)) {
+            if (!assisterId.equals(killerUuid)) {
+                // Name is only needed to create a missing player row; recent attackers were online
+                Player assister = Bukkit.getPlayer(assisterId);
+                String assisterName = assister != null ? assister.getName() : null;
+                incrementStat(assisterId, assisterName, StatCategory.ASSISTS, 1, roundId);
             }
-        });
+        }
     }
     public void recordDeath(UUID victimUuid, String victimName, UUID killerUuid, int roundId) {
         // Increment deaths
@@ -198,14 +251,40 @@ public final class StatService {
     public Optional<PlayerStats> getPlayerStats(UUID playerUuid) {
         return db.getPlayerStats(playerUuid);
     }
+    /**
+     * Gets lifetime stats for many players in one lookup. Players without stats are absent.
+     */
+    public Map<UUID, PlayerStats> getPlayerStats(Collection<UUID> playerUuids) {
+        return db.getPlayerStats(playerUuids);
+    }
+
+    /**
+     * Gets the last known names of many players in one lookup. Unknown players are absent.
+     */
+    public Map<UUID, String> getPlayerNames(Collection<UUID> playerUuids) {
+        return db.getPlayerNames(playerUuids);
+    }
     public Optional<PlayerStats> getPlayerRoundStats(UUID playerUuid, int roundId) {
         return db.getRoundStats(playerUuid, roundId);
     }
+    /**
+     * Gets the lifetime leaderboard from the in-memory snapshot (as of the last flush).
+     */
     public List<LeaderboardEntry> getLeaderboard(StatCategory category, int limit) {
-        return db.getLeaderboard(category, limit);
+        if (limit > LeaderboardIndex.TOP_K) {
+            return db.getLeaderboard(category, limit);
+        }
+        return leaderboards.getSnapshot().lifetime(category, limit);
     }
+    /**
+     * Gets a round leaderboard; the current round is served from the in-memory snapshot.
+     */
     public List<LeaderboardEntry> getRoundLeaderboard(int roundId, StatCategory category, int limit) {
-        return db.getRoundLeaderboard(roundId, category, limit);
+        LeaderboardIndex.Snapshot snapshot = leaderboards.getSnapshot();
+        if (roundId != snapshot.roundId() || limit > LeaderboardIndex.TOP_K) {
+            return db.getRoundLeaderboard(roundId, category, limit);
+        }
+        return snapshot.round(category, limit);
     }
     public TeamStats getTeamStats(String team, int roundId) {
         List<PlayerStats> playerStats = db.getTeamRoundStats(roundId, team);
@@ -294,6 +373,8 @@ public final class StatService {
         if (roundId > 0) {
             db.ensureRoundEntryExists(playerUuid, roundId, team);
         }
+        leaderboards.onPlayerLogin(playerUuid, playerName, roundId);
+        dataVersion.incrementAndGet();
 
         // Check login streak
         checkLoginStreak(playerUuid);
@@ -324,21 +405,32 @@ public final class StatService {
             if (timeSinceLogin > LOGIN_STREAK_RESET_MS) {
                 // Reset streak - been offline more than 36 hours
                 db.setLifetimeStat(playerUuid, StatCategory.LOGIN_STREAK, 1);
+                leaderboards.onLifetimeStatSet(playerUuid, StatCategory.LOGIN_STREAK, 1);
+                dataVersion.incrementAndGet();
                 logger.fine("[Stats] Login streak reset for " + stats.getLastKnownName());
             } else if (timeSinceLogin > 12 * 60 * 60 * 1000L) {
                 // Increment streak - been offline more than 12 hours (new day)
                 double newStreak = currentStreak + 1;
                 db.setLifetimeStat(playerUuid, StatCategory.LOGIN_STREAK, newStreak);
+                leaderboards.onLifetimeStatSet(playerUuid, StatCategory.LOGIN_STREAK, newStreak);
                 
                 if (newStreak > bestStreak) {
                     db.setLifetimeStat(playerUuid, StatCategory.LOGIN_STREAK_BEST, newStreak);
+                    leaderboards.onLifetimeStatSet(playerUuid, StatCategory.LOGIN_STREAK_BEST, newStreak);
                 }
+                dataVersion.incrementAndGet();
                 logger.fine("[Stats] Login streak incremented to " + newStreak + " for " + stats.getLastKnownName());
             }
             // Else: logged in within 12 hours, don't change streak
         });
     }
     public UUID calculateMVP(int roundId) {
+        LeaderboardIndex.Snapshot snapshot = leaderboards.getSnapshot();
+        if (roundId == snapshot.roundId()) {
+            List<LeaderboardEntry> mvp = snapshot.roundMvp();
+            return !mvp.isEmpty() && mvp.get(0).value() > 0 ? mvp.get(0).uuid() : null;
+        }
+
         List<LeaderboardEntry> killLeaders = db.getRoundLeaderboard(roundId, StatCategory.KILLS, 100);
         
         UUID mvpUuid = null;
@@ -386,6 +478,7 @@ public final class StatService {
         }
 
         db.saveRoundMetadata(roundId, winner, startTime, endTime, mvpUuid, mvpName, mvpScore);
+        dataVersion.incrementAndGet();
         logger.info("[Stats] Round " + roundId + " end saved. Winner: " + winner + ", MVP: " + mvpName);
     }
     public List<Integer> getAllRoundIds() {
@@ -393,14 +486,32 @@ public final class StatService {
     }
     public void purgeRound(int roundId) {
         db.purgeRound(roundId);
+        leaderboards.onRoundPurged(roundId);
+        dataVersion.incrementAndGet();
+    }
+
+    /**
+     * Counter that changes whenever stored stats change (flushes, logins, round end and purge).
+     */
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
+    /**
+     * Counter that changes whenever the online player list changes.
+     */
+    public long getOnlineVersion() {
+        return onlineVersion.get();
+    }
+
+    public void onOnlinePlayersChanged() {
+        onlineVersion.incrementAndGet();
     }
 
     /**
      * Gets the current round ID from RoundService.
      */
     public int getCurrentRoundId() {
-        return roundService.getCurrentRound()
-                .map(Round::roundId)
-                .orElse(-1);
+        return roundService.getCurrentRoundId();
     }
 }
@@ -28,8 +28,11 @@ import org.flintstqne.entrenched.TeamLogic.*;
 import org.flintstqne.entrenched.Utils.ChatUtil;
 import org.flintstqne.entrenched.Utils.PlaceholderExpansion;
 import org.flintstqne.entrenched.Utils.ScoreboardUtil;
+import org.flintstqne.entrenched.Utils.TickScheduler;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +40,7 @@ import java.util.UUID;
 public final class Trenched extends JavaPlugin {
 
     private ConfigManager configManager;
+    private TickScheduler tickScheduler;
     private boolean bluemapAvailable;
     private TeamService teamService;
     private TeamDb teamDb;
@@ -52,10 +56,12 @@ public final class Trenched extends JavaPlugin {
     private PartyService partyService;
     private ChatChannelManager chatChannelManager;
     private RegionDb regionDb;
+    private InfluenceLedger influenceLedger;
     private RegionService regionService;
     private RegionNotificationManager regionNotificationManager;
     private RegionCaptureListener regionCaptureListener;
     private RoadDb roadDb;
+    private RoadScanner roadScanner;
     private RoadService roadService;
     private RoadListener roadListener;
     private DeathListener deathListener;
@@ -95,6 +101,7 @@ public final class Trenched extends JavaPlugin {
     private org.flintstqne.entrenched.StatLogic.StatService statService;
     private org.flintstqne.entrenched.StatLogic.StatListener statListener;
     private org.flintstqne.entrenched.StatLogic.StatApiServer statApiServer;
+    private org.flintstqne.entrenched.StatLogic.GameEventBus gameEventBus;
 
     // Player-Placed Block Tracking
     private org.flintstqne.entrenched.ObjectiveLogic.PlacedBlockDb placedBlockDb;
@@ -106,6 +113,10 @@ public final class Trenched extends JavaPlugin {
         configManager = new ConfigManager(this);
         getLogger().info("[Trenched] Configuration loaded");
 
+        // Shared main-thread scheduler for periodic game, UI and effect tasks
+        tickScheduler = new TickScheduler(this, configManager);
+        tickScheduler.start();
+
         // Initialize database and round service first so we can get the game world
         teamDb = TeamBootstrap.createDb(this);
         roundDb = new RoundDb(this);
@@ -168,12 +179,15 @@ public final class Trenched extends JavaPlugin {
 
         // Initialize Region Capture system
         regionDb = new RegionDb(this);
-        regionService = new RegionService(regionDb, roundService, configManager);
+        influenceLedger = new InfluenceLedger(this, regionDb, configManager.getRegionInfluenceFlushIntervalSeconds());
+        influenceLedger.start();
+        regionService = new RegionService(regionDb, influenceLedger, roundService, configManager);
 
         // Instantiate RegionRenderer AFTER regionService so it can color captured regions
         regionRenderer = new RegionRenderer(this, roundService, regionService);
 
         regionNotificationManager = new RegionNotificationManager(this, regionService, teamService, configManager, regionRenderer);
+        regionNotificationManager.setTickScheduler(tickScheduler);
         regionCaptureListener = new RegionCaptureListener(regionService, teamService, configManager, regionRenderer);
 
         // NOTE: Capture callback is set later, after roadService is initialized
@@ -211,6 +225,23 @@ public final class Trenched extends JavaPlugin {
             getLogger().info("[Trenched] Player-placed block tracking enabled");
         }
 
+        // Game events (captures, objectives, round and endgame changes) pushed to the Stats API stream
+        gameEventBus = new org.flintstqne.entrenched.StatLogic.GameEventBus();
+        objectiveService.setEventBus(gameEventBus);
+        roundService.addListener((change, previous, current) -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("change", change.name());
+            Optional<org.flintstqne.entrenched.RoundLogic.Round> round =
+                    current.round().isPresent() ? current.round() : previous.round();
+            round.ifPresent(r -> {
+                data.put("round_id", r.roundId());
+                data.put("phase", r.currentPhase());
+                data.put("status", r.status().name());
+                data.put("winner", r.winningTeam());
+            });
+            gameEventBus.publish("round_changed", data);
+        });
+
         // Wire up division and team services for assassination objective (avoids circular dependency)
         objectiveService.setDivisionService(divisionService);
         objectiveService.setTeamService(teamService);
@@ -218,6 +249,8 @@ public final class Trenched extends JavaPlugin {
 
         objectiveUIManager = new ObjectiveUIManager(this, objectiveService, regionService, roundService, teamService, configManager);
         objectiveListener = new ObjectiveListener(this, objectiveService, objectiveUIManager, regionService, teamService, configManager);
+        objectiveUIManager.setTickScheduler(tickScheduler);
+        objectiveListener.setTickScheduler(tickScheduler);
         objectiveService.setObjectiveListener(objectiveListener);
 
         // Wire up building destroyed callback â€” broadcasts specific repair needs to team
@@ -259,6 +292,7 @@ public final class Trenched extends JavaPlugin {
         // Initialize Building Benefit Manager for outpost buffs, watchtower detection, etc.
         buildingBenefitManager = new BuildingBenefitManager(this, objectiveService, regionService, teamService, roundService, configManager);
         buildingBenefitManager.setRegionRenderer(regionRenderer);
+        buildingBenefitManager.setTickScheduler(tickScheduler);
         buildingBenefitManager.start();
         // Register as event listener â€” required for the spyglass spotting system
         getServer().getPluginManager().registerEvents(buildingBenefitManager, this);
@@ -266,6 +300,7 @@ public final class Trenched extends JavaPlugin {
         // Initialize Garrison Spawn Service for quick-travel system
         garrisonSpawnService = new GarrisonSpawnService(this, objectiveService, regionService, teamService, roundService, configManager);
         garrisonSpawnService.setRegionRenderer(regionRenderer);
+        garrisonSpawnService.setTickScheduler(tickScheduler);
         garrisonSpawnService.start();
         garrisonSpawnListener = new GarrisonSpawnListener(garrisonSpawnService);
         getServer().getPluginManager().registerEvents(garrisonSpawnListener, this);
@@ -280,7 +315,7 @@ public final class Trenched extends JavaPlugin {
 
         // Scoreboard util needs regionRenderer, teamService, and regionService; create after they are available
         scoreboardUtil = new ScoreboardUtil(teamService, regionRenderer, roundService, regionService, configManager);
-        scoreboardUtil.startUpdateTask(this); // Start automatic 3-second scoreboard updates
+        scoreboardUtil.startUpdateTask(tickScheduler); // Start automatic scoreboard updates
 
         // Create and start the PhaseScheduler for auto phase advancement
         phaseScheduler = new PhaseScheduler(this, roundService, configManager, scoreboardUtil);
@@ -289,8 +324,20 @@ public final class Trenched extends JavaPlugin {
         endgameDb = new EndgameDb(this);
         endgameManager = new RoundEndgameManager(this, endgameDb, roundService, regionService, configManager);
         endgameManager.setRegionRenderer(regionRenderer);
+        endgameManager.setTickScheduler(tickScheduler);
         endgameManager.setRoundEndCallback(this::handleRoundEnd);
         phaseScheduler.setEndgameManager(endgameManager);
+        endgameManager.addEndgameListener((previous, current) -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("round_id", current.roundId());
+            data.put("stage", current.stage().name());
+            data.put("previous_stage", previous != null ? previous.stage().name() : null);
+            data.put("early_win_team", current.earlyWinTeam());
+            data.put("overtime_region", current.overtimeRegionId());
+            data.put("overtime_ends_at", current.overtimeEndsAt());
+            data.put("overtime_hold_team", current.overtimeHoldTeam());
+            gameEventBus.publish("endgame_changed", data);
+        });
 
         // Wire up heat callback for endgame overtime target selection
         regionService.setHeatCallback((regionId, heat) -> {
@@ -318,7 +365,8 @@ public final class Trenched extends JavaPlugin {
 
         // Initialize Road/Supply Line system
         roadDb = new RoadDb(this);
-        roadService = new RoadService(roadDb, roundService, regionService, configManager);
+        roadScanner = new RoadScanner(this, configManager.getSupplyScanChunksPerTick());
+        roadService = new RoadService(roadDb, roadScanner, roundService, regionService, configManager);
         roadListener = new RoadListener(this, roadService, teamService, regionService, configManager, regionRenderer);
         deathListener = new DeathListener(this, roadService, teamService, configManager);
         supplyPenaltyListener = new SupplyPenaltyListener(roadService, teamService, deathListener);
@@ -352,6 +400,12 @@ public final class Trenched extends JavaPlugin {
         roadListener.setDisruptionCallback((team, affectedRegions, destroyedBlock) -> {
             String sourceRegion = destroyedBlock != null ? destroyedBlock.regionId() : null;
             regionNotificationManager.broadcastSupplyDisrupted(team, affectedRegions, sourceRegion);
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("team", team);
+            data.put("source_region", sourceRegion);
+            data.put("affected_regions", List.copyOf(affectedRegions));
+            gameEventBus.publish("supply_disrupted", data);
         });
 
 
@@ -362,6 +416,12 @@ public final class Trenched extends JavaPlugin {
             // Broadcast capture notification
             regionNotificationManager.broadcastCapture(regionId, newOwner, previousOwner);
 
+            Map<String, Object> captureData = new LinkedHashMap<>();
+            captureData.put("region", regionId);
+            captureData.put("new_owner", newOwner);
+            captureData.put("previous_owner", previousOwner);
+            gameEventBus.publish("region_captured", captureData);
+
             // Expire any active objectives in the captured region
             objectiveService.expireObjectivesInRegion(regionId);
 
@@ -413,16 +473,20 @@ public final class Trenched extends JavaPlugin {
             if (currentGameWorld != null && newOwner != null) {
                 // Delay slightly to ensure capture is fully processed
                 Bukkit.getScheduler().runTaskLater(this, () -> {
-                    int found = roadService.scanRegionForRoads(regionId, newOwner, currentGameWorld);
-                    if (found > 0) {
-                        getLogger().info("[Entrenched] Auto-scanned " + regionId + " on capture: " + found + " road blocks found for " + newOwner);
-                    }
+                    // The scan reads chunk snapshots over several ticks and completes off the main thread
+                    roadService.scanRegionForRoads(regionId, newOwner, currentGameWorld).whenComplete((found, error) -> {
+                        if (error != null) {
+                            getLogger().warning("[Entrenched] Auto-scan of " + regionId + " failed: " + error.getMessage());
+                        } else if (found > 0) {
+                            getLogger().info("[Entrenched] Auto-scanned " + regionId + " on capture: " + found + " road blocks found for " + newOwner);
+                        }
 
-                    // Also recalculate supply for the previous owner â€” they just lost
-                    // a region, so their supply chain may be broken
-                    if (previousOwner != null && !previousOwner.isEmpty()) {
-                        roadService.recalculateSupply(previousOwner);
-                    }
+                        // Also recalculate supply for the previous owner â€” they just lost
+                        // a region, so their supply chain may be broken
+                        if (previousOwner != null && !previousOwner.isEmpty()) {
+                            roadService.recalculateSupply(previousOwner);
+                        }
+                    });
                 }, 20L); // 1 second delay
             }
         });
@@ -436,6 +500,7 @@ public final class Trenched extends JavaPlugin {
 
         // Initialize nametag manager for rank display above heads
         MeritNametagManager nametagManager = new MeritNametagManager(this, meritService, teamService, configManager);
+        nametagManager.setTickScheduler(tickScheduler);
         nametagManager.start();
         meritListener.setNametagManager(nametagManager);
 
@@ -470,6 +535,7 @@ public final class Trenched extends JavaPlugin {
 
             // Initialize and start particle manager for depot visual effects
             depotParticleManager = new DepotParticleManager(this, depotService, divisionService, teamService, configManager);
+            depotParticleManager.setTickScheduler(tickScheduler);
             depotParticleManager.start();
             depotListener.setParticleManager(depotParticleManager);
 
@@ -483,7 +549,9 @@ public final class Trenched extends JavaPlugin {
 
         // Register PlaceholderAPI expansion if available
         if (Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null) {
-            new org.flintstqne.entrenched.Utils.PlaceholderExpansion(meritService, teamService, divisionService, configManager).register();
+            PlaceholderExpansion placeholderExpansion = new PlaceholderExpansion(meritService, teamService, divisionService, configManager);
+            placeholderExpansion.register();
+            getServer().getPluginManager().registerEvents(placeholderExpansion, this);
             getLogger().info("[Entrenched] PlaceholderAPI expansion registered");
         } else {
             getLogger().info("[Entrenched] PlaceholderAPI not found - placeholders not available");
@@ -530,6 +598,7 @@ public final class Trenched extends JavaPlugin {
             statApiServer = new org.flintstqne.entrenched.StatLogic.StatApiServer(
                     this, statService, configManager, meritService, divisionService, regionService, teamService);
             statApiServer.setLinkService(linkService);
+            statApiServer.setEventBus(gameEventBus);
             statApiServer.start();
             getLogger().info("[Trenched] Stats API server started on port " + configManager.getStatApiPort());
         }
@@ -629,6 +698,7 @@ public final class Trenched extends JavaPlugin {
         adminCommand.setObjectiveService(objectiveService);
         adminCommand.setDivisionService(divisionService);
         adminCommand.setStatService(statService);
+        adminCommand.setTickScheduler(tickScheduler);
         if (depotService != null && depotItem != null) {
             adminCommand.setDepotService(depotService, depotItem);
         }
@@ -1097,11 +1167,13 @@ public final class Trenched extends JavaPlugin {
         if (scoreboardUtil != null) scoreboardUtil.stopUpdateTask();
         if (objectiveUIManager != null) objectiveUIManager.stop();
         if (objectiveListener != null) objectiveListener.stop();
+        if (objectiveService != null) objectiveService.shutdown();
         if (buildingBenefitManager != null) buildingBenefitManager.stop();
         if (garrisonSpawnService != null) garrisonSpawnService.stop();
         if (endgameManager != null) endgameManager.stop();
         if (regionNotificationManager != null) regionNotificationManager.stop();
         if (phaseScheduler != null) phaseScheduler.stop();
+        if (tickScheduler != null) tickScheduler.stop();
 
         // Stop stat system
         if (statListener != null) statListener.stopTimeTracking();
@@ -1125,6 +1197,12 @@ public final class Trenched extends JavaPlugin {
         // Stop placed block tracker (flushes pending writes)
         if (placedBlockTracker != null) placedBlockTracker.stop();
 
+        // Stop road scan workers
+        if (roadScanner != null) roadScanner.shutdown();
+
+        // Stop influence ledger (flushes pending influence and player region stats)
+        if (influenceLedger != null) influenceLedger.stop();
+
         // Close databases
         if (placedBlockDb != null) placedBlockDb.close();
         if (endgameDb != null) endgameDb.close();
@@ -1,21 +1,23 @@
 package org.flintstqne.entrenched.Utils;
 
-import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.DivisionLogic.Division;
 import org.flintstqne.entrenched.DivisionLogic.DivisionMember;
-import org.flintstqne.entrenched.DivisionLogic.DivisionRole;
 import org.flintstqne.entrenched.DivisionLogic.DivisionService;
-import org.flintstqne.entrenched.MeritLogic.MeritRank;
+import org.flintstqne.entrenched.DivisionLogic.DivisionSnapshot;
 import org.flintstqne.entrenched.MeritLogic.MeritService;
 import org.flintstqne.entrenched.MeritLogic.PlayerMeritData;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * PlaceholderAPI expansion for the merit and division systems.
@@ -62,14 +64,19 @@ import java.util.Optional;
  * - %entrenched_chat_prefix% - Full prefix for chat: [DIV] [RANK]
  * - %entrenched_name_prefix% - For tab/nametag: [DIV] [RANK] TEAMCOLOR
  * - %entrenched_chat_format% - Full configurable chat format from config.yml (use with {message})
+ *
+ * Values are served from a per-player {@link PlaceholderSnapshot}, rebuilt only when the player's
+ * merit data, division or team changes. Register it as a listener so snapshots are dropped on quit.
  */
-public class PlaceholderExpansion extends me.clip.placeholderapi.expansion.PlaceholderExpansion {
+public class PlaceholderExpansion extends me.clip.placeholderapi.expansion.PlaceholderExpansion implements Listener {
 
     private final MeritService meritService;
     private final TeamService teamService;
     private final DivisionService divisionService;
     private final ConfigManager configManager;
 
+    private final Map<UUID, PlaceholderSnapshot> snapshots = new ConcurrentHashMap<>();
+
     public PlaceholderExpansion(MeritService meritService, TeamService teamService,
                                 DivisionService divisionService, ConfigManager configManager) {
         this.meritService = meritService;
@@ -105,273 +112,43 @@ public class PlaceholderExpansion extends me.clip.placeholderapi.expansion.Place
             return "";
         }
 
-        // Get player merit data
-        Optional<PlayerMeritData> dataOpt = meritService.getPlayerData(offlinePlayer.getUniqueId());
-
-        // Get division data
-        Optional<Division> divisionOpt = divisionService.getPlayerDivision(offlinePlayer.getUniqueId());
-        Optional<DivisionMember> membershipOpt = divisionService.getMembership(offlinePlayer.getUniqueId());
-
-        // For players without merit data, use defaults for merit placeholders
-        PlayerMeritData data = dataOpt.orElse(null);
-        MeritRank rank = data != null ? data.getRank() : MeritRank.RECRUIT;
-        MeritRank nextRank = rank.getNextRank();
-
-        return switch (params.toLowerCase()) {
-            // ==================== RANK INFO ====================
-            case "rank" -> rank.getDisplayName();
-            case "rank_tag" -> rank.getTag();
-            case "rank_formatted" -> rank.getFormattedTag();
-            case "rank_color" -> rank.getColor().toString();
-
-            // ==================== TOKEN/MERIT COUNTS ====================
-            case "tokens" -> data != null ? String.valueOf(data.tokenBalance()) : "0";
-            case "merits" -> data != null ? String.valueOf(data.receivedMerits()) : "0";
-            case "merits_today" -> data != null ? String.valueOf(data.receivedToday()) : "0";
-
-            // ==================== PROGRESSION ====================
-            case "next_rank" -> nextRank != null ? nextRank.getDisplayName() : "Max Rank";
-            case "merits_to_next" -> data != null ? String.valueOf(data.getMeritsToNextRank()) :
-                    String.valueOf(MeritRank.PRIVATE.getMeritsRequired());
-            case "progress" -> {
-                if (data == null) yield "0";
-                if (nextRank == null) yield "100";
-                int current = data.receivedMerits();
-                int required = nextRank.getMeritsRequired();
-                int previous = rank.getMeritsRequired();
-                int progress = required > previous ?
-                    (int) (((double)(current - previous) / (required - previous)) * 100) : 100;
-                yield String.valueOf(Math.min(100, Math.max(0, progress)));
-            }
-
-            // ==================== LIFETIME STATS ====================
-            case "kills" -> data != null ? String.valueOf(data.lifetimeKills()) : "0";
-            case "captures" -> data != null ? String.valueOf(data.lifetimeCaptures()) : "0";
-            case "road_blocks" -> data != null ? String.valueOf(data.lifetimeRoadBlocks()) : "0";
-            case "rounds" -> data != null ? String.valueOf(data.roundsCompleted()) : "0";
-            case "playtime" -> data != null ? formatPlaytime(data.playtimeMinutes()) : "0m";
-            case "playtime_hours" -> data != null ? String.valueOf(data.playtimeMinutes() / 60) : "0";
-            case "playtime_minutes" -> data != null ? String.valueOf(data.playtimeMinutes()) : "0";
-            case "streak" -> data != null ? String.valueOf(data.loginStreak()) : "0";
-
-            // ==================== GIVEN/EARNED STATS ====================
-            case "tokens_earned" -> data != null ? String.valueOf(data.lifetimeTokensEarned()) : "0";
-            case "merits_given" -> data != null ? String.valueOf(data.lifetimeMeritsGiven()) : "0";
-            case "tokens_today" -> data != null ? String.valueOf(data.tokensEarnedToday()) : "0";
-            case "given_today" -> data != null ? String.valueOf(data.meritsGivenToday()) : "0";
-
-            // ==================== DIVISION INFO ====================
-            case "division" -> divisionOpt.map(Division::name).orElse("");
-            case "division_tag" -> divisionOpt.map(Division::tag).orElse("");
-            case "division_formatted" -> {
-                if (divisionOpt.isEmpty()) yield "";
-                Division div = divisionOpt.get();
-                String teamColor = getTeamColorCode(div.team());
-                yield teamColor + "[" + div.tag() + "]" + ChatColor.RESET;
-            }
-            case "division_name" -> divisionOpt.map(Division::name).orElse("");
-            case "division_description" -> divisionOpt.map(Division::description).orElse("");
-            case "division_id" -> divisionOpt.map(d -> String.valueOf(d.divisionId())).orElse("");
-            case "division_team" -> divisionOpt.map(Division::team).orElse("");
-
-            // Division role
-            case "division_role" -> membershipOpt.map(m -> m.role().name()).orElse("");
-            case "division_role_short" -> membershipOpt.map(m -> switch (m.role()) {
-                case COMMANDER -> "CMD";
-                case OFFICER -> "OFF";
-                case MEMBER -> "MEM";
-            }).orElse("");
-            case "division_role_display" -> membershipOpt.map(m -> switch (m.role()) {
-                case COMMANDER -> "Commander";
-                case OFFICER -> "Officer";
-                case MEMBER -> "Member";
-            }).orElse("");
-
-            // Division member count
-            case "division_members" -> {
-                if (divisionOpt.isEmpty()) yield "0";
-                List<DivisionMember> members = divisionService.getMembers(divisionOpt.get().divisionId());
-                yield String.valueOf(members.size());
-            }
-
-            // Boolean checks for divisions
-            case "has_division" -> String.valueOf(divisionOpt.isPresent());
-            case "is_commander" -> String.valueOf(membershipOpt.map(m -> m.role() == DivisionRole.COMMANDER).orElse(false));
-            case "is_div_officer" -> String.valueOf(membershipOpt.map(m -> m.role().canManageMembers()).orElse(false));
-
-            // ==================== RANK BOOLEAN CHECKS ====================
-            case "is_officer" -> String.valueOf(rank.isOfficer());
-            case "is_general" -> String.valueOf(rank.isGeneral());
-            case "is_nco" -> String.valueOf(rank.isNCO());
-            case "is_warrant_officer" -> String.valueOf(rank.isWarrantOfficer());
-            case "rank_level" -> String.valueOf(rank.ordinal());
-
-            // ==================== PREFIXES FOR CHAT/TAB ====================
-            case "prefix" -> rank.getFormattedTag();
-            case "team_prefix" -> {
-                String teamColor = getTeamColor(offlinePlayer);
-                yield rank.getFormattedTag() + " " + teamColor;
-            }
-            case "division_prefix" -> {
-                if (divisionOpt.isEmpty()) yield "";
-                Division div = divisionOpt.get();
-                String teamColor = getTeamColorCode(div.team());
-                yield teamColor + "[" + div.tag() + "]" + ChatColor.RESET;
-            }
-            case "full_prefix" -> {
-                String teamColor = getTeamColor(offlinePlayer);
-                if (divisionOpt.isPresent()) {
-                    Division div = divisionOpt.get();
-                    yield teamColor + "[" + div.tag() + "] " + rank.getFormattedTag() + " ";
-                }
-                yield rank.getFormattedTag() + " " + teamColor;
-            }
-            case "chat_prefix" -> {
-                // Full chat prefix: [DIV] [RANK] with colors
-                StringBuilder sb = new StringBuilder();
-                if (divisionOpt.isPresent()) {
-                    Division div = divisionOpt.get();
-                    String teamColor = getTeamColorCode(div.team());
-                    sb.append(teamColor).append("[").append(div.tag()).append("]").append(ChatColor.RESET).append(" ");
-                }
-                sb.append(rank.getFormattedTag());
-                sb.append(" ");
-                yield sb.toString();
-            }
-            case "name_prefix" -> {
-                // For tab/nametag: [DIV] [RANK] TEAMCOLOR
-                String teamColor = getTeamColor(offlinePlayer);
-                if (divisionOpt.isPresent()) {
-                    Division div = divisionOpt.get();
-                    yield getTeamColorCode(div.team()) + "[" + div.tag() + "] " + rank.getFormattedTag() + " " + teamColor;
-                }
-                yield rank.getFormattedTag() + " " + teamColor;
-            }
-
-            // ==================== CONFIGURABLE CHAT FORMAT ====================
-            case "chat_format" -> {
-                // Returns the appropriate chat format based on player's division/team status
-                // This is meant to be used with a message - returns format template
-                String teamColorCode = getTeamColor(offlinePlayer);
-                String format;
-
-                if (divisionOpt.isPresent()) {
-                    format = configManager.getChatFormatWithDivision();
-                    Division div = divisionOpt.get();
-                    format = format.replace("{division}", getTeamColorCode(div.team()) + "[" + div.tag() + "]" + ChatColor.RESET);
-                    format = format.replace("{division_name}", div.name());
-                    format = format.replace("{division_tag}", div.tag());
-                } else if (teamService.getPlayerTeam(offlinePlayer.getUniqueId()).isPresent()) {
-                    format = configManager.getChatFormatWithoutDivision();
-                    format = format.replace("{division}", "");
-                    format = format.replace("{division_name}", "");
-                    format = format.replace("{division_tag}", "");
-                } else {
-                    format = configManager.getChatFormatNoTeam();
-                    format = format.replace("{division}", "");
-                    format = format.replace("{division_name}", "");
-                    format = format.replace("{division_tag}", "");
-                }
-
-                // Replace common placeholders
-                format = format.replace("{rank}", rank.getFormattedTag());
-                format = format.replace("{rank_name}", rank.getDisplayName());
-                format = format.replace("{rank_tag}", rank.getTag());
-                format = format.replace("{team_color}", teamColorCode);
-                format = format.replace("{player}", offlinePlayer.getName() != null ? offlinePlayer.getName() : "Unknown");
-
-                // Convert & color codes to §
-                format = translateColors(format);
-
-                // Remove {message} placeholder - that will be filled by the chat system
-                // Keep it as a marker for where the message goes
-                yield format;
-            }
-
-            default -> null;
-        };
+        PlaceholderSnapshot.Key key = PlaceholderSnapshot.Key.of(params);
+        if (key == null) {
+            return null;
+        }
+        return getSnapshot(offlinePlayer).get(key);
     }
 
-    /**
-     * Translates & color codes to § color codes.
-     */
-    private String translateColors(String text) {
-        if (text == null) return "";
-        return text.replace("&0", "§0")
-                   .replace("&1", "§1")
-                   .replace("&2", "§2")
-                   .replace("&3", "§3")
-                   .replace("&4", "§4")
-                   .replace("&5", "§5")
-                   .replace("&6", "§6")
-                   .replace("&7", "§7")
-                   .replace("&8", "§8")
-                   .replace("&9", "§9")
-                   .replace("&a", "§a")
-                   .replace("&b", "§b")
-                   .replace("&c", "§c")
-                   .replace("&d", "§d")
-                   .replace("&e", "§e")
-                   .replace("&f", "§f")
-                   .replace("&k", "§k")
-                   .replace("&l", "§l")
-                   .replace("&m", "§m")
-                   .replace("&n", "§n")
-                   .replace("&o", "§o")
-                   .replace("&r", "§r")
-                   .replace("&A", "§a")
-                   .replace("&B", "§b")
-                   .replace("&C", "§c")
-                   .replace("&D", "§d")
-                   .replace("&E", "§e")
-                   .replace("&F", "§f")
-                   .replace("&K", "§k")
-                   .replace("&L", "§l")
-                   .replace("&M", "§m")
-                   .replace("&N", "§n")
-                   .replace("&O", "§o")
-                   .replace("&R", "§r");
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        snapshots.remove(event.getPlayer().getUniqueId());
     }
 
     /**
-     * Gets the team color code for a player.
+     * Gets the player's snapshot, rebuilding it if merit data, division or team changed since it was built.
      */
-    private String getTeamColor(OfflinePlayer player) {
-        Optional<String> teamOpt = teamService.getPlayerTeam(player.getUniqueId());
-        if (teamOpt.isPresent()) {
-            return getTeamColorCode(teamOpt.get());
+    private PlaceholderSnapshot getSnapshot(OfflinePlayer offlinePlayer) {
+        UUID uuid = offlinePlayer.getUniqueId();
+        // Versions are read before the data, so a change that lands mid-build forces another rebuild
+        long meritVersion = meritService.getDataVersion(uuid);
+        DivisionSnapshot divisions = divisionService.getSnapshot();
+        String team = teamService.getPlayerTeam(uuid).orElse(null);
+        String playerName = offlinePlayer.getName();
+        long now = System.currentTimeMillis();
+
+        PlaceholderSnapshot snapshot = snapshots.get(uuid);
+        if (snapshot != null && snapshot.isCurrent(meritVersion, divisions.version(), team, playerName, now)) {
+            return snapshot;
         }
-        return "§7"; // Gray for no team
-    }
 
-    /**
-     * Gets the color code for a team name.
-     */
-    private String getTeamColorCode(String team) {
-        if (team == null) return "§7";
-        if (team.equalsIgnoreCase("red")) {
-            return "§c"; // Red
-        } else if (team.equalsIgnoreCase("blue")) {
-            return "§9"; // Blue
-        }
-        return "§7"; // Gray for unknown
-    }
+        PlayerMeritData data = meritService.getPlayerData(uuid).orElse(null);
+        DivisionMember membership = divisions.getMembership(uuid.toString()).orElse(null);
+        Division division = membership != null ? divisions.getDivision(membership.divisionId()).orElse(null) : null;
+        int memberCount = division != null ? divisions.getMembers(division.divisionId()).size() : 0;
 
-    /**
-     * Formats playtime nicely.
-     */
-    private String formatPlaytime(int minutes) {
-        if (minutes < 60) {
-            return minutes + "m";
-        }
-        int hours = minutes / 60;
-        int mins = minutes % 60;
-        if (hours < 24) {
-            return hours + "h " + mins + "m";
-        }
-        int days = hours / 24;
-        hours = hours % 24;
-        return days + "d " + hours + "h";
+        snapshot = PlaceholderSnapshot.build(playerName, data, division, membership, memberCount, team,
+                configManager, meritVersion, divisions.version(), now);
+        snapshots.put(uuid, snapshot);
+        return snapshot;
     }
 }
-
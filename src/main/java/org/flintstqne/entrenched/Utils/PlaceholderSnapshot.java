@@ -0,0 +1,327 @@
+package org.flintstqne.entrenched.Utils;
+
+import org.bukkit.ChatColor;
+import org.flintstqne.entrenched.ConfigManager;
+import org.flintstqne.entrenched.DivisionLogic.Division;
+import org.flintstqne.entrenched.DivisionLogic.DivisionMember;
+import org.flintstqne.entrenched.DivisionLogic.DivisionRole;
+import org.flintstqne.entrenched.MeritLogic.MeritRank;
+import org.flintstqne.entrenched.MeritLogic.PlayerMeritData;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Every %entrenched_*% value for one player, resolved and formatted up front.
+ * <p>
+ * Built from the player's merit data, division, membership and team, and stamped with the
+ * merit and division versions it was built from. {@link PlaceholderExpansion} serves requests
+ * from it until one of those inputs changes, so rendering a placeholder is a map lookup and an
+ * array read.
+ */
+final class PlaceholderSnapshot {
+
+    /**
+     * Rebuild at least this often, for values that change without a version bump
+     * (daily counters rolling over, chat formats after a config reload).
+     */
+    static final long MAX_AGE_MS = 60_000;
+
+    /**
+     * Placeholder names, each resolved to one precomputed value.
+     */
+    enum Key {
+        RANK, RANK_TAG, RANK_FORMATTED, RANK_COLOR,
+        TOKENS, MERITS, MERITS_TODAY,
+        NEXT_RANK, MERITS_TO_NEXT, PROGRESS,
+        KILLS, CAPTURES, ROAD_BLOCKS, ROUNDS, PLAYTIME, PLAYTIME_HOURS, PLAYTIME_MINUTES, STREAK,
+        TOKENS_EARNED, MERITS_GIVEN, TOKENS_TODAY, GIVEN_TODAY,
+        DIVISION, DIVISION_TAG, DIVISION_FORMATTED, DIVISION_NAME, DIVISION_DESCRIPTION, DIVISION_ID, DIVISION_TEAM,
+        DIVISION_ROLE, DIVISION_ROLE_SHORT, DIVISION_ROLE_DISPLAY, DIVISION_MEMBERS,
+        HAS_DIVISION, IS_COMMANDER, IS_DIV_OFFICER,
+        IS_OFFICER, IS_GENERAL, IS_NCO, IS_WARRANT_OFFICER, RANK_LEVEL,
+        PREFIX, TEAM_PREFIX, DIVISION_PREFIX, FULL_PREFIX, CHAT_PREFIX, NAME_PREFIX,
+        CHAT_FORMAT;
+
+        private static final Map<String, Key> BY_NAME = new HashMap<>();
+
+        static {
+            for (Key key : values()) {
+                BY_NAME.put(key.name().toLowerCase(Locale.ROOT), key);
+            }
+        }
+
+        /**
+         * Gets the key for a placeholder name (case-insensitive), or null if unknown.
+         */
+        static Key of(String params) {
+            Key key = BY_NAME.get(params);
+            return key != null ? key : BY_NAME.get(params.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final String[] values;
+    private final long meritVersion;
+    private final long divisionVersion;
+    private final String team;
+    private final String playerName;
+    private final long builtAt;
+
+    private PlaceholderSnapshot(String[] values, long meritVersion, long divisionVersion,
+                                String team, String playerName, long builtAt) {
+        this.values = values;
+        this.meritVersion = meritVersion;
+        this.divisionVersion = divisionVersion;
+        this.team = team;
+        this.playerName = playerName;
+        this.builtAt = builtAt;
+    }
+
+    String get(Key key) {
+        return values[key.ordinal()];
+    }
+
+    /**
+     * True if the snapshot was built from these inputs and is not too old.
+     */
+    boolean isCurrent(long meritVersion, long divisionVersion, String team, String playerName, long now) {
+        return this.meritVersion == meritVersion
+                && this.divisionVersion == divisionVersion
+                && Objects.equals(this.team, team)
+                && Objects.equals(this.playerName, playerName)
+                && now - builtAt < MAX_AGE_MS;
+    }
+
+    /**
+     * Resolves every placeholder for a player.
+     *
+     * @param data        merit data, or null for players who have none yet
+     * @param division    current division, or null
+     * @param membership  division membership, or null
+     * @param memberCount member count of the division
+     * @param team        team id, or null if not on a team
+     */
+    static PlaceholderSnapshot build(String playerName, PlayerMeritData data, Division division,
+                                     DivisionMember membership, int memberCount, String team,
+                                     ConfigManager configManager, long meritVersion, long divisionVersion, long now) {
+        String[] v = new String[Key.values().length];
+
+        // For players without merit data, use defaults for merit placeholders
+        MeritRank rank = data != null ? data.getRank() : MeritRank.RECRUIT;
+        MeritRank nextRank = rank.getNextRank();
+        String rankTag = rank.getFormattedTag();
+        String teamColor = getTeamColorCode(team);
+
+        // ==================== RANK INFO ====================
+        v[Key.RANK.ordinal()] = rank.getDisplayName();
+        v[Key.RANK_TAG.ordinal()] = rank.getTag();
+        v[Key.RANK_FORMATTED.ordinal()] = rankTag;
+        v[Key.RANK_COLOR.ordinal()] = rank.getColor().toString();
+
+        // ==================== TOKEN/MERIT COUNTS ====================
+        v[Key.TOKENS.ordinal()] = data != null ? String.valueOf(data.tokenBalance()) : "0";
+        v[Key.MERITS.ordinal()] = data != null ? String.valueOf(data.receivedMerits()) : "0";
+        v[Key.MERITS_TODAY.ordinal()] = data != null ? String.valueOf(data.receivedToday()) : "0";
+
+        // ==================== PROGRESSION ====================
+        v[Key.NEXT_RANK.ordinal()] = nextRank != null ? nextRank.getDisplayName() : "Max Rank";
+        v[Key.MERITS_TO_NEXT.ordinal()] = data != null ? String.valueOf(data.getMeritsToNextRank()) :
+                String.valueOf(MeritRank.PRIVATE.getMeritsRequired());
+        v[Key.PROGRESS.ordinal()] = progress(data, rank, nextRank);
+
+        // ==================== LIFETIME STATS ====================
+        v[Key.KILLS.ordinal()] = data != null ? String.valueOf(data.lifetimeKills()) : "0";
+        v[Key.CAPTURES.ordinal()] = data != null ? String.valueOf(data.lifetimeCaptures()) : "0";
+        v[Key.ROAD_BLOCKS.ordinal()] = data != null ? String.valueOf(data.lifetimeRoadBlocks()) : "0";
+        v[Key.ROUNDS.ordinal()] = data != null ? String.valueOf(data.roundsCompleted()) : "0";
+        v[Key.PLAYTIME.ordinal()] = data != null ? formatPlaytime(data.playtimeMinutes()) : "0m";
+        v[Key.PLAYTIME_HOURS.ordinal()] = data != null ? String.valueOf(data.playtimeMinutes() / 60) : "0";
+        v[Key.PLAYTIME_MINUTES.ordinal()] = data != null ? String.valueOf(data.playtimeMinutes()) : "0";
+        v[Key.STREAK.ordinal()] = data != null ? String.valueOf(data.loginStreak()) : "0";
+
+        // ==================== GIVEN/EARNED STATS ====================
+        v[Key.TOKENS_EARNED.ordinal()] = data != null ? String.valueOf(data.lifetimeTokensEarned()) : "0";
+        v[Key.MERITS_GIVEN.ordinal()] = data != null ? String.valueOf(data.lifetimeMeritsGiven()) : "0";
+        v[Key.TOKENS_TODAY.ordinal()] = data != null ? String.valueOf(data.tokensEarnedToday()) : "0";
+        v[Key.GIVEN_TODAY.ordinal()] = data != null ? String.valueOf(data.meritsGivenToday()) : "0";
+
+        // ==================== DIVISION INFO ====================
+        String divisionTag = division != null
+                ? getTeamColorCode(division.team()) + "[" + division.tag() + "]" + ChatColor.RESET
+                : "";
+        v[Key.DIVISION.ordinal()] = division != null ? division.name() : "";
+        v[Key.DIVISION_TAG.ordinal()] = division != null ? division.tag() : "";
+        v[Key.DIVISION_FORMATTED.ordinal()] = divisionTag;
+        v[Key.DIVISION_NAME.ordinal()] = division != null ? division.name() : "";
+        v[Key.DIVISION_DESCRIPTION.ordinal()] = division != null && division.description() != null ? division.description() : "";
+        v[Key.DIVISION_ID.ordinal()] = division != null ? String.valueOf(division.divisionId()) : "";
+        v[Key.DIVISION_TEAM.ordinal()] = division != null ? division.team() : "";
+
+        // Division role
+        DivisionRole role = membership != null ? membership.role() : null;
+        v[Key.DIVISION_ROLE.ordinal()] = role != null ? role.name() : "";
+        v[Key.DIVISION_ROLE_SHORT.ordinal()] = role == null ? "" : switch (role) {
+            case COMMANDER -> "CMD";
+            case OFFICER -> "OFF";
+            case MEMBER -> "MEM";
+        };
+        v[Key.DIVISION_ROLE_DISPLAY.ordinal()] = role == null ? "" : switch (role) {
+            case COMMANDER -> "Commander";
+            case OFFICER -> "Officer";
+            case MEMBER -> "Member";
+        };
+        v[Key.DIVISION_MEMBERS.ordinal()] = division != null ? String.valueOf(memberCount) : "0";
+
+        // Boolean checks for divisions
+        v[Key.HAS_DIVISION.ordinal()] = String.valueOf(division != null);
+        v[Key.IS_COMMANDER.ordinal()] = String.valueOf(role == DivisionRole.COMMANDER);
+        v[Key.IS_DIV_OFFICER.ordinal()] = String.valueOf(role != null && role.canManageMembers());
+
+        // ==================== RANK BOOLEAN CHECKS ====================
+        v[Key.IS_OFFICER.ordinal()] = String.valueOf(rank.isOfficer());
+        v[Key.IS_GENERAL.ordinal()] = String.valueOf(rank.isGeneral());
+        v[Key.IS_NCO.ordinal()] = String.valueOf(rank.isNCO());
+        v[Key.IS_WARRANT_OFFICER.ordinal()] = String.valueOf(rank.isWarrantOfficer());
+        v[Key.RANK_LEVEL.ordinal()] = String.valueOf(rank.ordinal());
+
+        // ==================== PREFIXES FOR CHAT/TAB ====================
+        v[Key.PREFIX.ordinal()] = rankTag;
+        v[Key.TEAM_PREFIX.ordinal()] = rankTag + " " + teamColor;
+        v[Key.DIVISION_PREFIX.ordinal()] = divisionTag;
+        v[Key.FULL_PREFIX.ordinal()] = division != null
+                ? teamColor + "[" + division.tag() + "] " + rankTag + " "
+                : rankTag + " " + teamColor;
+        // Full chat prefix: [DIV] [RANK] with colors
+        v[Key.CHAT_PREFIX.ordinal()] = division != null
+                ? divisionTag + " " + rankTag + " "
+                : rankTag + " ";
+        // For tab/nametag: [DIV] [RANK] TEAMCOLOR
+        v[Key.NAME_PREFIX.ordinal()] = division != null
+                ? getTeamColorCode(division.team()) + "[" + division.tag() + "] " + rankTag + " " + teamColor
+                : rankTag + " " + teamColor;
+
+        // ==================== CONFIGURABLE CHAT FORMAT ====================
+        v[Key.CHAT_FORMAT.ordinal()] = chatFormat(configManager, division, divisionTag, team, rank, teamColor, playerName);
+
+        return new PlaceholderSnapshot(v, meritVersion, divisionVersion, team, playerName, now);
+    }
+
+    private static String progress(PlayerMeritData data, MeritRank rank, MeritRank nextRank) {
+        if (data == null) return "0";
+        if (nextRank == null) return "100";
+        int current = data.receivedMerits();
+        int required = nextRank.getMeritsRequired();
+        int previous = rank.getMeritsRequired();
+        int progress = required > previous ?
+            (int) (((double)(current - previous) / (required - previous)) * 100) : 100;
+        return String.valueOf(Math.min(100, Math.max(0, progress)));
+    }
+
+    /**
+     * Returns the chat format template for the player's division/team status.
+     * The {message} placeholder is left in place for the chat system to fill.
+     */
+    private static String chatFormat(ConfigManager configManager, Division division, String divisionTag,
+                                     String team, MeritRank rank, String teamColor, String playerName) {
+        String format;
+        if (division != null) {
+            format = configManager.getChatFormatWithDivision();
+            format = format.replace("{division}", divisionTag);
+            format = format.replace("{division_name}", division.name());
+            format = format.replace("{division_tag}", division.tag());
+        } else if (team != null) {
+            format = configManager.getChatFormatWithoutDivision();
+            format = format.replace("{division}", "");
+            format = format.replace("{division_name}", "");
+            format = format.replace("{division_tag}", "");
+        } else {
+            format = configManager.getChatFormatNoTeam();
+            format = format.replace("{division}", "");
+            format = format.replace("{division_name}", "");
+            format = format.replace("{division_tag}", "");
+        }
+
+        // Replace common placeholders
+        format = format.replace("{rank}", rank.getFormattedTag());
+        format = format.replace("{rank_name}", rank.getDisplayName());
+        format = format.replace("{rank_tag}", rank.getTag());
+        format = format.replace("{team_color}", teamColor);
+        format = format.replace("{player}", playerName != null ? playerName : "Unknown");
+
+        // Convert & color codes to §
+        return translateColors(format);
+    }
+
+    /**
+     * Translates & color codes to § color codes.
+     */
+    private static String translateColors(String text) {
+        if (text == null) return "";
+        return text.replace("&0", "§0")
+                   .replace("&1", "§1")
+                   .replace("&2", "§2")
+                   .replace("&3", "§3")
+                   .replace("&4", "§4")
+                   .replace("&5", "§5")
+                   .replace("&6", "§6")
+                   .replace("&7", "§7")
+                   .replace("&8", "§8")
+                   .replace("&9", "§9")
+                   .replace("&a", "§a")
+                   .replace("&b", "§b")
+                   .replace("&c", "§c")
+                   .replace("&d", "§d")
+                   .replace("&e", "§e")
+                   .replace("&f", "§f")
+                   .replace("&k", "§k")
+                   .replace("&l", "§l")
+                   .replace("&m", "§m")
+                   .replace("&n", "§n")
+                   .replace("&o", "§o")
+                   .replace("&r", "§r")
+                   .replace("&A", "§a")
+                   .replace("&B", "§b")
+                   .replace("&C", "§c")
+                   .replace("&D", "§d")
+                   .replace("&E", "§e")
+                   .replace("&F", "§f")
+                   .replace("&K", "§k")
+                   .replace("&L", "§l")
+                   .replace("&M", "§m")
+                   .replace("&N", "§n")
+                   .replace("&O", "§o")
+                   .replace("&R", "§r");
+    }
+
+    /**
+     * Gets the color code for a team name. Gray for no team or an unknown team.
+     */
+    private static String getTeamColorCode(String team) {
+        if (team == null) return "§7";
+        if (team.equalsIgnoreCase("red")) {
+            return "§c"; // Red
+        } else if (team.equalsIgnoreCase("blue")) {
+            return "§9"; // Blue
+        }
+        return "§7"; // Gray for unknown
+    }
+
+    /**
+     * Formats playtime nicely.
+     */
+    private static String formatPlaytime(int minutes) {
+        if (minutes < 60) {
+            return minutes + "m";
+        }
+        int hours = minutes / 60;
+        int mins = minutes % 60;
+        if (hours < 24) {
+            return hours + "h " + mins + "m";
+        }
+        int days = hours / 24;
+        hours = hours % 24;
+        return days + "d " + hours + "h";
+    }
+}
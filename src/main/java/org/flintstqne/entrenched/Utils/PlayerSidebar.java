@@ -0,0 +1,82 @@
+package org.flintstqne.entrenched.Utils;
+
+import org.bukkit.ChatColor;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.List;
+
+/**
+ * One player's persistent sidebar.
+ * <p>
+ * Each line slot owns a fixed invisible score entry and a scoreboard team whose prefix holds
+ * the visible text. Updating a line only changes that team's prefix, so a refresh sends
+ * packets for the lines that actually changed instead of rebuilding the whole scoreboard.
+ */
+final class PlayerSidebar {
+
+    static final int MAX_LINES = 15;
+    private static final int TOP_SCORE = 10;
+    private static final String TEAM_PREFIX = "sb_line_";
+
+    private final Scoreboard scoreboard;
+    private final Objective objective;
+    private final Team[] lineTeams = new Team[MAX_LINES];
+    private final String[] lineText = new String[MAX_LINES];
+    private int lineCount;
+
+    PlayerSidebar(Scoreboard scoreboard, String title) {
+        this.scoreboard = scoreboard;
+        this.objective = scoreboard.registerNewObjective("blockhole", Criteria.DUMMY, title);
+        this.objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+    }
+
+    Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    /**
+     * Shows the given lines top to bottom, touching only slots whose text or visibility changed.
+     */
+    void setLines(List<String> lines) {
+        int count = Math.min(lines.size(), MAX_LINES);
+
+        for (int i = 0; i < count; i++) {
+            String text = lines.get(i);
+            if (!text.equals(lineText[i])) {
+                getLineTeam(i).setPrefix(text);
+                lineText[i] = text;
+            }
+            if (i >= lineCount) {
+                objective.getScore(entry(i)).setScore(TOP_SCORE - i);
+            }
+        }
+
+        // Hide slots that are no longer used; their team keeps its prefix for reuse
+        for (int i = count; i < lineCount; i++) {
+            scoreboard.resetScores(entry(i));
+        }
+
+        lineCount = count;
+    }
+
+    private Team getLineTeam(int slot) {
+        Team team = lineTeams[slot];
+        if (team == null) {
+            team = scoreboard.registerNewTeam(TEAM_PREFIX + slot);
+            team.addEntry(entry(slot));
+            lineTeams[slot] = team;
+        }
+        return team;
+    }
+
+    /**
+     * Unique, invisible entry name for a slot (a bare color code).
+     */
+    private static String entry(int slot) {
+        return ChatColor.values()[slot].toString() + ChatColor.RESET;
+    }
+}
@@ -5,9 +5,7 @@ import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
-import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.scoreboard.*;
+import org.bukkit.scoreboard.ScoreboardManager;
 import org.flintstqne.entrenched.BlueMapHook.RegionRenderer;
 import org.flintstqne.entrenched.ConfigManager;
 import org.flintstqne.entrenched.MeritLogic.MeritRank;
@@ -29,6 +27,8 @@ import org.flintstqne.entrenched.RoundLogic.EndgameStage;
 import org.flintstqne.entrenched.RoundLogic.RoundService;
 import org.flintstqne.entrenched.TeamLogic.TeamService;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -50,8 +50,9 @@ public class ScoreboardUtil {
     private ObjectiveService objectiveService; // May be set after construction
     private RoundEndgameManager endgameManager; // May be set after construction
 
-    private BukkitTask updateTask;
-    private int updateFrame = 0; // Frame counter for animation
+    private TickScheduler.Task updateTask;
+    private int updateFrame = 0; // Pass counter for periodic cleanup
+    private SharedLines passLines; // Lines shared by every player in the current update pass
 
     // Cache for objectives to reduce DB calls
     private final Map<String, CachedObjectives> objectiveCache = new ConcurrentHashMap<>();
@@ -62,6 +63,36 @@ public class ScoreboardUtil {
         }
     }
 
+    // One persistent sidebar per player; lines are diffed instead of rebuilt
+    private final Map<UUID, PlayerSidebar> sidebars = new ConcurrentHashMap<>();
+
+    private record RegionView(String regionId, String name, RegionStatus status) {}
+
+    /**
+     * Render data shared by every player in one update pass: round and endgame lines,
+     * and region lookups and status lines computed once per region (and team).
+     */
+    private final class SharedLines {
+        final String warInfo = getWarPhaseInfo();
+        final String endgameLine = getEndgameStatusLine();
+        private final Map<String, RegionView> regions = new HashMap<>();
+        private final Map<String, List<String>> regionTeamLines = new HashMap<>();
+
+        RegionView getRegion(String regionId) {
+            return regions.computeIfAbsent(regionId, id -> {
+                RegionStatus status = regionService.getRegionStatus(id).orElse(null);
+                // Get region name from renderer using the same regionId
+                String name = regionRenderer != null ? regionRenderer.getRegionName(id).orElse(id) : id;
+                return new RegionView(id, name, status);
+            });
+        }
+
+        List<String> getRegionTeamLines(RegionView region, String playerTeam) {
+            return regionTeamLines.computeIfAbsent(region.regionId() + ":" + playerTeam,
+                    k -> buildRegionTeamLines(region, playerTeam));
+        }
+    }
+
     public ScoreboardUtil(TeamService teamService, RegionRenderer regionRenderer,
                           RoundService roundService, RegionService regionService,
                           ConfigManager configManager) {
@@ -120,26 +151,26 @@ public class ScoreboardUtil {
     }
 
     /**
-     * Starts the automatic scoreboard update task.
+     * Starts the automatic scoreboard update task. Every player is updated once per interval,
+     * spread across the interval's ticks.
      * Call this once during plugin enable.
      */
-    public void startUpdateTask(JavaPlugin plugin) {
+    public void startUpdateTask(TickScheduler scheduler) {
         if (updateTask != null) {
             updateTask.cancel();
         }
 
-        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            updateFrame++; // Increment frame  for compass animation
+        updateTask = scheduler.runPerPlayer("scoreboards", TickScheduler.Priority.NORMAL, UPDATE_INTERVAL_TICKS, () -> {
+            updateFrame++;
 
             // Clean expired cache entries periodically (every ~5 seconds)
             if (updateFrame % 100 == 0) {
                 objectiveCache.entrySet().removeIf(e -> e.getValue().isExpired());
+                sidebars.keySet().removeIf(uuid -> Bukkit.getPlayer(uuid) == null);
             }
 
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                updatePlayerScoreboard(player);
-            }
-        }, UPDATE_INTERVAL_TICKS, UPDATE_INTERVAL_TICKS);
+            passLines = new SharedLines();
+        }, player -> updatePlayerScoreboard(player, passLines));
     }
 
     /**
@@ -151,22 +182,19 @@ public class ScoreboardUtil {
             updateTask.cancel();
             updateTask = null;
         }
+        passLines = null;
     }
 
     /**
      * Updates scoreboard for a player based on their current location.
      */
     public void updatePlayerScoreboard(Player player) {
-        ScoreboardManager manager = Bukkit.getScoreboardManager();
-        if (manager == null) return;
+        updatePlayerScoreboard(player, new SharedLines());
+    }
 
-        Scoreboard scoreboard = manager.getNewScoreboard();
-        Objective objective = scoreboard.registerNewObjective(
-                "blockhole",
-                Criteria.DUMMY,
-                ChatColor.GOLD + "" + ChatColor.BOLD + "Blockhole"
-        );
-        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+    private void updatePlayerScoreboard(Player player, SharedLines shared) {
+        PlayerSidebar sidebar = getSidebar(player);
+        if (sidebar == null) return;
 
         // Get player's team
         Optional<String> teamIdOpt = teamService.getPlayerTeam(player.getUniqueId());
@@ -186,48 +214,29 @@ public class ScoreboardUtil {
             }
         }
 
-        // Get current round info
-        String warInfo = getWarPhaseInfo();
-
         // Get region info based on player's CURRENT location
         Location loc = player.getLocation();
-        String regionId = null;
-        String regionName = "Unknown";
-        RegionStatus regionStatus = null;
-
-        if (regionService != null) {
-            regionId = regionService.getRegionIdForLocation(loc.getBlockX(), loc.getBlockZ());
-            if (regionId != null) {
-                regionStatus = regionService.getRegionStatus(regionId).orElse(null);
-                // Get region name from renderer using the same regionId
-                if (regionRenderer != null) {
-                    regionName = regionRenderer.getRegionName(regionId).orElse(regionId);
-                } else {
-                    regionName = regionId;
-                }
-            }
-        }
+        String regionId = regionService != null
+                ? regionService.getRegionIdForLocation(loc.getBlockX(), loc.getBlockZ())
+                : null;
+        RegionView region = regionId != null ? shared.getRegion(regionId) : null;
+        RegionStatus regionStatus = region != null ? region.status() : null;
 
-        int scoreIndex = 10;
+        List<String> lines = new ArrayList<>(PlayerSidebar.MAX_LINES);
 
         // Line: War and Phase info
-        Score warLine = objective.getScore(warInfo);
-        warLine.setScore(scoreIndex--);
+        lines.add(shared.warInfo);
 
         // === Endgame Status (if active) ===
-        String endgameLine = getEndgameStatusLine();
-        if (endgameLine != null) {
-            Score endgameScore = objective.getScore(endgameLine);
-            endgameScore.setScore(scoreIndex--);
+        if (shared.endgameLine != null) {
+            lines.add(shared.endgameLine);
         }
 
         // Separator
-        Score separator1 = objective.getScore(ChatColor.YELLOW + "" + ChatColor.BOLD + "-----------------");
-        separator1.setScore(scoreIndex--);
+        lines.add(ChatColor.YELLOW + "" + ChatColor.BOLD + "-----------------");
 
         // Line: Team
-        Score teamLine = objective.getScore(ChatColor.WHITE + "" + ChatColor.BOLD + "Team: " + teamColor + teamDisplay);
-        teamLine.setScore(scoreIndex--);
+        lines.add(ChatColor.WHITE + "" + ChatColor.BOLD + "Team: " + teamColor + teamDisplay);
 
         // Line: Merit Rank (if MeritService available)
         if (meritService != null) {
@@ -237,100 +246,116 @@ public class ScoreboardUtil {
                 MeritRank rank = data.getRank();
 
                 // Rank line
-                Score rankLine = objective.getScore(ChatColor.GRAY + "Rank: " + rank.getFormattedTag() + " " + ChatColor.GRAY + rank.getDisplayName());
-                rankLine.setScore(scoreIndex--);
+                lines.add(ChatColor.GRAY + "Rank: " + rank.getFormattedTag() + " " + ChatColor.GRAY + rank.getDisplayName());
 
                 // Tokens available
-                Score tokenLine = objective.getScore(ChatColor.GRAY + "Tokens: " + ChatColor.AQUA + data.tokenBalance() + ChatColor.DARK_GRAY + " available");
-                tokenLine.setScore(scoreIndex--);
+                lines.add(ChatColor.GRAY + "Tokens: " + ChatColor.AQUA + data.tokenBalance() + ChatColor.DARK_GRAY + " available");
 
                 // Progress to next rank
                 MeritRank nextRank = rank.getNextRank();
                 if (nextRank != null) {
                     int toNext = data.getMeritsToNextRank();
-                    Score progressLine = objective.getScore(ChatColor.DARK_GRAY + "Next: " + toNext + " merits → " + nextRank.getTag());
-                    progressLine.setScore(scoreIndex--);
+                    lines.add(ChatColor.DARK_GRAY + "Next: " + toNext + " merits → " + nextRank.getTag());
                 }
             }
         }
 
-        Score separator2 = objective.getScore(ChatColor.DARK_GRAY + "- - - - - - - - -");
-        separator2.setScore(scoreIndex--);
+        lines.add(ChatColor.DARK_GRAY + "- - - - - - - - -");
 
         // Line: Region Name
-        Score regionLine = objective.getScore(ChatColor.WHITE + "" + ChatColor.BOLD + "Region: " + ChatColor.GRAY + regionName);
-        regionLine.setScore(scoreIndex--);
+        String regionName = region != null ? region.name() : "Unknown";
+        lines.add(ChatColor.WHITE + "" + ChatColor.BOLD + "Region: " + ChatColor.GRAY + regionName);
 
         // === Region Status Section ===
         if (regionStatus != null) {
-            // Separator
-
-
-            // Region Owner
-            String ownerDisplay;
-            String actualOwner = regionStatus.ownerTeam();
-            if (actualOwner != null) {
-                ChatColor ownerColor = actualOwner.equalsIgnoreCase("red") ? ChatColor.RED : ChatColor.BLUE;
-                ownerDisplay = ownerColor + actualOwner.substring(0, 1).toUpperCase() +
-                               actualOwner.substring(1);
-            } else {
-                ownerDisplay = ChatColor.WHITE + "Neutral";
-            }
-            Score ownerLine = objective.getScore(ChatColor.GRAY + "Owner: " + ownerDisplay);
-            ownerLine.setScore(scoreIndex--);
-
-            // Region State
-            String stateDisplay = getStateDisplay(regionStatus.state());
-            Score stateLine = objective.getScore(ChatColor.GRAY + "Status: " + stateDisplay);
-            stateLine.setScore(scoreIndex--);
-
-            // Show IP Progress if region is NOT owned by player's team
-            if (playerTeam != null && !regionStatus.isOwnedBy(playerTeam)) {
-                double myTeamIP = regionStatus.getInfluence(playerTeam);
-                double required = getInfluenceRequired(regionStatus, playerTeam);
-                int percentage = (int) ((myTeamIP / required) * 100);
-
-                ChatColor ipColor = playerTeam.equalsIgnoreCase("red") ? ChatColor.RED : ChatColor.BLUE;
-                Score ipLine = objective.getScore(ChatColor.GRAY + "Your IP: " + ipColor + (int)myTeamIP +
-                        ChatColor.DARK_GRAY + "/" + (int)required + " (" + percentage + "%)");
-                ipLine.setScore(scoreIndex--);
-            }
-
-            // Show supply efficiency ONLY if owned by player's team
-            if (playerTeam != null && actualOwner != null &&
-                actualOwner.equalsIgnoreCase(playerTeam)) {
-
-                // Use RoadService for accurate supply levels
-                if (roadService != null) {
-                    SupplyLevel supplyLevel = roadService.getSupplyLevel(regionId, playerTeam);
-                    String supplyDisplay = getSupplyDisplay(supplyLevel);
-                    Score supplyLine = objective.getScore(ChatColor.GRAY + "Supply: " + supplyDisplay);
-                    supplyLine.setScore(scoreIndex--);
-                } else if (regionService != null) {
-                    // Fallback to regionService if roadService not available
-                    double supply = regionService.getSupplyEfficiency(regionId, playerTeam);
-                    ChatColor supplyColor = supply >= 0.8 ? ChatColor.GREEN :
-                            supply >= 0.5 ? ChatColor.YELLOW : ChatColor.RED;
-                    Score supplyLine = objective.getScore(ChatColor.GRAY + "Supply: " + supplyColor + (int)(supply * 100) + "%");
-                    supplyLine.setScore(scoreIndex--);
-                }
-            }
+            lines.addAll(shared.getRegionTeamLines(region, playerTeam));
         }
 
         // === Objective Compass Section ===
         if (objectiveService != null && regionId != null && playerTeam != null) {
             String compassLine = getObjectiveCompassLine(player, regionId, playerTeam, regionStatus);
             if (compassLine != null) {
-                Score separator3 = objective.getScore(ChatColor.DARK_GRAY + "· · · · · · · · ·");
-                separator3.setScore(scoreIndex--);
+                lines.add(ChatColor.DARK_GRAY + "· · · · · · · · ·");
 
                 // Display single-line compass
-                Score compassScore = objective.getScore(compassLine);
-                compassScore.setScore(scoreIndex--);
+                lines.add(compassLine);
+            }
+        }
+
+        sidebar.setLines(lines);
+    }
+
+    /**
+     * Gets the player's persistent sidebar, creating it (and assigning the scoreboard) on first use
+     * or if something else replaced the player's scoreboard.
+     */
+    private PlayerSidebar getSidebar(Player player) {
+        PlayerSidebar sidebar = sidebars.get(player.getUniqueId());
+        if (sidebar != null && player.getScoreboard() == sidebar.getScoreboard()) {
+            return sidebar;
+        }
+
+        ScoreboardManager manager = Bukkit.getScoreboardManager();
+        if (manager == null) return null;
+
+        sidebar = new PlayerSidebar(manager.getNewScoreboard(), ChatColor.GOLD + "" + ChatColor.BOLD + "Blockhole");
+        sidebars.put(player.getUniqueId(), sidebar);
+        player.setScoreboard(sidebar.getScoreboard());
+        return sidebar;
+    }
+
+    /**
+     * Builds the region-status lines shared by every player of a team standing in a region.
+     */
+    private List<String> buildRegionTeamLines(RegionView region, String playerTeam) {
+        List<String> lines = new ArrayList<>(4);
+        RegionStatus regionStatus = region.status();
+        String regionId = region.regionId();
+
+        // Region Owner
+        String ownerDisplay;
+        String actualOwner = regionStatus.ownerTeam();
+        if (actualOwner != null) {
+            ChatColor ownerColor = actualOwner.equalsIgnoreCase("red") ? ChatColor.RED : ChatColor.BLUE;
+            ownerDisplay = ownerColor + actualOwner.substring(0, 1).toUpperCase() +
+                           actualOwner.substring(1);
+        } else {
+            ownerDisplay = ChatColor.WHITE + "Neutral";
+        }
+        lines.add(ChatColor.GRAY + "Owner: " + ownerDisplay);
+
+        // Region State
+        lines.add(ChatColor.GRAY + "Status: " + getStateDisplay(regionStatus.state()));
+
+        // Show IP Progress if region is NOT owned by player's team
+        if (playerTeam != null && !regionStatus.isOwnedBy(playerTeam)) {
+            double myTeamIP = regionStatus.getInfluence(playerTeam);
+            double required = getInfluenceRequired(regionStatus, playerTeam);
+            int percentage = (int) ((myTeamIP / required) * 100);
+
+            ChatColor ipColor = playerTeam.equalsIgnoreCase("red") ? ChatColor.RED : ChatColor.BLUE;
+            lines.add(ChatColor.GRAY + "Your IP: " + ipColor + (int)myTeamIP +
+                    ChatColor.DARK_GRAY + "/" + (int)required + " (" + percentage + "%)");
+        }
+
+        // Show supply efficiency ONLY if owned by player's team
+        if (playerTeam != null && actualOwner != null &&
+            actualOwner.equalsIgnoreCase(playerTeam)) {
+
+            // Use RoadService for accurate supply levels
+            if (roadService != null) {
+                SupplyLevel supplyLevel = roadService.getSupplyLevel(regionId, playerTeam);
+                lines.add(ChatColor.GRAY + "Supply: " + getSupplyDisplay(supplyLevel));
+            } else if (regionService != null) {
+                // Fallback to regionService if roadService not available
+                double supply = regionService.getSupplyEfficiency(regionId, playerTeam);
+                ChatColor supplyColor = supply >= 0.8 ? ChatColor.GREEN :
+                        supply >= 0.5 ? ChatColor.YELLOW : ChatColor.RED;
+                lines.add(ChatColor.GRAY + "Supply: " + supplyColor + (int)(supply * 100) + "%");
             }
         }
 
-        player.setScoreboard(scoreboard);
+        return lines;
     }
 
     /**
@@ -485,11 +510,7 @@ public class ScoreboardUtil {
         int dist = (int) nearestDist;
         String compass = buildSingleLineCompass(relativeAngle);
 
-        // Add invisible color codes that change each frame to force scoreboard update
-        // This ensures Minecraft re-renders the line even if text appears the same
-        String frameMarker = getInvisibleFrameMarker();
-
-        return symbolColor + symbol + " " + compass + " " + ChatColor.WHITE + dist + "m" + frameMarker;
+        return symbolColor + symbol + " " + compass + " " + ChatColor.WHITE + dist + "m";
     }
 
     /**
@@ -508,17 +529,6 @@ public class ScoreboardUtil {
         return cached.objectives();
     }
 
-    /**
-     * Creates an invisible marker that changes each frame to force scoreboard line updates.
-     * Uses invisible color code combinations that differ per frame.
-     */
-    private String getInvisibleFrameMarker() {
-        // Use color codes that are invisible but unique per frame
-        // This forces Minecraft to treat each update as a new line
-        int frameIndex = updateFrame % 16;
-        return ChatColor.values()[frameIndex].toString() + ChatColor.RESET;
-    }
-
     /**
      * Builds a single-line compass visual: "◀ · ✦ · ▶" with direction highlighted
      */
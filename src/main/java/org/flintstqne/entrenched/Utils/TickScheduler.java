@@ -0,0 +1,360 @@
+package org.flintstqne.entrenched.Utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.flintstqne.entrenched.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Runs the plugin's periodic main-thread work from a single Bukkit timer.
+ * <p>
+ * Repeating tasks get a phase offset so their runs land on the least-loaded ticks instead of
+ * all firing together. Per-player tasks visit every online player once per period, a slice of
+ * the player list per tick. Each tick has a time budget: once it is spent, the remaining
+ * non-critical work waits for the next tick, and cosmetic work is stretched out while TPS is
+ * below the configured threshold. Every task's run time is recorded for /admin timings.
+ * <p>
+ * Main thread only: tasks are registered, cancelled and run from the server thread.
+ */
+public final class TickScheduler {
+
+    /**
+     * How a task is treated when the tick budget is spent or the server is lagging.
+     */
+    public enum Priority {
+        /** Game rules (objective timers, endgame). Always runs on time, even over budget. */
+        CRITICAL,
+        /** Player-facing updates (UI, scoreboards). Waits while the tick budget is spent. */
+        NORMAL,
+        /** Particles and other effects. Also runs less often while TPS is low. */
+        COSMETIC
+    }
+
+    /**
+     * Immutable view of one task's timings.
+     */
+    public record TaskTiming(String name, Priority priority, long periodTicks, long runs,
+                             long totalNanos, long maxNanos, long deferrals) {
+        public double averageMillis() {
+            return runs == 0 ? 0 : totalNanos / (double) runs / 1_000_000.0;
+        }
+
+        public double totalMillis() {
+            return totalNanos / 1_000_000.0;
+        }
+
+        public double maxMillis() {
+            return maxNanos / 1_000_000.0;
+        }
+    }
+
+    // Ticks considered when choosing a phase offset (one minute; most periods divide it)
+    private static final int LOAD_WINDOW = 1200;
+    // While TPS is low, cosmetic tasks run at most once per this many periods
+    private static final int LOW_TPS_STRETCH = 4;
+    private static final double TPS_SMOOTHING = 0.05;
+
+    // Due tasks run critical first, then the most overdue first
+    private static final Comparator<Task> DUE_ORDER = Comparator
+            .comparing((Task task) -> task.priority)
+            .thenComparingLong(task -> task.nextRun);
+
+    private final JavaPlugin plugin;
+    private final long budgetNanos;
+    private final double lowTpsThreshold;
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Task> added = new ArrayList<>();
+    private final List<Task> due = new ArrayList<>();
+    private final int[] load = new int[LOAD_WINDOW];
+
+    private BukkitTask timer;
+    private long currentTick;
+    private long lastTickNanos;
+    private double tps = 20.0;
+
+    public TickScheduler(JavaPlugin plugin, ConfigManager configManager) {
+        this.plugin = plugin;
+        this.budgetNanos = (long) (configManager.getSchedulerTickBudgetMs() * 1_000_000L);
+        this.lowTpsThreshold = configManager.getSchedulerLowTpsThreshold();
+    }
+
+    /**
+     * Starts the shared timer. Tasks may be registered before or after.
+     */
+    public void start() {
+        if (timer != null) return;
+        timer = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+    }
+
+    /**
+     * Runs action every periodTicks, first after at least delayTicks. The first run may be pushed
+     * back by up to one period to keep it off ticks other tasks already use.
+     */
+    public Task runTimer(String name, Priority priority, long delayTicks, long periodTicks, Runnable action) {
+        long period = Math.max(1, periodTicks);
+        Task task = new Task(name, priority, period, action, null, null);
+        task.nextRun = chooseFirstRun(currentTick + Math.max(1, delayTicks), period);
+        task.loadOrigin = task.nextRun;
+        markLoad(task, 1);
+        added.add(task);
+        return task;
+    }
+
+    /**
+     * Runs action for every online player once per periodTicks, spread over the period's ticks.
+     */
+    public Task runPerPlayer(String name, Priority priority, long periodTicks, Consumer<Player> action) {
+        return runPerPlayer(name, priority, periodTicks, null, action);
+    }
+
+    /**
+     * Like {@link #runPerPlayer(String, Priority, long, Consumer)}, calling passStart before the
+     * first player of each pass (for per-pass setup such as shared caches).
+     */
+    public Task runPerPlayer(String name, Priority priority, long periodTicks, Runnable passStart,
+                             Consumer<Player> action) {
+        long period = Math.max(1, periodTicks);
+        Task task = new Task(name, priority, period, passStart, action, new ArrayList<>());
+        task.nextRun = currentTick + 1;
+        added.add(task);
+        return task;
+    }
+
+    /**
+     * Smoothed server TPS measured from this scheduler's tick intervals.
+     */
+    public double getTps() {
+        return tps;
+    }
+
+    /**
+     * Returns all tasks' timings, highest total time first.
+     */
+    public List<TaskTiming> getTimings() {
+        List<TaskTiming> timings = new ArrayList<>(tasks.size() + added.size());
+        for (Task task : tasks) {
+            if (!task.cancelled) timings.add(task.timing());
+        }
+        for (Task task : added) {
+            if (!task.cancelled) timings.add(task.timing());
+        }
+        timings.sort(Comparator.comparingLong(TaskTiming::totalNanos).reversed());
+        return timings;
+    }
+
+    public void resetTimings() {
+        for (Task task : tasks) task.resetTimings();
+        for (Task task : added) task.resetTimings();
+    }
+
+    private void tick() {
+        long start = System.nanoTime();
+        if (lastTickNanos != 0) {
+            double instant = 1_000_000_000.0 / Math.max(1, start - lastTickNanos);
+            tps += (Math.min(20.0, instant) - tps) * TPS_SMOOTHING;
+        }
+        lastTickNanos = start;
+        currentTick++;
+
+        long deadline = start + budgetNanos;
+        boolean lowTps = tps < lowTpsThreshold;
+
+        if (!added.isEmpty()) {
+            tasks.addAll(added);
+            added.clear();
+        }
+
+        due.clear();
+        for (Task task : tasks) {
+            if (!task.cancelled && task.isDue(currentTick)) due.add(task);
+        }
+        due.sort(DUE_ORDER);
+
+        for (Task task : due) {
+            if (task.cancelled) continue;
+
+            // Work that has waited a full period runs regardless, so nothing starves
+            boolean starving = currentTick - task.nextRun >= task.period;
+            if (task.priority != Priority.CRITICAL && !task.inPass() && !starving) {
+                if (System.nanoTime() - deadline >= 0) {
+                    task.deferrals++;
+                    continue;
+                }
+            }
+            if (task.priority == Priority.COSMETIC && lowTps && !task.inPass()
+                    && currentTick - task.nextRun < task.period * (LOW_TPS_STRETCH - 1)) {
+                task.deferrals++;
+                continue;
+            }
+
+            task.run(currentTick, deadline);
+        }
+        due.clear();
+
+        tasks.removeIf(task -> task.cancelled);
+    }
+
+    /**
+     * Picks the tick in [earliest, earliest + period) whose runs collide least with existing tasks.
+     */
+    private long chooseFirstRun(long earliest, long period) {
+        long best = earliest;
+        long bestCost = Long.MAX_VALUE;
+        long candidates = Math.min(period, LOAD_WINDOW);
+        for (long offset = 0; offset < candidates && bestCost > 0; offset++) {
+            long first = earliest + offset;
+            long cost = 0;
+            for (long t = first; t < first + LOAD_WINDOW; t += period) {
+                cost += load[(int) (t % LOAD_WINDOW)];
+            }
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = first;
+            }
+        }
+        return best;
+    }
+
+    private void markLoad(Task task, int delta) {
+        long first = task.loadOrigin;
+        for (long t = first; t < first + LOAD_WINDOW; t += task.period) {
+            load[(int) (t % LOAD_WINDOW)] += delta;
+        }
+    }
+
+    /**
+     * Handle for a scheduled task.
+     */
+    public final class Task {
+        private final String name;
+        private final Priority priority;
+        private final long period;
+        private final Runnable action;
+        private final Consumer<Player> playerAction;
+        private final List<Player> pass;
+
+        private long nextRun;
+        private long loadOrigin;
+        private long passEnd;
+        private int passIndex;
+        private boolean cancelled;
+
+        private long runs;
+        private long totalNanos;
+        private long maxNanos;
+        private long deferrals;
+
+        private Task(String name, Priority priority, long period, Runnable action,
+                     Consumer<Player> playerAction, List<Player> pass) {
+            this.name = name;
+            this.priority = priority;
+            this.period = period;
+            this.action = action;
+            this.playerAction = playerAction;
+            this.pass = pass;
+        }
+
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            if (playerAction == null) {
+                markLoad(this, -1);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private boolean inPass() {
+            return pass != null && passIndex < pass.size();
+        }
+
+        private boolean isDue(long tick) {
+            return inPass() || tick >= nextRun;
+        }
+
+        private void run(long tick, long deadline) {
+            long start = System.nanoTime();
+            try {
+                if (playerAction == null) {
+                    try {
+                        action.run();
+                    } finally {
+                        // Keep the chosen phase unless the task fell a whole period behind;
+                        // a failing task still waits its period instead of retrying every tick
+                        nextRun += period;
+                        if (nextRun <= tick) nextRun = tick + period;
+                    }
+                } else {
+                    runSlice(tick, deadline);
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "[Scheduler] Task " + name + " failed", e);
+            }
+            long elapsed = System.nanoTime() - start;
+            runs++;
+            totalNanos += elapsed;
+            maxNanos = Math.max(maxNanos, elapsed);
+        }
+
+        /**
+         * Visits this tick's share of the current pass, starting a new pass when one is due.
+         */
+        private void runSlice(long tick, long deadline) {
+            if (!inPass()) {
+                pass.clear();
+                pass.addAll(Bukkit.getOnlinePlayers());
+                passIndex = 0;
+                passEnd = tick + period;
+                nextRun = passEnd;
+                if (action != null) action.run();
+            }
+
+            long ticksLeft = Math.max(1, passEnd - tick);
+            int remaining = pass.size() - passIndex;
+            int quota = (int) ((remaining + ticksLeft - 1) / ticksLeft);
+            for (int i = 0; i < quota && passIndex < pass.size(); i++) {
+                // Always make progress; stop early once the budget is spent
+                if (i > 0 && priority != Priority.CRITICAL && System.nanoTime() - deadline >= 0) {
+                    deferrals++;
+                    break;
+                }
+                Player player = pass.get(passIndex++);
+                if (player.isOnline()) {
+                    playerAction.accept(player);
+                }
+            }
+            if (!inPass()) {
+                pass.clear();
+                passIndex = 0;
+            }
+        }
+
+        private TaskTiming timing() {
+            return new TaskTiming(name, priority, period, runs, totalNanos, maxNanos, deferrals);
+        }
+
+        private void resetTimings() {
+            runs = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+            deferrals = 0;
+        }
+    }
+}